@@ -0,0 +1,111 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.components;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmark for {@link Variable#setValue(String)} extracting a value with a
+ * regex from task output of growing size (in total and line by line).
+ *
+ * @author Thomas Lehmann
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@SuppressWarnings("checkstyle:visibilitymodifier")
+public class VariableBenchmark {
+    /**
+     * Number of lines of the output.
+     */
+    @Param({"1", "1000", "100000"})
+    public int iLines;
+
+    /**
+     * When true then the regex is applied to each line.
+     */
+    @Param({"false", "true"})
+    public boolean bLineByLine;
+
+    /**
+     * The variable.
+     */
+    private Variable variable;
+
+    /**
+     * The output of a task.
+     */
+    private String strOutput;
+
+    /**
+     * The lines of the output of a task.
+     */
+    private List<String> lines;
+
+    /**
+     * Creating variable and output.
+     */
+    @Setup
+    public void setup() {
+        this.variable = new Variable("result", "value=(\\d+)", 1, this.bLineByLine);
+        this.lines = IntStream.range(0, this.iLines)
+                .mapToObj(iLine -> "line " + iLine + " value=" + iLine)
+                .collect(Collectors.toList());
+        this.strOutput = String.join("\n", this.lines);
+    }
+
+    /**
+     * Extracting the value.
+     *
+     * @return true when the value has been found.
+     */
+    @Benchmark
+    public boolean setValue() {
+        return this.variable.setValue(this.strOutput);
+    }
+
+    /**
+     * Extracting the value passing the lines one by one (like the lines of a process).
+     *
+     * @return true when the value has been found.
+     */
+    @Benchmark
+    public boolean extract() {
+        final var extraction = this.variable.startExtraction();
+        this.lines.forEach(extraction);
+        return extraction.finish();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.reader;
+
+import magic.system.hyperion.components.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link DocumentReader#read(byte[])} with a growing number of
+ * task groups and "with" values.
+ *
+ * @author Thomas Lehmann
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@SuppressWarnings("checkstyle:visibilitymodifier")
+public class DocumentReaderBenchmark {
+    /**
+     * Number of task groups (with one task each).
+     */
+    @Param({"1", "100", "1000"})
+    public int iTaskGroups;
+
+    /**
+     * Number of "with" values of each task.
+     */
+    @Param({"0", "10", "1000"})
+    public int iWithValues;
+
+    /**
+     * The document reader.
+     */
+    private DocumentReader reader;
+
+    /**
+     * The document (YAML).
+     */
+    private byte[] content;
+
+    /**
+     * Creating reader and document.
+     */
+    @Setup
+    public void setup() {
+        this.reader = new DocumentReader();
+        final var document = new StringBuilder().append("taskgroups:\n");
+        for (int iTaskGroup = 0; iTaskGroup < this.iTaskGroups; ++iTaskGroup) {
+            document.append("  - title: group ").append(iTaskGroup).append('\n')
+                    .append("    tasks:\n")
+                    .append("      - type: groovy\n")
+                    .append("        code: println '{{ with.value }}'\n");
+            if (this.iWithValues > 0) {
+                document.append("        with:\n");
+                for (int iValue = 0; iValue < this.iWithValues; ++iValue) {
+                    document.append("          - value ").append(iValue).append('\n');
+                }
+            }
+        }
+        this.content = document.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reading the document.
+     *
+     * @return document.
+     */
+    @Benchmark
+    public Document read() {
+        return this.reader.read(this.content);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.reader;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import magic.system.hyperion.tools.YamlTools;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.fasterxml.jackson.module.kotlin.ExtensionsKt.jacksonObjectMapper;
+
+/**
+ * Benchmark comparing an object mapper created for each request (as before)
+ * with the shared mapper and reader of {@link YamlTools}: reading a YAML
+ * document and writing a JSON response.
+ *
+ * @author Thomas Lehmann
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@SuppressWarnings("checkstyle:visibilitymodifier")
+public class YamlMapperBenchmark {
+    /**
+     * Number of task groups (with one task each).
+     */
+    @Param({"1", "100"})
+    public int iTaskGroups;
+
+    /**
+     * The document (YAML).
+     */
+    private byte[] content;
+
+    /**
+     * The response (like the result of a document run).
+     */
+    private Map<String, Object> response;
+
+    /**
+     * Creating document and response.
+     */
+    @Setup
+    public void setup() {
+        final var document = new StringBuilder().append("taskgroups:\n");
+        for (int iTaskGroup = 0; iTaskGroup < this.iTaskGroups; ++iTaskGroup) {
+            document.append("  - title: group ").append(iTaskGroup).append('\n')
+                    .append("    tasks:\n")
+                    .append("      - type: groovy\n")
+                    .append("        code: println 'hello world'\n");
+        }
+        this.content = document.toString().getBytes(StandardCharsets.UTF_8);
+        this.response = Map.of("success", true, "taskGroups", this.iTaskGroups);
+    }
+
+    /**
+     * Reading the YAML document with a new mapper.
+     *
+     * @return tree of the document.
+     * @throws IOException when reading has failed.
+     */
+    @Benchmark
+    public JsonNode readWithNewMapper() throws IOException {
+        return new ObjectMapper(new YAMLFactory()).readTree(this.content);
+    }
+
+    /**
+     * Reading the YAML document with the shared reader.
+     *
+     * @return tree of the document.
+     * @throws IOException when reading has failed.
+     */
+    @Benchmark
+    public JsonNode readWithSharedReader() throws IOException {
+        return YamlTools.readYamlTree(this.content);
+    }
+
+    /**
+     * Writing the JSON response with a new mapper.
+     *
+     * @return JSON.
+     * @throws JsonProcessingException when writing has failed.
+     */
+    @Benchmark
+    public String writeWithNewMapper() throws JsonProcessingException {
+        return jacksonObjectMapper().findAndRegisterModules().writeValueAsString(this.response);
+    }
+
+    /**
+     * Writing the JSON response with the shared mapper.
+     *
+     * @return JSON.
+     * @throws JsonProcessingException when writing has failed.
+     */
+    @Benchmark
+    public String writeWithSharedMapper() throws JsonProcessingException {
+        return YamlTools.getJsonMapper().writeValueAsString(this.response);
+    }
+}
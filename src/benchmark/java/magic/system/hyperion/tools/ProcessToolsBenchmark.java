@@ -0,0 +1,115 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.tools;
+
+import magic.system.hyperion.generics.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmark for the throughput of capturing process output (stdout and stderr)
+ * with growing output sizes; the streams are in memory to measure the capturing
+ * only (not the process).
+ *
+ * @author Thomas Lehmann
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@SuppressWarnings("checkstyle:visibilitymodifier")
+public class ProcessToolsBenchmark {
+    /**
+     * Ratio of lines written to stdout to lines written to stderr.
+     */
+    private static final int STDERR_RATIO = 10;
+
+    /**
+     * Number of lines written to stdout (a fraction of it to stderr).
+     */
+    @Param({"10", "10000", "1000000"})
+    public int iLines;
+
+    /**
+     * When true then the captured lines are logged.
+     */
+    @Param({"false", "true"})
+    public boolean bLogging;
+
+    /**
+     * Output written to stdout.
+     */
+    private byte[] stdout;
+
+    /**
+     * Output written to stderr.
+     */
+    private byte[] stderr;
+
+    /**
+     * Creating output.
+     */
+    @Setup
+    public void setup() {
+        this.stdout = createOutput(this.iLines);
+        this.stderr = createOutput(this.iLines / STDERR_RATIO);
+    }
+
+    /**
+     * Capturing the output.
+     *
+     * @return captured lines of stdout and stderr.
+     */
+    @Benchmark
+    public Pair<List<String>, List<String>> captureOutput() {
+        return ProcessTools.captureOutput(new ByteArrayInputStream(this.stdout),
+                new ByteArrayInputStream(this.stderr), this.bLogging,
+                line -> { }, line -> { });
+    }
+
+    /**
+     * Creating output with given number of lines.
+     *
+     * @param iLineCount number of lines.
+     * @return output.
+     */
+    private static byte[] createOutput(final int iLineCount) {
+        return IntStream.range(0, iLineCount)
+                .mapToObj(iLine -> "this is line " + iLine + " of the output")
+                .collect(Collectors.joining("\n"))
+                .getBytes(Charset.defaultCharset());
+    }
+}
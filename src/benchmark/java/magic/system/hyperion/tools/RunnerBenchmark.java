@@ -0,0 +1,89 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.tools;
+
+import magic.system.hyperion.exceptions.HyperionException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmark for the scheduling overhead of {@link Runner} running a growing
+ * number of runnables doing (almost) nothing in order or in parallel.
+ *
+ * @author Thomas Lehmann
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@SuppressWarnings("checkstyle:visibilitymodifier")
+public class RunnerBenchmark {
+    /**
+     * Number of runnables (like "with" values of a task).
+     */
+    @Param({"1", "100", "10000"})
+    public int iRunnables;
+
+    /**
+     * When true then the runnables run in parallel.
+     */
+    @Param({"false", "true"})
+    public boolean bParallel;
+
+    /**
+     * The runnables.
+     */
+    private Runnable[] runnables;
+
+    /**
+     * Creating the runnables.
+     */
+    @Setup
+    public void setup() {
+        this.runnables = IntStream.range(0, this.iRunnables)
+                .mapToObj(iRunnable -> (Runnable) () -> Blackhole.consumeCPU(1))
+                .toArray(Runnable[]::new);
+    }
+
+    /**
+     * Running all runnables.
+     *
+     * @throws HyperionException when running has failed.
+     */
+    @Benchmark
+    public void runAll() throws HyperionException {
+        final var runner = Runner.of(this.runnables);
+        runner.setParallel(this.bParallel);
+        runner.runAll();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.tools;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmark for {@link TemplateEngine#render(String, Map)} with a growing
+ * number of items rendered by a loop.
+ *
+ * @author Thomas Lehmann
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@SuppressWarnings("checkstyle:visibilitymodifier")
+public class TemplateEngineBenchmark {
+    /**
+     * Number of items rendered by the template.
+     */
+    @Param({"1", "100", "10000"})
+    public int iItems;
+
+    /**
+     * Template engine.
+     */
+    private TemplateEngine engine;
+
+    /**
+     * The template (same instance each time like for a task run repeatedly).
+     */
+    private String strTemplate;
+
+    /**
+     * Templating context with the items.
+     */
+    private Map<String, Object> context;
+
+    /**
+     * Creating template and context.
+     */
+    @Setup
+    public void setup() {
+        this.engine = new TemplateEngine();
+        this.strTemplate = "{% for item in items %}echo '{{ item }}'\n{% endfor %}";
+        this.context = Map.of("items", IntStream.range(0, this.iItems)
+                .mapToObj(iItem -> "item " + iItem).collect(Collectors.toList()));
+    }
+
+    /**
+     * Rendering the template.
+     *
+     * @return rendered text.
+     */
+    @Benchmark
+    public String render() {
+        return this.engine.render(this.strTemplate, this.context);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.tools;
+
+import net.sf.saxon.s9api.SaxonApiException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmark for {@link XmlTools#transform(String, String)} with a growing
+ * number of XML elements.
+ *
+ * @author Thomas Lehmann
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@SuppressWarnings("checkstyle:visibilitymodifier")
+public class XmlToolsBenchmark {
+    /**
+     * The transformation (one line for each element).
+     */
+    private static final String XSL = "<?xml version=\"1.0\"?>\n"
+            + "<xsl:stylesheet version=\"3.0\" "
+            + "xmlns:xsl=\"http://www.w3.org/1999/XSL/Transform\">\n"
+            + "  <xsl:output method=\"text\"/>\n"
+            + "  <xsl:template match=\"/items\">\n"
+            + "    <xsl:for-each select=\"item\">\n"
+            + "      <xsl:value-of select=\"concat(@name, '=', ., '&#10;')\"/>\n"
+            + "    </xsl:for-each>\n"
+            + "  </xsl:template>\n"
+            + "</xsl:stylesheet>\n";
+
+    /**
+     * Number of XML elements.
+     */
+    @Param({"1", "1000", "100000"})
+    public int iElements;
+
+    /**
+     * The XML document.
+     */
+    private String strXml;
+
+    /**
+     * Creating XML document.
+     */
+    @Setup
+    public void setup() {
+        this.strXml = IntStream.range(0, this.iElements)
+                .mapToObj(iElement -> "<item name=\"n" + iElement + "\">" + iElement + "</item>")
+                .collect(Collectors.joining("\n", "<items>\n", "\n</items>\n"));
+    }
+
+    /**
+     * Transforming the XML (including compilation of the XSL).
+     *
+     * @return transformation result.
+     * @throws SaxonApiException when the transformation has failed.
+     */
+    @Benchmark
+    public String transform() throws SaxonApiException {
+        return XmlTools.transform(XSL, this.strXml);
+    }
+}
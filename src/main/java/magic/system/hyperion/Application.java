@@ -32,10 +32,14 @@ import magic.system.hyperion.command.RunCommandProcessor;
 import magic.system.hyperion.command.ServeCommandProcessor;
 import magic.system.hyperion.command.ThirdPartyCommandProcessor;
 import magic.system.hyperion.tools.Capabilities;
+import magic.system.hyperion.tools.CapabilitiesCache;
 import magic.system.hyperion.tools.CapabilitiesPrinter;
+import magic.system.hyperion.tools.OutputLog;
+import magic.system.hyperion.tools.TimeTools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Paths;
 import java.util.List;
 
 /**
@@ -54,6 +58,11 @@ public final class Application {
      */
     private static final String NO_TIMESTAMP = "NO-TIMESTAMP";
 
+    /**
+     * Filename (in system temporary path) for persisted capabilities.
+     */
+    private static final String CAPABILITIES_FILE = "hyperion-capabilities.properties";
+
     /**
      * Application properties (wrapper for application.properties).
      */
@@ -91,6 +100,21 @@ public final class Application {
                 .setGlobalOptions(this.globalOptions).setCommands(this.commands).build();
         final var result = parser.parse(args);
 
+        final int iCapabilitiesTimeToLive = Integer.parseInt(
+                result.getGlobalOptions().getOrDefault(
+                        ApplicationOptions.CAPABILITIES_TTL.getLongName(),
+                        List.of("0")).get(0));
+        if (iCapabilitiesTimeToLive > 0) {
+            CapabilitiesCache.setPersistence(Paths.get(
+                    System.getProperty("java.io.tmpdir"), CAPABILITIES_FILE),
+                    TimeTools.minutesAsMilliseconds(iCapabilitiesTimeToLive));
+        }
+
+        OutputLog.shared().setQuiet(result.getGlobalOptions().containsKey(
+                ApplicationOptions.QUIET.getLongName()));
+        OutputLog.shared().setDrop(result.getGlobalOptions().containsKey(
+                ApplicationOptions.DROP_OUTPUT.getLongName()));
+
         if (result.getGlobalOptions().containsKey(ApplicationOptions.HELP.getLongName())) {
             printHelp();
         } else if (result.getCommandName().equals(ApplicationCommands.THIRD_PARTY.getCommand())) {
@@ -39,6 +39,21 @@ public enum ApplicationOptions {
      */
     TIMEOUT_TASKGROUP("", "timeout-taskgroup", "timeout for each taskgroup (minutes)"),
 
+    /**
+     * Time to live for persisted capabilities.
+     */
+    CAPABILITIES_TTL("", "capabilities-ttl", "keep capabilities (minutes, 0=off)"),
+
+    /**
+     * Option to keep the output of processes out of the log.
+     */
+    QUIET("q", "quiet", "keep process output out of the log"),
+
+    /**
+     * Option to drop lines of process output when logging can't keep up.
+     */
+    DROP_OUTPUT("", "drop-output", "drop process output when log is busy"),
+
     /**
      * Option for displaying the help.
      */
@@ -54,10 +69,55 @@ public enum ApplicationOptions {
      */
     TEMPORARY_PATH("", "temporary-path", "Defining temporary path"),
 
+    /**
+     * Option to define file where to write the timeline of the run (Chrome trace).
+     */
+    TRACE("", "trace", "write timeline of run (Chrome trace)"),
+
     /**
      * Option to define port where to run server on.
      */
-    PORT("p", "port", "port to run server on");
+    PORT("p", "port", "port to run server on"),
+
+    /**
+     * Option to define maximum number of documents running at once in server mode.
+     */
+    MAX_JOBS("", "max-jobs", "max. documents running at once"),
+
+    /**
+     * Option to define maximum number of documents waiting to run in server mode.
+     */
+    MAX_QUEUED("", "max-queued", "max. documents waiting to run"),
+
+    /**
+     * Option to define maximum number of stored document results in server mode.
+     */
+    MAX_RESULTS("", "max-results", "max. document results kept"),
+
+    /**
+     * Option to define time to live of stored document results in server mode.
+     */
+    RESULT_TTL("", "result-ttl", "keep document results (minutes)"),
+
+    /**
+     * Option to keep document results after reading in server mode.
+     */
+    KEEP_RESULTS("", "keep-results", "keep document results after reading"),
+
+    /**
+     * Option to define path where to persist registered documents.
+     */
+    REGISTRY_PATH("", "registry-path", "path to persist registered documents"),
+
+    /**
+     * Option to define file where to persist jobs and results in server mode.
+     */
+    JOURNAL("", "journal", "file to persist jobs and results"),
+
+    /**
+     * Option to run jobs again which have been interrupted by a restart.
+     */
+    REQUEUE("", "requeue", "run interrupted jobs again on startup");
 
     /**
      * Option short name.
@@ -28,6 +28,8 @@ import magic.system.hyperion.cli.CliException;
 import magic.system.hyperion.cli.CliOption;
 import magic.system.hyperion.cli.CliOptionList;
 import magic.system.hyperion.cli.OptionType;
+import magic.system.hyperion.command.ServeCommandProcessor;
+import magic.system.hyperion.server.controller.DocumentsController;
 
 import java.util.List;
 
@@ -65,6 +67,25 @@ public final class ApplicationOptionsFunctions {
                         .setType(OptionType.INTEGER)
                         .setDefault("60")
                         .build()).add(
+                CliOption.builder()
+                        .setShortName(ApplicationOptions.CAPABILITIES_TTL.getShortName())
+                        .setLongName(ApplicationOptions.CAPABILITIES_TTL.getLongName())
+                        .setDescription(ApplicationOptions.CAPABILITIES_TTL.getDescription())
+                        .setType(OptionType.INTEGER)
+                        .setDefault("0")
+                        .build()).add(
+                CliOption.builder()
+                        .setShortName(ApplicationOptions.QUIET.getShortName())
+                        .setLongName(ApplicationOptions.QUIET.getLongName())
+                        .setDescription(ApplicationOptions.QUIET.getDescription())
+                        .setType(OptionType.BOOLEAN)
+                        .build()).add(
+                CliOption.builder()
+                        .setShortName(ApplicationOptions.DROP_OUTPUT.getShortName())
+                        .setLongName(ApplicationOptions.DROP_OUTPUT.getLongName())
+                        .setDescription(ApplicationOptions.DROP_OUTPUT.getDescription())
+                        .setType(OptionType.BOOLEAN)
+                        .build()).add(
                 CliOption.builder()
                         .setShortName(ApplicationOptions.TAG.getShortName())
                         .setLongName(ApplicationOptions.TAG.getLongName())
@@ -99,6 +120,13 @@ public final class ApplicationOptionsFunctions {
                                 .setRequired(false)
                                 .setType(OptionType.PATH)
                                 .build())
+                        .addOption(CliOption.builder()
+                                .setShortName(ApplicationOptions.TRACE.getShortName())
+                                .setLongName(ApplicationOptions.TRACE.getLongName())
+                                .setDescription(ApplicationOptions.TRACE.getDescription())
+                                .setRequired(false)
+                                .setType(OptionType.PATH)
+                                .build())
                         .build(),
                 CliCommand.builder()
                         .setName(ApplicationCommands.THIRD_PARTY.getCommand())
@@ -108,18 +136,60 @@ public final class ApplicationOptionsFunctions {
                         .setName(ApplicationCommands.CAPABILITIES.getCommand())
                         .setDescription(ApplicationCommands.CAPABILITIES.getDescription())
                         .build(),
-                CliCommand.builder()
-                        .setName(ApplicationCommands.SERVE.getCommand())
-                        .setDescription(ApplicationCommands.SERVE.getDescription())
-                        .addOption(CliOption.builder()
-                                .setShortName(ApplicationOptions.PORT.getShortName())
-                                .setLongName(ApplicationOptions.PORT.getLongName())
-                                .setDescription(ApplicationOptions.PORT.getDescription())
-                                .setDefault("8000")
-                                .setRequired(false)
-                                .setType(OptionType.INTEGER)
-                                .build())
-                        .build()
+                defineServeCommand()
         );
     }
+
+    /**
+     * Define the serve command with its options.
+     *
+     * @return serve command.
+     * @throws CliException when validation of the definition has failed.
+     */
+    private static CliCommand defineServeCommand() throws CliException {
+        return CliCommand.builder()
+                .setName(ApplicationCommands.SERVE.getCommand())
+                .setDescription(ApplicationCommands.SERVE.getDescription())
+                .addOption(defineServeOption(ApplicationOptions.PORT, OptionType.INTEGER)
+                        .setDefault(String.valueOf(ServeCommandProcessor.DEFAULT_PORT))
+                        .build())
+                .addOption(defineServeOption(ApplicationOptions.MAX_JOBS, OptionType.INTEGER)
+                        .setDefault(String.valueOf(DocumentsController.DEFAULT_MAX_RUNNING))
+                        .build())
+                .addOption(defineServeOption(ApplicationOptions.MAX_QUEUED, OptionType.INTEGER)
+                        .setDefault(String.valueOf(DocumentsController.DEFAULT_MAX_QUEUED))
+                        .build())
+                .addOption(defineServeOption(ApplicationOptions.MAX_RESULTS, OptionType.INTEGER)
+                        .setDefault(String.valueOf(DocumentsController.DEFAULT_MAX_RESULTS))
+                        .build())
+                .addOption(defineServeOption(ApplicationOptions.RESULT_TTL, OptionType.INTEGER)
+                        .setDefault(String.valueOf(DocumentsController.DEFAULT_RESULT_TTL))
+                        .build())
+                .addOption(defineServeOption(ApplicationOptions.KEEP_RESULTS, OptionType.BOOLEAN)
+                        .build())
+                .addOption(defineServeOption(ApplicationOptions.REGISTRY_PATH, OptionType.PATH)
+                        .build())
+                .addOption(defineServeOption(ApplicationOptions.JOURNAL, OptionType.PATH)
+                        .build())
+                .addOption(defineServeOption(ApplicationOptions.REQUEUE, OptionType.BOOLEAN)
+                        .build())
+                .build();
+    }
+
+    /**
+     * Define an optional option of the serve command.
+     *
+     * @param option the option.
+     * @param type   type of the option value.
+     * @return builder for the option (for adding a default).
+     */
+    private static CliOption.Builder defineServeOption(final ApplicationOptions option,
+                                                       final OptionType type) {
+        return CliOption.builder()
+                .setShortName(option.getShortName())
+                .setLongName(option.getLongName())
+                .setDescription(option.getDescription())
+                .setRequired(false)
+                .setType(type);
+    }
 }
@@ -28,11 +28,16 @@ import magic.system.hyperion.cli.CliCommand;
 import magic.system.hyperion.cli.CliException;
 import magic.system.hyperion.cli.CliOptionList;
 import magic.system.hyperion.cli.CliResult;
+import magic.system.hyperion.components.Cancellation;
 import magic.system.hyperion.components.DocumentParameters;
+import magic.system.hyperion.components.TaskSummaryPrinter;
 import magic.system.hyperion.reader.DocumentReader;
 import magic.system.hyperion.tools.FileUtils;
 import magic.system.hyperion.tools.TimeTools;
+import magic.system.hyperion.tools.TraceRecorder;
+import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -45,6 +50,11 @@ import java.util.List;
  * @author Thomas Lehmann
  */
 public final class RunCommandProcessor extends AbstractCommandProcessor {
+    /**
+     * Logger printing messages without timestamp.
+     */
+    private static final String NO_TIMESTAMP = "NO-TIMESTAMP";
+
     /**
      * Initialize with defined options and commands with its options and the parsed one.
      *
@@ -74,12 +84,39 @@ public final class RunCommandProcessor extends AbstractCommandProcessor {
                                 ApplicationOptions.TIMEOUT_TASKGROUP.getLongName())
                                 .get().getDefault())).get(0));
 
+        final var tracePaths = this.parsedResult.getCommandOptions().getOrDefault(
+                ApplicationOptions.TRACE.getLongName(), Collections.emptyList());
+        final var trace = tracePaths.isEmpty()
+                ? TraceRecorder.disabled() : TraceRecorder.create();
+
         processDocument(pathDocument, DocumentParameters.of(tags,
-                TimeTools.minutesAsMilliseconds(iTimeoutTaskGroup)));
+                TimeTools.minutesAsMilliseconds(iTimeoutTaskGroup), line -> { },
+                new Cancellation(), trace));
+
+        if (!tracePaths.isEmpty()) {
+            writeTrace(trace, Paths.get(tracePaths.get(0)));
+        }
+    }
+
+    /**
+     * Writing the timeline of the run (Chrome trace).
+     *
+     * @param trace recorded spans of the run.
+     * @param path  path and filename of the trace.
+     * @throws CliException when writing the trace has failed.
+     */
+    private static void writeTrace(final TraceRecorder trace, final Path path)
+            throws CliException {
+        try {
+            trace.write(path);
+        } catch (IOException e) {
+            throw new CliException("Failed to write trace: " + e.getMessage());
+        }
     }
 
     /**
-     * Processing one YAML document for given path.
+     * Processing one YAML document for given path printing a summary of the
+     * task executions at the end.
      *
      * @param path       path and filename of document.
      * @param parameters the document parameters.
@@ -87,7 +124,9 @@ public final class RunCommandProcessor extends AbstractCommandProcessor {
     private void processDocument(final Path path, final DocumentParameters parameters) {
         final var reader = new DocumentReader();
         final var document = reader.read(path);
-        document.run(parameters);
+        final var result = document.run(parameters);
+        new TaskSummaryPrinter(result.getTasks()).print(
+                LoggerFactory.getLogger(NO_TIMESTAMP)::info);
     }
 
     /**
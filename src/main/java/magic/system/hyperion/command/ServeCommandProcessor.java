@@ -28,10 +28,16 @@ import magic.system.hyperion.cli.CliCommand;
 import magic.system.hyperion.cli.CliException;
 import magic.system.hyperion.cli.CliOptionList;
 import magic.system.hyperion.cli.CliResult;
+import magic.system.hyperion.exceptions.HyperionException;
 import magic.system.hyperion.server.IServer;
+import magic.system.hyperion.server.controller.DocumentsController;
+import magic.system.hyperion.server.controller.RegistryController;
 import magic.system.hyperion.server.creator.IServerCreator;
 import magic.system.hyperion.tools.Factory;
+import magic.system.hyperion.tools.TimeTools;
 
+import java.nio.file.Paths;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -60,25 +66,92 @@ public class ServeCommandProcessor extends AbstractCommandProcessor {
 
     @Override
     public void processCommand() throws CliException {
+        final int iPort = getIntegerOption(ApplicationOptions.PORT, DEFAULT_PORT);
+
+        final int iMaxJobs = getIntegerOption(
+                ApplicationOptions.MAX_JOBS, DocumentsController.DEFAULT_MAX_RUNNING);
+        final int iMaxQueued = getIntegerOption(
+                ApplicationOptions.MAX_QUEUED, DocumentsController.DEFAULT_MAX_QUEUED);
+        final int iMaxResults = getIntegerOption(
+                ApplicationOptions.MAX_RESULTS, DocumentsController.DEFAULT_MAX_RESULTS);
+        final int iResultTtl = getIntegerOption(
+                ApplicationOptions.RESULT_TTL, DocumentsController.DEFAULT_RESULT_TTL);
+        if (iMaxJobs < 1 || iMaxQueued < 1 || iMaxResults < 1 || iResultTtl < 1) {
+            throw new CliException("Limits for jobs and results must be positive!");
+        }
+
+        handleRegistryPathOption();
+        DocumentsController.setJobLimits(iMaxJobs, iMaxQueued);
+        DocumentsController.setResultLimits(iMaxResults,
+                TimeTools.minutesAsMilliseconds(iResultTtl),
+                this.parsedResult.getCommandOptions().containsKey(
+                        ApplicationOptions.KEEP_RESULTS.getLongName()));
+        handleJournalOption();
+
+        final var server = new Factory<IServer>(IServerCreator.class).create("default");
+        server.start(iPort);
+    }
+
+    /**
+     * Get value of an integer option of the serve command. When not given by the user
+     * the default of the option definition is used.
+     *
+     * @param option        the option.
+     * @param iFallbackValue used when the option definition does not have a default.
+     * @return value of the option.
+     */
+    private int getIntegerOption(final ApplicationOptions option, final int iFallbackValue) {
         final var serveCommand = this.commands.stream().filter(
                 command -> command.getName().equals(this.parsedResult.getCommandName())).findAny();
 
-        int iDefaultPort = DEFAULT_PORT;
+        int iDefaultValue = iFallbackValue;
 
         if (serveCommand.isPresent()) {
-            final var portOption = serveCommand.get()
-                    .findOption(ApplicationOptions.PORT.getLongName());
-            if (portOption.isPresent()) {
-                iDefaultPort = Integer.parseInt(portOption.get().getDefault());
+            final var definedOption = serveCommand.get().findOption(option.getLongName());
+            if (definedOption.isPresent()) {
+                iDefaultValue = Integer.parseInt(definedOption.get().getDefault());
             }
         }
 
-        final int iPort = Integer.parseInt(
-                this.parsedResult.getCommandOptions().getOrDefault(
-                        ApplicationOptions.PORT.getLongName(),
-                        List.of(String.valueOf(iDefaultPort))).get(0));
+        return Integer.parseInt(this.parsedResult.getCommandOptions().getOrDefault(
+                option.getLongName(), List.of(String.valueOf(iDefaultValue))).get(0));
+    }
 
-        final var server = new Factory<IServer>(IServerCreator.class).create("default");
-        server.start(iPort);
+    /**
+     * When the registry path option is defined then registered documents
+     * are persisted there (and loaded from there).
+     *
+     * @throws CliException when path cannot be created or read.
+     */
+    private void handleRegistryPathOption() throws CliException {
+        final var registryPaths = this.parsedResult.getCommandOptions().getOrDefault(
+                ApplicationOptions.REGISTRY_PATH.getLongName(), Collections.emptyList());
+        if (!registryPaths.isEmpty()) {
+            try {
+                RegistryController.setPersistencePath(Paths.get(registryPaths.get(0)));
+            } catch (HyperionException e) {
+                throw new CliException(e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * When the journal option is defined then jobs and results are persisted
+     * there (and recovered from there).
+     *
+     * @throws CliException when the journal cannot be read or opened.
+     */
+    private void handleJournalOption() throws CliException {
+        final var journalPaths = this.parsedResult.getCommandOptions().getOrDefault(
+                ApplicationOptions.JOURNAL.getLongName(), Collections.emptyList());
+        if (!journalPaths.isEmpty()) {
+            try {
+                DocumentsController.setJournal(Paths.get(journalPaths.get(0)),
+                        this.parsedResult.getCommandOptions().containsKey(
+                                ApplicationOptions.REQUEUE.getLongName()));
+            } catch (HyperionException e) {
+                throw new CliException(e.getMessage());
+            }
+        }
     }
 }
@@ -0,0 +1,103 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.components;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cancellation of a document run. Components check {@link #isCancelled()} before
+ * starting more work; running work registers an action to stop it (like killing
+ * a process) which is run once when the document run is cancelled.
+ *
+ * @author Thomas Lehmann
+ */
+public final class Cancellation {
+    /**
+     * Actions stopping running work.
+     */
+    private final Set<Runnable> actions;
+
+    /**
+     * When true then the document run has been cancelled.
+     */
+    private volatile boolean bCancelled;
+
+    /**
+     * Initialize not cancelled document run.
+     *
+     * @since 2.0.0
+     */
+    public Cancellation() {
+        this.actions = ConcurrentHashMap.newKeySet();
+        this.bCancelled = false;
+    }
+
+    /**
+     * Check whether the document run has been cancelled.
+     *
+     * @return true when cancelled.
+     * @since 2.0.0
+     */
+    public boolean isCancelled() {
+        return this.bCancelled;
+    }
+
+    /**
+     * Cancelling the document run: all registered actions are run.
+     *
+     * @since 2.0.0
+     */
+    public void cancel() {
+        this.bCancelled = true;
+        this.actions.forEach(this::runOnce);
+    }
+
+    /**
+     * Registering an action stopping running work; when cancelled already
+     * the action is run immediately.
+     *
+     * @param action the action to run on cancellation (must not be registered twice).
+     * @return runnable removing the action again (when the work has finished).
+     * @since 2.0.0
+     */
+    public Runnable onCancel(final Runnable action) {
+        this.actions.add(action);
+        if (this.bCancelled) {
+            runOnce(action);
+        }
+        return () -> this.actions.remove(action);
+    }
+
+    /**
+     * Running an action unless it has been run or removed already.
+     *
+     * @param action the action.
+     */
+    private void runOnce(final Runnable action) {
+        if (this.actions.remove(action)) {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.components;
+
+import magic.system.hyperion.tools.ProcessResults;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Running a Docker command waiting for its end (stderr is logged on debug level).
+ *
+ * @author Thomas Lehmann
+ */
+final class DockerCommand {
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(DockerCommand.class);
+
+    /**
+     * Not intended for instantiation.
+     */
+    private DockerCommand() {
+        // Nothing to do.
+    }
+
+    /**
+     * Running a Docker command.
+     *
+     * @param arguments arguments of the Docker command.
+     * @return exit code (-1 when the command could not be run).
+     */
+    static int run(final List<String> arguments) {
+        int iExitCode = -1;
+        final var builder = new ProcessBuilder("docker");
+        builder.command().addAll(arguments);
+        try {
+            final var processResults = ProcessResults.of(builder.start(), false);
+            iExitCode = processResults.getExitCode();
+            LOGGER.debug("{}: {}", builder.command(),
+                    String.join(" ", processResults.getStderr()));
+        } catch (IOException e) {
+            LOGGER.warn(e.getMessage(), e);
+        } catch (InterruptedException e) {
+            LOGGER.warn(e.getMessage(), e);
+            Thread.currentThread().interrupt();
+        }
+        return iExitCode;
+    }
+}
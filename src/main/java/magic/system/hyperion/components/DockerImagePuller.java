@@ -0,0 +1,171 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.components;
+
+import magic.system.hyperion.components.tasks.DockerContainerTask;
+import magic.system.hyperion.exceptions.HyperionException;
+import magic.system.hyperion.tools.Capabilities;
+import magic.system.hyperion.tools.Runner;
+import magic.system.hyperion.tools.TemplateEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.ToIntFunction;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Planning step before running a document: collecting the Docker images of all
+ * Docker container tasks (all task groups and all matrix items) and pulling the
+ * missing ones in parallel. So the pulls do overlap instead of adding up inside
+ * of the tasks which use an image first. Images being present already are not
+ * pulled (no registry access, floating tags like "latest" are not moved and
+ * locally built images are fine).
+ *
+ * @author Thomas Lehmann
+ */
+public final class DockerImagePuller {
+    /**
+     * Maximum number of pulls at same time.
+     */
+    private static final int MAX_PARALLEL_PULLS = 4;
+
+    /**
+     * Separator between image name and version.
+     */
+    private static final String SEPARATOR = ":";
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(DockerImagePuller.class);
+
+    /**
+     * Templates which cannot be rendered before running the tasks (variables and with).
+     */
+    private static final Pattern RUNTIME_TEMPLATE = Pattern.compile(
+            "\\{\\{[^}]*\\b(variables|with)\\b");
+
+    /**
+     * Not intended for instantiation.
+     */
+    private DockerImagePuller() {
+        // Nothing to do.
+    }
+
+    /**
+     * Pulling all images used by Docker container tasks of given document.
+     * Nothing is done when Docker is not available or no image is used.
+     *
+     * @param document   the document to run.
+     * @param parameters the document parameters (tags and timeout).
+     * @since 2.0.0
+     */
+    public static void pullImages(final Document document, final DocumentParameters parameters) {
+        final var images = collectImages(document, parameters.getTags());
+
+        if (!images.isEmpty() && Capabilities.hasDocker()) {
+            final var runner = Runner.of(images.stream()
+                    .map(strImage -> (Runnable) () -> pullImage(
+                            strImage, DockerCommand::run))
+                    .toArray(Runnable[]::new));
+            runner.setParallel(true);
+            runner.setMaxParallel(MAX_PARALLEL_PULLS);
+            runner.setTimeout(parameters.getTimeoutTaskgroup());
+
+            try {
+                runner.runAll();
+            } catch (HyperionException e) {
+                LOGGER.warn(e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Collecting images (name:version) used by Docker container tasks. Templated
+     * names are rendered with the model and the matrix parameters; names depending
+     * on variables or "with" values are ignored (known when running the task only).
+     *
+     * @param document the document.
+     * @param tags     when not empty then tasks without one of those tags are ignored.
+     * @return sorted set of images.
+     * @since 2.0.0
+     */
+    public static Set<String> collectImages(final Document document, final List<String> tags) {
+        final var images = new TreeSet<String>();
+        final var engine = new TemplateEngine();
+        final List<Map<String, String>> listOfMatrixParameters = document.getMatrix().isEmpty()
+                ? List.of(Map.of()) : document.getMatrix().stream()
+                .map(MatrixParameters::getParameters).collect(Collectors.toList());
+
+        for (final var matrixParameters : listOfMatrixParameters) {
+            final var context = TaskParameters.of(document.getModel(), matrixParameters,
+                    Map.of(), null).getTemplatingContext();
+
+            document.getListOfTaskGroups().stream()
+                    .flatMap(taskGroup -> taskGroup.getListOfTasks().stream())
+                    .filter(task -> task instanceof DockerContainerTask)
+                    .filter(task -> tags.isEmpty()
+                            || task.getTags().stream().anyMatch(tags::contains))
+                    .map(task -> (DockerContainerTask) task)
+                    .map(task -> task.getImageName() + SEPARATOR + task.getImageVersion())
+                    .filter(strImage -> !RUNTIME_TEMPLATE.matcher(strImage).find())
+                    .map(strImage -> engine.render(strImage, context))
+                    .filter(strImage -> !strImage.startsWith(SEPARATOR)
+                            && !strImage.endsWith(SEPARATOR))
+                    .forEach(images::add);
+        }
+
+        return images;
+    }
+
+    /**
+     * Pulling one image when not present.
+     *
+     * @param strImage image name and version (name:version).
+     * @param docker   running a Docker command (arguments) providing the exit code.
+     * @return true when the image has been pulled.
+     */
+    static boolean pullImage(final String strImage,
+                             final ToIntFunction<List<String>> docker) {
+        boolean bPulled = false;
+        if (docker.applyAsInt(List.of("image", "inspect", strImage)) == 0) {
+            LOGGER.info("Image {} is present", strImage);
+        } else {
+            LOGGER.info("Pulling image {}", strImage);
+            final int iExitCode = docker.applyAsInt(List.of("pull", "-q", strImage));
+            if (iExitCode == 0) {
+                LOGGER.info("Pulled image {}", strImage);
+                bPulled = true;
+            } else {
+                LOGGER.warn("Failed to pull image {} (exit code {})", strImage, iExitCode);
+            }
+        }
+        return bPulled;
+    }
+}
@@ -24,7 +24,9 @@
 package magic.system.hyperion.components;
 
 import magic.system.hyperion.components.interfaces.IChangeableDocument;
+import magic.system.hyperion.interfaces.ICopyable;
 import magic.system.hyperion.interfaces.IRunnable;
+import magic.system.hyperion.tools.Metrics;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.slf4j.Logger;
@@ -36,7 +38,6 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -56,7 +57,7 @@ import java.util.concurrent.atomic.AtomicInteger;
  * @author Thomas Lehmann
  */
 public class Document implements IChangeableDocument,
-        IRunnable<DocumentResult, DocumentParameters> {
+        IRunnable<DocumentResult, DocumentParameters>, ICopyable<Document> {
     /**
      * Logger for this class.
      */
@@ -83,7 +84,16 @@ public class Document implements IChangeableDocument,
      * @since 1.0.0
      */
     public Document() {
-        this.model = new Model();
+        this(new Model());
+    }
+
+    /**
+     * Initialize document with given model, empty matrix and empty list of task groups.
+     *
+     * @param initModel the model of the document.
+     */
+    private Document(final Model initModel) {
+        this.model = initModel;
         this.matrix = Collections.synchronizedList(new ArrayList<>());
         this.listOfTaskGroups = Collections.synchronizedList(new ArrayList<>());
     }
@@ -140,6 +150,35 @@ public class Document implements IChangeableDocument,
         this.matrix.add(matrixParameters);
     }
 
+    /**
+     * Provide a copy of the document with copies of all task groups (see
+     * {@link TaskGroup#copy()}). Model and matrix are not changed when running
+     * a document; they are shared with the copy.
+     *
+     * @return independent copy of this document.
+     * @since 2.0.0
+     */
+    @Override
+    public Document copy() {
+        return copy(this.model, this.matrix);
+    }
+
+    /**
+     * Provide a copy of the document (see {@link #copy()}) using given model
+     * and matrix instead of the ones of this document.
+     *
+     * @param otherModel  the model for the copy.
+     * @param otherMatrix the matrix for the copy.
+     * @return independent copy of this document.
+     * @since 2.0.0
+     */
+    public Document copy(final Model otherModel, final List<MatrixParameters> otherMatrix) {
+        final var document = new Document(otherModel);
+        otherMatrix.forEach(document::add);
+        this.listOfTaskGroups.forEach(taskGroup -> document.add(taskGroup.copy()));
+        return document;
+    }
+
     @Override
     public int hashCode() {
         return new HashCodeBuilder()
@@ -172,33 +211,49 @@ public class Document implements IChangeableDocument,
     public DocumentResult run(final DocumentParameters parameters) {
         // time in UTC when processing the document is started
         final var started = ZonedDateTime.now(ZoneId.of(ZoneOffset.UTC.toString()));
+        final long lStartNanos = System.nanoTime();
         final var errorCounter = new AtomicInteger();
+        final List<TaskDetails> tasks = Collections.synchronizedList(new ArrayList<>());
 
+        final var cancellation = parameters.getCancellation();
+        final var trace = parameters.getTrace();
 
-        if (this.matrix.isEmpty()) {
-            for (var taskGroup: this.listOfTaskGroups) {
-                final boolean bSuccess = taskGroup.run(
-                        TaskGroupParameters.of(parameters, this.model, Map.of()));
-                if (!bSuccess) {
-                    errorCounter.incrementAndGet();
+        try (var documentSpan = trace.span("document", "run document")) {
+            // planning: pulling Docker images in parallel before running the tasks
+            if (!cancellation.isCancelled()) {
+                try (var pullSpan = trace.span("docker", "pull images")) {
+                    DockerImagePuller.pullImages(this, parameters);
                 }
             }
-        } else {
-            for (final var matrixParameters: this.matrix) {
-                LOGGER.info("Running Matrix " + matrixParameters.getTitle());
-                this.listOfTaskGroups.forEach(taskGroup -> {
-                    final boolean bSuccess = taskGroup.run(
-                            TaskGroupParameters.of(parameters, this.model,
-                                    matrixParameters.getParameters()));
+
+            if (this.matrix.isEmpty()) {
+                for (var taskGroup: this.listOfTaskGroups) {
+                    final boolean bSuccess = !cancellation.isCancelled() && taskGroup.run(
+                            TaskGroupParameters.of(parameters, this.model, null, tasks::add));
                     if (!bSuccess) {
                         errorCounter.incrementAndGet();
                     }
-                });
+                }
+            } else {
+                for (final var matrixParameters: this.matrix) {
+                    LOGGER.info("Running Matrix " + matrixParameters.getTitle());
+                    try (var matrixSpan = trace.span("matrix", matrixParameters.getTitle())) {
+                        this.listOfTaskGroups.forEach(taskGroup -> {
+                            final boolean bSuccess = !cancellation.isCancelled()
+                                    && taskGroup.run(TaskGroupParameters.of(parameters,
+                                    this.model, matrixParameters, tasks::add));
+                            if (!bSuccess) {
+                                errorCounter.incrementAndGet();
+                            }
+                        });
+                    }
+                }
             }
         }
 
         // time in UTC when processing the document has finished
         final var finished = ZonedDateTime.now(ZoneId.of(ZoneOffset.UTC.toString()));
-        return DocumentResult.of(errorCounter.get() == 0, started, finished);
+        Metrics.documentFinished(lStartNanos);
+        return DocumentResult.of(errorCounter.get() == 0, started, finished, tasks);
     }
 }
@@ -23,6 +23,9 @@
  */
 package magic.system.hyperion.components;
 
+import magic.system.hyperion.interfaces.IOutputListener;
+import magic.system.hyperion.tools.TraceRecorder;
+
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -43,12 +46,29 @@ public final class DocumentParameters {
      */
     private int iTimeoutTaskgroup;
 
+    /**
+     * Listener for output lines of all tasks.
+     */
+    private IOutputListener outputListener;
+
+    /**
+     * Cancellation of the document run.
+     */
+    private Cancellation cancellation;
+
+    /**
+     * Recorder for spans of the document run.
+     */
+    private TraceRecorder trace;
+
     /**
      * Please use the "of" method.
      * @since 1.0.0
      */
     private DocumentParameters() {
-        // Nothing else to do.
+        this.outputListener = line -> { };
+        this.cancellation = new Cancellation();
+        this.trace = TraceRecorder.disabled();
     }
 
     /**
@@ -71,6 +91,36 @@ public final class DocumentParameters {
         return this.iTimeoutTaskgroup;
     }
 
+    /**
+     * Get listener for output lines of all tasks.
+     *
+     * @return listener for output lines.
+     * @since 2.0.0
+     */
+    public IOutputListener getOutputListener() {
+        return this.outputListener;
+    }
+
+    /**
+     * Get cancellation of the document run.
+     *
+     * @return cancellation (never cancelled unless provided).
+     * @since 2.0.0
+     */
+    public Cancellation getCancellation() {
+        return this.cancellation;
+    }
+
+    /**
+     * Get recorder for spans of the document run.
+     *
+     * @return trace recorder (disabled unless provided).
+     * @since 2.0.0
+     */
+    public TraceRecorder getTrace() {
+        return this.trace;
+    }
+
     /**
      * Changing of the tags.
      *
@@ -104,4 +154,61 @@ public final class DocumentParameters {
         parameters.setTimeoutTaskgroup(iTimeoutTaskgroup);
         return parameters;
     }
+
+    /**
+     * Create document parameters (for the run method) with a listener
+     * for the output lines of all tasks.
+     *
+     * @param tags              list of tags for filtering of tasks.
+     * @param iTimeoutTaskgroup timeout for task groups (in minutes).
+     * @param outputListener    listener for output lines of all tasks (must not block).
+     * @return instance of {@link DocumentParameters}.
+     * @since 2.0.0
+     */
+    public static DocumentParameters of(final List<String> tags, final int iTimeoutTaskgroup,
+                                        final IOutputListener outputListener) {
+        final var parameters = of(tags, iTimeoutTaskgroup);
+        parameters.outputListener = outputListener;
+        return parameters;
+    }
+
+    /**
+     * Create document parameters (for the run method) with a listener
+     * for the output lines of all tasks and a cancellation.
+     *
+     * @param tags              list of tags for filtering of tasks.
+     * @param iTimeoutTaskgroup timeout for task groups (in minutes).
+     * @param outputListener    listener for output lines of all tasks (must not block).
+     * @param cancellation      cancellation of the document run.
+     * @return instance of {@link DocumentParameters}.
+     * @since 2.0.0
+     */
+    public static DocumentParameters of(final List<String> tags, final int iTimeoutTaskgroup,
+                                        final IOutputListener outputListener,
+                                        final Cancellation cancellation) {
+        final var parameters = of(tags, iTimeoutTaskgroup, outputListener);
+        parameters.cancellation = cancellation;
+        return parameters;
+    }
+
+    /**
+     * Create document parameters (for the run method) with a listener
+     * for the output lines of all tasks, a cancellation and a trace recorder.
+     *
+     * @param tags              list of tags for filtering of tasks.
+     * @param iTimeoutTaskgroup timeout for task groups (in minutes).
+     * @param outputListener    listener for output lines of all tasks (must not block).
+     * @param cancellation      cancellation of the document run.
+     * @param trace             recorder for spans of the document run.
+     * @return instance of {@link DocumentParameters}.
+     * @since 2.0.0
+     */
+    public static DocumentParameters of(final List<String> tags, final int iTimeoutTaskgroup,
+                                        final IOutputListener outputListener,
+                                        final Cancellation cancellation,
+                                        final TraceRecorder trace) {
+        final var parameters = of(tags, iTimeoutTaskgroup, outputListener, cancellation);
+        parameters.trace = trace;
+        return parameters;
+    }
 }
@@ -29,6 +29,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.List;
 
 /**
  * Provide document result.
@@ -51,18 +52,40 @@ public final class DocumentResult {
      */
     private final ZonedDateTime finished;
 
+    /**
+     * When true then document run has been cancelled.
+     */
+    private final boolean bCancelled;
+
+    /**
+     * When true then document run has been interrupted by a restart of the server.
+     */
+    private final boolean bInterrupted;
+
+    /**
+     * Details of each task execution (in order of completion).
+     */
+    private final List<TaskDetails> tasks;
+
     /**
      * Initialize with result.
      *
-     * @param bInitSuccess When true then document run has been successful.
-     * @param initStarted  Timestamp when document processing has started (in UTC).
-     * @param initFinished Timestamp when document processing has finished (in UTC).
+     * @param bInitSuccess   When true then document run has been successful.
+     * @param initStarted    Timestamp when document processing has started (in UTC).
+     * @param initFinished   Timestamp when document processing has finished (in UTC).
+     * @param bInitCancelled   When true then document run has been cancelled.
+     * @param bInitInterrupted When true then document run has been interrupted by a restart.
+     * @param initTasks        Details of each task execution.
      */
     private DocumentResult(final boolean bInitSuccess, final ZonedDateTime initStarted,
-                           final ZonedDateTime initFinished) {
+                           final ZonedDateTime initFinished, final boolean bInitCancelled,
+                           final boolean bInitInterrupted, final List<TaskDetails> initTasks) {
         this.bSuccess = bInitSuccess;
         this.started = initStarted;
         this.finished = initFinished;
+        this.bCancelled = bInitCancelled;
+        this.bInterrupted = bInitInterrupted;
+        this.tasks = List.copyOf(initTasks);
     }
 
     /**
@@ -95,6 +118,58 @@ public final class DocumentResult {
         return this.finished;
     }
 
+    /**
+     * Get cancellation of document run.
+     *
+     * @return true when document run has been cancelled.
+     * @since 2.0.0
+     */
+    public boolean isCancelled() {
+        return this.bCancelled;
+    }
+
+    /**
+     * Get interruption of document run by a restart of the server.
+     *
+     * @return true when document run has been interrupted by a restart.
+     * @since 2.0.0
+     */
+    public boolean isInterrupted() {
+        return this.bInterrupted;
+    }
+
+    /**
+     * Get details of each task execution (each "with" value and each matrix item).
+     *
+     * @return readonly list of task details (in order of completion).
+     * @since 2.0.0
+     */
+    public List<TaskDetails> getTasks() {
+        return this.tasks;
+    }
+
+    /**
+     * Provide same result marked as cancelled (and not successful).
+     *
+     * @return Instance of {@link DocumentResult}.
+     * @since 2.0.0
+     */
+    public DocumentResult toCancelled() {
+        return new DocumentResult(false, this.started, this.finished, true,
+                this.bInterrupted, this.tasks);
+    }
+
+    /**
+     * Provide same result marked as interrupted by a restart (and not successful).
+     *
+     * @return Instance of {@link DocumentResult}.
+     * @since 2.0.0
+     */
+    public DocumentResult toInterrupted() {
+        return new DocumentResult(false, this.started, this.finished, this.bCancelled,
+                true, this.tasks);
+    }
+
     /**
      * Creating instance of {@link DocumentResult}.
      *
@@ -104,11 +179,53 @@ public final class DocumentResult {
      * @return Instance of {@link DocumentResult}.
      * @since 2.0.0
      */
+    public static DocumentResult of(final boolean bInitSuccess,
+                                    final ZonedDateTime initStarted,
+                                    final ZonedDateTime initFinished) {
+        return of(bInitSuccess, initStarted, initFinished, List.of());
+    }
+
+    /**
+     * Creating instance of {@link DocumentResult} with details of each task execution.
+     *
+     * @param bInitSuccess when true then document run has been successful.
+     * @param initStarted  Timestamp when document processing has started (in UTC).
+     * @param initFinished Timestamp when document processing has finished (in UTC).
+     * @param initTasks    Details of each task execution.
+     * @return Instance of {@link DocumentResult}.
+     * @since 2.0.0
+     */
+    public static DocumentResult of(final boolean bInitSuccess,
+                                    final ZonedDateTime initStarted,
+                                    final ZonedDateTime initFinished,
+                                    final List<TaskDetails> initTasks) {
+        return new DocumentResult(bInitSuccess, initStarted, initFinished, false, false,
+                initTasks);
+    }
+
+    /**
+     * Creating instance of {@link DocumentResult} (from JSON).
+     *
+     * @param bInitSuccess   when true then document run has been successful.
+     * @param initStarted    Timestamp when document processing has started (in UTC).
+     * @param initFinished   Timestamp when document processing has finished (in UTC).
+     * @param initCancelled  when true then document run has been cancelled (null: false).
+     * @param initInterrupted when true then document run has been interrupted by a restart
+     *                       (null: false).
+     * @param initTasks      Details of each task execution (null: none).
+     * @return Instance of {@link DocumentResult}.
+     * @since 2.0.0
+     */
     @JsonCreator
     public static DocumentResult of(@JsonProperty("success") final boolean bInitSuccess,
                                     @JsonProperty("started") final ZonedDateTime initStarted,
-                                    @JsonProperty("finished") final ZonedDateTime initFinished) {
-        return new DocumentResult(bInitSuccess, initStarted, initFinished);
+                                    @JsonProperty("finished") final ZonedDateTime initFinished,
+                                    @JsonProperty("cancelled") final Boolean initCancelled,
+                                    @JsonProperty("interrupted") final Boolean initInterrupted,
+                                    @JsonProperty("tasks") final List<TaskDetails> initTasks) {
+        return new DocumentResult(bInitSuccess, initStarted, initFinished,
+                Boolean.TRUE.equals(initCancelled), Boolean.TRUE.equals(initInterrupted),
+                initTasks == null ? List.of() : initTasks);
     }
 
     /**
@@ -120,6 +237,6 @@ public final class DocumentResult {
     public static DocumentResult of() {
         // time in UTC
         final var timestamp = ZonedDateTime.now(ZoneId.of(ZoneOffset.UTC.toString()));
-        return new DocumentResult(false, timestamp, timestamp);
+        return new DocumentResult(false, timestamp, timestamp, false, false, List.of());
     }
 }
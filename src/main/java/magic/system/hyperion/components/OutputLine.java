@@ -0,0 +1,143 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.components;
+
+/**
+ * One line written to stdout or stderr by a task with its origin
+ * (task group, task and index of the "with" value).
+ *
+ * @author Thomas Lehmann
+ */
+public final class OutputLine {
+    /**
+     * Title of the task group.
+     */
+    private final String strTaskGroup;
+
+    /**
+     * Title of the task.
+     */
+    private final String strTask;
+
+    /**
+     * Index of the "with" value (-1 when the task has no "with" values).
+     */
+    private final int iWithIndex;
+
+    /**
+     * When true then the line has been written to stderr.
+     */
+    private final boolean bError;
+
+    /**
+     * The line (without line separator).
+     */
+    private final String strLine;
+
+    /**
+     * Initialize output line.
+     *
+     * @param strInitTaskGroup title of the task group.
+     * @param strInitTask      title of the task.
+     * @param iInitWithIndex   index of the "with" value (-1 when not available).
+     * @param bInitError       when true then the line has been written to stderr.
+     * @param strInitLine      the line.
+     */
+    private OutputLine(final String strInitTaskGroup, final String strInitTask,
+                       final int iInitWithIndex, final boolean bInitError,
+                       final String strInitLine) {
+        this.strTaskGroup = strInitTaskGroup;
+        this.strTask = strInitTask;
+        this.iWithIndex = iInitWithIndex;
+        this.bError = bInitError;
+        this.strLine = strInitLine;
+    }
+
+    /**
+     * Get title of the task group.
+     *
+     * @return title of the task group.
+     * @since 2.0.0
+     */
+    public String getTaskGroup() {
+        return this.strTaskGroup;
+    }
+
+    /**
+     * Get title of the task.
+     *
+     * @return title of the task.
+     * @since 2.0.0
+     */
+    public String getTask() {
+        return this.strTask;
+    }
+
+    /**
+     * Get index of the "with" value.
+     *
+     * @return index of the "with" value (-1 when the task has no "with" values).
+     * @since 2.0.0
+     */
+    public int getWithIndex() {
+        return this.iWithIndex;
+    }
+
+    /**
+     * Get whether the line has been written to stderr.
+     *
+     * @return true when the line has been written to stderr.
+     * @since 2.0.0
+     */
+    public boolean isError() {
+        return this.bError;
+    }
+
+    /**
+     * Get the line.
+     *
+     * @return the line (without line separator).
+     * @since 2.0.0
+     */
+    public String getLine() {
+        return this.strLine;
+    }
+
+    /**
+     * Create output line.
+     *
+     * @param strTaskGroup title of the task group.
+     * @param strTask      title of the task.
+     * @param iWithIndex   index of the "with" value (-1 when not available).
+     * @param bError       when true then the line has been written to stderr.
+     * @param strLine      the line.
+     * @return instance of {@link OutputLine}.
+     * @since 2.0.0
+     */
+    public static OutputLine of(final String strTaskGroup, final String strTask,
+                                final int iWithIndex, final boolean bError,
+                                final String strLine) {
+        return new OutputLine(strTaskGroup, strTask, iWithIndex, bError, strLine);
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.components;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Details of the process started by a task (like a shell script).
+ *
+ * @author Thomas Lehmann
+ */
+public final class ProcessDetails {
+    /**
+     * Time in microseconds it took to start the process.
+     */
+    private final long lSpawnMicros;
+
+    /**
+     * Exit code of the process.
+     */
+    private final int iExitCode;
+
+    /**
+     * Number of bytes captured from stdout.
+     */
+    private final long lStdoutBytes;
+
+    /**
+     * Number of bytes captured from stderr.
+     */
+    private final long lStderrBytes;
+
+    /**
+     * Paths of the temporary files with the complete output (when spilled).
+     */
+    private final List<String> spillFiles;
+
+    /**
+     * Initialize process details.
+     *
+     * @param lInitSpawnMicros time in microseconds it took to start the process.
+     * @param iInitExitCode    exit code of the process.
+     * @param lInitStdoutBytes number of bytes captured from stdout.
+     * @param lInitStderrBytes number of bytes captured from stderr.
+     * @param initSpillFiles   paths of the temporary files with the complete output.
+     */
+    private ProcessDetails(final long lInitSpawnMicros, final int iInitExitCode,
+                           final long lInitStdoutBytes, final long lInitStderrBytes,
+                           final List<String> initSpillFiles) {
+        this.lSpawnMicros = lInitSpawnMicros;
+        this.iExitCode = iInitExitCode;
+        this.lStdoutBytes = lInitStdoutBytes;
+        this.lStderrBytes = lInitStderrBytes;
+        this.spillFiles = initSpillFiles;
+    }
+
+    /**
+     * Get time it took to start the process.
+     *
+     * @return time in microseconds.
+     * @since 2.0.0
+     */
+    public long getSpawnMicros() {
+        return this.lSpawnMicros;
+    }
+
+    /**
+     * Get exit code of the process.
+     *
+     * @return exit code.
+     * @since 2.0.0
+     */
+    public int getExitCode() {
+        return this.iExitCode;
+    }
+
+    /**
+     * Get number of bytes captured from stdout.
+     *
+     * @return number of bytes.
+     * @since 2.0.0
+     */
+    public long getStdoutBytes() {
+        return this.lStdoutBytes;
+    }
+
+    /**
+     * Get number of bytes captured from stderr.
+     *
+     * @return number of bytes.
+     * @since 2.0.0
+     */
+    public long getStderrBytes() {
+        return this.lStderrBytes;
+    }
+
+    /**
+     * Get paths of the temporary files with the complete output of stdout
+     * and stderr (capture with spill only).
+     *
+     * @return paths of the files (empty when not spilled).
+     * @since 2.0.0
+     */
+    public List<String> getSpillFiles() {
+        return this.spillFiles;
+    }
+
+    /**
+     * Create process details.
+     *
+     * @param lSpawnMicros time in microseconds it took to start the process.
+     * @param iExitCode    exit code of the process.
+     * @param lStdoutBytes number of bytes captured from stdout.
+     * @param lStderrBytes number of bytes captured from stderr.
+     * @return instance of {@link ProcessDetails}.
+     * @since 2.0.0
+     */
+    public static ProcessDetails of(final long lSpawnMicros, final int iExitCode,
+                                    final long lStdoutBytes, final long lStderrBytes) {
+        return of(lSpawnMicros, iExitCode, lStdoutBytes, lStderrBytes, List.of());
+    }
+
+    /**
+     * Create process details.
+     *
+     * @param lSpawnMicros time in microseconds it took to start the process.
+     * @param iExitCode    exit code of the process.
+     * @param lStdoutBytes number of bytes captured from stdout.
+     * @param lStderrBytes number of bytes captured from stderr.
+     * @param spillFiles   paths of the temporary files with the complete output.
+     * @return instance of {@link ProcessDetails}.
+     * @since 2.0.0
+     */
+    @JsonCreator
+    public static ProcessDetails of(@JsonProperty("spawnMicros") final long lSpawnMicros,
+                                    @JsonProperty("exitCode") final int iExitCode,
+                                    @JsonProperty("stdoutBytes") final long lStdoutBytes,
+                                    @JsonProperty("stderrBytes") final long lStderrBytes,
+                                    @JsonProperty("spillFiles") final List<String> spillFiles) {
+        return new ProcessDetails(lSpawnMicros, iExitCode, lStdoutBytes, lStderrBytes,
+                spillFiles == null ? List.of() : List.copyOf(spillFiles));
+    }
+}
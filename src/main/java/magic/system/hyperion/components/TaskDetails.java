@@ -0,0 +1,245 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.components;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+
+/**
+ * Timing and exit details of one task execution (one "with" value of a task
+ * for one matrix item).
+ *
+ * @author Thomas Lehmann
+ */
+public final class TaskDetails {
+    /**
+     * Title of the matrix item (null when the document has no matrix).
+     */
+    private final String strMatrix;
+
+    /**
+     * Title of the task group.
+     */
+    private final String strTaskGroup;
+
+    /**
+     * Title of the task.
+     */
+    private final String strTask;
+
+    /**
+     * Index of the "with" value (-1 when the task has no "with" values).
+     */
+    private final int iWithIndex;
+
+    /**
+     * Timestamp when the task has started (in UTC).
+     */
+    private final ZonedDateTime started;
+
+    /**
+     * Timestamp when the task has finished (in UTC).
+     */
+    private final ZonedDateTime finished;
+
+    /**
+     * Time in microseconds the task has been waiting to run after the task group
+     * has been started.
+     */
+    private final long lQueueWaitMicros;
+
+    /**
+     * When true the task was successful.
+     */
+    private final boolean bSuccess;
+
+    /**
+     * Details of the process started by the task (null when there is no process).
+     */
+    private final ProcessDetails process;
+
+    /**
+     * Initialize task details.
+     *
+     * @param strInitMatrix     title of the matrix item (null when not available).
+     * @param strInitTaskGroup  title of the task group.
+     * @param strInitTask       title of the task.
+     * @param iInitWithIndex    index of the "with" value (-1 when not available).
+     * @param initStarted       timestamp when the task has started (in UTC).
+     * @param initFinished      timestamp when the task has finished (in UTC).
+     * @param lInitQueueWait    time in microseconds the task has been waiting to run.
+     * @param bInitSuccess      when true the task was successful.
+     * @param initProcess       details of the process (null when not available).
+     */
+    @SuppressWarnings("checkstyle:parameternumber")
+    private TaskDetails(final String strInitMatrix, final String strInitTaskGroup,
+                        final String strInitTask, final int iInitWithIndex,
+                        final ZonedDateTime initStarted, final ZonedDateTime initFinished,
+                        final long lInitQueueWait, final boolean bInitSuccess,
+                        final ProcessDetails initProcess) {
+        this.strMatrix = strInitMatrix;
+        this.strTaskGroup = strInitTaskGroup;
+        this.strTask = strInitTask;
+        this.iWithIndex = iInitWithIndex;
+        this.started = initStarted;
+        this.finished = initFinished;
+        this.lQueueWaitMicros = lInitQueueWait;
+        this.bSuccess = bInitSuccess;
+        this.process = initProcess;
+    }
+
+    /**
+     * Get title of the matrix item.
+     *
+     * @return title of the matrix item (null when the document has no matrix).
+     * @since 2.0.0
+     */
+    public String getMatrix() {
+        return this.strMatrix;
+    }
+
+    /**
+     * Get title of the task group.
+     *
+     * @return title of the task group.
+     * @since 2.0.0
+     */
+    public String getTaskGroup() {
+        return this.strTaskGroup;
+    }
+
+    /**
+     * Get title of the task.
+     *
+     * @return title of the task.
+     * @since 2.0.0
+     */
+    public String getTask() {
+        return this.strTask;
+    }
+
+    /**
+     * Get index of the "with" value.
+     *
+     * @return index of the "with" value (-1 when the task has no "with" values).
+     * @since 2.0.0
+     */
+    public int getWithIndex() {
+        return this.iWithIndex;
+    }
+
+    /**
+     * Get timestamp when the task has started (in UTC).
+     *
+     * @return timestamp in UTC.
+     * @since 2.0.0
+     */
+    public ZonedDateTime getStarted() {
+        return this.started;
+    }
+
+    /**
+     * Get timestamp when the task has finished (in UTC).
+     *
+     * @return timestamp in UTC.
+     * @since 2.0.0
+     */
+    public ZonedDateTime getFinished() {
+        return this.finished;
+    }
+
+    /**
+     * Get time the task has been waiting to run after the task group has been started
+     * (for tasks running in order this includes the previous tasks).
+     *
+     * @return time in microseconds.
+     * @since 2.0.0
+     */
+    public long getQueueWaitMicros() {
+        return this.lQueueWaitMicros;
+    }
+
+    /**
+     * Get success of the task.
+     *
+     * @return true when the task was successful.
+     * @since 2.0.0
+     */
+    public boolean isSuccess() {
+        return this.bSuccess;
+    }
+
+    /**
+     * Get details of the process started by the task.
+     *
+     * @return process details (null when the task did not start a process).
+     * @since 2.0.0
+     */
+    public ProcessDetails getProcess() {
+        return this.process;
+    }
+
+    /**
+     * Provide duration of the task.
+     *
+     * @return duration between start and finish.
+     * @since 2.0.0
+     */
+    public Duration toDuration() {
+        return Duration.between(this.started, this.finished);
+    }
+
+    /**
+     * Create task details.
+     *
+     * @param strMatrix     title of the matrix item (null when not available).
+     * @param strTaskGroup  title of the task group.
+     * @param strTask       title of the task.
+     * @param iWithIndex    index of the "with" value (-1 when not available).
+     * @param started       timestamp when the task has started (in UTC).
+     * @param finished      timestamp when the task has finished (in UTC).
+     * @param lQueueWait    time in microseconds the task has been waiting to run.
+     * @param bSuccess      when true the task was successful.
+     * @param process       details of the process (null when not available).
+     * @return instance of {@link TaskDetails}.
+     * @since 2.0.0
+     */
+    @JsonCreator
+    @SuppressWarnings("checkstyle:parameternumber")
+    public static TaskDetails of(@JsonProperty("matrix") final String strMatrix,
+                                 @JsonProperty("taskGroup") final String strTaskGroup,
+                                 @JsonProperty("task") final String strTask,
+                                 @JsonProperty("withIndex") final int iWithIndex,
+                                 @JsonProperty("started") final ZonedDateTime started,
+                                 @JsonProperty("finished") final ZonedDateTime finished,
+                                 @JsonProperty("queueWaitMicros") final long lQueueWait,
+                                 @JsonProperty("success") final boolean bSuccess,
+                                 @JsonProperty("process") final ProcessDetails process) {
+        return new TaskDetails(strMatrix, strTaskGroup, strTask, iWithIndex,
+                started, finished, lQueueWait, bSuccess, process);
+    }
+}
@@ -24,22 +24,28 @@
 package magic.system.hyperion.components;
 
 import magic.system.hyperion.components.tasks.AbstractTask;
+import magic.system.hyperion.components.tasks.DockerContainerPool;
 import magic.system.hyperion.exceptions.HyperionException;
 import magic.system.hyperion.generics.SimplePublisher;
+import magic.system.hyperion.interfaces.ICopyable;
 import magic.system.hyperion.interfaces.IRunnable;
 import magic.system.hyperion.interfaces.IVariable;
+import magic.system.hyperion.tools.Metrics;
 import magic.system.hyperion.tools.Runner;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -47,9 +53,10 @@ import java.util.concurrent.atomic.AtomicInteger;
  *
  * @author Thomas Lehmann
  */
-@SuppressWarnings("checkstyle:classfanoutcomplexity")  // will be fixed later
+@SuppressWarnings({"checkstyle:classfanoutcomplexity",
+        "checkstyle:classdataabstractioncoupling"})  // will be fixed later
 public class TaskGroup extends Component
-        implements IRunnable<Boolean, TaskGroupParameters> {
+        implements IRunnable<Boolean, TaskGroupParameters>, ICopyable<TaskGroup> {
     /**
      * Logger for this class.
      */
@@ -141,11 +148,28 @@ public class TaskGroup extends Component
         this.listOfTasks.add(task);
     }
 
+    /**
+     * Provide a copy of the task group with copies of all tasks. Variables
+     * and subscribers of the variable publisher are not copied.
+     *
+     * @return independent copy of this task group.
+     * @since 2.0.0
+     */
+    @Override
+    public TaskGroup copy() {
+        final var taskGroup = new TaskGroup(getTitle(), this.bRunTasksInParallel);
+        this.listOfTasks.forEach(task -> taskGroup.add(task.deepCopy()));
+        return taskGroup;
+    }
+
     @Override
     public Boolean run(final TaskGroupParameters parameters) {
+        final long lStartNanos = System.nanoTime();
         final var errorCounter = new AtomicInteger(0);
         final Map<String, Integer> variableNamesMap = new TreeMap<>();
-        final var runnables = getRunnables(parameters, errorCounter, variableNamesMap);
+        final var dockerContainerPool = new DockerContainerPool();
+        final var runnables = getRunnables(
+                parameters, dockerContainerPool, errorCounter, variableNamesMap);
 
         if (bRunTasksInParallel) {
             variableNamesMap.entrySet().forEach(entry -> {
@@ -160,13 +184,19 @@ public class TaskGroup extends Component
         runner.setTimeout(parameters.getDocumentParameters().getTimeoutTaskgroup());
         runner.setParallel(this.bRunTasksInParallel);
 
-        try {
+        try (var span = parameters.getDocumentParameters().getTrace().span(
+                "taskgroup", getTitle())) {
             runner.runAll();
         } catch (final HyperionException e) {
             LOGGER.error(e.getMessage(), e);
             errorCounter.incrementAndGet();
+        } finally {
+            // removing containers started by tasks running in reuse mode
+            dockerContainerPool.close();
         }
 
+        Metrics.taskGroupFinished(lStartNanos);
+
         return errorCounter.get() == 0;
     }
 
@@ -174,16 +204,22 @@ public class TaskGroup extends Component
      * Get list of runnables (for running run all tasks in order in one thread or run all
      * tasks in parallel).
      *
-     * @param parameters       model and matrix parameters.
-     * @param errorCounter     counter for errors.
-     * @param variableNamesMap counter for duplicate variable names.
+     * @param parameters          model and matrix parameters.
+     * @param dockerContainerPool Docker containers shared by tasks of this group.
+     * @param errorCounter        counter for errors.
+     * @param variableNamesMap    counter for duplicate variable names.
      * @return list of runnables.
      */
     private List<Runnable> getRunnables(final TaskGroupParameters parameters,
+                                        final DockerContainerPool dockerContainerPool,
                                         final AtomicInteger errorCounter,
                                         final Map<String, Integer> variableNamesMap) {
         final List<Runnable> runnables = new ArrayList<>();
         final var tags = parameters.getDocumentParameters().getTags();
+        final var outputListener = parameters.getDocumentParameters().getOutputListener();
+        final var cancellation = parameters.getDocumentParameters().getCancellation();
+        // the runnables are started right after being created
+        final long lSubmittedNanos = System.nanoTime();
 
         for (var task : this.listOfTasks) {
             // ignore task when its tags do not match the filter (if the task does
@@ -193,13 +229,22 @@ public class TaskGroup extends Component
             }
 
             if (task.getWithValues().isEmpty()) {
-                runnables.add(() -> runOneTask(parameters, null, task, errorCounter));
+                runnables.add(() -> runOneTask(TaskParameters.of(
+                        parameters.getModel(), parameters.getMatrixParameters(),
+                        this.variables, null, dockerContainerPool,
+                        TaskOutput.of(outputListener, getTitle(), task.getTitle(), null),
+                        cancellation),
+                        task, errorCounter, parameters, lSubmittedNanos));
             } else {
                 for (int iSubTask = 0; iSubTask < task.getWithValues().size(); ++iSubTask) {
                     final var withParameters
                             = WithParameters.of(iSubTask, task.getWithValues().get(iSubTask));
-                    runnables.add(() -> runOneTask(parameters, withParameters,
-                            task.copy(), errorCounter));
+                    runnables.add(() -> runOneTask(TaskParameters.of(
+                            parameters.getModel(), parameters.getMatrixParameters(),
+                            this.variables, withParameters, dockerContainerPool,
+                            TaskOutput.of(outputListener, getTitle(), task.getTitle(),
+                                    withParameters), cancellation),
+                            task.copy(), errorCounter, parameters, lSubmittedNanos));
                 }
             }
 
@@ -214,29 +259,50 @@ public class TaskGroup extends Component
     }
 
     /**
-     * Running one task (might run in a thread).
+     * Running one task (might run in a thread); when the document run has been
+     * cancelled the task is not started anymore and counted as error.
      *
-     * @param parameters     model and the matrix parameters.
-     * @param withParameters current index and current value of "with values" or null
-     *                       if attribute has not been specified.
-     * @param task           the concrete task to run.
-     * @param errorCounter   the counter to increment on error.
+     * @param taskParameters  model, matrix parameters, variables and current
+     *                        "with" values (if any) for the task.
+     * @param task            the concrete task to run.
+     * @param errorCounter    the counter to increment on error.
+     * @param parameters      parameters of the task group (receiving the task details).
+     * @param lSubmittedNanos time ({@link System#nanoTime()}) when the task has been submitted.
      */
-    private void runOneTask(final TaskGroupParameters parameters,
-                            final WithParameters withParameters,
-                            final AbstractTask task, final AtomicInteger errorCounter) {
-        final var result = task.run(TaskParameters.of(
-                parameters.getModel(), parameters.getMatrixParameters(),
-                this.variables, withParameters));
+    private void runOneTask(final TaskParameters taskParameters,
+                            final AbstractTask task, final AtomicInteger errorCounter,
+                            final TaskGroupParameters parameters, final long lSubmittedNanos) {
+        if (taskParameters.getCancellation().isCancelled()) {
+            LOGGER.info("Document run cancelled, skipping task '{}'", task.getTitle());
+            errorCounter.incrementAndGet();
+        } else {
+            final var started = ZonedDateTime.now(ZoneOffset.UTC);
+            final long lStartNanos = System.nanoTime();
+            final var withParameters = taskParameters.getWithParameters();
+            final TaskResult result;
+            try (var span = parameters.getDocumentParameters().getTrace().span("task",
+                    withParameters == null ? task.getTitle()
+                            : task.getTitle() + " #" + withParameters.getIndex())) {
+                result = task.run(taskParameters);
+            }
+            final long lFinishNanos = System.nanoTime();
+            Metrics.taskFinished(task.getClass().getSimpleName(), lStartNanos);
+            parameters.getTaskListener().accept(TaskDetails.of(
+                    parameters.getMatrixTitle(), getTitle(), task.getTitle(),
+                    withParameters == null ? -1 : withParameters.getIndex(),
+                    started, started.plusNanos(lFinishNanos - lStartNanos),
+                    TimeUnit.NANOSECONDS.toMicros(lStartNanos - lSubmittedNanos),
+                    result.isSuccess(), result.getProcessDetails()));
 
-        final var copiedVariable = result.getVariable().copy();
-        this.variables.put(copiedVariable.getName(), copiedVariable);
-        LOGGER.info(String.format("set variable %s=%s",
-                copiedVariable.getName(), copiedVariable.getValue()));
-        this.variablePublisher.submit(copiedVariable);
+            final var copiedVariable = result.getVariable().copy();
+            this.variables.put(copiedVariable.getName(), copiedVariable);
+            LOGGER.info(String.format("set variable %s=%s",
+                    copiedVariable.getName(), copiedVariable.getValue()));
+            this.variablePublisher.submit(copiedVariable);
 
-        if (!result.isSuccess()) {
-            errorCounter.incrementAndGet();
+            if (!result.isSuccess()) {
+                errorCounter.incrementAndGet();
+            }
         }
     }
 
@@ -24,6 +24,7 @@
 package magic.system.hyperion.components;
 
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Parameters for running a task group.
@@ -46,6 +47,16 @@ public class TaskGroupParameters {
      */
     private Map<String, String> matrixParameters;
 
+    /**
+     * Title of current matrix item (null when the document has no matrix).
+     */
+    private String strMatrixTitle;
+
+    /**
+     * Receiving the details of each finished task.
+     */
+    private Consumer<TaskDetails> taskListener = details -> { };
+
     /**
      * Get document parameters to the run method of the document.
      *
@@ -76,6 +87,26 @@ public class TaskGroupParameters {
         return this.matrixParameters;
     }
 
+    /**
+     * Get title of current matrix item.
+     *
+     * @return title of matrix item (null when the document has no matrix).
+     * @since 2.0.0
+     */
+    public String getMatrixTitle() {
+        return this.strMatrixTitle;
+    }
+
+    /**
+     * Get listener receiving the details of each finished task.
+     *
+     * @return task listener (called by concurrent tasks).
+     * @since 2.0.0
+     */
+    public Consumer<TaskDetails> getTaskListener() {
+        return this.taskListener;
+    }
+
     /**
      * Changing document parameters.
      *
@@ -121,4 +152,27 @@ public class TaskGroupParameters {
         parameters.setMatrixParameters(matrixParameters);
         return parameters;
     }
+
+    /**
+     * Create instance of {@link TaskGroupParameters} for a matrix item with
+     * a listener for the details of each finished task.
+     *
+     * @param documentParameters the document parameters passed through run method of document.
+     * @param model model of the document.
+     * @param matrixParameters matrix parameters for current matrix item (null when
+     *                         the document has no matrix).
+     * @param taskListener receiving the details of each finished task.
+     * @return instance of {@link TaskGroupParameters}.
+     * @since 2.0.0
+     */
+    public static TaskGroupParameters of(final DocumentParameters documentParameters,
+                                         final Model model,
+                                         final MatrixParameters matrixParameters,
+                                         final Consumer<TaskDetails> taskListener) {
+        final var parameters = of(documentParameters, model,
+                matrixParameters == null ? Map.of() : matrixParameters.getParameters());
+        parameters.strMatrixTitle = matrixParameters == null ? null : matrixParameters.getTitle();
+        parameters.taskListener = taskListener;
+        return parameters;
+    }
 }
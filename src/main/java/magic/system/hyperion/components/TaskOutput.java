@@ -0,0 +1,137 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.components;
+
+import magic.system.hyperion.interfaces.IOutputListener;
+import magic.system.hyperion.tools.LineWriter;
+
+import java.io.Writer;
+
+/**
+ * Forwarding output lines of one task to an {@link IOutputListener}
+ * tagged with task group, task and index of the "with" value.
+ *
+ * @author Thomas Lehmann
+ */
+public final class TaskOutput {
+    /**
+     * Index used when the task has no "with" values.
+     */
+    private static final int NO_WITH_INDEX = -1;
+
+    /**
+     * Listener for the output lines.
+     */
+    private final IOutputListener listener;
+
+    /**
+     * Title of the task group.
+     */
+    private final String strTaskGroup;
+
+    /**
+     * Title of the task.
+     */
+    private final String strTask;
+
+    /**
+     * Index of the "with" value (-1 when not available).
+     */
+    private final int iWithIndex;
+
+    /**
+     * Initialize task output.
+     *
+     * @param initListener     listener for the output lines.
+     * @param strInitTaskGroup title of the task group.
+     * @param strInitTask      title of the task.
+     * @param iInitWithIndex   index of the "with" value (-1 when not available).
+     */
+    private TaskOutput(final IOutputListener initListener, final String strInitTaskGroup,
+                       final String strInitTask, final int iInitWithIndex) {
+        this.listener = initListener;
+        this.strTaskGroup = strInitTaskGroup;
+        this.strTask = strInitTask;
+        this.iWithIndex = iInitWithIndex;
+    }
+
+    /**
+     * Forwarding a line written to stdout.
+     *
+     * @param strLine the line.
+     * @since 2.0.0
+     */
+    public void stdout(final String strLine) {
+        this.listener.output(OutputLine.of(
+                this.strTaskGroup, this.strTask, this.iWithIndex, false, strLine));
+    }
+
+    /**
+     * Provide writer forwarding each line as stdout (for tasks not running a process).
+     *
+     * @param target writer receiving all characters.
+     * @return writer.
+     * @since 2.0.0
+     */
+    public Writer stdoutWriter(final Writer target) {
+        return new LineWriter(target, this::stdout);
+    }
+
+    /**
+     * Forwarding a line written to stderr.
+     *
+     * @param strLine the line.
+     * @since 2.0.0
+     */
+    public void stderr(final String strLine) {
+        this.listener.output(OutputLine.of(
+                this.strTaskGroup, this.strTask, this.iWithIndex, true, strLine));
+    }
+
+    /**
+     * Create task output.
+     *
+     * @param listener       listener for the output lines.
+     * @param strTaskGroup   title of the task group.
+     * @param strTask        title of the task.
+     * @param withParameters current index and value of "with" values (can be null).
+     * @return instance of {@link TaskOutput}.
+     * @since 2.0.0
+     */
+    public static TaskOutput of(final IOutputListener listener, final String strTaskGroup,
+                                final String strTask, final WithParameters withParameters) {
+        return new TaskOutput(listener, strTaskGroup, strTask,
+                withParameters == null ? NO_WITH_INDEX : withParameters.getIndex());
+    }
+
+    /**
+     * Create task output ignoring all lines.
+     *
+     * @return instance of {@link TaskOutput}.
+     * @since 2.0.0
+     */
+    public static TaskOutput none() {
+        return new TaskOutput(line -> { }, "", "", NO_WITH_INDEX);
+    }
+}
@@ -23,6 +23,7 @@
  */
 package magic.system.hyperion.components;
 
+import magic.system.hyperion.components.tasks.DockerContainerPool;
 import magic.system.hyperion.data.StringRendererVisitor;
 import magic.system.hyperion.interfaces.IVariable;
 
@@ -56,6 +57,21 @@ public final class TaskParameters {
      */
     private final WithParameters withParameters;
 
+    /**
+     * Docker containers shared by the tasks of a task group (can be null).
+     */
+    private final DockerContainerPool dockerContainerPool;
+
+    /**
+     * Output of the task (forwarding lines written to stdout and stderr).
+     */
+    private final TaskOutput output;
+
+    /**
+     * Cancellation of the document run.
+     */
+    private final Cancellation cancellation;
+
     /**
      * Initialize task parameters.
      *
@@ -63,16 +79,65 @@ public final class TaskParameters {
      * @param initMatrixParameters matrix parameters to use.
      * @param initVariables variables to use.
      * @param initWithParameters current index and current value of the "with" values
+     * @param initDockerContainerPool Docker containers shared by tasks of task group.
+     * @param initOutput output of the task.
+     * @param initCancellation cancellation of the document run.
      * @since 1.0.0
      */
     private TaskParameters(final Model initModel,
                           final Map<String, String> initMatrixParameters,
                           final Map<String, IVariable> initVariables,
-                          final WithParameters initWithParameters) {
+                          final WithParameters initWithParameters,
+                          final DockerContainerPool initDockerContainerPool,
+                          final TaskOutput initOutput,
+                          final Cancellation initCancellation) {
         this.model = initModel;
         this.matrixParameters = new TreeMap<>(initMatrixParameters);
         this.variables = initVariables;
         this.withParameters = initWithParameters;
+        this.dockerContainerPool = initDockerContainerPool;
+        this.output = initOutput;
+        this.cancellation = initCancellation;
+    }
+
+    /**
+     * Get current index and current value of the "with" values.
+     *
+     * @return "with" parameters (null when the task has no "with" values).
+     * @since 2.0.0
+     */
+    public WithParameters getWithParameters() {
+        return this.withParameters;
+    }
+
+    /**
+     * Get cancellation of the document run.
+     *
+     * @return cancellation.
+     * @since 2.0.0
+     */
+    public Cancellation getCancellation() {
+        return this.cancellation;
+    }
+
+    /**
+     * Get Docker containers shared by the tasks of a task group.
+     *
+     * @return Docker container pool or null when not available.
+     * @since 2.0.0
+     */
+    public DockerContainerPool getDockerContainerPool() {
+        return this.dockerContainerPool;
+    }
+
+    /**
+     * Get output of the task (forwarding lines written to stdout and stderr).
+     *
+     * @return output of the task.
+     * @since 2.0.0
+     */
+    public TaskOutput getOutput() {
+        return this.output;
     }
 
     /**
@@ -115,6 +180,51 @@ public final class TaskParameters {
                                     final Map<String,String> matrixParameters,
                                     final Map<String, IVariable> variables,
                                     final WithParameters withParameters) {
-        return new TaskParameters(model,matrixParameters, variables, withParameters);
+        return new TaskParameters(model, matrixParameters, variables, withParameters,
+                null, TaskOutput.none(), new Cancellation());
+    }
+
+    /**
+     * Creating a task parameters instance.
+     *
+     * @param model mode to use.
+     * @param matrixParameters matrix parameters.
+     * @param variables variables to use.
+     * @param withParameters current index and current value of "with" values.
+     * @param dockerContainerPool Docker containers shared by tasks of task group.
+     * @return instance of {@link TaskParameters}.
+     * @since 2.0.0
+     */
+    public static TaskParameters of(final Model model,
+                                    final Map<String,String> matrixParameters,
+                                    final Map<String, IVariable> variables,
+                                    final WithParameters withParameters,
+                                    final DockerContainerPool dockerContainerPool) {
+        return new TaskParameters(model, matrixParameters, variables,
+                withParameters, dockerContainerPool, TaskOutput.none(), new Cancellation());
+    }
+
+    /**
+     * Creating a task parameters instance.
+     *
+     * @param model mode to use.
+     * @param matrixParameters matrix parameters.
+     * @param variables variables to use.
+     * @param withParameters current index and current value of "with" values.
+     * @param dockerContainerPool Docker containers shared by tasks of task group.
+     * @param output output of the task (forwarding lines written to stdout and stderr).
+     * @param cancellation cancellation of the document run.
+     * @return instance of {@link TaskParameters}.
+     * @since 2.0.0
+     */
+    public static TaskParameters of(final Model model,
+                                    final Map<String,String> matrixParameters,
+                                    final Map<String, IVariable> variables,
+                                    final WithParameters withParameters,
+                                    final DockerContainerPool dockerContainerPool,
+                                    final TaskOutput output,
+                                    final Cancellation cancellation) {
+        return new TaskParameters(model, matrixParameters, variables,
+                withParameters, dockerContainerPool, output, cancellation);
     }
 }
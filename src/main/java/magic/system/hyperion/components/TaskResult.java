@@ -40,6 +40,11 @@ public class TaskResult {
      */
     private final Variable variable;
 
+    /**
+     * Details of the process started by the task (null when there is no process).
+     */
+    private final ProcessDetails processDetails;
+
     /**
      * Init task result.
      *
@@ -49,8 +54,23 @@ public class TaskResult {
      * @since 1.0.0
      */
     public TaskResult(final boolean bInitSuccess, final Variable initVariable) {
+        this(bInitSuccess, initVariable, null);
+    }
+
+    /**
+     * Init task result with details of the process started by the task.
+     *
+     * @param bInitSuccess       when true the task has been successful.
+     * @param initVariable       the extracted content from related task (when
+     *                           defined).
+     * @param initProcessDetails details of the process (null when not available).
+     * @since 2.0.0
+     */
+    public TaskResult(final boolean bInitSuccess, final Variable initVariable,
+                      final ProcessDetails initProcessDetails) {
         this.bSuccess = bInitSuccess;
         this.variable = initVariable;
+        this.processDetails = initProcessDetails;
     }
 
     /**
@@ -72,4 +92,14 @@ public class TaskResult {
     public Variable getVariable() {
         return this.variable;
     }
+
+    /**
+     * Provide details of the process started by the task.
+     *
+     * @return process details (null when the task did not start a process).
+     * @since 2.0.0
+     */
+    public ProcessDetails getProcessDetails() {
+        return this.processDetails;
+    }
 }
@@ -0,0 +1,147 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.components;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Printing the details of the task executions of a document run as table
+ * (slowest tasks first).
+ *
+ * @author Thomas Lehmann
+ */
+public class TaskSummaryPrinter {
+    /**
+     * Maximum number of printed tasks.
+     */
+    public static final int MAX_TASKS = 20;
+
+    /**
+     * Format of one line of the table.
+     */
+    private static final String FORMAT = "%12s %12s %12s %6s %10s %10s  %s";
+
+    /**
+     * Microseconds per millisecond.
+     */
+    private static final double MICROS_PER_MILLISECOND = 1000.0;
+
+    /**
+     * Value when a task did not start a process.
+     */
+    private static final String NOT_AVAILABLE = "-";
+
+    /**
+     * Details of the task executions.
+     */
+    private final List<TaskDetails> tasks;
+
+    /**
+     * Initialize with details of the task executions.
+     *
+     * @param initTasks details of the task executions (see {@link DocumentResult#getTasks()}).
+     * @since 2.0.0
+     */
+    public TaskSummaryPrinter(final List<TaskDetails> initTasks) {
+        this.tasks = new ArrayList<>(initTasks);
+        this.tasks.sort(Comparator.comparing(TaskDetails::toDuration).reversed());
+    }
+
+    /**
+     * Print the table of the slowest tasks (at most {@link #MAX_TASKS}).
+     *
+     * @param consumer it's on the caller to decide how to print.
+     * @since 2.0.0
+     */
+    public void print(final Consumer<String> consumer) {
+        if (!this.tasks.isEmpty()) {
+            consumer.accept(String.format("Task summary (%d executions, slowest first):",
+                    this.tasks.size()));
+            consumer.accept(String.format(FORMAT, "duration(ms)", "wait(ms)", "spawn(ms)",
+                    "exit", "stdout", "stderr", "task"));
+            this.tasks.stream().limit(MAX_TASKS).forEach(
+                    details -> consumer.accept(printableDetails(details)));
+            if (this.tasks.size() > MAX_TASKS) {
+                consumer.accept(String.format("... %d more", this.tasks.size() - MAX_TASKS));
+            }
+        }
+    }
+
+    /**
+     * Format one task execution as line of the table.
+     *
+     * @param details details of the task execution.
+     * @return formatted line.
+     */
+    private static String printableDetails(final TaskDetails details) {
+        final var process = details.getProcess();
+        final var strDuration = printableMilliseconds(
+                TimeUnit.NANOSECONDS.toMicros(details.toDuration().toNanos()));
+        final var strWait = printableMilliseconds(details.getQueueWaitMicros());
+
+        final String strLine;
+        if (process == null) {
+            strLine = String.format(FORMAT, strDuration, strWait, NOT_AVAILABLE,
+                    NOT_AVAILABLE, NOT_AVAILABLE, NOT_AVAILABLE, printableName(details));
+        } else {
+            strLine = String.format(FORMAT, strDuration, strWait,
+                    printableMilliseconds(process.getSpawnMicros()), process.getExitCode(),
+                    process.getStdoutBytes(), process.getStderrBytes(),
+                    printableName(details));
+        }
+        return strLine;
+    }
+
+    /**
+     * Format a time given in microseconds as milliseconds.
+     *
+     * @param lMicros time in microseconds.
+     * @return formatted time.
+     */
+    private static String printableMilliseconds(final long lMicros) {
+        return String.format("%.3f", lMicros / MICROS_PER_MILLISECOND);
+    }
+
+    /**
+     * Format name of task execution (matrix item, task group, task and "with" index).
+     *
+     * @param details details of the task execution.
+     * @return formatted name.
+     */
+    private static String printableName(final TaskDetails details) {
+        final var name = new StringBuilder();
+        if (details.getMatrix() != null) {
+            name.append('[').append(details.getMatrix()).append("] ");
+        }
+        name.append(details.getTaskGroup()).append(" / ").append(details.getTask());
+        if (details.getWithIndex() >= 0) {
+            name.append(" #").append(details.getWithIndex());
+        }
+        return name.toString();
+    }
+}
@@ -29,7 +29,6 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 
-import java.util.List;
 import java.util.regex.Pattern;
 
 /**
@@ -63,6 +62,11 @@ public class Variable implements IVariable {
      */
     private boolean bLineByLine;
 
+    /**
+     * Compiled regex (compiled once on first use).
+     */
+    private Pattern pattern;
+
     /**
      * Initialize variable.
      */
@@ -158,6 +162,7 @@ public class Variable implements IVariable {
      */
     public void setRegex(final String strInitRegex) {
         this.strRegex = strInitRegex;
+        this.pattern = null;
     }
 
     /**
@@ -199,6 +204,29 @@ public class Variable implements IVariable {
         return success;
     }
 
+    /**
+     * Starting extraction of the value from lines passed one by one (like
+     * the lines of the output of a process while it is running).
+     *
+     * @return extraction; the value is changed when finishing it.
+     * @since 2.0.0
+     */
+    public VariableExtraction startExtraction() {
+        return new VariableExtraction(this);
+    }
+
+    /**
+     * Provide compiled regex.
+     *
+     * @return compiled regex.
+     */
+    Pattern getPattern() {
+        if (this.pattern == null) {
+            this.pattern = Pattern.compile(this.strRegex, Pattern.DOTALL);
+        }
+        return this.pattern;
+    }
+
     /**
      * The regex is applied on each single line of the string content.
      *
@@ -206,28 +234,19 @@ public class Variable implements IVariable {
      * @return true regex did find any match.
      */
     private boolean setValueFilterLineByLine(final String strInitValue) {
-        boolean success = false;
-        final var pattern = Pattern.compile(this.strRegex, Pattern.DOTALL);
-
-        String strNewValue = "";
-        for (final var line : List.of(strInitValue.split("\\n"))) {
-            final var matcher = pattern.matcher(line);
-            if (!matcher.find()) {
-                continue;
-            }
-
-            success = true;
-            if (!strNewValue.isEmpty()) {
-                strNewValue += "\n";
-            }
-            strNewValue += matcher.group(this.iRegexGroup);
+        final var extraction = startExtraction();
+        int iStart = 0;
+        int iEnd = strInitValue.indexOf('\n');
+        while (iEnd >= 0) {
+            extraction.accept(strInitValue.substring(iStart, iEnd));
+            iStart = iEnd + 1;
+            iEnd = strInitValue.indexOf('\n', iStart);
         }
-
-        if (success) {
-            this.strValue = strNewValue.strip();
+        // like split: no empty line after a final newline
+        if (iStart == 0 || iStart < strInitValue.length()) {
+            extraction.accept(strInitValue.substring(iStart));
         }
-
-        return success;
+        return extraction.finish();
     }
 
     /**
@@ -236,11 +255,10 @@ public class Variable implements IVariable {
      * @param strInitValue string content
      * @return true if regex did find any match.
      */
-    private boolean setValueFilterTotal(final String strInitValue) {
+    boolean setValueFilterTotal(final CharSequence strInitValue) {
         boolean success = false;
-        final var pattern = Pattern.compile(this.strRegex, Pattern.DOTALL);
 
-        final var matcher = pattern.matcher(strInitValue);
+        final var matcher = getPattern().matcher(strInitValue);
         if (matcher.find()) {
             success = true;
             this.strValue = matcher.group(this.iRegexGroup).strip();
@@ -254,7 +272,7 @@ public class Variable implements IVariable {
      *
      * @param strInitValue new value.
      */
-    private void setRawValue(final String strInitValue) {
+    void setRawValue(final String strInitValue) {
         this.strValue = strInitValue;
     }
 
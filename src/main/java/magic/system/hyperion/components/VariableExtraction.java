@@ -0,0 +1,113 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.components;
+
+import java.util.function.Consumer;
+
+/**
+ * Extraction of the value of a variable from lines passed one by one (like the
+ * lines of the output of a process while it is running). When the regex is applied
+ * line by line only the matches are kept; otherwise the lines are collected to
+ * apply the regex on the whole content when finishing.
+ *
+ * @author Thomas Lehmann
+ * @since 2.0.0
+ */
+public final class VariableExtraction implements Consumer<String> {
+    /**
+     * The variable to change.
+     */
+    private final Variable variable;
+
+    /**
+     * Matches (line by line) or all lines (whole content).
+     */
+    private final StringBuilder content;
+
+    /**
+     * When true then the regex did find a match (line by line) or a line has
+     * been collected already (whole content).
+     */
+    private boolean bFound;
+
+    /**
+     * Initialize extraction.
+     *
+     * @param initVariable the variable to change.
+     */
+    VariableExtraction(final Variable initVariable) {
+        this.variable = initVariable;
+        this.content = new StringBuilder();
+        this.bFound = false;
+    }
+
+    /**
+     * Passing next line.
+     *
+     * @param strLine line (without line separator).
+     */
+    @Override
+    public void accept(final String strLine) {
+        if (this.variable.isLineByLine()) {
+            final var matcher = this.variable.getPattern().matcher(strLine);
+            if (matcher.find()) {
+                append(matcher.group(this.variable.getRegexGroup()));
+            }
+        } else {
+            append(strLine);
+        }
+    }
+
+    /**
+     * Finishing extraction changing the value of the variable when the regex
+     * did find a match.
+     *
+     * @return true when the regex did find a match.
+     */
+    public boolean finish() {
+        boolean success = false;
+        if (this.variable.isLineByLine()) {
+            if (this.bFound) {
+                this.variable.setRawValue(this.content.toString().strip());
+                success = true;
+            }
+        } else {
+            success = this.variable.setValueFilterTotal(this.content);
+        }
+        return success;
+    }
+
+    /**
+     * Appending a match or a line.
+     *
+     * @param strText match or line.
+     */
+    private void append(final String strText) {
+        if (this.bFound) {
+            this.content.append('\n');
+        }
+        this.content.append(strText);
+        this.bFound = true;
+    }
+}
@@ -26,9 +26,9 @@ package magic.system.hyperion.components.tasks;
 import magic.system.hyperion.components.TaskParameters;
 import magic.system.hyperion.components.TaskResult;
 import magic.system.hyperion.exceptions.HyperionException;
-import magic.system.hyperion.interfaces.ISimpleRunnable;
+import magic.system.hyperion.tools.CaptureLimits;
 import magic.system.hyperion.tools.FileUtils;
-import magic.system.hyperion.tools.ProcessResults;
+import magic.system.hyperion.tools.ProcessTools;
 import magic.system.hyperion.tools.TemplateEngine;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,9 +52,16 @@ public abstract class AbstractShellTask extends AbstractCodableTask {
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractShellTask.class);
 
     /**
-     * Newline character.
+     * Default limits for capturing the output of the process: first and last 1000 lines
+     * (the value of the variable is extracted from all lines while capturing).
      */
-    private static final String NEWLINE = "\n";
+    private static final CaptureLimits DEFAULT_CAPTURE
+            = CaptureLimits.of(1000, 1000, false);
+
+    /**
+     * Limits for capturing the output of the process.
+     */
+    private CaptureLimits capture = DEFAULT_CAPTURE;
 
     /**
      * Initialize task.
@@ -67,6 +74,26 @@ public abstract class AbstractShellTask extends AbstractCodableTask {
         super(strInitTitle, strInitCode);
     }
 
+    /**
+     * Get limits for capturing the output of the process.
+     *
+     * @return capture limits.
+     * @since 2.0.0
+     */
+    public CaptureLimits getCapture() {
+        return this.capture;
+    }
+
+    /**
+     * Change limits for capturing the output of the process.
+     *
+     * @param initCapture new capture limits.
+     * @since 2.0.0
+     */
+    public void setCapture(final CaptureLimits initCapture) {
+        this.capture = initCapture;
+    }
+
     @Override
     public boolean isRegularFile() {
         final String[] tokens = getCode().split("\\.");
@@ -77,8 +104,7 @@ public abstract class AbstractShellTask extends AbstractCodableTask {
     @Override
     public TaskResult run(final TaskParameters parameters) {
         TaskResult taskResult;
-        ISimpleRunnable cleanup = () -> {
-        };
+        Path temporaryScriptPath = null;
 
         logTitle(parameters);
 
@@ -91,8 +117,7 @@ public abstract class AbstractShellTask extends AbstractCodableTask {
                 strContent = Files.readString(Paths.get(getCode()));
             }
 
-            final var temporaryScriptPath = createTemporaryFile();
-            cleanup = () -> FileUtils.deletePath(temporaryScriptPath);
+            temporaryScriptPath = createTemporaryFile();
 
             final var renderedText = engine.render(
                     strContent, parameters.getTemplatingContext());
@@ -101,21 +126,30 @@ public abstract class AbstractShellTask extends AbstractCodableTask {
                     Charset.defaultCharset()));
 
             LOGGER.info("Running script {}", temporaryScriptPath);
-            final var process = runFile(temporaryScriptPath);
-            final var processResults = ProcessResults.of(process);
-            this.getVariable().setValue(String.join(NEWLINE, processResults.getStdout()));
-            taskResult = new TaskResult(processResults.getExitCode() == 0,
-                    getVariable());
+            taskResult = ProcessCapture.run(this, parameters, temporaryScriptPath);
         } catch (IOException | InterruptedException | HyperionException e) {
             LOGGER.error(e.getMessage(), e);
             taskResult = new TaskResult(false, this.getVariable());
         } finally {
-            cleanup.run();
+            if (temporaryScriptPath != null) {
+                FileUtils.deletePath(temporaryScriptPath);
+            }
         }
 
         return taskResult;
     }
 
+    /**
+     * Stopping a running process (when the document run has been cancelled).
+     *
+     * @param process the process to stop.
+     * @since 2.0.0
+     */
+    protected void stop(final Process process) {
+        LOGGER.info("Stopping process {} of task '{}'", process.pid(), getTitle());
+        ProcessTools.destroyTree(process);
+    }
+
     /**
      * Providing temporary file.
      *
@@ -184,4 +218,20 @@ public abstract class AbstractShellTask extends AbstractCodableTask {
      * @since 1.0.0
      */
     protected abstract Process runFile(Path path) throws IOException, HyperionException;
+
+    /**
+     * Does execute the concrete shell script with access to the task parameters.
+     * The default is to call {@link #runFile(Path)}.
+     *
+     * @param path       path to the shell script.
+     * @param parameters the task parameters.
+     * @return the process for the execution.
+     * @throws IOException       when file execution failed.
+     * @throws HyperionException when an application error occurs.
+     * @since 2.0.0
+     */
+    protected Process runFile(final Path path, final TaskParameters parameters)
+            throws IOException, HyperionException {
+        return runFile(path);
+    }
 }
@@ -136,6 +136,25 @@ public abstract class AbstractTask extends Component
         return this.withValues;
     }
 
+    /**
+     * Provide a complete copy of the task: the attributes of the concrete task
+     * (see {@link #copy()}), the definition of the result variable (without value),
+     * the tags and the "with" values.
+     *
+     * @return independent copy of this task.
+     * @since 2.0.0
+     */
+    public AbstractTask deepCopy() {
+        final var task = copy();
+        task.getVariable().setName(this.variable.getName());
+        task.getVariable().setRegex(this.variable.getRegex());
+        task.getVariable().setRegexGroup(this.variable.getRegexGroup());
+        task.getVariable().setLineByLine(this.variable.isLineByLine());
+        this.tags.forEach(task::addTag);
+        task.setWithValues(this.withValues);
+        return task;
+    }
+
     /**
      * Logging of rendered title.
      *
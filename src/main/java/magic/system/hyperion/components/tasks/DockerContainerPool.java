@@ -0,0 +1,165 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.components.tasks;
+
+import magic.system.hyperion.exceptions.HyperionException;
+import magic.system.hyperion.tools.ProcessResults;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Long running Docker containers shared by the Docker container tasks of one
+ * task group (reuse mode). There is one container per image, version, platform
+ * and mounts; the scripts are run via "docker exec". On {@link #close()} all
+ * started containers are removed.
+ *
+ * @author Thomas Lehmann
+ */
+public class DockerContainerPool implements AutoCloseable {
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(DockerContainerPool.class);
+
+    /**
+     * Docker command.
+     */
+    private static final String DOCKER = "docker";
+
+    /**
+     * Docker option for mounting a volume.
+     */
+    private static final String VOLUME = "-v";
+
+    /**
+     * Delimiter for joining command parts.
+     */
+    private static final String DELIMITER = " ";
+
+    /**
+     * Commands keeping a container alive (key: platform).
+     */
+    private static final Map<String, List<String>> KEEP_ALIVE_COMMANDS = Map.of(
+            DockerContainerTask.PLATFORM_UNIX, List.of("tail", "-f", "/dev/null"),
+            DockerContainerTask.PLATFORM_WINDOWS, List.of("cmd", "/C", "ping -t localhost > NUL"));
+
+    /**
+     * Started containers (key: image, version, platform and mounts; value: container id).
+     */
+    private final Map<String, String> containers;
+
+    /**
+     * Initialize empty pool.
+     *
+     * @since 2.0.0
+     */
+    public DockerContainerPool() {
+        this.containers = new HashMap<>();
+    }
+
+    /**
+     * Provide id of running container; the container is started when not yet running.
+     *
+     * @param strImage    image name and version (name:version).
+     * @param strPlatform platform of the container (unix or windows).
+     * @param strWorkPath host path to mount as /work.
+     * @param strTempPath host path to mount as /hosttmp.
+     * @return container id.
+     * @throws IOException       when starting Docker has failed.
+     * @throws HyperionException when the container could not be started.
+     * @since 2.0.0
+     */
+    public synchronized String acquire(final String strImage, final String strPlatform,
+                                       final String strWorkPath, final String strTempPath)
+            throws IOException, HyperionException {
+        final var strKey = String.join("|", strImage, strPlatform, strWorkPath, strTempPath);
+        var strContainerId = this.containers.get(strKey);
+
+        if (strContainerId == null) {
+            final var command = new ArrayList<>(List.of(DOCKER, "run", "-d", "--rm",
+                    VOLUME, strWorkPath + ":/work", VOLUME, strTempPath + ":/hosttmp", strImage));
+            command.addAll(KEEP_ALIVE_COMMANDS.get(strPlatform));
+
+            LOGGER.info("Starting container: {}", String.join(DELIMITER, command));
+            strContainerId = startContainer(command);
+            this.containers.put(strKey, strContainerId);
+        }
+
+        return strContainerId;
+    }
+
+    /**
+     * Removing all started containers.
+     *
+     * @since 2.0.0
+     */
+    @Override
+    public synchronized void close() {
+        if (!this.containers.isEmpty()) {
+            final var command = new ArrayList<>(List.of(DOCKER, "rm", "--force"));
+            command.addAll(this.containers.values());
+            this.containers.clear();
+
+            LOGGER.info("Removing containers: {}", String.join(DELIMITER, command));
+            try {
+                ProcessResults.of(new ProcessBuilder(command).start(), false);
+            } catch (IOException e) {
+                LOGGER.error(e.getMessage(), e);
+            } catch (InterruptedException e) {
+                LOGGER.error(e.getMessage(), e);
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Starting container in background.
+     *
+     * @param command the Docker command.
+     * @return container id.
+     * @throws IOException       when starting Docker has failed.
+     * @throws HyperionException when the container could not be started.
+     */
+    private static String startContainer(final List<String> command)
+            throws IOException, HyperionException {
+        try {
+            final var processResults = ProcessResults.of(
+                    new ProcessBuilder(command).start(), false);
+            if (processResults.getExitCode() != 0 || processResults.getStdout().isEmpty()) {
+                throw new HyperionException("Failed to start Docker container: "
+                        + String.join(DELIMITER, processResults.getStderr()));
+            }
+            return processResults.getStdout().get(0).trim();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HyperionException("Interrupted while starting Docker container!");
+        }
+    }
+}
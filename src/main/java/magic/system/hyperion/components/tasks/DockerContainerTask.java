@@ -23,9 +23,11 @@
  */
 package magic.system.hyperion.components.tasks;
 
+import magic.system.hyperion.components.TaskParameters;
 import magic.system.hyperion.exceptions.HyperionException;
 import magic.system.hyperion.tools.Capabilities;
 import magic.system.hyperion.tools.FileExtensions;
+import magic.system.hyperion.tools.ProcessResults;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,6 +36,7 @@ import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -86,6 +89,17 @@ public class DockerContainerTask extends AbstractShellTask {
      */
     private boolean bDetached;
 
+    /**
+     * When true then one long running container is shared by the tasks
+     * of a task group and scripts are run via docker exec (default: false).
+     */
+    private boolean bReuse;
+
+    /**
+     * Name of the container started by "docker run" (null when not started yet).
+     */
+    private volatile String strContainerName;
+
     /**
      * Initialize task.
      *
@@ -99,6 +113,7 @@ public class DockerContainerTask extends AbstractShellTask {
         this.strImageVersion = "latest";
         this.strPlatform = PLATFORM_UNIX;
         this.bDetached = false;
+        this.bReuse = false;
     }
 
     /**
@@ -182,6 +197,26 @@ public class DockerContainerTask extends AbstractShellTask {
         return this.bDetached;
     }
 
+    /**
+     * Change reuse mode.
+     *
+     * @param bInitReuse when true then running scripts in a shared container.
+     * @since 2.0.0
+     */
+    public void setReuse(final boolean bInitReuse) {
+        this.bReuse = bInitReuse;
+    }
+
+    /**
+     * Get reuse mode.
+     *
+     * @return when true then running scripts in a shared container.
+     * @since 2.0.0
+     */
+    public boolean isReuse() {
+        return this.bReuse;
+    }
+
     @Override
     protected String getTempFilePrefix() {
         return "hyperion-docker-container-task-";
@@ -197,6 +232,22 @@ public class DockerContainerTask extends AbstractShellTask {
         return false;
     }
 
+    @Override
+    protected Process runFile(final Path path, final TaskParameters parameters)
+            throws IOException, HyperionException {
+        final Process process;
+        final var dockerContainerPool = parameters.getDockerContainerPool();
+        this.strContainerName = null;
+
+        if (this.bReuse && !this.bDetached && dockerContainerPool != null) {
+            process = execFile(path, dockerContainerPool);
+        } else {
+            process = runFile(path);
+        }
+
+        return process;
+    }
+
     @SuppressWarnings("checkstyle:multiplestringliterals")
     @Override
     protected Process runFile(final Path path) throws IOException, HyperionException {
@@ -209,18 +260,19 @@ public class DockerContainerTask extends AbstractShellTask {
 
         // specifying how to call docker on current environment
         // --rm      automatic remove the container when the process has finished.
+        // --name    unique name to be able to remove the container when cancelled.
         // -v a:b    mount host path <a> onto Docker container path <b>
         // -i        keep STDIN open even if not attached
         // -d        run detached (in background)
-        final var baseCommand = List.of("docker", "run", "--rm", "-v",
+        this.strContainerName = "hyperion-" + UUID.randomUUID();
+        final var baseCommand = List.of("docker", "run", "--rm",
+                "--name", this.strContainerName, "-v",
                 System.getProperty("user.dir") + ":/work",
                 "-v", parentPath.toString() + ":/hosttmp",
                 this.bDetached ? "-d": "-i",
                 this.strImageName + ":" + this.strImageVersion);
 
-        final var strCommand = String.join(" ", Stream.of(baseCommand,
-                this.strPlatform.equals(PLATFORM_WINDOWS)
-                        ? List.of("cmd", "/C") : List.of("sh", "-c"),
+        final var strCommand = String.join(" ", Stream.of(baseCommand, getShell(),
                 List.of("/hosttmp/" + fileName.toString()))
                 .flatMap(Collection::stream).collect(Collectors.toList()));
 
@@ -231,12 +283,80 @@ public class DockerContainerTask extends AbstractShellTask {
         return new ProcessBuilder(finalCommand).start();
     }
 
+    /**
+     * Removing the container started by "docker run" (unless running detached)
+     * before killing the Docker process.
+     *
+     * @param process the Docker process to stop.
+     */
+    @Override
+    protected void stop(final Process process) {
+        final var strName = this.strContainerName;
+        if (strName != null && !this.bDetached) {
+            LOGGER.info("Removing container {}", strName);
+            try {
+                ProcessResults.of(new ProcessBuilder(
+                        "docker", "rm", "--force", strName).start(), false);
+            } catch (IOException e) {
+                LOGGER.error(e.getMessage(), e);
+            } catch (InterruptedException e) {
+                LOGGER.error(e.getMessage(), e);
+                Thread.currentThread().interrupt();
+            }
+        }
+        super.stop(process);
+    }
+
+    /**
+     * Running script in a shared container (docker exec).
+     *
+     * @param path                path to the shell script.
+     * @param dockerContainerPool shared containers of the task group.
+     * @return the process for the execution.
+     * @throws IOException       when file execution failed.
+     * @throws HyperionException when path is invalid or container could not be started.
+     */
+    @SuppressWarnings("checkstyle:multiplestringliterals")
+    private Process execFile(final Path path, final DockerContainerPool dockerContainerPool)
+            throws IOException, HyperionException {
+        final Path parentPath = path.getParent();
+        final Path fileName = path.getFileName();
+
+        if (parentPath == null || fileName == null) {
+            throw new HyperionException("Path or file name of Docker container script invalid!");
+        }
+
+        final var strContainerId = dockerContainerPool.acquire(
+                this.strImageName + ":" + this.strImageVersion, this.strPlatform,
+                System.getProperty("user.dir"), parentPath.toString());
+
+        final var command = Stream.of(List.of("docker", "exec", "-i", strContainerId),
+                getShell(), List.of("/hosttmp/" + fileName.toString()))
+                .flatMap(Collection::stream).collect(Collectors.toList());
+
+        LOGGER.info("Running command: {}", String.join(" ", command));
+        return new ProcessBuilder(command).start();
+    }
+
+    /**
+     * Provide shell to use inside of the container.
+     *
+     * @return shell command depending on platform.
+     */
+    private List<String> getShell() {
+        return this.strPlatform.equals(PLATFORM_WINDOWS)
+                ? List.of("cmd", "/C") : List.of("sh", "-c");
+    }
+
     @Override
     public AbstractTask copy() {
         final var task = new DockerContainerTask(getTitle(), getCode());
         task.setImageName(getImageName());
         task.setImageVersion(getImageVersion());
         task.setPlatform(getPlatform());
+        task.setDetached(this.bDetached);
+        task.setReuse(this.bReuse);
+        task.setCapture(getCapture());
         return task;
     }
 }
@@ -25,11 +25,17 @@ package magic.system.hyperion.components.tasks;
 
 import magic.system.hyperion.exceptions.HyperionException;
 import magic.system.hyperion.tools.Capabilities;
+import magic.system.hyperion.tools.DockerBuildContext;
+import magic.system.hyperion.tools.FileUtils;
+import magic.system.hyperion.tools.ProcessResults;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -48,12 +54,39 @@ public class DockerImageTask extends AbstractShellTask {
      */
     private static final String DELIMITER = " ";
 
+    /**
+     * Label (key=) of the image containing the fingerprint of Dockerfile and context.
+     */
+    private static final String FINGERPRINT_LABEL = "hyperion.fingerprint=";
+
+    /**
+     * Current folder as context for docker build.
+     */
+    private static final String CURRENT_CONTEXT = ".";
+
+    /**
+     * Docker command.
+     */
+    private static final String DOCKER = "docker";
+
     /**
      * Repository and version for image. The form a:b means "a" is the repository and "b" is the
      * tag (version); you see with "docker images".
      */
     private String strRepositoryTag;
 
+    /**
+     * When true then build is skipped when an image with the same fingerprint
+     * (Dockerfile and context) does exist (default: false).
+     */
+    private boolean bSkipUnchanged;
+
+    /**
+     * When true then the context contains the files referenced by COPY and ADD
+     * instructions only (default: false).
+     */
+    private boolean bMinimalContext;
+
     /**
      * Initialize task.
      *
@@ -64,6 +97,8 @@ public class DockerImageTask extends AbstractShellTask {
     public DockerImageTask(String strInitTitle, String strInitCode) {
         super(strInitTitle, strInitCode);
         this.strRepositoryTag = "";
+        this.bSkipUnchanged = false;
+        this.bMinimalContext = false;
     }
 
     /**
@@ -86,6 +121,46 @@ public class DockerImageTask extends AbstractShellTask {
         return this.strRepositoryTag;
     }
 
+    /**
+     * Change whether to skip build when Dockerfile and context are unchanged.
+     *
+     * @param bInitSkipUnchanged when true then skip build when unchanged.
+     * @since 2.0.0
+     */
+    public void setSkipUnchanged(final boolean bInitSkipUnchanged) {
+        this.bSkipUnchanged = bInitSkipUnchanged;
+    }
+
+    /**
+     * Get whether to skip build when Dockerfile and context are unchanged.
+     *
+     * @return when true then skip build when unchanged.
+     * @since 2.0.0
+     */
+    public boolean isSkipUnchanged() {
+        return this.bSkipUnchanged;
+    }
+
+    /**
+     * Change whether to use a context with files referenced by the Dockerfile only.
+     *
+     * @param bInitMinimalContext when true then using minimal context.
+     * @since 2.0.0
+     */
+    public void setMinimalContext(final boolean bInitMinimalContext) {
+        this.bMinimalContext = bInitMinimalContext;
+    }
+
+    /**
+     * Get whether to use a context with files referenced by the Dockerfile only.
+     *
+     * @return when true then using minimal context.
+     * @since 2.0.0
+     */
+    public boolean isMinimalContext() {
+        return this.bMinimalContext;
+    }
+
     @Override
     protected String getTempFilePrefix() {
         return "hyperion-docker-image-task-";
@@ -108,10 +183,95 @@ public class DockerImageTask extends AbstractShellTask {
             throw new HyperionException("Image tag not specified!");
         }
 
+        final Process process;
+
+        if (this.bSkipUnchanged || this.bMinimalContext) {
+            process = buildImage(path);
+        } else {
+            process = startBuild(List.of(), path, CURRENT_CONTEXT);
+        }
+
+        return process;
+    }
+
+    /**
+     * Building image with fingerprint label and/or minimal context; the build is
+     * skipped when an image with same fingerprint does exist.
+     *
+     * @param path path of the rendered Dockerfile.
+     * @return the process for the execution.
+     * @throws IOException when reading files or starting Docker has failed.
+     */
+    private Process buildImage(final Path path) throws IOException {
+        final var strDockerfile = Files.readString(path);
+        final var context = DockerBuildContext.of(Paths.get(System.getProperty("user.dir")));
+        final var files = this.bMinimalContext
+                ? context.getReferencedFiles(strDockerfile, getTempFilePrefix())
+                : context.getFiles(getTempFilePrefix());
+        final var strFingerprint = context.getFingerprint(strDockerfile, files);
+
+        final Process process;
+
+        if (this.bSkipUnchanged && hasImage(strFingerprint)) {
+            LOGGER.info("Image {} is unchanged (fingerprint {}); skipping build",
+                    this.strRepositoryTag, strFingerprint);
+            process = new ProcessBuilder(DOCKER, "image", "inspect",
+                    "--format", "{{.Id}}", this.strRepositoryTag).start();
+        } else {
+            final var options = List.of("--label", FINGERPRINT_LABEL + strFingerprint);
+
+            if (this.bMinimalContext) {
+                final var contextPath = context.createContext(strDockerfile, files);
+                LOGGER.info("Using minimal context with {} file(s)", files.size());
+                process = startBuild(options, contextPath.resolve(DockerBuildContext.DOCKERFILE),
+                        contextPath.toString());
+                process.onExit().thenRun(() -> FileUtils.removeDirectoryRecursive(contextPath));
+            } else {
+                process = startBuild(options, path, CURRENT_CONTEXT);
+            }
+        }
+
+        return process;
+    }
+
+    /**
+     * Checking whether the image (repository:tag) with given fingerprint does exist.
+     *
+     * @param strFingerprint fingerprint of Dockerfile and context.
+     * @return true when image does exist.
+     * @throws IOException when starting Docker has failed.
+     */
+    private boolean hasImage(final String strFingerprint) throws IOException {
+        boolean bExists = false;
+        try {
+            final var processResults = ProcessResults.of(new ProcessBuilder(DOCKER, "images",
+                    "-q", "--filter", "label=" + FINGERPRINT_LABEL + strFingerprint,
+                    this.strRepositoryTag).start(), false);
+            bExists = processResults.getExitCode() == 0
+                    && !processResults.getStdout().isEmpty();
+        } catch (InterruptedException e) {
+            LOGGER.error(e.getMessage(), e);
+            Thread.currentThread().interrupt();
+        }
+        return bExists;
+    }
+
+    /**
+     * Starting Docker build.
+     *
+     * @param options        additional options for docker build.
+     * @param dockerfilePath path of the Dockerfile.
+     * @param strContext     the context (folder).
+     * @return the process for the execution.
+     * @throws IOException when starting Docker has failed.
+     */
+    private Process startBuild(final List<String> options, final Path dockerfilePath,
+                               final String strContext) throws IOException {
         // how to call docker on current environment
-        final var baseCommand = List.of(
-                "docker", "build", "-t", this.strRepositoryTag, "-f", path.toString(), ".");
-        final var strCommand = String.join(DELIMITER, baseCommand);
+        final var command = new ArrayList<>(List.of(DOCKER, "build", "-t", this.strRepositoryTag));
+        command.addAll(options);
+        command.addAll(List.of("-f", dockerfilePath.toString(), strContext));
+        final var strCommand = String.join(DELIMITER, command);
         // inject the shell to be used inside of the container and append the script too
         final var finalCommand = Capabilities.createCommand(strCommand);
         LOGGER.info("Running command: {}", String.join(DELIMITER, finalCommand));
@@ -122,6 +282,9 @@ public class DockerImageTask extends AbstractShellTask {
     public AbstractTask copy() {
         final var task = new DockerImageTask(getTitle(), getCode());
         task.setRepositoryTag(getRepositoryTag());
+        task.setSkipUnchanged(this.bSkipUnchanged);
+        task.setMinimalContext(this.bMinimalContext);
+        task.setCapture(getCapture());
         return task;
     }
 }
@@ -25,6 +25,7 @@ package magic.system.hyperion.components.tasks;
 
 import magic.system.hyperion.components.TaskParameters;
 import magic.system.hyperion.components.TaskResult;
+import magic.system.hyperion.tools.FileSync;
 import magic.system.hyperion.tools.FileUtils;
 import magic.system.hyperion.tools.TemplateEngine;
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -58,6 +59,23 @@ public class FileCopyTask extends AbstractFileTask {
      */
     private boolean bDestinationIsDirectory;
 
+    /**
+     * When true then only changed files are copied (default: false).
+     */
+    private boolean bSync;
+
+    /**
+     * When true then in sync mode files are compared by checksum instead of
+     * modification time (default: false).
+     */
+    private boolean bSyncChecksum;
+
+    /**
+     * When true then in sync mode files missing in source are deleted at
+     * destination (default: false).
+     */
+    private boolean bSyncDelete;
+
     /**
      * Initialize task with title.
      * By default the task is not allowed to overwrite an existing file and
@@ -70,6 +88,9 @@ public class FileCopyTask extends AbstractFileTask {
     public FileCopyTask(final String strInitTitle) {
         super(strInitTitle);
         this.bDestinationIsDirectory = true;
+        this.bSync = false;
+        this.bSyncChecksum = false;
+        this.bSyncDelete = false;
     }
 
     /**
@@ -112,6 +133,66 @@ public class FileCopyTask extends AbstractFileTask {
         return this.bDestinationIsDirectory;
     }
 
+    /**
+     * Change sync mode.
+     *
+     * @param bInitSync when true then only changed files are copied.
+     * @since 2.0.0
+     */
+    public void setSync(final boolean bInitSync) {
+        this.bSync = bInitSync;
+    }
+
+    /**
+     * Get sync mode.
+     *
+     * @return when true then only changed files are copied.
+     * @since 2.0.0
+     */
+    public boolean isSync() {
+        return this.bSync;
+    }
+
+    /**
+     * Change how files are compared in sync mode.
+     *
+     * @param bInitSyncChecksum when true then comparing checksums instead of modification time.
+     * @since 2.0.0
+     */
+    public void setSyncChecksum(final boolean bInitSyncChecksum) {
+        this.bSyncChecksum = bInitSyncChecksum;
+    }
+
+    /**
+     * Get how files are compared in sync mode.
+     *
+     * @return when true then comparing checksums instead of modification time.
+     * @since 2.0.0
+     */
+    public boolean isSyncChecksum() {
+        return this.bSyncChecksum;
+    }
+
+    /**
+     * Change whether to delete files at destination which are missing in source (sync mode).
+     *
+     * @param bInitSyncDelete when true then delete files missing in source.
+     * @since 2.0.0
+     */
+    public void setSyncDelete(final boolean bInitSyncDelete) {
+        this.bSyncDelete = bInitSyncDelete;
+    }
+
+    /**
+     * Get whether to delete files at destination which are missing in source (sync mode).
+     *
+     * @return when true then delete files missing in source.
+     * @since 2.0.0
+     */
+    public boolean isSyncDelete() {
+        return this.bSyncDelete;
+    }
+
     @Override
     public AbstractTask copy() {
         final var task = new FileCopyTask(getTitle());
@@ -120,6 +201,9 @@ public class FileCopyTask extends AbstractFileTask {
         task.setOverwrite(isOverwrite());
         task.setEnsurePath(isEnsurePath());
         task.setDestinationIsDirectory(this.bDestinationIsDirectory);
+        task.setSync(this.bSync);
+        task.setSyncChecksum(this.bSyncChecksum);
+        task.setSyncDelete(this.bSyncDelete);
         return task;
     }
 
@@ -136,15 +220,10 @@ public class FileCopyTask extends AbstractFileTask {
             final var destinationPath = Paths.get(engine.render(
                     getDestinationPath(), parameters.getTemplatingContext()));
 
-            // not: missing source or existing destination cannot be overwritten?
-            final boolean bIsValid = Files.exists(sourcePath) && Files.isRegularFile(sourcePath)
-                    && (isOverwrite() || !(Files.exists(destinationPath)
-                    && Files.isRegularFile(destinationPath)));
-
-            if (bIsValid) {
-                taskResult = copyFile(sourcePath, destinationPath);
+            if (this.bSync) {
+                taskResult = syncPath(sourcePath, destinationPath);
             } else {
-                taskResult = new TaskResult(false, getVariable());
+                taskResult = copyPath(sourcePath, destinationPath);
             }
         } else {
             // source and destination are null
@@ -154,6 +233,30 @@ public class FileCopyTask extends AbstractFileTask {
         return taskResult;
     }
 
+    /**
+     * Copy from source to destination when valid.
+     *
+     * @param sourcePath      source file path.
+     * @param destinationPath destination file path or directory.
+     * @return task result.
+     */
+    private TaskResult copyPath(final Path sourcePath, final Path destinationPath) {
+        final TaskResult taskResult;
+
+        // not: missing source or existing destination cannot be overwritten?
+        final boolean bIsValid = Files.exists(sourcePath) && Files.isRegularFile(sourcePath)
+                && (isOverwrite() || !(Files.exists(destinationPath)
+                && Files.isRegularFile(destinationPath)));
+
+        if (bIsValid) {
+            taskResult = copyFile(sourcePath, destinationPath);
+        } else {
+            taskResult = new TaskResult(false, getVariable());
+        }
+
+        return taskResult;
+    }
+
     /**
      * Copy from source to destination.
      *
@@ -168,15 +271,8 @@ public class FileCopyTask extends AbstractFileTask {
                 ensurePath(destinationPath);
             }
 
-            var finalDestinationPath = destinationPath;
-
-            if (this.bDestinationIsDirectory) {
-                final Path fileName = sourcePath.getFileName();
-                if (fileName != null) {
-                    finalDestinationPath = Paths.get(
-                            destinationPath.toString(), fileName.toString());
-                }
-            }
+            final var finalDestinationPath = getFinalDestinationPath(
+                    sourcePath, destinationPath);
 
             LOGGER.info("Copying file from {} to {}",
                     sourcePath.toString(), destinationPath.toString());
@@ -191,6 +287,71 @@ public class FileCopyTask extends AbstractFileTask {
         return taskResult;
     }
 
+    /**
+     * Sync from source to destination copying changed files only. The source can be
+     * a file or a directory; for a directory the destination is the directory
+     * where to mirror the content of the source directory.
+     *
+     * @param sourcePath      source file path or directory.
+     * @param destinationPath destination file path or directory.
+     * @return task result.
+     */
+    private TaskResult syncPath(final Path sourcePath, final Path destinationPath) {
+        final var fileSync = FileSync.of(this.bSyncChecksum, this.bSyncDelete, isOverwrite());
+        boolean bSuccess;
+        var finalDestinationPath = destinationPath;
+
+        try {
+            if (Files.isDirectory(sourcePath)) {
+                if (isEnsurePath()) {
+                    Files.createDirectories(destinationPath);
+                }
+                bSuccess = Files.isDirectory(destinationPath)
+                        && fileSync.syncDirectory(sourcePath, destinationPath);
+            } else if (Files.isRegularFile(sourcePath)) {
+                if (isEnsurePath()) {
+                    ensurePath(destinationPath);
+                }
+                finalDestinationPath = getFinalDestinationPath(sourcePath, destinationPath);
+                bSuccess = fileSync.syncFile(sourcePath, finalDestinationPath);
+            } else {
+                LOGGER.error("Source {} does not exist", sourcePath.toString());
+                bSuccess = false;
+            }
+        } catch (IOException e) {
+            LOGGER.error(e.getMessage(), e);
+            bSuccess = false;
+        }
+
+        if (bSuccess) {
+            getVariable().setValue(finalDestinationPath.toString());
+        }
+
+        return new TaskResult(bSuccess, getVariable());
+    }
+
+    /**
+     * Provide final destination path. When destination is a directory the filename
+     * of the source is appended.
+     *
+     * @param sourcePath      source file path.
+     * @param destinationPath destination file path or directory.
+     * @return final destination path.
+     */
+    private Path getFinalDestinationPath(final Path sourcePath, final Path destinationPath) {
+        var finalDestinationPath = destinationPath;
+
+        if (this.bDestinationIsDirectory) {
+            final Path fileName = sourcePath.getFileName();
+            if (fileName != null) {
+                finalDestinationPath = Paths.get(
+                        destinationPath.toString(), fileName.toString());
+            }
+        }
+
+        return finalDestinationPath;
+    }
+
     /**
      * Ensure path.
      *
@@ -214,6 +375,9 @@ public class FileCopyTask extends AbstractFileTask {
                 .append("sourcePath", this.strSourcePath)
                 .appendSuper(super.toString())
                 .append("destIsDirectory", this.bDestinationIsDirectory)
+                .append("sync", this.bSync)
+                .append("syncChecksum", this.bSyncChecksum)
+                .append("syncDelete", this.bSyncDelete)
                 .build();
     }
 }
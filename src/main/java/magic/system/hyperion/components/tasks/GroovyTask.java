@@ -74,7 +74,8 @@ public class GroovyTask extends AbstractCodableTask {
 
         try {
             final var writer = new StringWriter();
-            final var binding = new Binding(Map.of("out", new PrintWriter(writer)));
+            final var printWriter = new PrintWriter(parameters.getOutput().stdoutWriter(writer));
+            final var binding = new Binding(Map.of("out", printWriter));
             final var shell = new GroovyShell(binding);
             final var engine = new TemplateEngine();
 
@@ -89,6 +90,8 @@ public class GroovyTask extends AbstractCodableTask {
                     strContent, parameters.getTemplatingContext());
 
             shell.evaluate(renderedText);
+            // passing a last line without line separator to the output
+            printWriter.close();
             getVariable().setValue(writer.toString());
             taskResult = new TaskResult(true, getVariable());
         } catch (GroovyRuntimeException | IOException e) {
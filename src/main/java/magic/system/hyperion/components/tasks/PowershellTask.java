@@ -75,6 +75,8 @@ public class PowershellTask extends AbstractShellTask {
 
     @Override
     public AbstractTask copy() {
-        return new PowershellTask(getTitle(), getCode());
+        final var task = new PowershellTask(getTitle(), getCode());
+        task.setCapture(getCapture());
+        return task;
     }
 }
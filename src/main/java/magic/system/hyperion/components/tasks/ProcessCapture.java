@@ -0,0 +1,151 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.components.tasks;
+
+import magic.system.hyperion.components.ProcessDetails;
+import magic.system.hyperion.components.TaskParameters;
+import magic.system.hyperion.components.TaskResult;
+import magic.system.hyperion.exceptions.HyperionException;
+import magic.system.hyperion.tools.CapturedOutput;
+import magic.system.hyperion.tools.OutputLog;
+import magic.system.hyperion.tools.ProcessResults;
+import magic.system.hyperion.tools.TraceRecorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Running the process of a shell task capturing its output within the capture limits;
+ * the value of the variable is extracted while the lines arrive (no joining of all lines).
+ * When the document run is cancelled the process is stopped.
+ *
+ * @author Thomas Lehmann
+ */
+final class ProcessCapture {
+    /**
+     * Logger of this class.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProcessCapture.class);
+
+    /**
+     * Utility class: instantiation not wanted.
+     */
+    private ProcessCapture() {
+        // nothing to do
+    }
+
+    /**
+     * Starting the process for the script and capturing its output until its end.
+     *
+     * @param task       the task running the process.
+     * @param parameters task parameters providing the output of the document run.
+     * @param path       the script.
+     * @return task result.
+     * @throws IOException          when the process could not be started.
+     * @throws HyperionException    when the path is invalid.
+     * @throws InterruptedException when waiting for the process has been interrupted.
+     */
+    static TaskResult run(final AbstractShellTask task, final TaskParameters parameters,
+                          final Path path)
+            throws IOException, HyperionException, InterruptedException {
+        final long lSpawnNanos = System.nanoTime();
+        final Process process;
+        try (var span = TraceRecorder.current().span("process", "spawn")) {
+            process = task.runFile(path, parameters);
+        }
+        final long lSpawnMicros = TimeUnit.NANOSECONDS.toMicros(
+                System.nanoTime() - lSpawnNanos);
+
+        // stopping the process when the document run is cancelled
+        final var removeStopAction = parameters.getCancellation().onCancel(
+                () -> task.stop(process));
+        try {
+            return capture(task, parameters, process, lSpawnMicros);
+        } finally {
+            removeStopAction.run();
+        }
+    }
+
+    /**
+     * Capturing the output of the process and waiting for its end.
+     *
+     * @param task         the task running the process.
+     * @param parameters   task parameters providing the output of the document run.
+     * @param process      the running process.
+     * @param lSpawnMicros time for starting the process.
+     * @return task result.
+     * @throws InterruptedException when waiting for the process has been interrupted.
+     */
+    private static TaskResult capture(final AbstractShellTask task,
+                                      final TaskParameters parameters,
+                                      final Process process, final long lSpawnMicros)
+            throws InterruptedException {
+        final var variable = task.getVariable();
+        final var extraction = variable.startExtraction();
+        final var output = parameters.getOutput();
+        // logging the lines asynchronously (nothing is logged in quiet mode)
+        final var log = OutputLog.shared().lines(task.getTitle());
+        final var processResults = ProcessResults.of(process, task.getCapture(),
+                extraction.andThen(output::stdout).andThen(log),
+                ((Consumer<String>) output::stderr).andThen(log));
+        extraction.finish();
+        OutputLog.shared().flush();
+
+        final var spillFiles = new ArrayList<String>();
+        report(task, "stdout", processResults.getStdoutCapture(), spillFiles);
+        report(task, "stderr", processResults.getStderrCapture(), spillFiles);
+        return new TaskResult(processResults.getExitCode() == 0, variable,
+                ProcessDetails.of(lSpawnMicros, processResults.getExitCode(),
+                        processResults.getStdoutBytes(), processResults.getStderrBytes(),
+                        spillFiles));
+    }
+
+    /**
+     * Logging lines not kept and the temporary file with the complete output (if any).
+     *
+     * @param task       the task running the process.
+     * @param strStream  name of the stream (stdout or stderr).
+     * @param captured   the captured output of the stream.
+     * @param spillFiles list to add the path of the temporary file to.
+     */
+    private static void report(final AbstractShellTask task, final String strStream,
+                               final CapturedOutput captured, final List<String> spillFiles) {
+        if (captured.getDroppedLines() > 0 || captured.getDroppedBytes() > 0
+                || captured.getSpillFile().isPresent()) {
+            LOGGER.info("Task '{}' has written {} lines to {} ({} not kept,"
+                            + " {} bytes of too long lines dropped){}",
+                    task.getTitle(), captured.getLineCount(), strStream,
+                    captured.getDroppedLines(), captured.getDroppedBytes(),
+                    captured.getSpillFile().map(path -> ", complete output: " + path)
+                            .orElse(""));
+        }
+        captured.getSpillFile().ifPresent(path -> spillFiles.add(path.toString()));
+    }
+}
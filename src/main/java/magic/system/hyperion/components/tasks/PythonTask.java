@@ -90,6 +90,7 @@ public class PythonTask extends AbstractShellTask {
     @Override
     public AbstractTask copy() {
         final var task = new PythonTask(this.getTitle(), this.getCode());
+        task.setCapture(getCapture());
         return task;
     }
 }
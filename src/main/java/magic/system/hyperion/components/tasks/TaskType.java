@@ -25,6 +25,11 @@ package magic.system.hyperion.components.tasks;
 
 import magic.system.hyperion.exceptions.HyperionException;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * Type of task.
  *
@@ -91,6 +96,12 @@ public enum TaskType {
      */
     PYTHON(Constants.PYTHON);
 
+    /**
+     * Lookup of enum values by type name.
+     */
+    private static final Map<String, TaskType> TYPES = Arrays.stream(values())
+            .collect(Collectors.toMap(TaskType::getTypeName, Function.identity()));
+
     /**
      * Type of task (the concrete type name to be used in YAML).
      */
@@ -125,13 +136,12 @@ public enum TaskType {
      */
     public static TaskType fromValue(final String strName)
             throws HyperionException {
-        for (final var value : values()) {
-            if (value.getTypeName().equals(strName)) {
-                return value;
-            }
+        final var value = TYPES.get(strName);
+        if (value == null) {
+            throw new HyperionException("Unknown task type '" + strName + "'!");
         }
 
-        throw new HyperionException("Unknown task type '" + strName + "'!");
+        return value;
     }
 
     /**
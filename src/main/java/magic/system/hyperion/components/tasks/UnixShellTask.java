@@ -69,6 +69,8 @@ public class UnixShellTask extends AbstractShellTask {
 
     @Override
     public AbstractTask copy() {
-        return new UnixShellTask(getTitle(), getCode());
+        final var task = new UnixShellTask(getTitle(), getCode());
+        task.setCapture(getCapture());
+        return task;
     }
 }
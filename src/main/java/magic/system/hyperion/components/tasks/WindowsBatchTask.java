@@ -69,6 +69,8 @@ public class WindowsBatchTask extends AbstractShellTask {
 
     @Override
     public AbstractTask copy() {
-        return new WindowsBatchTask(getTitle(), getCode());
+        final var task = new WindowsBatchTask(getTitle(), getCode());
+        task.setCapture(getCapture());
+        return task;
     }
 }
@@ -25,6 +25,7 @@ package magic.system.hyperion.components.tasks;
 
 import magic.system.hyperion.components.TaskParameters;
 import magic.system.hyperion.components.TaskResult;
+import magic.system.hyperion.tools.AtomicFileWriter;
 import magic.system.hyperion.tools.FileUtils;
 import magic.system.hyperion.tools.TemplateEngine;
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -34,10 +35,13 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 
 /**
- * Task for writing content to a file.
+ * Task for writing content to a file. The content is rendered into a temporary
+ * file in the destination folder which then is moved into place; so other tasks
+ * never see a half written file. An existing file with same content is not touched.
  *
  * @author Thomas Lehmann
  */
@@ -91,8 +95,6 @@ public class WriteFileTask extends AbstractFileTask {
         logTitle(parameters);
 
         try {
-            final var strRenderedContent = engine.render(
-                    this.strContent, parameters.getTemplatingContext());
             final var renderedDestinationPath = Paths.get(engine.render(
                     getDestinationPath(), parameters.getTemplatingContext()));
 
@@ -107,8 +109,7 @@ public class WriteFileTask extends AbstractFileTask {
                 }
 
                 if (parentPath != null && Files.exists(parentPath)) {
-                    LOGGER.info("Writing file to {}", renderedDestinationPath.toString());
-                    Files.writeString(renderedDestinationPath, strRenderedContent);
+                    writeFile(engine, parameters, renderedDestinationPath);
                     getVariable().setValue(renderedDestinationPath.toString());
                     taskResult = new TaskResult(true, getVariable());
                 } else {
@@ -124,12 +125,35 @@ public class WriteFileTask extends AbstractFileTask {
         return taskResult;
     }
 
+    /**
+     * Rendering content directly into the file; the file is not touched when
+     * the content did not change.
+     *
+     * @param engine          template engine.
+     * @param parameters      task parameters (templating context).
+     * @param destinationPath path and filename of destination.
+     * @throws IOException when writing the file has failed.
+     */
+    private void writeFile(final TemplateEngine engine, final TaskParameters parameters,
+                           final Path destinationPath) throws IOException {
+        try (var fileWriter = new AtomicFileWriter(destinationPath)) {
+            engine.render(this.strContent, parameters.getTemplatingContext(),
+                    fileWriter.getWriter());
+            if (fileWriter.commit()) {
+                LOGGER.info("Writing file to {}", destinationPath.toString());
+            } else {
+                LOGGER.info("Skipping unchanged file {}", destinationPath.toString());
+            }
+        }
+    }
+
     @Override
     public AbstractTask copy() {
         final var task = new WriteFileTask(getTitle());
         task.setDestinationPath(getDestinationPath());
         task.setOverwrite(isOverwrite());
         task.setEnsurePath(isEnsurePath());
+        task.setContent(this.strContent);
         return task;
     }
 
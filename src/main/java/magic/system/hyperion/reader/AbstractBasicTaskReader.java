@@ -83,6 +83,7 @@ public abstract class AbstractBasicTaskReader implements INodeReader {
         matcher.allow(DocumentReaderFields.VARIABLE.getFieldName());
         matcher.allow(DocumentReaderFields.TAGS.getFieldName());
         matcher.allow(DocumentReaderFields.WITH.getFieldName());
+        matcher.allow(DocumentReaderFields.CAPTURE.getFieldName());
 
         return matcher;
     }
@@ -114,5 +115,10 @@ public abstract class AbstractBasicTaskReader implements INodeReader {
             new ListOfValuesReader(task.getWithValues()).read(
                     node.get(DocumentReaderFields.WITH.getFieldName()));
         }
+
+        if (node.has(DocumentReaderFields.CAPTURE.getFieldName())) {
+            new CaptureReader(task).read(
+                    node.get(DocumentReaderFields.CAPTURE.getFieldName()));
+        }
     }
 }
@@ -0,0 +1,86 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.reader;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import magic.system.hyperion.components.tasks.AbstractShellTask;
+import magic.system.hyperion.components.tasks.AbstractTask;
+import magic.system.hyperion.exceptions.HyperionException;
+import magic.system.hyperion.generics.Converters;
+import magic.system.hyperion.matcher.Matcher;
+import magic.system.hyperion.tools.CaptureLimits;
+
+/**
+ * Reader for the capture limits of a shell task in the document.
+ *
+ * @author Thomas Lehmann
+ */
+public class CaptureReader implements INodeReader {
+    /**
+     * The task to initialize (capture is supported for shell tasks only).
+     */
+    private final AbstractTask task;
+
+    /**
+     * Initialize reader with task to initialize.
+     *
+     * @param initTask the task to initialize.
+     * @since 2.0.0
+     */
+    public CaptureReader(final AbstractTask initTask) {
+        this.task = initTask;
+    }
+
+    @Override
+    public void read(final JsonNode node) throws HyperionException {
+        if (!(this.task instanceof AbstractShellTask)) {
+            throw new HyperionException("Capture is supported for shell tasks only!");
+        }
+
+        final var shellTask = (AbstractShellTask) this.task;
+        final var names = Converters.convertToSortedList(node.fieldNames());
+        final var matcher = Matcher.of(names);
+
+        matcher.allow(DocumentReaderFields.HEAD.getFieldName());
+        matcher.allow(DocumentReaderFields.TAIL.getFieldName());
+        matcher.allow(DocumentReaderFields.SPILL.getFieldName());
+
+        if (!node.isObject() || !matcher.matches(names)) {
+            throw new HyperionException("Capture not correctly specified!");
+        }
+
+        final var defaults = shellTask.getCapture();
+        final int iHead = node.path(DocumentReaderFields.HEAD.getFieldName())
+                .asInt(defaults.getHeadLines());
+        final int iTail = node.path(DocumentReaderFields.TAIL.getFieldName())
+                .asInt(defaults.getTailLines());
+        if (iHead < 0 || iTail < 0) {
+            throw new HyperionException("Capture limits must not be negative!");
+        }
+
+        shellTask.setCapture(CaptureLimits.of(iHead, iTail,
+                node.path(DocumentReaderFields.SPILL.getFieldName())
+                        .asBoolean(defaults.isSpill())));
+    }
+}
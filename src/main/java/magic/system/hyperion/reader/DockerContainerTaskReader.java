@@ -60,6 +60,7 @@ public class DockerContainerTaskReader extends AbstractDockerTaskReader {
         matcher.allow(DocumentReaderFields.IMAGE_VERSION.getFieldName());
         matcher.allow(DocumentReaderFields.PLATFORM.getFieldName());
         matcher.allow(DocumentReaderFields.DETACHED.getFieldName());
+        matcher.allow(DocumentReaderFields.REUSE.getFieldName());
 
         final var names = Converters.convertToSortedList(node.fieldNames());
         if (!matcher.matches(names)) {
@@ -87,6 +88,10 @@ public class DockerContainerTaskReader extends AbstractDockerTaskReader {
                     node.get(DocumentReaderFields.DETACHED.getFieldName()).asBoolean());
         }
 
+        if (node.has(DocumentReaderFields.REUSE.getFieldName())) {
+            task.setReuse(node.get(DocumentReaderFields.REUSE.getFieldName()).asBoolean());
+        }
+
         taskGroup.add(task);
     }
 }
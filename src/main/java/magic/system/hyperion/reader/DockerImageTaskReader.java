@@ -57,6 +57,8 @@ public class DockerImageTaskReader extends AbstractDockerTaskReader {
 
         final var matcher = getMatcher(node);
         matcher.requireExactlyOnce(DocumentReaderFields.REPOSITORY_TAG.getFieldName());
+        matcher.allow(DocumentReaderFields.SKIP_UNCHANGED.getFieldName());
+        matcher.allow(DocumentReaderFields.MINIMAL_CONTEXT.getFieldName());
 
         final var names = Converters.convertToSortedList(node.fieldNames());
         if (!matcher.matches(names)) {
@@ -70,6 +72,16 @@ public class DockerImageTaskReader extends AbstractDockerTaskReader {
         task.setRepositoryTag(node.get(
                 DocumentReaderFields.REPOSITORY_TAG.getFieldName()).asText());
 
+        if (node.has(DocumentReaderFields.SKIP_UNCHANGED.getFieldName())) {
+            task.setSkipUnchanged(node.get(
+                    DocumentReaderFields.SKIP_UNCHANGED.getFieldName()).asBoolean());
+        }
+
+        if (node.has(DocumentReaderFields.MINIMAL_CONTEXT.getFieldName())) {
+            task.setMinimalContext(node.get(
+                    DocumentReaderFields.MINIMAL_CONTEXT.getFieldName()).asBoolean());
+        }
+
         taskGroup.add(task);
     }
 }
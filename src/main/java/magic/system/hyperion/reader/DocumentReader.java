@@ -98,6 +98,36 @@ public class DocumentReader {
         return finalDocument;
     }
 
+    /**
+     * Reading model and/or matrix from YAML content to override the ones
+     * of a given document; task groups are not allowed.
+     *
+     * @param baseDocument the document providing the task groups.
+     * @param content      reading YAML from a byte content.
+     * @return copy of given document with overridden model and/or matrix
+     *         when successfully read otherwise null.
+     * @since 2.0.0
+     */
+    public Document readOverrides(final Document baseDocument, final byte[] content) {
+        Document finalDocument = null;
+        try {
+            readDocument(YamlTools.readYamlTree(content));
+
+            if (this.document.getListOfTaskGroups().isEmpty()) {
+                finalDocument = baseDocument.copy(
+                        this.document.getModel().isEmpty()
+                                ? baseDocument.getModel() : this.document.getModel(),
+                        this.document.getMatrix().isEmpty()
+                                ? baseDocument.getMatrix() : this.document.getMatrix());
+            } else {
+                LOGGER.error("Task groups cannot be overridden!");
+            }
+        } catch (IOException | HyperionException e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+        return finalDocument;
+    }
+
     /**
      * Reading the main parts of the document.
      *
@@ -25,6 +25,11 @@ package magic.system.hyperion.reader;
 
 import magic.system.hyperion.exceptions.HyperionException;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * Field names.
  *
@@ -117,11 +122,26 @@ public enum DocumentReaderFields {
      */
     DETACHED("detached"),
 
+    /**
+     * Run scripts of Docker container tasks in a shared container (per task group).
+     */
+    REUSE("reuse"),
+
     /**
      * The repository:tag for the image (option -t of docker build).
      */
     REPOSITORY_TAG("repository-tag"),
 
+    /**
+     * Skip build of Docker image when Dockerfile and context are unchanged.
+     */
+    SKIP_UNCHANGED("skip-unchanged"),
+
+    /**
+     * Use context with files referenced by the Dockerfile only.
+     */
+    MINIMAL_CONTEXT("minimal-context"),
+
     /**
      * Some content (string).
      */
@@ -153,6 +173,21 @@ public enum DocumentReaderFields {
      */
     DESTINATION_IS_DIRECTORY("destination-is-directory"),
 
+    /**
+     * Boolean option for the copy file task to copy changed files only.
+     */
+    SYNC("sync"),
+
+    /**
+     * Boolean option for the copy file task to compare files by checksum in sync mode.
+     */
+    SYNC_CHECKSUM("sync-checksum"),
+
+    /**
+     * Boolean option for the copy file task to delete files missing in source in sync mode.
+     */
+    SYNC_DELETE("sync-delete"),
+
     /**
      * XSL code or path and filename to XSL.
      */
@@ -166,7 +201,33 @@ public enum DocumentReaderFields {
     /**
      * An URL as required for the download task.
      */
-    URL("url");
+    URL("url"),
+
+    /**
+     * Limits for capturing the output of a shell task.
+     */
+    CAPTURE("capture"),
+
+    /**
+     * Number of first lines of the output to keep.
+     */
+    HEAD("head"),
+
+    /**
+     * Number of last lines of the output to keep.
+     */
+    TAIL("tail"),
+
+    /**
+     * When true writing the complete output to a temporary file.
+     */
+    SPILL("spill");
+
+    /**
+     * Lookup of enum values by field name.
+     */
+    private static final Map<String, DocumentReaderFields> FIELDS = Arrays.stream(values())
+            .collect(Collectors.toMap(DocumentReaderFields::getFieldName, Function.identity()));
 
     /**
      * Name of the field.
@@ -200,12 +261,11 @@ public enum DocumentReaderFields {
      */
     public static DocumentReaderFields fromValue(final String strName)
             throws HyperionException {
-        for (final var value: values()) {
-            if (value.getFieldName().equals(strName)) {
-                return value;
-            }
+        final var value = FIELDS.get(strName);
+        if (value == null) {
+            throw new HyperionException(String.format("Unknown field '" + strName + "'!"));
         }
 
-        throw new HyperionException(String.format("Unknown field '" + strName + "'!"));
+        return value;
     }
 }
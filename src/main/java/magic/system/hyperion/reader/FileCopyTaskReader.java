@@ -53,6 +53,9 @@ public class FileCopyTaskReader extends AbstractFileTaskReader {
 
         matcher.requireExactlyOnce(DocumentReaderFields.SOURCE.getFieldName());
         matcher.allow(DocumentReaderFields.DESTINATION_IS_DIRECTORY.getFieldName());
+        matcher.allow(DocumentReaderFields.SYNC.getFieldName());
+        matcher.allow(DocumentReaderFields.SYNC_CHECKSUM.getFieldName());
+        matcher.allow(DocumentReaderFields.SYNC_DELETE.getFieldName());
 
         final var names = Converters.convertToSortedList(node.fieldNames());
         if (!matcher.matches(names)) {
@@ -71,6 +74,30 @@ public class FileCopyTaskReader extends AbstractFileTaskReader {
                     DocumentReaderFields.DESTINATION_IS_DIRECTORY.getFieldName()).asBoolean());
         }
 
+        readSync(task, node);
+
         this.taskGroup.add(task);
     }
+
+    /**
+     * Reading the options for sync mode.
+     *
+     * @param task the copy file task.
+     * @param node the node of the task.
+     */
+    private void readSync(final FileCopyTask task, final JsonNode node) {
+        if (node.has(DocumentReaderFields.SYNC.getFieldName())) {
+            task.setSync(node.get(DocumentReaderFields.SYNC.getFieldName()).asBoolean());
+        }
+
+        if (node.has(DocumentReaderFields.SYNC_CHECKSUM.getFieldName())) {
+            task.setSyncChecksum(node.get(
+                    DocumentReaderFields.SYNC_CHECKSUM.getFieldName()).asBoolean());
+        }
+
+        if (node.has(DocumentReaderFields.SYNC_DELETE.getFieldName())) {
+            task.setSyncDelete(node.get(
+                    DocumentReaderFields.SYNC_DELETE.getFieldName()).asBoolean());
+        }
+    }
 }
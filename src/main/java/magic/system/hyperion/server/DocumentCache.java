@@ -0,0 +1,161 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.server;
+
+import magic.system.hyperion.components.Document;
+import magic.system.hyperion.reader.DocumentReader;
+import magic.system.hyperion.tools.FileUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache for parsed documents (least recently used entries are removed first).
+ * The key is the SHA-256 hash of the document content. Each call of
+ * {@link #get(byte[])} provides an independent copy of the cached document
+ * so that concurrent runs do not share tasks or variables.
+ *
+ * @author Thomas Lehmann
+ */
+public class DocumentCache {
+    /**
+     * Load factor of the map (default of Java).
+     */
+    private static final float LOAD_FACTOR = 0.75f;
+
+    /**
+     * Maximum number of cached documents.
+     */
+    private final int iCapacity;
+
+    /**
+     * Parsed documents (access order) by hash of the content.
+     */
+    private final Map<String, Document> documents;
+
+    /**
+     * Number of requests served from cache.
+     */
+    private final LongAdder hits;
+
+    /**
+     * Number of requests that required reading the document.
+     */
+    private final LongAdder misses;
+
+    /**
+     * Initialize cache.
+     *
+     * @param iInitCapacity maximum number of cached documents (0 disables caching).
+     * @since 2.0.0
+     */
+    public DocumentCache(final int iInitCapacity) {
+        this.iCapacity = iInitCapacity;
+        this.documents = new LinkedHashMap<>(iInitCapacity, LOAD_FACTOR, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Document> eldest) {
+                return size() > DocumentCache.this.iCapacity;
+            }
+        };
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    /**
+     * Provide document for given content. The document is read only
+     * when not found in cache.
+     *
+     * @param content the document content (YAML).
+     * @return copy of the document or null when reading the document has failed.
+     * @since 2.0.0
+     */
+    public Document get(final byte[] content) {
+        final var digest = FileUtils.createMessageDigest();
+        final var strKey = FileUtils.toHex(digest.digest(content));
+
+        Document document;
+        synchronized (this.documents) {
+            document = this.documents.get(strKey);
+        }
+
+        if (document == null) {
+            this.misses.increment();
+            document = new DocumentReader().read(content);
+            if (document != null && this.iCapacity > 0) {
+                synchronized (this.documents) {
+                    this.documents.put(strKey, document);
+                }
+            }
+        } else {
+            this.hits.increment();
+        }
+
+        return document == null ? null : document.copy();
+    }
+
+    /**
+     * Get number of requests served from cache.
+     *
+     * @return number of cache hits.
+     * @since 2.0.0
+     */
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Get number of requests that required reading the document.
+     *
+     * @return number of cache misses.
+     * @since 2.0.0
+     */
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Get number of cached documents.
+     *
+     * @return number of cached documents.
+     * @since 2.0.0
+     */
+    public int getSize() {
+        synchronized (this.documents) {
+            return this.documents.size();
+        }
+    }
+
+    /**
+     * Get maximum number of cached documents.
+     *
+     * @return capacity of cache.
+     * @since 2.0.0
+     */
+    public int getCapacity() {
+        return this.iCapacity;
+    }
+}
@@ -0,0 +1,347 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.server;
+
+import magic.system.hyperion.components.Cancellation;
+import magic.system.hyperion.components.DocumentResult;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executor for document runs with a maximum number of documents running
+ * at once and a bounded queue of pending documents. Jobs are rejected
+ * when the queue is full. For each job not finished yet there is a
+ * {@link JobCompletion} for waiting on the job without polling and a
+ * {@link Cancellation} for stopping the job.
+ *
+ * @author Thomas Lehmann
+ */
+public class DocumentJobs {
+    /**
+     * Milliseconds per second.
+     */
+    private static final long MILLISECONDS_PER_SECOND = 1000L;
+
+    /**
+     * Maximum number of documents running at once.
+     */
+    private final int iMaxRunning;
+
+    /**
+     * Maximum number of documents waiting to run.
+     */
+    private final int iMaxQueued;
+
+    /**
+     * Executor running the documents.
+     */
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Ids of pending jobs in order of submission.
+     */
+    private final List<String> pendingIds;
+
+    /**
+     * Ids of running jobs.
+     */
+    private final Set<String> runningIds;
+
+    /**
+     * Completion of jobs which have not finished yet (by id).
+     */
+    private final Map<String, JobCompletion> completions;
+
+    /**
+     * Cancellation of jobs which have not finished yet (by id).
+     */
+    private final Map<String, Cancellation> cancellations;
+
+    /**
+     * Runnables of pending jobs as passed to the executor (by id).
+     */
+    private final Map<String, Runnable> pendingJobs;
+
+    /**
+     * Number of finished jobs.
+     */
+    private final LongAdder finishedCount;
+
+    /**
+     * Summarized duration of finished jobs (milliseconds).
+     */
+    private final LongAdder finishedDuration;
+
+    /**
+     * Initialize executor for document runs.
+     *
+     * @param iInitMaxRunning maximum number of documents running at once.
+     * @param iInitMaxQueued  maximum number of documents waiting to run.
+     * @since 2.0.0
+     */
+    public DocumentJobs(final int iInitMaxRunning, final int iInitMaxQueued) {
+        this.iMaxRunning = iInitMaxRunning;
+        this.iMaxQueued = iInitMaxQueued;
+        this.executor = new ThreadPoolExecutor(iInitMaxRunning, iInitMaxRunning,
+                0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(iInitMaxQueued));
+        this.pendingIds = new LinkedList<>();
+        this.runningIds = ConcurrentHashMap.newKeySet();
+        this.completions = Collections.synchronizedMap(new HashMap<>());
+        this.cancellations = Collections.synchronizedMap(new HashMap<>());
+        this.pendingJobs = Collections.synchronizedMap(new HashMap<>());
+        this.finishedCount = new LongAdder();
+        this.finishedDuration = new LongAdder();
+    }
+
+    /**
+     * Submitting a job.
+     *
+     * @param strId unique id of the job.
+     * @param job   the job to run.
+     * @return true when accepted, false when the queue is full.
+     * @since 2.0.0
+     */
+    public boolean submit(final String strId, final Runnable job) {
+        boolean bAccepted = true;
+        synchronized (this.pendingIds) {
+            this.pendingIds.add(strId);
+        }
+        this.completions.put(strId, new JobCompletion());
+        this.cancellations.put(strId, new Cancellation());
+
+        final Runnable pendingJob = () -> runJob(strId, job);
+        this.pendingJobs.put(strId, pendingJob);
+        try {
+            this.executor.execute(pendingJob);
+        } catch (RejectedExecutionException e) {
+            synchronized (this.pendingIds) {
+                this.pendingIds.remove(strId);
+            }
+            this.completions.remove(strId);
+            this.cancellations.remove(strId);
+            this.pendingJobs.remove(strId);
+            bAccepted = false;
+        }
+        return bAccepted;
+    }
+
+    /**
+     * Cancelling a job. A pending job is removed from the queue and run at once
+     * (the job is expected to finish immediately because it is cancelled); for a
+     * running job the cancellation stops its work and its thread is interrupted.
+     *
+     * @param strId unique id of the job.
+     * @return true when the job has been cancelled, false when unknown or finished already.
+     * @since 2.0.0
+     */
+    public boolean cancel(final String strId) {
+        final var cancellation = this.cancellations.get(strId);
+        if (cancellation != null) {
+            cancellation.cancel();
+            final var pendingJob = this.pendingJobs.get(strId);
+            if (pendingJob != null && this.executor.remove(pendingJob)) {
+                pendingJob.run();
+            }
+        }
+        return cancellation != null;
+    }
+
+    /**
+     * Get cancellation of a job.
+     *
+     * @param strId unique id of the job.
+     * @return cancellation (not cancelled one when the job is unknown or has finished).
+     * @since 2.0.0
+     */
+    public Cancellation getCancellation(final String strId) {
+        return this.cancellations.getOrDefault(strId, new Cancellation());
+    }
+
+    /**
+     * Completing a job with its result; those waiting for the job are notified.
+     *
+     * @param strId  unique id of the job.
+     * @param result result of the job.
+     * @since 2.0.0
+     */
+    public void complete(final String strId, final DocumentResult result) {
+        final var completion = this.completions.remove(strId);
+        if (completion != null) {
+            completion.finish(result);
+        }
+    }
+
+    /**
+     * Get completion of a job for waiting until the job has been started or has finished.
+     *
+     * @param strId unique id of the job.
+     * @return completion or null when the job is unknown or has finished already.
+     * @since 2.0.0
+     */
+    public JobCompletion getCompletion(final String strId) {
+        return this.completions.get(strId);
+    }
+
+    /**
+     * Get position of a pending job (1 is next).
+     *
+     * @param strId unique id of the job.
+     * @return position in queue or 0 when the job is not pending.
+     * @since 2.0.0
+     */
+    public int getPosition(final String strId) {
+        synchronized (this.pendingIds) {
+            return this.pendingIds.indexOf(strId) + 1;
+        }
+    }
+
+    /**
+     * Check whether a job is running.
+     *
+     * @param strId unique id of the job.
+     * @return true when the job is running.
+     * @since 2.0.0
+     */
+    public boolean isRunning(final String strId) {
+        return this.runningIds.contains(strId);
+    }
+
+    /**
+     * Get number of pending jobs.
+     *
+     * @return number of pending jobs.
+     * @since 2.0.0
+     */
+    public int getQueued() {
+        synchronized (this.pendingIds) {
+            return this.pendingIds.size();
+        }
+    }
+
+    /**
+     * Get number of running jobs.
+     *
+     * @return number of running jobs.
+     * @since 2.0.0
+     */
+    public int getRunning() {
+        return this.runningIds.size();
+    }
+
+    /**
+     * Get maximum number of documents running at once.
+     *
+     * @return maximum number of running jobs.
+     * @since 2.0.0
+     */
+    public int getMaxRunning() {
+        return this.iMaxRunning;
+    }
+
+    /**
+     * Get maximum number of documents waiting to run.
+     *
+     * @return maximum number of pending jobs.
+     * @since 2.0.0
+     */
+    public int getMaxQueued() {
+        return this.iMaxQueued;
+    }
+
+    /**
+     * Estimated seconds until a submitted job would be accepted
+     * (based on the average duration of finished jobs).
+     *
+     * @return seconds to wait before retrying (at least 1).
+     * @since 2.0.0
+     */
+    public long getRetryAfterSeconds() {
+        final long lCount = this.finishedCount.sum();
+        final long lAverage = lCount == 0 ? 0 : this.finishedDuration.sum() / lCount;
+        return Math.max(1L, lAverage * (getQueued() / this.iMaxRunning + 1)
+                / MILLISECONDS_PER_SECOND);
+    }
+
+    /**
+     * Stopping the executor (accepted jobs are still processed).
+     *
+     * @since 2.0.0
+     */
+    public void shutdown() {
+        this.executor.shutdown();
+    }
+
+    /**
+     * Running one job and tracking its state.
+     *
+     * @param strId unique id of the job.
+     * @param job   the job to run.
+     */
+    private void runJob(final String strId, final Runnable job) {
+        this.pendingJobs.remove(strId);
+        // marked as running before it's not pending anymore: a job is never unknown
+        this.runningIds.add(strId);
+        synchronized (this.pendingIds) {
+            this.pendingIds.remove(strId);
+        }
+        final var completion = this.completions.get(strId);
+        if (completion != null) {
+            completion.start();
+        }
+
+        // interrupting the job when cancelled while running (not when cancelled
+        // before: then the job runs in the thread of the caller of cancel)
+        final var cancellation = getCancellation(strId);
+        final var bInterruptible = !cancellation.isCancelled();
+        final var thread = Thread.currentThread();
+        final Runnable removeInterrupt = bInterruptible
+                ? cancellation.onCancel(thread::interrupt) : () -> { };
+
+        final long lStarted = System.currentTimeMillis();
+        try {
+            job.run();
+        } finally {
+            removeInterrupt.run();
+            if (bInterruptible) {
+                // clearing the interrupt of a cancellation: the thread runs further jobs
+                Thread.interrupted();
+            }
+            this.finishedDuration.add(System.currentTimeMillis() - lStarted);
+            this.finishedCount.increment();
+            this.runningIds.remove(strId);
+            this.cancellations.remove(strId);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.server;
+
+import magic.system.hyperion.exceptions.HyperionException;
+import magic.system.hyperion.reader.DocumentReader;
+import magic.system.hyperion.tools.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Registered documents by name. A document is parsed once when registered;
+ * each run gets its own copy (optionally with other model and matrix).
+ * When a path is set the document content is persisted there (one YAML
+ * file per name) and loaded again after a restart of the server.
+ *
+ * @author Thomas Lehmann
+ */
+public class DocumentRegistry {
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(DocumentRegistry.class);
+
+    /**
+     * File extension of persisted documents.
+     */
+    private static final String EXTENSION = ".yml";
+
+    /**
+     * Allowed names (usable as filename).
+     */
+    private static final Pattern NAME_PATTERN = Pattern.compile("[a-zA-Z0-9_.-]{1,64}");
+
+    /**
+     * Registered documents by name.
+     */
+    private final Map<String, RegisteredDocument> documents;
+
+    /**
+     * Path where to persist registered documents (null: in memory only).
+     */
+    private Path path;
+
+    /**
+     * Initialize empty registry (in memory only).
+     *
+     * @since 2.0.0
+     */
+    public DocumentRegistry() {
+        this.documents = new ConcurrentHashMap<>();
+        this.path = null;
+    }
+
+    /**
+     * Change path where to persist registered documents. Existing
+     * documents in that path are registered.
+     *
+     * @param initPath path where to persist registered documents.
+     * @throws HyperionException when the path cannot be created or read.
+     * @since 2.0.0
+     */
+    public synchronized void setPath(final Path initPath) throws HyperionException {
+        try {
+            Files.createDirectories(initPath);
+            try (var stream = Files.list(initPath)) {
+                for (final var documentPath: (Iterable<Path>) stream::iterator) {
+                    final var strFilename = documentPath.getFileName().toString();
+                    if (strFilename.endsWith(EXTENSION)) {
+                        register(strFilename.substring(
+                                0, strFilename.length() - EXTENSION.length()),
+                                Files.readAllBytes(documentPath));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new HyperionException(e.getMessage());
+        }
+        this.path = initPath;
+    }
+
+    /**
+     * Register document under given name. When registering other content
+     * for an existing name the version is incremented.
+     *
+     * @param strName the name of the document.
+     * @param content the document content (YAML).
+     * @return registered document (name, version, hash).
+     * @throws HyperionException when name or document is invalid or persisting has failed.
+     * @since 2.0.0
+     */
+    public synchronized RegisteredDocument register(final String strName, final byte[] content)
+            throws HyperionException {
+        if (!NAME_PATTERN.matcher(strName).matches()) {
+            throw new HyperionException(String.format("Invalid name '%s'!", strName));
+        }
+
+        final var strHash = FileUtils.toHex(FileUtils.createMessageDigest().digest(content));
+        var registered = this.documents.get(strName);
+
+        if (registered == null || !registered.getHash().equals(strHash)) {
+            final var document = new DocumentReader().read(content);
+            if (document == null) {
+                throw new HyperionException(String.format(
+                        "Invalid document for name '%s'!", strName));
+            }
+
+            registered = new RegisteredDocument(strName,
+                    registered == null ? 1 : registered.getVersion() + 1, strHash, document);
+            persist(strName, content);
+            this.documents.put(strName, registered);
+            LOGGER.info("Registered document '{}' in version {}",
+                    strName, registered.getVersion());
+        }
+
+        return registered;
+    }
+
+    /**
+     * Get registered document.
+     *
+     * @param strName the name of the document.
+     * @return registered document or null when not found.
+     * @since 2.0.0
+     */
+    public RegisteredDocument get(final String strName) {
+        return this.documents.get(strName);
+    }
+
+    /**
+     * Remove registered document (also the persisted one).
+     *
+     * @param strName the name of the document.
+     * @return true when document has been removed.
+     * @since 2.0.0
+     */
+    public synchronized boolean unregister(final String strName) {
+        final var registered = this.documents.remove(strName);
+        if (registered != null && this.path != null) {
+            FileUtils.deletePath(this.path.resolve(strName + EXTENSION));
+        }
+        return registered != null;
+    }
+
+    /**
+     * Persisting document content when a path is set.
+     *
+     * @param strName the name of the document.
+     * @param content the document content (YAML).
+     * @throws HyperionException when writing has failed.
+     */
+    private void persist(final String strName, final byte[] content) throws HyperionException {
+        if (this.path != null) {
+            try {
+                Files.write(this.path.resolve(strName + EXTENSION), content);
+            } catch (IOException e) {
+                throw new HyperionException(e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,330 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.server;
+
+import magic.system.hyperion.components.DocumentResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Store for results of document runs limited by number of entries and
+ * by time to live. Expired results are removed in background; when the
+ * maximum number of entries is exceeded the oldest result is removed.
+ * When a result is removed (read, evicted or expired) the temporary files
+ * with the complete output of its processes (capture with spill) are deleted.
+ *
+ * @author Thomas Lehmann
+ */
+public class DocumentResultStore implements AutoCloseable {
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(DocumentResultStore.class);
+
+    /**
+     * Minimum interval for background eviction (milliseconds).
+     */
+    private static final long MIN_EVICTION_INTERVAL = 100L;
+
+    /**
+     * Maximum number of stored results.
+     */
+    private final int iMaxEntries;
+
+    /**
+     * Time to live of a result (milliseconds).
+     */
+    private final long lTimeToLive;
+
+    /**
+     * When true then results are kept after they have been read.
+     */
+    private final boolean bKeepAfterRead;
+
+    /**
+     * Results with time when they have been stored (in order of storing).
+     */
+    private final Map<String, StoredResult> results;
+
+    /**
+     * Number of results removed because maximum number of entries has been exceeded.
+     */
+    private final LongAdder evictedCount;
+
+    /**
+     * Number of results removed because they have been expired.
+     */
+    private final LongAdder expiredCount;
+
+    /**
+     * Background eviction of expired results.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Notified with the id of each removed result (read, evicted or expired).
+     */
+    private volatile Consumer<String> removalListener;
+
+    /**
+     * Initialize result store.
+     *
+     * @param iInitMaxEntries    maximum number of stored results.
+     * @param lInitTimeToLive    time to live of a result (milliseconds).
+     * @param bInitKeepAfterRead when true then results are kept after they have been read.
+     * @since 2.0.0
+     */
+    public DocumentResultStore(final int iInitMaxEntries, final long lInitTimeToLive,
+                               final boolean bInitKeepAfterRead) {
+        this.iMaxEntries = iInitMaxEntries;
+        this.lTimeToLive = lInitTimeToLive;
+        this.bKeepAfterRead = bInitKeepAfterRead;
+        this.results = new LinkedHashMap<>();
+        this.evictedCount = new LongAdder();
+        this.expiredCount = new LongAdder();
+        this.removalListener = strId -> { };
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "document-result-eviction");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long lInterval = Math.max(MIN_EVICTION_INTERVAL, lInitTimeToLive / 2);
+        this.scheduler.scheduleWithFixedDelay(
+                this::removeExpired, lInterval, lInterval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Change listener notified with the id of each removed result
+     * (read, evicted or expired).
+     *
+     * @param listener the listener.
+     * @since 2.0.0
+     */
+    public void setRemovalListener(final Consumer<String> listener) {
+        this.removalListener = listener;
+    }
+
+    /**
+     * Storing a result.
+     *
+     * @param strId  the id for the document run.
+     * @param result the result of the document run.
+     * @since 2.0.0
+     */
+    public void put(final String strId, final DocumentResult result) {
+        synchronized (this.results) {
+            this.results.put(strId, new StoredResult(result, System.currentTimeMillis()));
+
+            final var iter = this.results.entrySet().iterator();
+            while (this.results.size() > this.iMaxEntries && iter.hasNext()) {
+                final var entry = iter.next();
+                iter.remove();
+                this.evictedCount.increment();
+                removed(entry.getKey(), entry.getValue().result);
+            }
+        }
+    }
+
+    /**
+     * Get a result. Unless configured to keep results after reading
+     * the result is removed from the store.
+     *
+     * @param strId the id for the document run.
+     * @return result or null when not found or expired.
+     * @since 2.0.0
+     */
+    public DocumentResult get(final String strId) {
+        DocumentResult result = null;
+        synchronized (this.results) {
+            final var stored = this.results.get(strId);
+            if (stored != null && !isExpired(stored, System.currentTimeMillis())) {
+                result = stored.result;
+                if (!this.bKeepAfterRead) {
+                    this.results.remove(strId);
+                    removed(strId, result);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get a result without removing it from the store (independent of
+     * keeping results after reading).
+     *
+     * @param strId the id for the document run.
+     * @return result or null when not found or expired.
+     * @since 2.0.0
+     */
+    public DocumentResult peek(final String strId) {
+        DocumentResult result = null;
+        synchronized (this.results) {
+            final var stored = this.results.get(strId);
+            if (stored != null && !isExpired(stored, System.currentTimeMillis())) {
+                result = stored.result;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get number of stored results.
+     *
+     * @return number of stored results.
+     * @since 2.0.0
+     */
+    public int getSize() {
+        synchronized (this.results) {
+            return this.results.size();
+        }
+    }
+
+    /**
+     * Get maximum number of stored results.
+     *
+     * @return maximum number of stored results.
+     * @since 2.0.0
+     */
+    public int getMaxEntries() {
+        return this.iMaxEntries;
+    }
+
+    /**
+     * Get number of results removed because maximum number of entries has been exceeded.
+     *
+     * @return number of evicted results.
+     * @since 2.0.0
+     */
+    public long getEvicted() {
+        return this.evictedCount.sum();
+    }
+
+    /**
+     * Get number of results removed because they have been expired.
+     *
+     * @return number of expired results.
+     * @since 2.0.0
+     */
+    public long getExpired() {
+        return this.expiredCount.sum();
+    }
+
+    /**
+     * Removing all expired results.
+     *
+     * @since 2.0.0
+     */
+    public void removeExpired() {
+        final long lNow = System.currentTimeMillis();
+        synchronized (this.results) {
+            final var iter = this.results.entrySet().iterator();
+            while (iter.hasNext()) {
+                final var entry = iter.next();
+                if (isExpired(entry.getValue(), lNow)) {
+                    iter.remove();
+                    this.expiredCount.increment();
+                    removed(entry.getKey(), entry.getValue().result);
+                }
+            }
+        }
+    }
+
+    /**
+     * Stopping background eviction.
+     */
+    @Override
+    public void close() {
+        this.scheduler.shutdownNow();
+    }
+
+    /**
+     * Deleting the temporary files with the output of a removed result
+     * and notifying the listener.
+     *
+     * @param strId  the id for the document run.
+     * @param result the removed result.
+     */
+    private void removed(final String strId, final DocumentResult result) {
+        result.getTasks().stream()
+                .filter(task -> task.getProcess() != null)
+                .flatMap(task -> task.getProcess().getSpillFiles().stream())
+                .forEach(strPath -> {
+                    try {
+                        Files.deleteIfExists(Path.of(strPath));
+                    } catch (IOException e) {
+                        LOGGER.warn(e.getMessage(), e);
+                    }
+                });
+        this.removalListener.accept(strId);
+    }
+
+    /**
+     * Check whether a result is expired.
+     *
+     * @param stored the stored result.
+     * @param lNow   current time (milliseconds).
+     * @return true when the result is expired.
+     */
+    private boolean isExpired(final StoredResult stored, final long lNow) {
+        return lNow - stored.lStored >= this.lTimeToLive;
+    }
+
+    /**
+     * Result with time when it has been stored.
+     */
+    private static final class StoredResult {
+        /**
+         * The result of the document run.
+         */
+        private final DocumentResult result;
+
+        /**
+         * Time when the result has been stored (milliseconds).
+         */
+        private final long lStored;
+
+        /**
+         * Initialize stored result.
+         *
+         * @param initResult the result of the document run.
+         * @param lInitStored time when the result has been stored (milliseconds).
+         */
+        StoredResult(final DocumentResult initResult, final long lInitStored) {
+            this.result = initResult;
+            this.lStored = lInitStored;
+        }
+    }
+}
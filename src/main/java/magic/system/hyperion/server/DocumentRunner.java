@@ -0,0 +1,99 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.server;
+
+import magic.system.hyperion.components.Document;
+import magic.system.hyperion.components.DocumentParameters;
+import magic.system.hyperion.components.DocumentResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.Supplier;
+
+/**
+ * Running a document of a job.
+ *
+ * @author Thomas Lehmann
+ */
+final class DocumentRunner {
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(DocumentRunner.class);
+
+    /**
+     * Utility class.
+     */
+    private DocumentRunner() {
+        // nothing to do
+    }
+
+    /**
+     * Running a document unless cancelled.
+     *
+     * @param supplier   provides the document to run (null when reading has failed).
+     * @param parameters tags, timeout for each task group, output listener and cancellation.
+     * @return result of the document run (marked as cancelled when cancelled).
+     */
+    static DocumentResult run(final Supplier<Document> supplier,
+                              final DocumentParameters parameters) {
+        final var cancellation = parameters.getCancellation();
+        var result = DocumentResult.of();
+        if (!cancellation.isCancelled()) {
+            result = run(supplier.get(), parameters);
+        }
+        if (cancellation.isCancelled()) {
+            LOGGER.info("Document request cancelled!");
+            result = result.toCancelled();
+        }
+        return result;
+    }
+
+    /**
+     * Running a document.
+     *
+     * @param document   the document to run (null when reading has failed).
+     * @param parameters tags, timeout for each task group and output listener.
+     * @return result of the document run.
+     */
+    private static DocumentResult run(final Document document,
+                                      final DocumentParameters parameters) {
+        var result = DocumentResult.of();
+        if (document == null) {
+            LOGGER.info("Reading Document has failed!");
+        } else {
+            LOGGER.info("Document object created from request body");
+            LOGGER.info("Tags: {}, task group timeout: {}",
+                    parameters.getTags(), parameters.getTimeoutTaskgroup());
+
+            result = document.run(parameters);
+            if (result.isSuccess()) {
+                LOGGER.info("Document request succeeded!");
+            } else {
+                LOGGER.info("Document request failed!");
+            }
+        }
+        return result;
+    }
+}
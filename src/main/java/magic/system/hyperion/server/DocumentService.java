@@ -0,0 +1,410 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.server;
+
+import magic.system.hyperion.components.Document;
+import magic.system.hyperion.components.DocumentParameters;
+import magic.system.hyperion.components.DocumentResult;
+import magic.system.hyperion.exceptions.HyperionException;
+import magic.system.hyperion.tools.Metrics;
+import magic.system.hyperion.tools.TraceRecorder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Running documents in server mode: parsing (with cache), queuing, running
+ * and storing the results. Optionally submissions, state transitions and
+ * results are recorded in a {@link JobJournal} so that they survive a restart.
+ *
+ * @author Thomas Lehmann
+ */
+public final class DocumentService {
+    /**
+     * Maximum number of parsed documents kept in cache.
+     */
+    private static final int DOCUMENT_CACHE_CAPACITY = 32;
+
+    /**
+     * Maximum number of output lines kept for each document run.
+     */
+    private static final int OUTPUT_CAPACITY = 1000;
+
+    /**
+     * Maximum number of traces (Chrome trace JSON) kept.
+     */
+    private static final int TRACE_CAPACITY = 32;
+
+    /**
+     * Parsed documents by hash of the request body.
+     */
+    private final DocumentCache cache;
+
+    /**
+     * Output of document runs (by id) until the result has been removed.
+     */
+    private final Map<String, OutputBuffer> outputs;
+
+    /**
+     * Traces of document runs (by id) in Chrome trace format; the oldest ones
+     * are removed first (independent of the results).
+     */
+    private final Map<String, String> traces;
+
+    /**
+     * Executor for document runs.
+     */
+    private volatile DocumentJobs jobs;
+
+    /**
+     * Results of document runs.
+     */
+    private volatile DocumentResultStore results;
+
+    /**
+     * Journal for jobs (null when jobs are not persisted).
+     */
+    private volatile JobJournal journal;
+
+    /**
+     * Initialize service.
+     *
+     * @param iMaxRunning maximum number of documents running at once.
+     * @param iMaxQueued  maximum number of documents waiting to run.
+     * @param iMaxResults maximum number of stored results.
+     * @param lTimeToLive time to live of a result (milliseconds).
+     * @since 2.0.0
+     */
+    public DocumentService(final int iMaxRunning, final int iMaxQueued,
+                           final int iMaxResults, final long lTimeToLive) {
+        this.cache = new DocumentCache(DOCUMENT_CACHE_CAPACITY);
+        this.outputs = Collections.synchronizedMap(new HashMap<>());
+        this.traces = Collections.synchronizedMap(new LinkedHashMap<>() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, String> eldest) {
+                return size() > TRACE_CAPACITY;
+            }
+        });
+        this.jobs = new DocumentJobs(iMaxRunning, iMaxQueued);
+        this.results = new DocumentResultStore(iMaxResults, lTimeToLive, false);
+        updateRemovalListener();
+    }
+
+    /**
+     * Change limits for document runs (already accepted documents are still processed).
+     *
+     * @param iMaxRunning maximum number of documents running at once.
+     * @param iMaxQueued  maximum number of documents waiting to run.
+     * @since 2.0.0
+     */
+    public synchronized void setJobLimits(final int iMaxRunning, final int iMaxQueued) {
+        final var previousJobs = this.jobs;
+        this.jobs = new DocumentJobs(iMaxRunning, iMaxQueued);
+        previousJobs.shutdown();
+    }
+
+    /**
+     * Change limits for stored document results (already stored results are dropped).
+     *
+     * @param iMaxResults    maximum number of stored results.
+     * @param lTimeToLive    time to live of a result (milliseconds).
+     * @param bKeepAfterRead when true then results are kept after they have been read.
+     * @since 2.0.0
+     */
+    public synchronized void setResultLimits(final int iMaxResults, final long lTimeToLive,
+                                             final boolean bKeepAfterRead) {
+        final var previousResults = this.results;
+        this.results = new DocumentResultStore(iMaxResults, lTimeToLive, bKeepAfterRead);
+        previousResults.close();
+        updateRemovalListener();
+    }
+
+    /**
+     * Persisting jobs in a journal. Finished jobs of the journal are restored;
+     * jobs which have been interrupted by a restart get a failed result marked
+     * as interrupted unless they are requeued. A previously set journal is closed.
+     *
+     * @param path     path and filename of the journal.
+     * @param bRequeue when true then interrupted jobs are run again
+     *                 (not possible for runs of registered documents).
+     * @throws HyperionException when reading or opening the journal has failed.
+     * @since 2.0.0
+     */
+    public synchronized void setJournal(final Path path, final boolean bRequeue)
+            throws HyperionException {
+        final var previousJournal = this.journal;
+        if (previousJournal != null) {
+            // writing pending records first (the new journal might be the same file)
+            this.journal = null;
+            updateRemovalListener();
+            previousJournal.close();
+        }
+        final var newJournal = JobJournal.open(path);
+        this.journal = newJournal;
+        updateRemovalListener();
+        JobRecovery.recover(this, newJournal.getEntries(), bRequeue);
+    }
+
+    /**
+     * Get cache for parsed documents.
+     *
+     * @return cache for parsed documents.
+     * @since 2.0.0
+     */
+    public DocumentCache getCache() {
+        return this.cache;
+    }
+
+    /**
+     * Get executor for document runs.
+     *
+     * @return executor for document runs.
+     * @since 2.0.0
+     */
+    public DocumentJobs getJobs() {
+        return this.jobs;
+    }
+
+    /**
+     * Get store for results of document runs.
+     *
+     * @return results of document runs.
+     * @since 2.0.0
+     */
+    public DocumentResultStore getResults() {
+        return this.results;
+    }
+
+    /**
+     * Get completion of a job for waiting until the job has been started or has finished.
+     *
+     * @param strId unique id of the job.
+     * @return completion or null when the job is unknown or has finished already.
+     * @since 2.0.0
+     */
+    public JobCompletion getCompletion(final String strId) {
+        return this.jobs.getCompletion(strId);
+    }
+
+    /**
+     * Get output of a document run.
+     *
+     * @param strId unique id of the job.
+     * @return output or null when the job is unknown or its result has been removed.
+     * @since 2.0.0
+     */
+    public OutputBuffer getOutput(final String strId) {
+        return this.outputs.get(strId);
+    }
+
+    /**
+     * Get trace of a document run.
+     *
+     * @param strId unique id of the job.
+     * @return trace (Chrome trace JSON) or null when the job is unknown, has not
+     *         been traced, has not finished yet or its trace has been removed.
+     * @since 2.0.0
+     */
+    public String getTrace(final String strId) {
+        return this.traces.get(strId);
+    }
+
+    /**
+     * Running a document (YAML) in background.
+     *
+     * @param content  document (YAML).
+     * @param tags     tags to filter tasks.
+     * @param iTimeout timeout for each task group (milliseconds).
+     * @return unique id of the job or null when too many documents are waiting to run.
+     * @since 2.0.0
+     */
+    public String submit(final byte[] content, final List<String> tags, final int iTimeout) {
+        return submit(content, tags, iTimeout, false);
+    }
+
+    /**
+     * Running a document (YAML) in background.
+     *
+     * @param content  document (YAML).
+     * @param tags     tags to filter tasks.
+     * @param iTimeout timeout for each task group (milliseconds).
+     * @param bTrace   when true then the timeline of the run is recorded (see
+     *                 {@link #getTrace(String)}).
+     * @return unique id of the job or null when too many documents are waiting to run.
+     * @since 2.0.0
+     */
+    public String submit(final byte[] content, final List<String> tags, final int iTimeout,
+                         final boolean bTrace) {
+        final var strId = UUID.randomUUID().toString();
+        final var bAccepted = submit(strId, new String(content, StandardCharsets.UTF_8),
+                () -> this.cache.get(content), tags, iTimeout, bTrace);
+        return bAccepted ? strId : null;
+    }
+
+    /**
+     * Running a document in background (the job cannot be requeued after a restart).
+     *
+     * @param supplier provides the document to run (null when reading has failed).
+     * @param tags     tags to filter tasks.
+     * @param iTimeout timeout for each task group (milliseconds).
+     * @return unique id of the job or null when too many documents are waiting to run.
+     * @since 2.0.0
+     */
+    public String submit(final Supplier<Document> supplier,
+                         final List<String> tags, final int iTimeout) {
+        return submit(supplier, tags, iTimeout, false);
+    }
+
+    /**
+     * Running a document in background (the job cannot be requeued after a restart).
+     *
+     * @param supplier provides the document to run (null when reading has failed).
+     * @param tags     tags to filter tasks.
+     * @param iTimeout timeout for each task group (milliseconds).
+     * @param bTrace   when true then the timeline of the run is recorded (see
+     *                 {@link #getTrace(String)}).
+     * @return unique id of the job or null when too many documents are waiting to run.
+     * @since 2.0.0
+     */
+    public String submit(final Supplier<Document> supplier,
+                         final List<String> tags, final int iTimeout, final boolean bTrace) {
+        final var strId = UUID.randomUUID().toString();
+        return submit(strId, null, supplier, tags, iTimeout, bTrace) ? strId : null;
+    }
+
+    /**
+     * Running a document in background.
+     *
+     * @param strId      unique id of the job.
+     * @param strContent document (YAML) or null when the job cannot be requeued.
+     * @param supplier   provides the document to run (null when reading has failed).
+     * @param tags       tags to filter tasks.
+     * @param iTimeout   timeout for each task group (milliseconds).
+     * @param bTrace     when true then the timeline of the run is recorded.
+     * @return true when accepted, false when too many documents are waiting to run.
+     */
+    boolean submit(final String strId, final String strContent,
+                   final Supplier<Document> supplier,
+                   final List<String> tags, final int iTimeout, final boolean bTrace) {
+        final var currentJournal = this.journal;
+        if (currentJournal != null) {
+            currentJournal.submitted(strId, tags, iTimeout, strContent);
+        }
+
+        final var output = new OutputBuffer(OUTPUT_CAPACITY);
+        this.outputs.put(strId, output);
+
+        final var currentJobs = this.jobs;
+        final var bAccepted = currentJobs.submit(strId, () -> {
+            final var trace = bTrace ? TraceRecorder.create() : TraceRecorder.disabled();
+            DocumentResult result = null;
+            try {
+                if (currentJournal != null) {
+                    currentJournal.started(strId);
+                }
+                result = DocumentRunner.run(supplier, DocumentParameters.of(
+                        tags, iTimeout, output, currentJobs.getCancellation(strId), trace));
+            } finally {
+                // a result is always stored (failed when the run has thrown an exception)
+                // so that waiting clients are notified and the journal entry is closed
+                final var finalResult = result == null ? DocumentResult.of() : result;
+                output.close();
+                if (bTrace) {
+                    this.traces.put(strId, trace.toJson());
+                }
+                Metrics.jobFinished(finalResult.isSuccess());
+                finish(strId, finalResult);
+                currentJobs.complete(strId, finalResult);
+            }
+        });
+
+        if (!bAccepted) {
+            this.outputs.remove(strId);
+            if (currentJournal != null) {
+                currentJournal.removed(strId);
+            }
+        }
+        return bAccepted;
+    }
+
+    /**
+     * Cancelling a job: a pending job is not run anymore, a running job is
+     * stopped (processes of its tasks are killed). The result of the job is
+     * stored as failed and cancelled.
+     *
+     * @param strId unique id of the job.
+     * @return true when the job has been cancelled, false when unknown or finished already.
+     * @since 2.0.0
+     */
+    public boolean cancel(final String strId) {
+        return this.jobs.cancel(strId);
+    }
+
+    /**
+     * Storing the result of a job restored from the journal.
+     *
+     * @param strId  unique id of the job.
+     * @param result result of the job.
+     */
+    void restore(final String strId, final DocumentResult result) {
+        this.results.put(strId, result);
+    }
+
+    /**
+     * Recording and storing the result of a job.
+     *
+     * @param strId  unique id of the job.
+     * @param result result of the job.
+     */
+    void finish(final String strId, final DocumentResult result) {
+        final var currentJournal = this.journal;
+        if (currentJournal != null) {
+            currentJournal.finished(strId, result);
+        }
+        this.results.put(strId, result);
+    }
+
+    /**
+     * Results which are read, evicted or expired are recorded as removed in the
+     * journal; the output of the job is removed too.
+     */
+    private void updateRemovalListener() {
+        final var currentJournal = this.journal;
+        this.results.setRemovalListener(strId -> {
+            this.outputs.remove(strId);
+            if (currentJournal != null) {
+                currentJournal.removed(strId);
+            }
+        });
+    }
+}
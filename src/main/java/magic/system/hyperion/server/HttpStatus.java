@@ -34,10 +34,25 @@ public enum HttpStatus {
      */
     OK(Constants.OK),
 
+    /**
+     * Request has been accepted but processing has not finished yet.
+     */
+    ACCEPTED(Constants.ACCEPTED),
+
+    /**
+     * Request is invalid.
+     */
+    BAD_REQUEST(Constants.BAD_REQUEST),
+
     /**
      * Resource has not been found.
      */
-    NOT_FOUND(Constants.NOT_FOUND);
+    NOT_FOUND(Constants.NOT_FOUND),
+
+    /**
+     * Server cannot handle the request at the moment.
+     */
+    SERVICE_UNAVAILABLE(Constants.SERVICE_UNAVAILABLE);
 
     /**
      * String value of HTTP status.
@@ -65,9 +80,25 @@ public enum HttpStatus {
          */
         public static final String OK = "200";
 
+        /**
+         * String value for status when request has been accepted but processing
+         * has not finished yet.
+         */
+        public static final String ACCEPTED = "202";
+
+        /**
+         * String value for status when request is invalid.
+         */
+        public static final String BAD_REQUEST = "400";
+
         /**
          * String value for status when resource has not been found.
          */
         public static final String NOT_FOUND = "404";
+
+        /**
+         * String value for status when server cannot handle the request at the moment.
+         */
+        public static final String SERVICE_UNAVAILABLE = "503";
     }
 }
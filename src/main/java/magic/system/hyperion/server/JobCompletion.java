@@ -0,0 +1,91 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.server;
+
+import magic.system.hyperion.components.DocumentResult;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Futures completed when a job has been started and when it has finished;
+ * used for waiting on jobs without polling.
+ *
+ * @author Thomas Lehmann
+ */
+public final class JobCompletion {
+    /**
+     * Completed when the job has been started.
+     */
+    private final CompletableFuture<Void> started;
+
+    /**
+     * Completed with the result when the job has finished.
+     */
+    private final CompletableFuture<DocumentResult> finished;
+
+    /**
+     * Initialize completion for a submitted job.
+     */
+    JobCompletion() {
+        this.started = new CompletableFuture<>();
+        this.finished = new CompletableFuture<>();
+    }
+
+    /**
+     * Get future completed when the job has been started.
+     *
+     * @return future completed when the job has been started.
+     * @since 2.0.0
+     */
+    public CompletableFuture<Void> getStarted() {
+        return this.started;
+    }
+
+    /**
+     * Get future completed with the result when the job has finished.
+     *
+     * @return future completed when the job has finished.
+     * @since 2.0.0
+     */
+    public CompletableFuture<DocumentResult> getFinished() {
+        return this.finished;
+    }
+
+    /**
+     * Completing the job start.
+     */
+    void start() {
+        this.started.complete(null);
+    }
+
+    /**
+     * Completing the job (and the job start when not done yet).
+     *
+     * @param result result of the job.
+     */
+    void finish(final DocumentResult result) {
+        this.started.complete(null);
+        this.finished.complete(result);
+    }
+}
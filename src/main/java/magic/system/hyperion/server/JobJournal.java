@@ -0,0 +1,319 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.server;
+
+import magic.system.hyperion.components.DocumentResult;
+import magic.system.hyperion.exceptions.HyperionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * File based append-only journal for jobs in server mode (one JSON record
+ * per line). Records are written by a background thread in batches (one
+ * flush and sync per batch) so that callers never wait for the disk. When
+ * the journal contains much more records than jobs it is rewritten with
+ * the current state of all jobs (compaction).
+ *
+ * @author Thomas Lehmann
+ */
+public final class JobJournal implements AutoCloseable {
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobJournal.class);
+
+    /**
+     * Minimum number of records before compaction is considered.
+     */
+    private static final int COMPACTION_THRESHOLD = 1000;
+
+    /**
+     * Marker waking up the writer thread when the journal has been closed
+     * (a compaction may remove it; the writer stops because of the closed flag).
+     */
+    private static final String CLOSE_MARKER = "";
+
+    /**
+     * Maximum time the writer thread waits for records (milliseconds).
+     */
+    private static final long POLL_TIMEOUT = 100L;
+
+    /**
+     * Path and filename of the journal.
+     */
+    private final Path path;
+
+    /**
+     * Last known state of all jobs (in order of submission).
+     */
+    private final Map<String, JournalEntry> entries;
+
+    /**
+     * Records not yet written.
+     */
+    private final LinkedBlockingQueue<String> pendingRecords;
+
+    /**
+     * Background thread writing the records.
+     */
+    private final Thread writerThread;
+
+    /**
+     * Closing the journal when the server is stopped (removed when closed before).
+     */
+    private final Thread shutdownHook;
+
+    /**
+     * Journal file opened for appending.
+     */
+    private JournalFile file;
+
+    /**
+     * Number of records in the journal file.
+     */
+    private long lRecords;
+
+    /**
+     * When true the writer thread stops after writing the pending records.
+     */
+    private volatile boolean bClosed;
+
+    /**
+     * Initialize journal.
+     *
+     * @param initPath path and filename of the journal.
+     */
+    private JobJournal(final Path initPath) {
+        this.path = initPath;
+        this.entries = new LinkedHashMap<>();
+        this.pendingRecords = new LinkedBlockingQueue<>();
+        this.writerThread = new Thread(this::writeRecords, "job-journal-writer");
+        this.writerThread.setDaemon(true);
+        this.shutdownHook = new Thread(this::close, "job-journal-close");
+    }
+
+    /**
+     * Opening journal (reading existing records) and starting background writer.
+     *
+     * @param path path and filename of the journal.
+     * @return journal.
+     * @throws HyperionException when reading or opening the journal has failed.
+     * @since 2.0.0
+     */
+    public static JobJournal open(final Path path) throws HyperionException {
+        final var journal = new JobJournal(path);
+        try {
+            for (final var strRecord: JournalFile.read(path)) {
+                try {
+                    JournalRecords.apply(journal.entries, strRecord);
+                } catch (IOException e) {
+                    // last record might be incomplete when the server has been killed
+                    LOGGER.warn("Ignoring invalid journal record: {}", e.getMessage());
+                }
+            }
+            journal.compact();
+        } catch (IOException e) {
+            throw new HyperionException(e.getMessage());
+        }
+        journal.writerThread.start();
+        // pending records are written when the server is stopped
+        Runtime.getRuntime().addShutdownHook(journal.shutdownHook);
+        return journal;
+    }
+
+    /**
+     * Provide last known state of all jobs.
+     *
+     * @return list of journal entries (in order of submission).
+     * @since 2.0.0
+     */
+    public List<JournalEntry> getEntries() {
+        synchronized (this.entries) {
+            return new ArrayList<>(this.entries.values());
+        }
+    }
+
+    /**
+     * Recording submitted job.
+     *
+     * @param strId      unique id of the job.
+     * @param tags       tags to filter tasks.
+     * @param iTimeout   timeout for each task group (milliseconds).
+     * @param strContent document content (YAML) or null when the job cannot be run again.
+     * @since 2.0.0
+     */
+    public void submitted(final String strId, final List<String> tags,
+                          final int iTimeout, final String strContent) {
+        final var entry = new JournalEntry(strId, tags, iTimeout, strContent);
+        synchronized (this.entries) {
+            this.entries.put(strId, entry);
+            this.pendingRecords.add(JournalRecords.submitted(entry));
+        }
+    }
+
+    /**
+     * Recording started job.
+     *
+     * @param strId unique id of the job.
+     * @since 2.0.0
+     */
+    public void started(final String strId) {
+        synchronized (this.entries) {
+            final var entry = this.entries.get(strId);
+            if (entry != null) {
+                entry.setRunning();
+            }
+            this.pendingRecords.add(JournalRecords.started(strId));
+        }
+    }
+
+    /**
+     * Recording finished job.
+     *
+     * @param strId  unique id of the job.
+     * @param result result of the job.
+     * @since 2.0.0
+     */
+    public void finished(final String strId, final DocumentResult result) {
+        synchronized (this.entries) {
+            final var entry = this.entries.get(strId);
+            if (entry != null) {
+                entry.setResult(result);
+            }
+            this.pendingRecords.add(JournalRecords.finished(strId, result));
+        }
+    }
+
+    /**
+     * Recording removed job (result has been read or has expired).
+     *
+     * @param strId unique id of the job.
+     * @since 2.0.0
+     */
+    public void removed(final String strId) {
+        synchronized (this.entries) {
+            this.entries.remove(strId);
+            this.pendingRecords.add(JournalRecords.removed(strId));
+        }
+    }
+
+    /**
+     * Writing pending records and stopping the background writer
+     * (closing again does nothing).
+     */
+    @Override
+    public synchronized void close() {
+        if (!this.bClosed) {
+            this.bClosed = true;
+            this.pendingRecords.add(CLOSE_MARKER);
+            try {
+                this.writerThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            this.file.close();
+            removeShutdownHook();
+        }
+    }
+
+    /**
+     * Removing the shutdown hook when closed explicitly (not possible
+     * and not required while the server is stopping).
+     */
+    private void removeShutdownHook() {
+        if (Thread.currentThread() != this.shutdownHook) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(this.shutdownHook);
+            } catch (IllegalStateException e) {
+                LOGGER.debug("Shutdown in progress: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Writing records in batches until the journal is closed.
+     */
+    private void writeRecords() {
+        final List<String> batch = new ArrayList<>();
+        var bOpen = true;
+        while (bOpen) {
+            try {
+                final var strRecord = this.pendingRecords.poll(
+                        POLL_TIMEOUT, TimeUnit.MILLISECONDS);
+                if (strRecord != null) {
+                    batch.add(strRecord);
+                }
+                // reading the flag before draining: no record recorded before close is lost
+                bOpen = !this.bClosed;
+                this.pendingRecords.drainTo(batch);
+                batch.removeIf(CLOSE_MARKER::equals);
+                if (!batch.isEmpty()) {
+                    this.file.write(batch);
+                    this.lRecords += batch.size();
+                    batch.clear();
+
+                    if (this.lRecords > COMPACTION_THRESHOLD
+                            && this.lRecords > 2L * getEntries().size()) {
+                        compact();
+                    }
+                }
+            } catch (IOException e) {
+                LOGGER.error(e.getMessage(), e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                bOpen = false;
+            }
+        }
+    }
+
+    /**
+     * Rewriting the journal with the current state of all jobs.
+     *
+     * @throws IOException when writing the journal has failed.
+     */
+    void compact() throws IOException {
+        synchronized (this.entries) {
+            // all pending records are part of the state
+            this.pendingRecords.clear();
+
+            final List<String> records = new ArrayList<>();
+            this.entries.values().forEach(entry -> records.addAll(JournalRecords.snapshot(entry)));
+
+            if (this.file != null) {
+                this.file.close();
+            }
+            this.file = JournalFile.rewrite(this.path, records);
+            this.lRecords = records.size();
+        }
+    }
+}
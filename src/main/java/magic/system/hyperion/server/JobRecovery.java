@@ -0,0 +1,80 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.server;
+
+import magic.system.hyperion.components.DocumentResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Restoring jobs of a journal after a restart.
+ *
+ * @author Thomas Lehmann
+ */
+final class JobRecovery {
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobRecovery.class);
+
+    /**
+     * Utility class.
+     */
+    private JobRecovery() {
+        // nothing to do
+    }
+
+    /**
+     * Restoring jobs of the journal.
+     *
+     * @param service  the service to restore the jobs into.
+     * @param entries  last known state of all jobs.
+     * @param bRequeue when true then interrupted jobs are run again (when possible).
+     */
+    static void recover(final DocumentService service,
+                        final List<JournalEntry> entries, final boolean bRequeue) {
+        int iRequeued = 0;
+        int iInterrupted = 0;
+        for (final var entry: entries) {
+            final var strId = entry.getId();
+            final var strContent = entry.getContent();
+            if (entry.getState() == JobState.FINISHED) {
+                service.restore(strId, entry.getResult());
+            } else if (bRequeue && strContent != null && service.submit(strId, strContent,
+                    () -> service.getCache().get(strContent.getBytes(StandardCharsets.UTF_8)),
+                    entry.getTags(), entry.getTimeout(), false)) {
+                ++iRequeued;
+            } else {
+                LOGGER.warn("Job {} has been interrupted by a restart", strId);
+                service.finish(strId, DocumentResult.of().toInterrupted());
+                ++iInterrupted;
+            }
+        }
+        LOGGER.info("Recovered {} jobs from journal ({} requeued, {} interrupted)",
+                entries.size(), iRequeued, iInterrupted);
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.server;
+
+import magic.system.hyperion.components.DocumentResult;
+
+import java.util.List;
+
+/**
+ * Last known state of a job as recorded in {@link JobJournal}.
+ *
+ * @author Thomas Lehmann
+ */
+public final class JournalEntry {
+    /**
+     * Unique id of the job.
+     */
+    private final String strId;
+
+    /**
+     * Tags to filter tasks.
+     */
+    private final List<String> tags;
+
+    /**
+     * Timeout for each task group (milliseconds).
+     */
+    private final int iTimeout;
+
+    /**
+     * Document content (YAML) or null when the job cannot (or need not) be run again.
+     */
+    private String strContent;
+
+    /**
+     * Last known state of the job.
+     */
+    private JobState state;
+
+    /**
+     * Result of the job (when finished).
+     */
+    private DocumentResult result;
+
+    /**
+     * Initialize entry for a submitted job.
+     *
+     * @param strInitId      unique id of the job.
+     * @param initTags       tags to filter tasks.
+     * @param iInitTimeout   timeout for each task group (milliseconds).
+     * @param strInitContent document content (YAML) or null.
+     */
+    JournalEntry(final String strInitId, final List<String> initTags,
+                        final int iInitTimeout, final String strInitContent) {
+        this.strId = strInitId;
+        this.tags = List.copyOf(initTags);
+        this.iTimeout = iInitTimeout;
+        this.strContent = strInitContent;
+        this.state = JobState.QUEUED;
+        this.result = null;
+    }
+
+    /**
+     * Get unique id of the job.
+     *
+     * @return unique id of the job.
+     * @since 2.0.0
+     */
+    public String getId() {
+        return this.strId;
+    }
+
+    /**
+     * Get tags to filter tasks.
+     *
+     * @return tags to filter tasks.
+     * @since 2.0.0
+     */
+    public List<String> getTags() {
+        return this.tags;
+    }
+
+    /**
+     * Get timeout for each task group.
+     *
+     * @return timeout for each task group (milliseconds).
+     * @since 2.0.0
+     */
+    public int getTimeout() {
+        return this.iTimeout;
+    }
+
+    /**
+     * Get document content.
+     *
+     * @return document content (YAML) or null when the job cannot (or need not) be run again.
+     * @since 2.0.0
+     */
+    public String getContent() {
+        return this.strContent;
+    }
+
+    /**
+     * Get last known state of the job.
+     *
+     * @return state of the job.
+     * @since 2.0.0
+     */
+    public JobState getState() {
+        return this.state;
+    }
+
+    /**
+     * Get result of the job.
+     *
+     * @return result of the job or null when not finished.
+     * @since 2.0.0
+     */
+    public DocumentResult getResult() {
+        return this.result;
+    }
+
+    /**
+     * Change state of the job to running.
+     */
+    void setRunning() {
+        this.state = JobState.RUNNING;
+    }
+
+    /**
+     * Change result of the job (job is finished then and the content is not required anymore).
+     *
+     * @param newResult result of the job.
+     */
+    void setResult(final DocumentResult newResult) {
+        this.result = newResult;
+        this.strContent = null;
+        this.state = JobState.FINISHED;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.server;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * Journal file opened for appending lines (see {@link JobJournal}).
+ *
+ * @author Thomas Lehmann
+ */
+final class JournalFile {
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(JournalFile.class);
+
+    /**
+     * Stream of the file (for syncing to disk).
+     */
+    private final FileOutputStream stream;
+
+    /**
+     * Writer for the lines.
+     */
+    private final Writer writer;
+
+    /**
+     * Opening file for appending.
+     *
+     * @param path path and filename of the journal.
+     * @throws IOException when opening has failed.
+     */
+    private JournalFile(final Path path) throws IOException {
+        this.stream = new FileOutputStream(path.toFile(), true);
+        this.writer = new OutputStreamWriter(this.stream, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reading all lines of the journal.
+     *
+     * @param path path and filename of the journal.
+     * @return lines of the journal (empty when the journal does not exist).
+     * @throws IOException when reading has failed.
+     */
+    static List<String> read(final Path path) throws IOException {
+        List<String> lines = List.of();
+        if (Files.exists(path)) {
+            lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        }
+        return lines;
+    }
+
+    /**
+     * Replacing file content by given lines and opening the file for appending.
+     *
+     * @param path  path and filename of the journal.
+     * @param lines lines for the new content.
+     * @return file opened for appending.
+     * @throws IOException when writing has failed.
+     */
+    static JournalFile rewrite(final Path path, final List<String> lines) throws IOException {
+        final var temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.write(temporaryPath, lines, StandardCharsets.UTF_8);
+        try {
+            Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return new JournalFile(path);
+    }
+
+    /**
+     * Appending lines and syncing them to disk.
+     *
+     * @param lines lines to append.
+     * @throws IOException when writing has failed.
+     */
+    void write(final List<String> lines) throws IOException {
+        for (final var strLine: lines) {
+            this.writer.write(strLine);
+            this.writer.write(System.lineSeparator());
+        }
+        this.writer.flush();
+        this.stream.getFD().sync();
+    }
+
+    /**
+     * Closing the file.
+     */
+    void close() {
+        try {
+            this.writer.close();
+        } catch (IOException e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.server;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import magic.system.hyperion.components.DocumentResult;
+import magic.system.hyperion.tools.YamlTools;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creating and applying records of {@link JobJournal} (one JSON object per record).
+ *
+ * @author Thomas Lehmann
+ */
+@SuppressWarnings("checkstyle:multiplestringliterals")
+final class JournalRecords {
+    /**
+     * Field for type of record.
+     */
+    private static final String EVENT = "event";
+
+    /**
+     * Field for id of job.
+     */
+    private static final String ID = "id";
+
+    /**
+     * Record type for submitted jobs.
+     */
+    private static final String SUBMITTED = "submitted";
+
+    /**
+     * Record type for started jobs.
+     */
+    private static final String STARTED = "started";
+
+    /**
+     * Record type for finished jobs.
+     */
+    private static final String FINISHED = "finished";
+
+    /**
+     * Record type for removed jobs (result has been read or expired).
+     */
+    private static final String REMOVED = "removed";
+
+    /**
+     * Instantiation not wanted.
+     */
+    private JournalRecords() {
+        // nothing to do
+    }
+
+    /**
+     * Creating record for a submitted job.
+     *
+     * @param entry the job.
+     * @return record.
+     */
+    static String submitted(final JournalEntry entry) {
+        final var node = create(SUBMITTED, entry.getId());
+        final var tags = node.putArray("tags");
+        entry.getTags().forEach(tags::add);
+        node.put("timeout", entry.getTimeout());
+        node.put("content", entry.getContent());
+        return node.toString();
+    }
+
+    /**
+     * Creating record for a started job.
+     *
+     * @param strId unique id of the job.
+     * @return record.
+     */
+    static String started(final String strId) {
+        return create(STARTED, strId).toString();
+    }
+
+    /**
+     * Creating record for a finished job.
+     *
+     * @param strId  unique id of the job.
+     * @param result result of the job.
+     * @return record.
+     */
+    static String finished(final String strId, final DocumentResult result) {
+        final var node = create(FINISHED, strId);
+        node.set("result", YamlTools.getJsonMapper().valueToTree(result));
+        return node.toString();
+    }
+
+    /**
+     * Creating record for a removed job.
+     *
+     * @param strId unique id of the job.
+     * @return record.
+     */
+    static String removed(final String strId) {
+        return create(REMOVED, strId).toString();
+    }
+
+    /**
+     * Creating records representing the state of given job.
+     *
+     * @param entry the job.
+     * @return records.
+     */
+    static List<String> snapshot(final JournalEntry entry) {
+        final List<String> records = new ArrayList<>();
+        records.add(submitted(entry));
+        if (entry.getState() == JobState.RUNNING) {
+            records.add(started(entry.getId()));
+        } else if (entry.getState() == JobState.FINISHED) {
+            records.add(finished(entry.getId(), entry.getResult()));
+        }
+        return records;
+    }
+
+    /**
+     * Applying a record to the state of the jobs.
+     *
+     * @param entries last known state of all jobs.
+     * @param strRecord the record.
+     * @throws IOException when the record is invalid.
+     */
+    static void apply(final Map<String, JournalEntry> entries, final String strRecord)
+            throws IOException {
+        final var node = YamlTools.getJsonMapper().readTree(strRecord);
+        final var strId = node.path(ID).asText();
+        final var strEvent = node.path(EVENT).asText();
+
+        if (SUBMITTED.equals(strEvent)) {
+            final List<String> tags = new ArrayList<>();
+            node.path("tags").forEach(tag -> tags.add(tag.asText()));
+            entries.put(strId, new JournalEntry(strId, tags, node.path("timeout").asInt(),
+                    node.hasNonNull("content") ? node.get("content").asText() : null));
+        } else if (REMOVED.equals(strEvent)) {
+            entries.remove(strId);
+        } else if (entries.containsKey(strId)) {
+            applyTransition(entries.get(strId), strEvent, node);
+        }
+    }
+
+    /**
+     * Applying state transition of a job.
+     *
+     * @param entry    the job.
+     * @param strEvent record type.
+     * @param node     the record.
+     * @throws IOException when reading the result has failed.
+     */
+    private static void applyTransition(final JournalEntry entry, final String strEvent,
+                                        final JsonNode node) throws IOException {
+        if (STARTED.equals(strEvent)) {
+            entry.setRunning();
+        } else if (FINISHED.equals(strEvent)) {
+            entry.setResult(YamlTools.getJsonMapper().treeToValue(
+                    node.get("result"), DocumentResult.class));
+        }
+    }
+
+    /**
+     * Creating record with type and id.
+     *
+     * @param strEvent record type.
+     * @param strId    unique id of the job.
+     * @return record.
+     */
+    private static ObjectNode create(final String strEvent, final String strId) {
+        final var node = YamlTools.getJsonMapper().createObjectNode();
+        node.put(EVENT, strEvent);
+        node.put(ID, strId);
+        return node;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.server;
+
+import magic.system.hyperion.components.OutputLine;
+import magic.system.hyperion.interfaces.IOutputListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Bounded ring buffer for the output lines of one document run. Each line
+ * has an offset (0 for the first line of the run); when the buffer is full
+ * the oldest line is overwritten. Adding a line never waits for readers:
+ * listeners are only signaled and must read the lines on their own thread.
+ *
+ * @author Thomas Lehmann
+ */
+public final class OutputBuffer implements IOutputListener {
+    /**
+     * Lines (offset modulo capacity is the index).
+     */
+    private final OutputLine[] lines;
+
+    /**
+     * Signaled when a line has been added or the buffer has been closed.
+     */
+    private final List<Runnable> listeners;
+
+    /**
+     * Offset of the next line.
+     */
+    private long lNextOffset;
+
+    /**
+     * When true then no more lines are added (document run has finished).
+     */
+    private boolean bClosed;
+
+    /**
+     * Initialize buffer.
+     *
+     * @param iCapacity maximum number of lines kept.
+     * @since 2.0.0
+     */
+    public OutputBuffer(final int iCapacity) {
+        this.lines = new OutputLine[iCapacity];
+        this.listeners = new CopyOnWriteArrayList<>();
+        this.lNextOffset = 0L;
+        this.bClosed = false;
+    }
+
+    @Override
+    public void output(final OutputLine line) {
+        synchronized (this) {
+            this.lines[(int) (this.lNextOffset % this.lines.length)] = line;
+            ++this.lNextOffset;
+        }
+        this.listeners.forEach(Runnable::run);
+    }
+
+    /**
+     * Marking the document run as finished.
+     *
+     * @since 2.0.0
+     */
+    public void close() {
+        synchronized (this) {
+            this.bClosed = true;
+        }
+        this.listeners.forEach(Runnable::run);
+    }
+
+    /**
+     * Check whether the document run has finished.
+     *
+     * @return true when no more lines are added.
+     * @since 2.0.0
+     */
+    public synchronized boolean isClosed() {
+        return this.bClosed;
+    }
+
+    /**
+     * Get offset of the oldest line still available.
+     *
+     * @return offset of the oldest line.
+     * @since 2.0.0
+     */
+    public synchronized long getFirstOffset() {
+        return Math.max(0L, this.lNextOffset - this.lines.length);
+    }
+
+    /**
+     * Get offset of the next line (number of lines added so far).
+     *
+     * @return offset of the next line.
+     * @since 2.0.0
+     */
+    public synchronized long getNextOffset() {
+        return this.lNextOffset;
+    }
+
+    /**
+     * Reading lines starting at given offset (or at the oldest line still available).
+     *
+     * @param lOffset   offset of first line to read.
+     * @param iMaxLines maximum number of lines to read.
+     * @return lines (empty when there are no more lines yet).
+     * @since 2.0.0
+     */
+    public synchronized List<OutputLine> read(final long lOffset, final int iMaxLines) {
+        final List<OutputLine> result = new ArrayList<>();
+        final long lFrom = Math.max(lOffset, getFirstOffset());
+        final long lTo = Math.min(this.lNextOffset, lFrom + iMaxLines);
+        for (long lLine = lFrom; lLine < lTo; ++lLine) {
+            result.add(this.lines[(int) (lLine % this.lines.length)]);
+        }
+        return result;
+    }
+
+    /**
+     * Adding listener signaled when a line has been added or the buffer has been closed.
+     *
+     * @param listener the listener (must not block).
+     * @since 2.0.0
+     */
+    public void addListener(final Runnable listener) {
+        this.listeners.add(listener);
+    }
+
+    /**
+     * Removing listener.
+     *
+     * @param listener the listener.
+     * @since 2.0.0
+     */
+    public void removeListener(final Runnable listener) {
+        this.listeners.remove(listener);
+    }
+}
@@ -35,7 +35,19 @@ public enum PathSegment {
      * Root path segment for document requests.
      * See {@link magic.system.hyperion.server.controller.DocumentsController}.
      */
-    DOCUMENTS(Constants.DOCUMENTS);
+    DOCUMENTS(Constants.DOCUMENTS),
+
+    /**
+     * Root path segment for registered documents.
+     * See {@link magic.system.hyperion.server.controller.RegistryController}.
+     */
+    REGISTRY(Constants.REGISTRY),
+
+    /**
+     * Root path segment for metrics.
+     * See {@link magic.system.hyperion.server.controller.MetricsController}.
+     */
+    METRICS(Constants.METRICS);
 
     /**
      * Path segment name.
@@ -91,5 +103,15 @@ public enum PathSegment {
          * Value for root path segment of document requests.
          */
         public static final String DOCUMENTS = "documents";
+
+        /**
+         * Value for root path segment of registered documents.
+         */
+        public static final String REGISTRY = "registry";
+
+        /**
+         * Value for root path segment of metrics.
+         */
+        public static final String METRICS = "metrics";
     }
 }
@@ -0,0 +1,112 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.server;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import magic.system.hyperion.components.Document;
+
+/**
+ * Document registered in {@link DocumentRegistry}.
+ *
+ * @author Thomas Lehmann
+ */
+public final class RegisteredDocument {
+    /**
+     * Name of the document.
+     */
+    private final String strName;
+
+    /**
+     * Version of the document (incremented on each change).
+     */
+    private final int iVersion;
+
+    /**
+     * SHA-256 hash of the document content.
+     */
+    private final String strHash;
+
+    /**
+     * Parsed document (never run; runs are using copies).
+     */
+    private final Document document;
+
+    /**
+     * Initialize registered document.
+     *
+     * @param strInitName      name of the document.
+     * @param iInitVersion     version of the document.
+     * @param strInitHash      SHA-256 hash of the document content.
+     * @param initDocument     parsed document.
+     * @since 2.0.0
+     */
+    public RegisteredDocument(final String strInitName, final int iInitVersion,
+                              final String strInitHash, final Document initDocument) {
+        this.strName = strInitName;
+        this.iVersion = iInitVersion;
+        this.strHash = strInitHash;
+        this.document = initDocument;
+    }
+
+    /**
+     * Get name of the document.
+     *
+     * @return name of the document.
+     * @since 2.0.0
+     */
+    public String getName() {
+        return this.strName;
+    }
+
+    /**
+     * Get version of the document.
+     *
+     * @return version of the document.
+     * @since 2.0.0
+     */
+    public int getVersion() {
+        return this.iVersion;
+    }
+
+    /**
+     * Get SHA-256 hash of the document content.
+     *
+     * @return hash of the document content.
+     * @since 2.0.0
+     */
+    public String getHash() {
+        return this.strHash;
+    }
+
+    /**
+     * Provide copy of the parsed document for running it.
+     *
+     * @return copy of the document.
+     * @since 2.0.0
+     */
+    @JsonIgnore
+    public Document getDocument() {
+        return this.document.copy();
+    }
+}
@@ -28,8 +28,8 @@ import io.javalin.apibuilder.EndpointGroup;
 import io.javalin.plugin.json.JavalinJackson;
 import magic.system.hyperion.server.paths.creator.IPathsCreator;
 import magic.system.hyperion.tools.Factory;
+import magic.system.hyperion.tools.YamlTools;
 
-import static com.fasterxml.jackson.module.kotlin.ExtensionsKt.jacksonObjectMapper;
 import static io.javalin.apibuilder.ApiBuilder.path;
 
 /**
@@ -48,14 +48,15 @@ public class Server implements IServer {
      */
     public Server() {
         // enable conversions like for ZonedDateTime
-        JavalinJackson.configure(jacksonObjectMapper().findAndRegisterModules());
+        JavalinJackson.configure(YamlTools.getJsonMapper());
 
         final var factory = new Factory<EndpointGroup>(IPathsCreator.class);
         this.app = Javalin.create(config -> {
             config.registerPlugin(new OpenApiConfiguration().create());
         }).routes(() -> {
-            path(PathSegment.DOCUMENTS.getSegmentName(),
-                    factory.create(PathSegment.DOCUMENTS.getSegmentName()));
+            for (final var segment: PathSegment.values()) {
+                path(segment.getSegmentName(), factory.create(segment.getSegmentName()));
+            }
         });
     }
 
@@ -0,0 +1,120 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.server.controller;
+
+import io.javalin.http.sse.SseClient;
+import io.javalin.plugin.json.JavalinJson;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Controller pushing state changes of a document run as Server-Sent Events.
+ * Events are "queued" (with position), "running", "finished" (with the result
+ * like for GET /documents/:id) and "not-found"; the stream is closed after
+ * "finished" or "not-found". Sending the result does not remove it (the client
+ * still can read it). The events are sent by own threads so that a slow client
+ * does not block the threads running the documents; the events of one client
+ * are sent one after the other (never concurrently) and in order.
+ *
+ * @author Thomas Lehmann
+ */
+public final class DocumentEventsController {
+    /**
+     * Data of events without further information.
+     */
+    private static final String NO_DATA = "{}";
+
+    /**
+     * Threads sending the events for state changes.
+     */
+    private static final ExecutorService SENDER = Executors.newCachedThreadPool(runnable -> {
+        final var thread = new Thread(runnable, "document-events");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Instantiation not wanted.
+     */
+    private DocumentEventsController() {
+        // nothing to do
+    }
+
+    /**
+     * Sending events for a document run until it has finished.
+     *
+     * @param client connected client.
+     */
+    public static void events(final SseClient client) {
+        final var strId = client.ctx.pathParam("id");
+        final var service = DocumentsController.getService();
+        final var completion = service.getCompletion(strId);
+
+        if (completion == null) {
+            // finished already or unknown
+            sendFinished(client, strId);
+        } else {
+            final int iPosition = service.getJobs().getPosition(strId);
+            // the events are chained so that they are sent one after the other and in
+            // order; each step runs when the state changes (or immediately when changed
+            // already) but not in the thread completing the future (the job worker)
+            CompletableFuture.runAsync(() -> sendQueued(client, iPosition), SENDER)
+                    .thenCombine(completion.getStarted(), (first, second) -> first)
+                    .thenRunAsync(() -> client.sendEvent("running", NO_DATA), SENDER)
+                    .thenCombine(completion.getFinished(), (first, second) -> first)
+                    .thenRunAsync(() -> sendFinished(client, strId), SENDER);
+        }
+    }
+
+    /**
+     * Sending the position in the queue (when still queued).
+     *
+     * @param client    connected client.
+     * @param iPosition position in queue (0 when not queued anymore).
+     */
+    private static void sendQueued(final SseClient client, final int iPosition) {
+        if (iPosition > 0) {
+            client.sendEvent("queued", JavalinJson.toJson(Map.of("position", iPosition)));
+        }
+    }
+
+    /**
+     * Sending the result (without removing it) and closing the stream.
+     *
+     * @param client connected client.
+     * @param strId  the id for the document run.
+     */
+    private static void sendFinished(final SseClient client, final String strId) {
+        final var result = DocumentsController.getService().getResults().peek(strId);
+        if (result == null) {
+            client.sendEvent("not-found", NO_DATA);
+        } else {
+            client.sendEvent("finished", JavalinJson.toJson(result));
+        }
+        client.ctx.req.getAsyncContext().complete();
+    }
+}
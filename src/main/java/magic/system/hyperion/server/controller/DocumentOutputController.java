@@ -0,0 +1,89 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.server.controller;
+
+import io.javalin.http.sse.SseClient;
+
+/**
+ * Controller streaming the output lines of a document run as Server-Sent Events.
+ * Each line is sent as event "line" with its offset as event id; a client can
+ * resume with query parameter "offset" or the header "Last-Event-ID". The
+ * stream ends with event "end" after the last line of a finished run or with
+ * "not-found" when there is no output for the id.
+ *
+ * @author Thomas Lehmann
+ */
+public final class DocumentOutputController {
+    /**
+     * Header sent by clients reconnecting to a stream.
+     */
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+
+    /**
+     * Instantiation not wanted.
+     */
+    private DocumentOutputController() {
+        // nothing to do
+    }
+
+    /**
+     * Streaming output lines of a document run until it has finished.
+     *
+     * @param client connected client.
+     */
+    public static void output(final SseClient client) {
+        final var strId = client.ctx.pathParam("id");
+        final var output = DocumentsController.getService().getOutput(strId);
+
+        if (output == null) {
+            client.sendEvent("not-found", "{}");
+            client.ctx.req.getAsyncContext().complete();
+        } else {
+            new OutputStreamer(client, output, getOffset(client)).start();
+        }
+    }
+
+    /**
+     * Get offset of first line to send.
+     *
+     * @param client connected client.
+     * @return offset from query parameter "offset", from header "Last-Event-ID"
+     *         (the line after it) or 0.
+     */
+    private static long getOffset(final SseClient client) {
+        final var strOffset = client.ctx.queryParam("offset");
+        final var strLastEventId = client.ctx.header(LAST_EVENT_ID);
+        long lOffset = 0L;
+        try {
+            if (strOffset != null) {
+                lOffset = Long.parseLong(strOffset);
+            } else if (strLastEventId != null) {
+                lOffset = Long.parseLong(strLastEventId) + 1L;
+            }
+        } catch (NumberFormatException e) {
+            lOffset = 0L;
+        }
+        return Math.max(0L, lOffset);
+    }
+}
@@ -30,18 +30,22 @@ import io.javalin.plugin.openapi.annotations.OpenApiContent;
 import io.javalin.plugin.openapi.annotations.OpenApiParam;
 import io.javalin.plugin.openapi.annotations.OpenApiRequestBody;
 import io.javalin.plugin.openapi.annotations.OpenApiResponse;
-import magic.system.hyperion.components.DocumentParameters;
+import magic.system.hyperion.components.Document;
 import magic.system.hyperion.components.DocumentResult;
-import magic.system.hyperion.reader.DocumentReader;
+import magic.system.hyperion.exceptions.HyperionException;
+import magic.system.hyperion.server.DocumentService;
 import magic.system.hyperion.server.HttpStatus;
+import magic.system.hyperion.tools.Metrics;
 import magic.system.hyperion.tools.TimeTools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.Map;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Controller for processing document requests.
@@ -49,6 +53,26 @@ import java.util.concurrent.ConcurrentHashMap;
  * @author Thomas Lehmann
  */
 public class DocumentsController {
+    /**
+     * Default maximum number of documents running at once.
+     */
+    public static final int DEFAULT_MAX_RUNNING = 4;
+
+    /**
+     * Default maximum number of documents waiting to run.
+     */
+    public static final int DEFAULT_MAX_QUEUED = 100;
+
+    /**
+     * Default maximum number of stored document results.
+     */
+    public static final int DEFAULT_MAX_RESULTS = 1000;
+
+    /**
+     * Default time to live of stored document results (minutes).
+     */
+    public static final int DEFAULT_RESULT_TTL = 60;
+
     /**
      * Logger for this class.
      */
@@ -60,9 +84,91 @@ public class DocumentsController {
     private static final int DEFAULT_TASKGROUP_TIMEOUT = TimeTools.minutesAsMilliseconds(5);
 
     /**
-     * Result map for document runs.
+     * Job state key in status response of a pending or running document.
+     */
+    private static final String STATE = "state";
+
+    /**
+     * Size key in statistic responses.
+     */
+    private static final String SIZE = "size";
+
+    /**
+     * Query parameter for tags to filter tasks.
+     */
+    private static final String TAG = "tag";
+
+    /**
+     * Query parameter for timeout of each task group (milliseconds).
+     */
+    private static final String TIMEOUT = "timeout";
+
+    /**
+     * Query parameter for seconds to wait for a document to finish.
+     */
+    private static final String WAIT = "wait";
+
+    /**
+     * Query parameter for recording the timeline of a document run.
+     */
+    private static final String TRACE = "trace";
+
+    /**
+     * Path parameter for the id of a document run.
+     */
+    private static final String ID = "id";
+
+    /**
+     * Maximum seconds to wait for a document to finish.
+     */
+    private static final int MAX_WAIT = 300;
+
+    /**
+     * Queuing, running and storing results of documents.
+     */
+    private static final DocumentService SERVICE = new DocumentService(
+            DEFAULT_MAX_RUNNING, DEFAULT_MAX_QUEUED,
+            DEFAULT_MAX_RESULTS, TimeTools.minutesAsMilliseconds(DEFAULT_RESULT_TTL));
+
+    /**
+     * Change limits for document runs (intended to be called before the server
+     * is started; already accepted documents are still processed).
+     *
+     * @param iMaxRunning maximum number of documents running at once.
+     * @param iMaxQueued  maximum number of documents waiting to run.
+     * @since 2.0.0
+     */
+    public static void setJobLimits(final int iMaxRunning, final int iMaxQueued) {
+        SERVICE.setJobLimits(iMaxRunning, iMaxQueued);
+    }
+
+    /**
+     * Change limits for stored document results (intended to be called before
+     * the server is started; already stored results are dropped).
+     *
+     * @param iMaxResults    maximum number of stored results.
+     * @param lTimeToLive    time to live of a result (milliseconds).
+     * @param bKeepAfterRead when true then results are kept after they have been read.
+     * @since 2.0.0
+     */
+    public static void setResultLimits(final int iMaxResults, final long lTimeToLive,
+                                       final boolean bKeepAfterRead) {
+        SERVICE.setResultLimits(iMaxResults, lTimeToLive, bKeepAfterRead);
+    }
+
+    /**
+     * Persisting jobs and results in a journal (intended to be called before
+     * the server is started, after the limits have been changed).
+     *
+     * @param path     path and filename of the journal.
+     * @param bRequeue when true then jobs interrupted by a restart are run again.
+     * @throws HyperionException when reading or opening the journal has failed.
+     * @since 2.0.0
      */
-    private static final Map<String, DocumentResult> RESULT_MAP = new ConcurrentHashMap<>();
+    public static void setJournal(final Path path, final boolean bRequeue)
+            throws HyperionException {
+        SERVICE.setJournal(path, bRequeue);
+    }
 
     /**
      * Triggering "generation of document and running it".
@@ -76,52 +182,117 @@ public class DocumentsController {
             method = HttpMethod.POST,
             tags = {"Document"},
             queryParams = {
-                    @OpenApiParam(name = "tag", type = String.class, isRepeatable = true,
+                    @OpenApiParam(name = TAG, type = String.class, isRepeatable = true,
                             allowEmptyValue = false),
-                    @OpenApiParam(name = "timeout", type = Integer.class, isRepeatable = false)
+                    @OpenApiParam(name = TIMEOUT, type = Integer.class, isRepeatable = false),
+                    @OpenApiParam(name = TRACE, type = Boolean.class, isRepeatable = false,
+                            description = "Record timeline of the run (see /documents/:id/trace)")
             },
             requestBody = @OpenApiRequestBody(
                     description = "The id for the document processing for querying the result",
                     content = {@OpenApiContent(from = String.class)}),
             responses = {
-                    @OpenApiResponse(status = HttpStatus.Constants.OK)
+                    @OpenApiResponse(status = HttpStatus.Constants.OK),
+                    @OpenApiResponse(status = HttpStatus.Constants.SERVICE_UNAVAILABLE)
             }
     )
     public static void run(final Context context) {
         final var content = context.body().getBytes(StandardCharsets.UTF_8);
-        final var strUniqueId = UUID.randomUUID().toString();
+        final var strTimeout = context.queryParam(
+                TIMEOUT, String.valueOf(DEFAULT_TASKGROUP_TIMEOUT));
+        reply(context, SERVICE.submit(content, context.queryParams(TAG),
+                Integer.parseInt(strTimeout), isTrace(context)));
+    }
 
-        new Thread(() -> {
-            final var tags = context.queryParams("tag");
-            final var strTimeout = context.queryParam(
-                    "timeout", String.valueOf(DEFAULT_TASKGROUP_TIMEOUT));
+    /**
+     * Running a document in background; the result can be queried with the id
+     * provided as response. When too many documents are waiting to run the
+     * response is 503 with header "Retry-After" (seconds).
+     *
+     * @param context  request/response context providing the query parameters
+     *                 "tag", "timeout" and "trace".
+     * @param supplier provides the document to run (null when reading has failed).
+     */
+    static void submit(final Context context, final Supplier<Document> supplier) {
+        final var strTimeout = context.queryParam(
+                TIMEOUT, String.valueOf(DEFAULT_TASKGROUP_TIMEOUT));
+        reply(context, SERVICE.submit(supplier, context.queryParams(TAG),
+                Integer.parseInt(strTimeout), isTrace(context)));
+    }
 
-            final var document = new DocumentReader().read(content);
-            if (document == null) {
-                RESULT_MAP.put(strUniqueId, DocumentResult.of());
-                LOGGER.info("Reading Document has failed!");
-            } else {
-                LOGGER.info("Document object created from request body");
-                LOGGER.info("Tags: {}, task group timeout: {}", tags, strTimeout);
-
-                final var result = document.run(
-                        DocumentParameters.of(tags, Integer.parseInt(strTimeout)));
-                if (result.isSuccess()) {
-                    LOGGER.info("Document request succeeded!");
-                } else {
-                    LOGGER.info("Document request failed!");
-                }
-                RESULT_MAP.put(strUniqueId, result);
+    /**
+     * Provide the timeline of a finished document run in Chrome trace format
+     * (the document has to be posted with query parameter "trace=true").
+     *
+     * @param context request/response context.
+     */
+    @OpenApi(
+            summary = "Get timeline of a processed document (Chrome trace)",
+            operationId = "getDocumentTrace",
+            path = "/documents/:id/trace",
+            pathParams = {@OpenApiParam(name = ID, type = String.class,
+                    description = "The id for the document that has been processed")},
+            method = HttpMethod.GET,
+            tags = {"Document"},
+            responses = {
+                    @OpenApiResponse(status = HttpStatus.Constants.OK),
+                    @OpenApiResponse(status = HttpStatus.Constants.NOT_FOUND)
             }
+    )
+    public static void trace(final Context context) {
+        final var strTrace = SERVICE.getTrace(context.pathParam(ID, String.class).get());
+        if (strTrace == null) {
+            context.status(HttpStatus.NOT_FOUND.getStatus());
+        } else {
+            context.contentType("application/json");
+            context.result(strTrace);
+            context.status(HttpStatus.OK.getStatus());
+        }
+    }
+
+    /**
+     * Get whether to record the timeline of a document run.
+     *
+     * @param context request/response context providing the query parameter "trace".
+     * @return true when query parameter "trace" is "true".
+     */
+    private static boolean isTrace(final Context context) {
+        return Boolean.parseBoolean(context.queryParam(TRACE, "false"));
+    }
 
-        }).start();
+    /**
+     * Provide service for running documents (shared with the other controllers).
+     *
+     * @return service for running documents.
+     */
+    static DocumentService getService() {
+        return SERVICE;
+    }
 
-        context.status(HttpStatus.OK.getStatus());
-        context.result(strUniqueId);
+    /**
+     * Response for a submitted document.
+     *
+     * @param context request/response context.
+     * @param strId   unique id of the job or null when the document has been rejected.
+     */
+    private static void reply(final Context context, final String strId) {
+        Metrics.jobSubmitted(strId != null);
+        if (strId == null) {
+            final var jobs = SERVICE.getJobs();
+            LOGGER.warn("Document request rejected, {} documents are waiting to run",
+                    jobs.getQueued());
+            context.header("Retry-After", String.valueOf(jobs.getRetryAfterSeconds()));
+            context.status(HttpStatus.SERVICE_UNAVAILABLE.getStatus());
+        } else {
+            context.status(HttpStatus.OK.getStatus());
+            context.result(strId);
+        }
     }
 
     /**
-     * Get status for a document that has been posted to be processed.
+     * Get status for a document that has been posted to be processed. With query
+     * parameter "wait" (seconds) the response is delayed until the document has
+     * finished or the wait time is over (long-poll).
      *
      * @param context request/response context.
      */
@@ -129,8 +300,12 @@ public class DocumentsController {
             summary = "Get result for processed document",
             operationId = "getDocumentStatus",
             path = "/documents/:id",
-            pathParams = {@OpenApiParam(name = "id", type = String.class,
+            pathParams = {@OpenApiParam(name = ID, type = String.class,
                     description = "The id for the document that has been processed")},
+            queryParams = {
+                    @OpenApiParam(name = WAIT, type = Integer.class, isRepeatable = false,
+                            description = "Seconds to wait for the document to finish")
+            },
             method = HttpMethod.GET,
             tags = {"Document"},
             requestBody = @OpenApiRequestBody(
@@ -138,18 +313,152 @@ public class DocumentsController {
                     content = {@OpenApiContent(from = DocumentResult.class)}),
             responses = {
                     @OpenApiResponse(status = HttpStatus.Constants.OK),
+                    @OpenApiResponse(status = HttpStatus.Constants.ACCEPTED),
                     @OpenApiResponse(status = HttpStatus.Constants.NOT_FOUND)
             }
     )
     public static void status(final Context context) {
-        final var strId = context.pathParam("id", String.class).get();
-        final var result = RESULT_MAP.get(strId);
-        if (result == null) {
+        final var strId = context.pathParam(ID, String.class).get();
+        final int iWait = Math.min(MAX_WAIT, Integer.parseInt(context.queryParam(WAIT, "0")));
+        final var completion = SERVICE.getCompletion(strId);
+
+        if (iWait > 0 && completion != null) {
+            // no thread is blocked while waiting; the response is sent when
+            // the document has finished or when the wait time is over.
+            context.result(completion.getFinished()
+                    .thenApply(result -> Boolean.TRUE)
+                    .completeOnTimeout(Boolean.FALSE, iWait, TimeUnit.SECONDS)
+                    .thenApplyAsync(bFinished -> {
+                        statusNow(context, strId);
+                        return Objects.requireNonNullElse(context.resultString(), "");
+                    }));
+        } else {
+            statusNow(context, strId);
+        }
+    }
+
+    /**
+     * Cancelling a document that has been posted to be processed. A pending document
+     * is not run anymore; for a running document the remaining task groups and tasks
+     * are not started and the processes of running tasks are killed. The result
+     * (available as usual) is marked as cancelled.
+     *
+     * @param context request/response context.
+     */
+    @OpenApi(
+            summary = "Cancel processing of a document",
+            operationId = "cancelDocument",
+            path = "/documents/:id",
+            pathParams = {@OpenApiParam(name = ID, type = String.class,
+                    description = "The id for the document that has been posted")},
+            method = HttpMethod.DELETE,
+            tags = {"Document"},
+            responses = {
+                    @OpenApiResponse(status = HttpStatus.Constants.ACCEPTED),
+                    @OpenApiResponse(status = HttpStatus.Constants.NOT_FOUND)
+            }
+    )
+    public static void cancel(final Context context) {
+        final var strId = context.pathParam(ID, String.class).get();
+        if (SERVICE.cancel(strId)) {
+            LOGGER.info("Document request {} cancelled", strId);
+            context.status(HttpStatus.ACCEPTED.getStatus());
+        } else {
             context.status(HttpStatus.NOT_FOUND.getStatus());
+        }
+    }
+
+    /**
+     * Current status for a document that has been posted to be processed.
+     *
+     * @param context request/response context.
+     * @param strId   the id for the document run.
+     */
+    private static void statusNow(final Context context, final String strId) {
+        final var result = SERVICE.getResults().get(strId);
+        if (result == null) {
+            statusOfJob(context, strId);
         } else {
-            RESULT_MAP.remove(strId);
             context.json(result);
             context.status(HttpStatus.OK.getStatus());
         }
     }
+
+    /**
+     * Status of a document that has not finished yet.
+     *
+     * @param context request/response context.
+     * @param strId   the id for the document run.
+     */
+    private static void statusOfJob(final Context context, final String strId) {
+        final var currentJobs = SERVICE.getJobs();
+        final int iPosition = currentJobs.getPosition(strId);
+
+        if (iPosition > 0) {
+            context.json(Map.of(STATE, "queued", "position", iPosition));
+            context.status(HttpStatus.ACCEPTED.getStatus());
+        } else if (currentJobs.isRunning(strId)) {
+            context.json(Map.of(STATE, "running"));
+            context.status(HttpStatus.ACCEPTED.getStatus());
+        } else {
+            // the job might have finished after the first lookup of the result
+            final var result = SERVICE.getResults().get(strId);
+            if (result == null) {
+                context.status(HttpStatus.NOT_FOUND.getStatus());
+            } else {
+                context.json(result);
+                context.status(HttpStatus.OK.getStatus());
+            }
+        }
+    }
+
+    /**
+     * Get statistic of the cache for parsed documents.
+     *
+     * @param context request/response context.
+     */
+    @OpenApi(
+            summary = "Get statistic of the cache for parsed documents",
+            operationId = "getDocumentCacheStatistic",
+            path = "/documents/cache",
+            method = HttpMethod.GET,
+            tags = {"Document"},
+            responses = {
+                    @OpenApiResponse(status = HttpStatus.Constants.OK)
+            }
+    )
+    public static void cache(final Context context) {
+        final var cache = SERVICE.getCache();
+        context.json(Map.of(
+                "hits", cache.getHits(),
+                "misses", cache.getMisses(),
+                SIZE, cache.getSize(),
+                "capacity", cache.getCapacity()));
+        context.status(HttpStatus.OK.getStatus());
+    }
+
+    /**
+     * Get statistic of the store for document results.
+     *
+     * @param context request/response context.
+     */
+    @OpenApi(
+            summary = "Get statistic of the store for document results",
+            operationId = "getDocumentResultsStatistic",
+            path = "/documents/results",
+            method = HttpMethod.GET,
+            tags = {"Document"},
+            responses = {
+                    @OpenApiResponse(status = HttpStatus.Constants.OK)
+            }
+    )
+    public static void results(final Context context) {
+        final var currentResults = SERVICE.getResults();
+        context.json(Map.of(
+                SIZE, currentResults.getSize(),
+                "maxEntries", currentResults.getMaxEntries(),
+                "evicted", currentResults.getEvicted(),
+                "expired", currentResults.getExpired()));
+        context.status(HttpStatus.OK.getStatus());
+    }
 }
@@ -0,0 +1,86 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.server.controller;
+
+import io.javalin.http.Context;
+import io.javalin.plugin.openapi.annotations.HttpMethod;
+import io.javalin.plugin.openapi.annotations.OpenApi;
+import io.javalin.plugin.openapi.annotations.OpenApiResponse;
+import magic.system.hyperion.server.HttpStatus;
+import magic.system.hyperion.tools.JvmMetrics;
+import magic.system.hyperion.tools.Metrics;
+import magic.system.hyperion.tools.MetricsWriter;
+
+/**
+ * Controller providing metrics in the Prometheus text exposition format.
+ *
+ * @author Thomas Lehmann
+ */
+public final class MetricsController {
+    /**
+     * Instantiation not wanted.
+     */
+    private MetricsController() {
+        // nothing to do
+    }
+
+    /**
+     * Get metrics of server, runner and Java virtual machine.
+     *
+     * @param context request/response context.
+     */
+    @OpenApi(
+            summary = "Get metrics (Prometheus text exposition format)",
+            operationId = "getMetrics",
+            path = "/metrics",
+            method = HttpMethod.GET,
+            tags = {"Metrics"},
+            responses = {
+                    @OpenApiResponse(status = HttpStatus.Constants.OK)
+            }
+    )
+    public static void metrics(final Context context) {
+        final var service = DocumentsController.getService();
+        final var jobs = service.getJobs();
+        final var cache = service.getCache();
+        final var writer = new MetricsWriter();
+
+        Metrics.write(writer);
+        writer.gauge("hyperion_jobs_running", "Documents running.", jobs.getRunning())
+            .gauge("hyperion_jobs_queued", "Documents waiting to run.", jobs.getQueued())
+            .gauge("hyperion_jobs_max_running", "Maximum of documents running.",
+                jobs.getMaxRunning())
+            .gauge("hyperion_results_stored", "Document results stored.",
+                service.getResults().getSize())
+            .counter("hyperion_document_cache_hits_total",
+                "Parsed documents found in the cache.", cache.getHits())
+            .counter("hyperion_document_cache_misses_total",
+                "Documents parsed.", cache.getMisses());
+        JvmMetrics.write(writer);
+
+        context.contentType(MetricsWriter.CONTENT_TYPE);
+        context.result(writer.toString());
+        context.status(HttpStatus.OK.getStatus());
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.server.controller;
+
+import io.javalin.http.sse.SseClient;
+import io.javalin.plugin.json.JavalinJson;
+import magic.system.hyperion.components.OutputLine;
+import magic.system.hyperion.server.OutputBuffer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Sending lines of an output buffer to one client. The buffer only signals new
+ * lines; sending is done on a separate thread so that a slow client never blocks
+ * the threads capturing the output of processes.
+ *
+ * @author Thomas Lehmann
+ */
+final class OutputStreamer {
+    /**
+     * Threads sending output lines (shared by all clients).
+     */
+    private static final ExecutorService SENDERS = Executors.newCachedThreadPool(runnable -> {
+        final var thread = new Thread(runnable, "document-output-sender");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Maximum number of lines read from the buffer at once.
+     */
+    private static final int BATCH_SIZE = 100;
+
+    /**
+     * Name of the event for one output line (also key of the line in the data).
+     */
+    private static final String LINE = "line";
+
+    /**
+     * Connected client.
+     */
+    private final SseClient client;
+
+    /**
+     * Output of the document run.
+     */
+    private final OutputBuffer output;
+
+    /**
+     * Listener registered at the output buffer.
+     */
+    private final Runnable listener;
+
+    /**
+     * True when sending has been scheduled but not started yet.
+     */
+    private final AtomicBoolean scheduled;
+
+    /**
+     * True when the stream has ended or the client has disconnected.
+     */
+    private final AtomicBoolean finished;
+
+    /**
+     * Offset of next line to send.
+     */
+    private long lOffset;
+
+    /**
+     * Initialize streamer.
+     *
+     * @param initClient connected client.
+     * @param initOutput output of the document run.
+     * @param lInitOffset offset of first line to send.
+     */
+    OutputStreamer(final SseClient initClient, final OutputBuffer initOutput,
+                   final long lInitOffset) {
+        this.client = initClient;
+        this.output = initOutput;
+        this.listener = this::schedule;
+        this.scheduled = new AtomicBoolean(false);
+        this.finished = new AtomicBoolean(false);
+        this.lOffset = lInitOffset;
+    }
+
+    /**
+     * Start sending lines (already available and following ones).
+     */
+    void start() {
+        this.client.onClose(() -> {
+            this.finished.set(true);
+            this.output.removeListener(this.listener);
+        });
+        this.output.addListener(this.listener);
+        schedule();
+    }
+
+    /**
+     * Scheduling sending of lines (unless scheduled already).
+     */
+    private void schedule() {
+        if (!this.finished.get() && this.scheduled.compareAndSet(false, true)) {
+            SENDERS.execute(this::send);
+        }
+    }
+
+    /**
+     * Sending all lines available; ending the stream when the run has finished.
+     */
+    private synchronized void send() {
+        this.scheduled.set(false);
+        boolean bSending = !this.finished.get();
+        while (bSending) {
+            // checked before reading: no more lines are added after closing
+            final var bClosed = this.output.isClosed();
+            final var lFirstOffset = this.output.getFirstOffset();
+            if (this.lOffset < lFirstOffset) {
+                // lines have been overwritten
+                this.lOffset = lFirstOffset;
+            }
+
+            final var lines = this.output.read(this.lOffset, BATCH_SIZE);
+            for (final var line: lines) {
+                this.client.sendEvent(LINE, toJson(this.lOffset, line),
+                        String.valueOf(this.lOffset));
+                ++this.lOffset;
+            }
+
+            if (lines.isEmpty()) {
+                bSending = false;
+                if (bClosed) {
+                    end();
+                }
+            }
+        }
+    }
+
+    /**
+     * Sending end event and closing the stream.
+     */
+    private void end() {
+        if (this.finished.compareAndSet(false, true)) {
+            this.output.removeListener(this.listener);
+            this.client.sendEvent("end", "{}");
+            this.client.ctx.req.getAsyncContext().complete();
+        }
+    }
+
+    /**
+     * Converting output line to JSON.
+     *
+     * @param lLineOffset offset of the line.
+     * @param line        output line.
+     * @return JSON with offset, task group, task, with index, stream and line.
+     */
+    private static String toJson(final long lLineOffset, final OutputLine line) {
+        final Map<String, Object> data = new LinkedHashMap<>();
+        data.put("offset", lLineOffset);
+        data.put("taskGroup", line.getTaskGroup());
+        data.put("task", line.getTask());
+        data.put("withIndex", line.getWithIndex());
+        data.put("stream", line.isError() ? "stderr" : "stdout");
+        data.put(LINE, line.getLine());
+        return JavalinJson.toJson(data);
+    }
+}
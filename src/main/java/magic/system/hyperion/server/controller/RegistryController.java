@@ -0,0 +1,214 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.server.controller;
+
+import io.javalin.http.Context;
+import io.javalin.plugin.openapi.annotations.HttpMethod;
+import io.javalin.plugin.openapi.annotations.OpenApi;
+import io.javalin.plugin.openapi.annotations.OpenApiContent;
+import io.javalin.plugin.openapi.annotations.OpenApiParam;
+import io.javalin.plugin.openapi.annotations.OpenApiRequestBody;
+import io.javalin.plugin.openapi.annotations.OpenApiResponse;
+import magic.system.hyperion.exceptions.HyperionException;
+import magic.system.hyperion.reader.DocumentReader;
+import magic.system.hyperion.server.DocumentRegistry;
+import magic.system.hyperion.server.HttpStatus;
+import magic.system.hyperion.server.RegisteredDocument;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * Controller for registering documents and for running registered documents.
+ *
+ * @author Thomas Lehmann
+ */
+public final class RegistryController {
+    /**
+     * Path parameter for the name of a registered document.
+     */
+    private static final String NAME = "name";
+
+    /**
+     * Registered documents.
+     */
+    private static final DocumentRegistry REGISTRY = new DocumentRegistry();
+
+    /**
+     * Instantiation not wanted.
+     */
+    private RegistryController() {
+        // nothing to do
+    }
+
+    /**
+     * Change path where to persist registered documents (see {@link DocumentRegistry}).
+     *
+     * @param path path where to persist registered documents.
+     * @throws HyperionException when the path cannot be created or read.
+     * @since 2.0.0
+     */
+    public static void setPersistencePath(final Path path) throws HyperionException {
+        REGISTRY.setPath(path);
+    }
+
+    /**
+     * Registering a document under a name.
+     *
+     * @param context request/response context.
+     */
+    @OpenApi(
+            summary = "Register document under a name",
+            operationId = "registerDocument",
+            path = "/registry/:name",
+            pathParams = {@OpenApiParam(name = NAME, type = String.class,
+                    description = "The name for the document")},
+            method = HttpMethod.PUT,
+            tags = {"Registry"},
+            requestBody = @OpenApiRequestBody(
+                    description = "The document (YAML)",
+                    content = {@OpenApiContent(from = String.class)}),
+            responses = {
+                    @OpenApiResponse(status = HttpStatus.Constants.OK,
+                            content = {@OpenApiContent(from = RegisteredDocument.class)}),
+                    @OpenApiResponse(status = HttpStatus.Constants.BAD_REQUEST)
+            }
+    )
+    public static void register(final Context context) {
+        final var strName = context.pathParam(NAME);
+        try {
+            context.json(REGISTRY.register(
+                    strName, context.body().getBytes(StandardCharsets.UTF_8)));
+            context.status(HttpStatus.OK.getStatus());
+        } catch (HyperionException e) {
+            context.result(e.getMessage());
+            context.status(HttpStatus.BAD_REQUEST.getStatus());
+        }
+    }
+
+    /**
+     * Get name, version and hash of a registered document.
+     *
+     * @param context request/response context.
+     */
+    @OpenApi(
+            summary = "Get information about a registered document",
+            operationId = "getRegisteredDocument",
+            path = "/registry/:name",
+            pathParams = {@OpenApiParam(name = NAME, type = String.class,
+                    description = "The name of the registered document")},
+            method = HttpMethod.GET,
+            tags = {"Registry"},
+            responses = {
+                    @OpenApiResponse(status = HttpStatus.Constants.OK,
+                            content = {@OpenApiContent(from = RegisteredDocument.class)}),
+                    @OpenApiResponse(status = HttpStatus.Constants.NOT_FOUND)
+            }
+    )
+    public static void get(final Context context) {
+        final var registered = REGISTRY.get(context.pathParam(NAME));
+        if (registered == null) {
+            context.status(HttpStatus.NOT_FOUND.getStatus());
+        } else {
+            context.json(registered);
+            context.status(HttpStatus.OK.getStatus());
+        }
+    }
+
+    /**
+     * Removing a registered document.
+     *
+     * @param context request/response context.
+     */
+    @OpenApi(
+            summary = "Remove a registered document",
+            operationId = "unregisterDocument",
+            path = "/registry/:name",
+            pathParams = {@OpenApiParam(name = NAME, type = String.class,
+                    description = "The name of the registered document")},
+            method = HttpMethod.DELETE,
+            tags = {"Registry"},
+            responses = {
+                    @OpenApiResponse(status = HttpStatus.Constants.OK),
+                    @OpenApiResponse(status = HttpStatus.Constants.NOT_FOUND)
+            }
+    )
+    public static void unregister(final Context context) {
+        if (REGISTRY.unregister(context.pathParam(NAME))) {
+            context.status(HttpStatus.OK.getStatus());
+        } else {
+            context.status(HttpStatus.NOT_FOUND.getStatus());
+        }
+    }
+
+    /**
+     * Running a registered document. An optional body (YAML) can
+     * override model and/or matrix of the registered document.
+     *
+     * @param context request/response context.
+     */
+    @OpenApi(
+            summary = "Run a registered document",
+            operationId = "runRegisteredDocument",
+            path = "/registry/:name/run",
+            pathParams = {@OpenApiParam(name = NAME, type = String.class,
+                    description = "The name of the registered document")},
+            queryParams = {
+                    @OpenApiParam(name = "tag", type = String.class, isRepeatable = true,
+                            allowEmptyValue = false),
+                    @OpenApiParam(name = "timeout", type = Integer.class, isRepeatable = false),
+                    @OpenApiParam(name = "trace", type = Boolean.class, isRepeatable = false)
+            },
+            method = HttpMethod.POST,
+            tags = {"Registry"},
+            requestBody = @OpenApiRequestBody(
+                    description = "Optional model and/or matrix (YAML)",
+                    content = {@OpenApiContent(from = String.class)}),
+            responses = {
+                    @OpenApiResponse(status = HttpStatus.Constants.OK),
+                    @OpenApiResponse(status = HttpStatus.Constants.BAD_REQUEST),
+                    @OpenApiResponse(status = HttpStatus.Constants.NOT_FOUND),
+                    @OpenApiResponse(status = HttpStatus.Constants.SERVICE_UNAVAILABLE)
+            }
+    )
+    public static void run(final Context context) {
+        final var registered = REGISTRY.get(context.pathParam(NAME));
+        if (registered == null) {
+            context.status(HttpStatus.NOT_FOUND.getStatus());
+        } else {
+            final var strBody = context.body();
+            final var document = strBody.isBlank()
+                    ? registered.getDocument()
+                    : new DocumentReader().readOverrides(registered.getDocument(),
+                            strBody.getBytes(StandardCharsets.UTF_8));
+
+            if (document == null) {
+                context.result("Invalid model or matrix!");
+                context.status(HttpStatus.BAD_REQUEST.getStatus());
+            } else {
+                DocumentsController.submit(context, () -> document);
+            }
+        }
+    }
+}
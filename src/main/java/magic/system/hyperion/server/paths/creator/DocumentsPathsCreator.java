@@ -23,15 +23,14 @@
  */
 package magic.system.hyperion.server.paths.creator;
 
+import io.javalin.apibuilder.ApiBuilder;
 import io.javalin.apibuilder.EndpointGroup;
 import magic.system.hyperion.annotations.Named;
 import magic.system.hyperion.server.PathSegment;
+import magic.system.hyperion.server.controller.DocumentEventsController;
+import magic.system.hyperion.server.controller.DocumentOutputController;
 import magic.system.hyperion.server.controller.DocumentsController;
 
-import static io.javalin.apibuilder.ApiBuilder.path;
-import static io.javalin.apibuilder.ApiBuilder.post;
-import static io.javalin.apibuilder.ApiBuilder.get;
-
 /**
  * Creating REST paths for documents requests.
  *
@@ -42,9 +41,26 @@ public class DocumentsPathsCreator implements IPathsCreator {
     @Override
     public EndpointGroup create() {
         return () -> {
-            post(DocumentsController::run);
-            path(":id", () -> {
-                get(DocumentsController::status);
+            ApiBuilder.post(DocumentsController::run);
+            // registered before ":id" to get precedence
+            ApiBuilder.path("cache", () -> {
+                ApiBuilder.get(DocumentsController::cache);
+            });
+            ApiBuilder.path("results", () -> {
+                ApiBuilder.get(DocumentsController::results);
+            });
+            ApiBuilder.path(":id", () -> {
+                ApiBuilder.get(DocumentsController::status);
+                ApiBuilder.delete(DocumentsController::cancel);
+                ApiBuilder.path("events", () -> {
+                    ApiBuilder.sse(DocumentEventsController::events);
+                });
+                ApiBuilder.path("output", () -> {
+                    ApiBuilder.sse(DocumentOutputController::output);
+                });
+                ApiBuilder.path("trace", () -> {
+                    ApiBuilder.get(DocumentsController::trace);
+                });
             });
         };
     }
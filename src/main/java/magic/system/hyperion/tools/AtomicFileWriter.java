@@ -0,0 +1,149 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.tools;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.UUID;
+
+/**
+ * Writing a file via a temporary file in the same folder as the destination.
+ * On {@link #commit()} the temporary file is moved into place (atomically when
+ * supported by the file system) unless the destination has same content already.
+ * On {@link #close()} the temporary file is removed when still existing.
+ * A new file gets the default permissions (umask), an overwritten file keeps
+ * its permissions.
+ *
+ * @author Thomas Lehmann
+ */
+public final class AtomicFileWriter implements Closeable {
+    /**
+     * Path and filename of destination.
+     */
+    private final Path destinationPath;
+
+    /**
+     * Path and filename of temporary file.
+     */
+    private final Path temporaryPath;
+
+    /**
+     * Digest calculated while writing.
+     */
+    private final MessageDigest digest;
+
+    /**
+     * Buffered writer for the temporary file.
+     */
+    private final Writer writer;
+
+    /**
+     * Initialize writer creating the temporary file.
+     *
+     * @param initDestinationPath path and filename of destination (parent must exist).
+     * @throws IOException when creating the temporary file has failed.
+     * @since 2.0.0
+     */
+    public AtomicFileWriter(final Path initDestinationPath) throws IOException {
+        this.destinationPath = initDestinationPath.toAbsolutePath();
+        // not using Files.createTempFile: it would restrict the permissions to the owner
+        this.temporaryPath = Files.createFile(this.destinationPath.resolveSibling(
+                String.format(".%s.%s.tmp", this.destinationPath.getFileName(),
+                        UUID.randomUUID())));
+        this.digest = FileUtils.createMessageDigest();
+        this.writer = new BufferedWriter(new OutputStreamWriter(
+                new DigestOutputStream(Files.newOutputStream(this.temporaryPath), this.digest),
+                StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Get writer for the content.
+     *
+     * @return writer (UTF-8).
+     * @since 2.0.0
+     */
+    public Writer getWriter() {
+        return this.writer;
+    }
+
+    /**
+     * Moving temporary file to destination when content has changed.
+     *
+     * @return true when destination has been written, false when unchanged.
+     * @throws IOException when moving file or reading destination has failed.
+     * @since 2.0.0
+     */
+    public boolean commit() throws IOException {
+        this.writer.close();
+
+        final boolean bUnchanged = Files.isRegularFile(this.destinationPath)
+                && Files.size(this.destinationPath) == Files.size(this.temporaryPath)
+                && FileUtils.toHex(this.digest.digest()).equals(
+                        FileUtils.getChecksum(this.destinationPath));
+
+        if (!bUnchanged) {
+            copyPermissions();
+            try {
+                Files.move(this.temporaryPath, this.destinationPath,
+                        StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(this.temporaryPath, this.destinationPath,
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        return !bUnchanged;
+    }
+
+    /**
+     * Copying the POSIX permissions of an existing destination to the temporary file
+     * (like the executable bit of a script).
+     *
+     * @throws IOException when reading or changing the permissions has failed.
+     */
+    private void copyPermissions() throws IOException {
+        if (Files.isRegularFile(this.destinationPath) && Files.getFileStore(
+                this.destinationPath).supportsFileAttributeView(PosixFileAttributeView.class)) {
+            Files.setPosixFilePermissions(this.temporaryPath,
+                    Files.getPosixFilePermissions(this.destinationPath));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.writer.close();
+        Files.deleteIfExists(this.temporaryPath);
+    }
+}
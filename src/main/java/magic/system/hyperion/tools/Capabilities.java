@@ -26,7 +26,6 @@ package magic.system.hyperion.tools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.ArrayList;
@@ -45,22 +44,6 @@ public class Capabilities {
      */
     private static final Logger LOGGER = LoggerFactory.getLogger(Capabilities.class);
 
-    /**
-     * Command for printing Docker version.
-     */
-    private static final String DOCKER_VERSION_COMMAND = "docker -v";
-
-    /**
-     * Command for printing Python version.
-     */
-    private static final String PYTHON_VERSION_COMMAND = "python -V";
-
-    /**
-     * Command for printing Powershell version.
-     */
-    private static final String POWERSHELL_VERSION_COMMAND
-            = "powershell -Command \"($PSVersionTable.PSVersion).toString()\"";
-
     /**
      * Evaluating whether underlying system is Windows.
      *
@@ -78,16 +61,7 @@ public class Capabilities {
      * @since 1.0.0
      */
     public static boolean hasDocker() {
-        boolean bSuccess;
-        try {
-            final var process = new ProcessBuilder(
-                    createCommand(DOCKER_VERSION_COMMAND)).start();
-            process.waitFor();
-            bSuccess = ProcessResults.of(process, false).getExitCode() == 0;
-        } catch (IOException | InterruptedException e) {
-            bSuccess = false;
-        }
-        return bSuccess;
+        return CapabilitiesCache.isAvailable(CapabilitiesCache.DOCKER);
     }
 
     /**
@@ -97,16 +71,7 @@ public class Capabilities {
      * @since 2.0.0
      */
     public static boolean hasPython() {
-        boolean bSuccess;
-        try {
-            final var process = new ProcessBuilder(
-                    createCommand(PYTHON_VERSION_COMMAND)).start();
-            process.waitFor();
-            bSuccess = ProcessResults.of(process, false).getExitCode() == 0;
-        } catch (IOException | InterruptedException e) {
-            bSuccess = false;
-        }
-        return bSuccess;
+        return CapabilitiesCache.isAvailable(CapabilitiesCache.PYTHON);
     }
 
     /**
@@ -116,16 +81,7 @@ public class Capabilities {
      * @since 1.0.0
      */
     public static boolean hasPowershell() {
-        boolean bSuccess;
-        try {
-            final var process = new ProcessBuilder(
-                    createCommand(POWERSHELL_VERSION_COMMAND)).start();
-            process.waitFor();
-            bSuccess = ProcessResults.of(process, false).getExitCode() == 0;
-        } catch (IOException | InterruptedException e) {
-            bSuccess = false;
-        }
-        return bSuccess;
+        return CapabilitiesCache.isAvailable(CapabilitiesCache.POWERSHELL);
     }
 
     /**
@@ -135,19 +91,8 @@ public class Capabilities {
      * @since 1.0.0
      */
     public static String getDockerVersion() {
-        String strResult = "";
-        try {
-            final var process = new ProcessBuilder(
-                    createCommand(DOCKER_VERSION_COMMAND)).start();
-            process.waitFor();
-            final var processResults = ProcessResults.of(process, false);
-            if (!processResults.getStdout().isEmpty() && processResults.getExitCode() == 0) {
-                strResult = processResults.getStdout().get(0).replace("Docker version ", "");
-            }
-        } catch (IOException | InterruptedException e) {
-            strResult = "";
-        }
-        return strResult;
+        return CapabilitiesCache.getVersion(CapabilitiesCache.DOCKER)
+                .replace("Docker version ", "");
     }
 
     /**
@@ -157,19 +102,7 @@ public class Capabilities {
      * @since 1.0.0
      */
     public static String getPowershellVersion() {
-        String strResult = "";
-        try {
-            final var process = new ProcessBuilder(
-                    createCommand(POWERSHELL_VERSION_COMMAND)).start();
-            process.waitFor();
-            final var processResults = ProcessResults.of(process, false);
-            if (!processResults.getStdout().isEmpty() && processResults.getExitCode() == 0) {
-                strResult = processResults.getStdout().get(0);
-            }
-        } catch (IOException | InterruptedException e) {
-            strResult = "";
-        }
-        return strResult;
+        return CapabilitiesCache.getVersion(CapabilitiesCache.POWERSHELL);
     }
 
     /**
@@ -179,19 +112,7 @@ public class Capabilities {
      * @since 2.0.0
      */
     public static String getPythonVersion() {
-        String strResult = "";
-        try {
-            final var process = new ProcessBuilder(
-                    createCommand(PYTHON_VERSION_COMMAND)).start();
-            process.waitFor();
-            final var processResults = ProcessResults.of(process, false);
-            if (!processResults.getStdout().isEmpty() && processResults.getExitCode() == 0) {
-                strResult = processResults.getStdout().get(0);
-            }
-        } catch (IOException | InterruptedException e) {
-            strResult = "";
-        }
-        return strResult;
+        return CapabilitiesCache.getVersion(CapabilitiesCache.PYTHON);
     }
 
     /**
@@ -0,0 +1,259 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.tools;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Cache for the probed tools (Docker, Python, Powershell). All tools are probed
+ * once per process; the processes are started at the same time so that the
+ * probing takes as long as the slowest tool only. Optionally the results are
+ * persisted to a file which is used by later processes as long as it is not
+ * older than the configured time to live. When the probing is interrupted
+ * nothing is cached or persisted (the tools are probed again on next access).
+ *
+ * @author Thomas Lehmann
+ */
+public final class CapabilitiesCache {
+    /**
+     * Key for Docker.
+     */
+    public static final String DOCKER = "docker";
+
+    /**
+     * Key for Python.
+     */
+    public static final String PYTHON = "python";
+
+    /**
+     * Key for Powershell.
+     */
+    public static final String POWERSHELL = "powershell";
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(CapabilitiesCache.class);
+
+    /**
+     * Key in persisted file for the time when the tools have been probed.
+     */
+    private static final String TIMESTAMP = "timestamp";
+
+    /**
+     * Commands for printing version of a tool (key: name of tool).
+     */
+    private static final Map<String, String> COMMANDS = Map.of(
+            DOCKER, "docker -v",
+            PYTHON, "python -V",
+            POWERSHELL, "powershell -Command \"($PSVersionTable.PSVersion).toString()\"");
+
+    /**
+     * Probed tools; key: name of tool, value: first line of version output.
+     * A tool which is not available has no entry.
+     */
+    private static Map<String, String> versions;
+
+    /**
+     * Path and filename where to persist the probed tools (null: not persisted).
+     */
+    private static Path persistencePath;
+
+    /**
+     * Time to live for persisted results (milliseconds).
+     */
+    private static long lTimeToLive;
+
+    /**
+     * Not intended for instantiation.
+     */
+    private CapabilitiesCache() {
+        // Nothing to do.
+    }
+
+    /**
+     * Enable persisting of probed tools.
+     *
+     * @param path             path and filename where to persist the probed tools.
+     * @param lInitTimeToLive  time to live for persisted results (milliseconds).
+     * @since 2.0.0
+     */
+    public static synchronized void setPersistence(final Path path, final long lInitTimeToLive) {
+        persistencePath = path;
+        lTimeToLive = lInitTimeToLive;
+        versions = null;
+    }
+
+    /**
+     * Forget probed tools (next access probes again).
+     *
+     * @since 2.0.0
+     */
+    public static synchronized void clear() {
+        versions = null;
+    }
+
+    /**
+     * Checking that tool is available.
+     *
+     * @param strName name of tool (see constants).
+     * @return true when the tool is available.
+     * @since 2.0.0
+     */
+    public static synchronized boolean isAvailable(final String strName) {
+        return getVersions().containsKey(strName);
+    }
+
+    /**
+     * Provide version output of tool.
+     *
+     * @param strName name of tool (see constants).
+     * @return first line of version output or empty string when not available.
+     * @since 2.0.0
+     */
+    public static synchronized String getVersion(final String strName) {
+        return getVersions().getOrDefault(strName, "");
+    }
+
+    /**
+     * Provide probed tools (probing when not done yet).
+     *
+     * @return probed tools (empty when the probing has been interrupted).
+     */
+    private static Map<String, String> getVersions() {
+        if (versions == null) {
+            versions = load();
+        }
+
+        var currentVersions = versions;
+        if (currentVersions == null) {
+            currentVersions = probe();
+            if (currentVersions == null) {
+                // interrupted: an incomplete probe is neither cached nor persisted
+                currentVersions = Map.of();
+            } else {
+                versions = currentVersions;
+                store(currentVersions);
+            }
+        }
+
+        return currentVersions;
+    }
+
+    /**
+     * Starting all version processes and then collecting their output.
+     *
+     * @return probed tools or null when interrupted (interrupt flag is restored).
+     */
+    private static Map<String, String> probe() {
+        final var processes = new HashMap<String, Process>();
+        for (final var entry : COMMANDS.entrySet()) {
+            try {
+                processes.put(entry.getKey(), new ProcessBuilder(
+                        Capabilities.createCommand(entry.getValue())).start());
+            } catch (IOException e) {
+                LOGGER.debug(e.getMessage(), e);
+            }
+        }
+
+        Map<String, String> probedVersions = new HashMap<>();
+        boolean bInterrupted = false;
+        try {
+            for (final var entry : processes.entrySet()) {
+                final var processResults = ProcessResults.of(entry.getValue(), false);
+                if (processResults.getExitCode() == 0) {
+                    probedVersions.put(entry.getKey(), processResults.getStdout().isEmpty()
+                            ? "" : processResults.getStdout().get(0));
+                }
+            }
+        } catch (InterruptedException e) {
+            bInterrupted = true;
+        }
+
+        // a process might have finished before the interrupt has been noticed
+        if (bInterrupted || Thread.interrupted()) {
+            LOGGER.warn("Probing tools has been interrupted");
+            processes.values().forEach(Process::destroy);
+            probedVersions = null;
+            // restored after logging (writing to a stream might clear it)
+            Thread.currentThread().interrupt();
+        }
+
+        return probedVersions;
+    }
+
+    /**
+     * Loading persisted tools when persistence is enabled and the file is not expired.
+     *
+     * @return probed tools or null when not available.
+     */
+    private static Map<String, String> load() {
+        Map<String, String> loadedVersions = null;
+
+        if (persistencePath != null && Files.isRegularFile(persistencePath)) {
+            final var properties = new Properties();
+            try (var reader = Files.newBufferedReader(persistencePath)) {
+                properties.load(reader);
+                final long lTimestamp = Long.parseLong(properties.getProperty(TIMESTAMP, "0"));
+                if (System.currentTimeMillis() - lTimestamp <= lTimeToLive) {
+                    properties.remove(TIMESTAMP);
+                    loadedVersions = new HashMap<>();
+                    for (final var strName : properties.stringPropertyNames()) {
+                        loadedVersions.put(strName, properties.getProperty(strName));
+                    }
+                }
+            } catch (IOException | NumberFormatException e) {
+                LOGGER.warn(e.getMessage(), e);
+            }
+        }
+
+        return loadedVersions;
+    }
+
+    /**
+     * Persisting probed tools when persistence is enabled.
+     *
+     * @param probedVersions probed tools.
+     */
+    private static void store(final Map<String, String> probedVersions) {
+        if (persistencePath != null) {
+            final var properties = new Properties();
+            properties.putAll(probedVersions);
+            properties.setProperty(TIMESTAMP, String.valueOf(System.currentTimeMillis()));
+            try (var writer = Files.newBufferedWriter(persistencePath)) {
+                properties.store(writer, "Hyperion capabilities");
+            } catch (IOException e) {
+                LOGGER.warn(e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.tools;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+/**
+ * Limits for capturing the output of a process: the first lines (head) and the
+ * last lines (tail) are kept in memory, the lines between are dropped. Optionally
+ * the complete output is written to a temporary file (spill).
+ *
+ * @author Thomas Lehmann
+ * @since 2.0.0
+ */
+public final class CaptureLimits {
+    /**
+     * Keeping all lines in memory.
+     */
+    public static final CaptureLimits UNLIMITED = new CaptureLimits(Integer.MAX_VALUE, 0, false);
+
+    /**
+     * Number of first lines to keep.
+     */
+    private final int iHeadLines;
+
+    /**
+     * Number of last lines to keep.
+     */
+    private final int iTailLines;
+
+    /**
+     * When true then the complete output is written to a temporary file.
+     */
+    private final boolean bSpill;
+
+    /**
+     * Initialize limits.
+     *
+     * @param iInitHeadLines number of first lines to keep.
+     * @param iInitTailLines number of last lines to keep.
+     * @param bInitSpill     when true then the complete output is written to a temporary file.
+     */
+    private CaptureLimits(final int iInitHeadLines, final int iInitTailLines,
+                          final boolean bInitSpill) {
+        this.iHeadLines = iInitHeadLines;
+        this.iTailLines = iInitTailLines;
+        this.bSpill = bInitSpill;
+    }
+
+    /**
+     * Create limits.
+     *
+     * @param iHeadLines number of first lines to keep (at least 0).
+     * @param iTailLines number of last lines to keep (at least 0).
+     * @param bSpill     when true then the complete output is written to a temporary file.
+     * @return new limits.
+     */
+    public static CaptureLimits of(final int iHeadLines, final int iTailLines,
+                                   final boolean bSpill) {
+        return new CaptureLimits(Math.max(0, iHeadLines), Math.max(0, iTailLines), bSpill);
+    }
+
+    /**
+     * Provide number of first lines to keep.
+     *
+     * @return number of lines.
+     */
+    public int getHeadLines() {
+        return this.iHeadLines;
+    }
+
+    /**
+     * Provide number of last lines to keep.
+     *
+     * @return number of lines.
+     */
+    public int getTailLines() {
+        return this.iTailLines;
+    }
+
+    /**
+     * Provide whether the complete output is written to a temporary file.
+     *
+     * @return true when writing to a temporary file.
+     */
+    public boolean isSpill() {
+        return this.bSpill;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("headLines", this.iHeadLines)
+                .append("tailLines", this.iTailLines)
+                .append("spill", this.bSpill)
+                .build();
+    }
+}
@@ -0,0 +1,337 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.tools;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Captured output of one stream of a process (stdout or stderr). The bytes are
+ * split into lines (ended by "\n", "\r\n" or a lone "\r" like progress output
+ * does); the lines are kept as bytes (within the limits) and decoded when requested
+ * only. Bytes exceeding the maximum line length are dropped (counted only).
+ * Optionally the complete output is written to a temporary file.
+ *
+ * @author Thomas Lehmann
+ * @since 2.0.0
+ */
+public final class CapturedOutput {
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(CapturedOutput.class);
+
+    /**
+     * Default maximum length of a line (in bytes).
+     */
+    private static final int MAX_LINE_BYTES = 64 * 1024;
+
+    /**
+     * Limits for keeping lines.
+     */
+    private final CaptureLimits limits;
+
+    /**
+     * Charset for decoding the lines.
+     */
+    private final Charset charset;
+
+    /**
+     * Called with each decoded line (null when no line has to be decoded while capturing).
+     */
+    private final Consumer<String> listener;
+
+    /**
+     * First lines.
+     */
+    private final List<byte[]> head;
+
+    /**
+     * Last lines (without those in head).
+     */
+    private final Deque<byte[]> tail;
+
+    /**
+     * Current (incomplete) line.
+     */
+    private final ByteArrayOutputStream line;
+
+    /**
+     * Maximum length of a line (in bytes).
+     */
+    private final int iMaxLineBytes;
+
+    /**
+     * When true then the last byte has been a carriage return.
+     */
+    private boolean bCarriageReturn;
+
+    /**
+     * Number of bytes dropped because of exceeding the maximum line length.
+     */
+    private long lDroppedBytes;
+
+    /**
+     * Number of lines.
+     */
+    private long lLines;
+
+    /**
+     * Number of bytes.
+     */
+    private long lBytes;
+
+    /**
+     * Temporary file with the complete output (null when not written).
+     */
+    private Path spillFile;
+
+    /**
+     * Stream writing the temporary file while capturing.
+     */
+    private OutputStream spill;
+
+    /**
+     * Initialize captured output.
+     *
+     * @param initLimits   limits for keeping lines.
+     * @param initCharset  charset for decoding the lines.
+     * @param initListener called with each decoded line (null for none).
+     */
+    CapturedOutput(final CaptureLimits initLimits, final Charset initCharset,
+                   final Consumer<String> initListener) {
+        this(initLimits, initCharset, initListener, MAX_LINE_BYTES);
+    }
+
+    /**
+     * Initialize captured output.
+     *
+     * @param initLimits        limits for keeping lines.
+     * @param initCharset       charset for decoding the lines.
+     * @param initListener      called with each decoded line (null for none).
+     * @param iInitMaxLineBytes maximum length of a line (in bytes).
+     */
+    CapturedOutput(final CaptureLimits initLimits, final Charset initCharset,
+                   final Consumer<String> initListener, final int iInitMaxLineBytes) {
+        this.limits = initLimits;
+        this.charset = initCharset;
+        this.listener = initListener;
+        this.head = new ArrayList<>();
+        this.tail = new ArrayDeque<>();
+        this.line = new ByteArrayOutputStream();
+        this.iMaxLineBytes = iInitMaxLineBytes;
+        this.bCarriageReturn = false;
+        this.lDroppedBytes = 0;
+        this.lLines = 0;
+        this.lBytes = 0;
+        if (initLimits.isSpill()) {
+            try {
+                this.spillFile = FileUtils.createTemporaryFile("hyperion-output-", ".log");
+                this.spill = Files.newOutputStream(this.spillFile);
+            } catch (IOException e) {
+                LOGGER.error(e.getMessage(), e);
+                this.spillFile = null;
+            }
+        }
+    }
+
+    /**
+     * Passing next bytes of the stream.
+     *
+     * @param buffer  bytes read from the stream.
+     * @param iLength number of valid bytes in buffer.
+     */
+    void write(final byte[] buffer, final int iLength) {
+        this.lBytes += iLength;
+        writeSpill(buffer, iLength);
+
+        int iStart = 0;
+        for (int iPos = 0; iPos < iLength; ++iPos) {
+            final byte value = buffer[iPos];
+            if (value == '\n' && this.bCarriageReturn) {
+                // second part of "\r\n": line has been ended already
+                iStart = iPos + 1;
+            } else if (value == '\n' || value == '\r') {
+                append(buffer, iStart, iPos - iStart);
+                endLine();
+                iStart = iPos + 1;
+            }
+            this.bCarriageReturn = value == '\r';
+        }
+        append(buffer, iStart, iLength - iStart);
+    }
+
+    /**
+     * Finishing capture (end of stream).
+     */
+    void finish() {
+        if (this.line.size() > 0) {
+            endLine();
+        }
+        if (this.spill != null) {
+            try {
+                this.spill.close();
+            } catch (IOException e) {
+                LOGGER.error(e.getMessage(), e);
+            }
+            this.spill = null;
+        }
+    }
+
+    /**
+     * Provide kept lines (head and tail, decoded now).
+     *
+     * @return kept lines.
+     */
+    public List<String> getLines() {
+        return Stream.concat(this.head.stream(), this.tail.stream())
+                .map(bytes -> new String(bytes, this.charset))
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Provide all lines: read lazily from the temporary file when the complete
+     * output has been written, otherwise the kept lines.
+     *
+     * @return stream of lines (to be closed).
+     * @throws IOException when reading the temporary file has failed.
+     */
+    public Stream<String> lines() throws IOException {
+        return this.spillFile == null ? getLines().stream()
+                : Files.lines(this.spillFile, this.charset);
+    }
+
+    /**
+     * Provide number of lines written by the process.
+     *
+     * @return number of lines.
+     */
+    public long getLineCount() {
+        return this.lLines;
+    }
+
+    /**
+     * Provide number of lines not kept in memory.
+     *
+     * @return number of dropped lines.
+     */
+    public long getDroppedLines() {
+        return this.lLines - this.head.size() - this.tail.size();
+    }
+
+    /**
+     * Provide number of bytes dropped because of exceeding the maximum line length.
+     *
+     * @return number of dropped bytes.
+     */
+    public long getDroppedBytes() {
+        return this.lDroppedBytes;
+    }
+
+    /**
+     * Provide number of bytes written by the process.
+     *
+     * @return number of bytes.
+     */
+    public long getBytes() {
+        return this.lBytes;
+    }
+
+    /**
+     * Provide temporary file with the complete output.
+     *
+     * @return path of the file when the complete output has been written.
+     */
+    public Optional<Path> getSpillFile() {
+        return Optional.ofNullable(this.spillFile);
+    }
+
+    /**
+     * Writing bytes to the temporary file (if any).
+     *
+     * @param buffer  bytes read from the stream.
+     * @param iLength number of valid bytes in buffer.
+     */
+    private void writeSpill(final byte[] buffer, final int iLength) {
+        if (this.spill != null) {
+            try {
+                this.spill.write(buffer, 0, iLength);
+            } catch (IOException e) {
+                LOGGER.error(e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Appending bytes to the current line up to the maximum line length;
+     * the other bytes are dropped.
+     *
+     * @param buffer  bytes read from the stream.
+     * @param iOffset start of the bytes in buffer.
+     * @param iCount  number of bytes.
+     */
+    private void append(final byte[] buffer, final int iOffset, final int iCount) {
+        final int iKept = Math.min(iCount, this.iMaxLineBytes - this.line.size());
+        this.line.write(buffer, iOffset, iKept);
+        this.lDroppedBytes += iCount - iKept;
+    }
+
+    /**
+     * Completing current line: keeping it (when within limits) and passing it
+     * decoded to the listener.
+     */
+    private void endLine() {
+        final var bytes = this.line.toByteArray();
+        this.line.reset();
+
+        ++this.lLines;
+        if (this.head.size() < this.limits.getHeadLines()) {
+            this.head.add(bytes);
+        } else if (this.limits.getTailLines() > 0) {
+            this.tail.addLast(bytes);
+            if (this.tail.size() > this.limits.getTailLines()) {
+                this.tail.removeFirst();
+            }
+        }
+
+        if (this.listener != null) {
+            this.listener.accept(new String(bytes, this.charset));
+        }
+    }
+}
@@ -0,0 +1,345 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.tools;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Build context of a Docker image: the files of a folder filtered by the
+ * .dockerignore file of that folder. Also able to provide the files referenced by
+ * the COPY and ADD instructions of a Dockerfile only (minimal context) and a
+ * fingerprint over the Dockerfile and the files of the context.
+ *
+ * @author Thomas Lehmann
+ */
+public final class DockerBuildContext {
+    /**
+     * Name of the Dockerfile in a created context.
+     */
+    public static final String DOCKERFILE = "Dockerfile";
+
+    /**
+     * Name of the file with the exclude patterns.
+     */
+    private static final String DOCKER_IGNORE = ".dockerignore";
+
+    /**
+     * Separator for paths in patterns and fingerprint.
+     */
+    private static final String SEPARATOR = "/";
+
+    /**
+     * Separator for paths on Windows.
+     */
+    private static final String WINDOWS_SEPARATOR = "\\";
+
+    /**
+     * Start of a comment line (in .dockerignore and Dockerfile).
+     */
+    private static final String COMMENT = "#";
+
+    /**
+     * Syntax prefix for path matchers.
+     */
+    private static final String GLOB = "glob:";
+
+    /**
+     * Instructions COPY and ADD with their arguments.
+     */
+    private static final Pattern COPY_OR_ADD = Pattern.compile(
+            "^\\s*(COPY|ADD)\\s+(.*)$", Pattern.CASE_INSENSITIVE);
+
+    /**
+     * Root folder of the context.
+     */
+    private final Path contextPath;
+
+    /**
+     * Patterns of .dockerignore (in order, the last matching one decides).
+     */
+    private final List<String> ignorePatterns;
+
+    /**
+     * Initialize context.
+     *
+     * @param initContextPath root folder of the context.
+     * @param initIgnorePatterns patterns of .dockerignore.
+     */
+    private DockerBuildContext(final Path initContextPath, final List<String> initIgnorePatterns) {
+        this.contextPath = initContextPath;
+        this.ignorePatterns = initIgnorePatterns;
+    }
+
+    /**
+     * Provide files (relative paths, sorted) of the context which are not ignored.
+     *
+     * @param strExcludedPrefix files in the root folder starting with this prefix are
+     *                          ignored too (generated Dockerfiles).
+     * @return list of relative paths.
+     * @throws IOException when walking the context folder has failed.
+     * @since 2.0.0
+     */
+    public List<String> getFiles(final String strExcludedPrefix) throws IOException {
+        try (var stream = Files.walk(this.contextPath)) {
+            return stream.filter(Files::isRegularFile)
+                    .map(this::toRelative)
+                    .filter(strPath -> !strPath.startsWith(strExcludedPrefix))
+                    .filter(strPath -> !isIgnored(strPath))
+                    .sorted().collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Provide files of the context referenced by COPY or ADD instructions
+     * (instructions copying from other stages and URLs are ignored).
+     *
+     * @param strDockerfile     content of the Dockerfile.
+     * @param strExcludedPrefix files in the root folder starting with this prefix are
+     *                          ignored (generated Dockerfiles).
+     * @return list of relative paths.
+     * @throws IOException when walking the context folder has failed.
+     * @since 2.0.0
+     */
+    public List<String> getReferencedFiles(final String strDockerfile,
+                                           final String strExcludedPrefix)
+            throws IOException {
+        final var matchers = new ArrayList<PathMatcher>();
+        final var prefixes = new ArrayList<String>();
+
+        for (final var strSource : getSources(strDockerfile)) {
+            final var strNormalized = normalize(strSource);
+            if (strNormalized.isEmpty()) {
+                // the whole context
+                prefixes.add("");
+            } else {
+                prefixes.add(strNormalized + SEPARATOR);
+                matchers.add(FileSystems.getDefault().getPathMatcher(GLOB + strNormalized));
+            }
+        }
+
+        return getFiles(strExcludedPrefix).stream()
+                .filter(strPath -> prefixes.stream().anyMatch(strPath::startsWith)
+                        || matchers.stream().anyMatch(matcher -> matcher.matches(Path.of(strPath))))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Calculating fingerprint over Dockerfile content and given files.
+     *
+     * @param strDockerfile content of the Dockerfile.
+     * @param files         relative paths of files of the context.
+     * @return fingerprint (hex string).
+     * @throws IOException when reading a file has failed.
+     * @since 2.0.0
+     */
+    public String getFingerprint(final String strDockerfile, final List<String> files)
+            throws IOException {
+        final var digest = FileUtils.createMessageDigest();
+        digest.update(strDockerfile.getBytes(StandardCharsets.UTF_8));
+        for (final var strPath : files) {
+            digest.update((SEPARATOR + strPath + SEPARATOR).getBytes(StandardCharsets.UTF_8));
+            digest.update(FileUtils.getChecksum(this.contextPath.resolve(strPath))
+                    .getBytes(StandardCharsets.UTF_8));
+        }
+        return FileUtils.toHex(digest.digest());
+    }
+
+    /**
+     * Creating a temporary folder as context with given files only (keeping relative
+     * paths) and the Dockerfile (as "Dockerfile"). It's on the caller to remove
+     * the folder when no longer needed.
+     *
+     * @param strDockerfile content of the Dockerfile.
+     * @param files         relative paths of files of the context.
+     * @return path of the created folder.
+     * @throws IOException when copying has failed.
+     * @since 2.0.0
+     */
+    public Path createContext(final String strDockerfile, final List<String> files)
+            throws IOException {
+        final var targetPath = Files.createTempDirectory("hyperion-docker-context-");
+        Files.writeString(targetPath.resolve(DOCKERFILE), strDockerfile);
+
+        for (final var strPath : files) {
+            final var destinationPath = targetPath.resolve(strPath);
+            final var parentPath = destinationPath.getParent();
+            if (parentPath != null) {
+                Files.createDirectories(parentPath);
+            }
+            FileUtils.copyFile(this.contextPath.resolve(strPath), destinationPath);
+        }
+
+        return targetPath;
+    }
+
+    /**
+     * Create context for given folder reading its .dockerignore (if present).
+     *
+     * @param contextPath root folder of the context.
+     * @return instance of {@link DockerBuildContext}.
+     * @throws IOException when reading .dockerignore has failed.
+     * @since 2.0.0
+     */
+    public static DockerBuildContext of(final Path contextPath) throws IOException {
+        final var ignorePath = contextPath.resolve(DOCKER_IGNORE);
+        final List<String> patterns = new ArrayList<>();
+
+        if (Files.isRegularFile(ignorePath)) {
+            for (final var strLine : Files.readAllLines(ignorePath)) {
+                final var strPattern = strLine.strip();
+                if (!strPattern.isEmpty() && !strPattern.startsWith(COMMENT)) {
+                    patterns.add(strPattern);
+                }
+            }
+        }
+
+        return new DockerBuildContext(contextPath, patterns);
+    }
+
+    /**
+     * Checking whether file is ignored by .dockerignore (last matching pattern
+     * decides; a pattern starting with "!" is an exception). A pattern also matches
+     * all files below a matching folder.
+     *
+     * @param strPath relative path of a file.
+     * @return true when file is ignored.
+     */
+    private boolean isIgnored(final String strPath) {
+        boolean bIgnored = false;
+
+        for (final var strPattern : this.ignorePatterns) {
+            final boolean bException = strPattern.startsWith("!");
+            final var strGlob = normalize(bException ? strPattern.substring(1) : strPattern);
+            final var matcher = FileSystems.getDefault().getPathMatcher(GLOB + strGlob);
+
+            var path = Path.of(strPath);
+            while (path != null) {
+                if (matcher.matches(path)) {
+                    bIgnored = !bException;
+                    break;
+                }
+                path = path.getParent();
+            }
+        }
+
+        return bIgnored;
+    }
+
+    /**
+     * Provide sources of COPY and ADD instructions.
+     *
+     * @param strDockerfile content of the Dockerfile.
+     * @return list of sources.
+     */
+    private static List<String> getSources(final String strDockerfile) {
+        final var sources = new ArrayList<String>();
+
+        for (final var strInstruction : getInstructions(strDockerfile)) {
+            final var matcher = COPY_OR_ADD.matcher(strInstruction);
+            if (matcher.matches() && !matcher.group(2).toLowerCase(Locale.getDefault())
+                    .contains("--from=")) {
+                final var arguments = new ArrayList<String>();
+                for (final var strToken : matcher.group(2).replaceAll("[\\[\\],\"]", " ")
+                        .strip().split("\\s+")) {
+                    if (!strToken.startsWith("--")) {
+                        arguments.add(strToken);
+                    }
+                }
+                // last argument is the destination
+                arguments.stream().limit(Math.max(0, arguments.size() - 1))
+                        .filter(strSource -> !strSource.contains("://"))
+                        .forEach(sources::add);
+            }
+        }
+
+        return sources;
+    }
+
+    /**
+     * Provide instructions of a Dockerfile with continued lines (ending with "\\")
+     * joined; comment and empty lines inside of an instruction are skipped.
+     *
+     * @param strDockerfile content of the Dockerfile.
+     * @return list of instructions (one line each).
+     */
+    private static List<String> getInstructions(final String strDockerfile) {
+        final var instructions = new ArrayList<String>();
+        final var instruction = new StringBuilder();
+
+        for (final var strLine : strDockerfile.split("\\R")) {
+            final var strStripped = strLine.strip();
+            final boolean bSkipped = instruction.length() > 0
+                    && (strStripped.isEmpty() || strStripped.startsWith(COMMENT));
+            if (!bSkipped && strStripped.endsWith(WINDOWS_SEPARATOR)) {
+                instruction.append(strStripped, 0, strStripped.length() - 1).append(' ');
+            } else if (!bSkipped) {
+                instructions.add(instruction.append(strLine).toString());
+                instruction.setLength(0);
+            }
+        }
+
+        if (instruction.length() > 0) {
+            instructions.add(instruction.toString());
+        }
+
+        return instructions;
+    }
+
+    /**
+     * Normalizing a path pattern (separators, leading "./" or "/" and trailing "/").
+     *
+     * @param strPattern path pattern.
+     * @return normalized path pattern ("" for whole context).
+     */
+    private static String normalize(final String strPattern) {
+        var strNormalized = strPattern.replace(WINDOWS_SEPARATOR, SEPARATOR);
+        while (strNormalized.startsWith("./") || strNormalized.startsWith(SEPARATOR)) {
+            strNormalized = strNormalized.substring(strNormalized.indexOf(SEPARATOR) + 1);
+        }
+        while (strNormalized.endsWith(SEPARATOR)) {
+            strNormalized = strNormalized.substring(0, strNormalized.length() - 1);
+        }
+        return ".".equals(strNormalized) ? "" : strNormalized;
+    }
+
+    /**
+     * Provide path relative to context (with "/" as separator).
+     *
+     * @param path path of a file in the context.
+     * @return relative path.
+     */
+    private String toRelative(final Path path) {
+        return this.contextPath.relativize(path).toString().replace(WINDOWS_SEPARATOR, SEPARATOR);
+    }
+}
@@ -26,15 +26,26 @@ package magic.system.hyperion.tools;
 import magic.system.hyperion.annotations.Named;
 import magic.system.hyperion.interfaces.ICreator;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Factory for creator of type E.
+ * Factory for creator of type E. The creators are loaded once per creator class
+ * (ServiceLoader) and then found by their name (@Named).
  *
  * @param <E> creator of type E.
  * @author Thomas Lehmann
  */
 public class Factory<E> {
+    /**
+     * Loaded creators per creator class (key: name, value: creator).
+     */
+    private static final Map<Class<?>, Map<String, ICreator<?>>> CREATORS
+            = new ConcurrentHashMap<>();
+
     /**
      * Creator class.
      */
@@ -57,28 +68,29 @@ public class Factory<E> {
      * @return created instance or null if failed.
      * @since 1.0.0
      */
+    @SuppressWarnings("unchecked")
     public E create(final String strName) {
-        E instance = null;
-
-        final var loader = ServiceLoader.load(this.creatorClass);
-        final var iterator = loader.iterator();
-
-        while (iterator.hasNext()) {
-            final var creator = iterator.next();
+        final var creator = CREATORS.computeIfAbsent(
+                this.creatorClass, Factory::loadCreators).get(strName);
+        return creator == null ? null : (E) creator.create();
+    }
 
-            for (final var annotation: creator.getClass().getAnnotations()) {
-                if (annotation instanceof Named
-                        && ((Named) annotation).value().equals(strName)) {
-                    instance = (E) creator.create();
-                    break;
-                }
-            }
+    /**
+     * Loading all creators of given creator class (first one wins for same name).
+     *
+     * @param creatorClass creator class.
+     * @return creators (key: name, value: creator).
+     */
+    private static Map<String, ICreator<?>> loadCreators(final Class<?> creatorClass) {
+        final Map<String, ICreator<?>> creators = new HashMap<>();
 
-            if (instance != null) {
-                break;
+        for (final var creator : ServiceLoader.load(creatorClass)) {
+            final var named = creator.getClass().getAnnotation(Named.class);
+            if (named != null && creator instanceof ICreator) {
+                creators.putIfAbsent(named.value(), (ICreator<?>) creator);
             }
         }
 
-        return instance;
+        return Collections.unmodifiableMap(creators);
     }
 }
@@ -0,0 +1,179 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.tools;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Copying changed files only (file or directory). A file is unchanged when it has
+ * same size and same modification time (or same checksum) as the source file.
+ *
+ * @author Thomas Lehmann
+ */
+public final class FileSync {
+    /**
+     * Logger of this class.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileSync.class);
+
+    /**
+     * When true then files are compared by checksum instead of modification time.
+     */
+    private final boolean bChecksum;
+
+    /**
+     * When true then files missing in source are deleted at destination.
+     */
+    private final boolean bDelete;
+
+    /**
+     * When true then changed files at destination can be overwritten.
+     */
+    private final boolean bOverwrite;
+
+    /**
+     * Initialize sync.
+     *
+     * @param bInitChecksum  when true then comparing checksums instead of modification time.
+     * @param bInitDelete    when true then delete files at destination missing in source.
+     * @param bInitOverwrite when true then changed files at destination can be overwritten.
+     */
+    private FileSync(final boolean bInitChecksum, final boolean bInitDelete,
+                     final boolean bInitOverwrite) {
+        this.bChecksum = bInitChecksum;
+        this.bDelete = bInitDelete;
+        this.bOverwrite = bInitOverwrite;
+    }
+
+    /**
+     * Mirror the content of the source directory into the destination directory.
+     *
+     * @param sourcePath      source directory.
+     * @param destinationPath destination directory.
+     * @return true when all changed files have been copied.
+     * @throws IOException when walking the directories or copying has failed.
+     * @since 2.0.0
+     */
+    public boolean syncDirectory(final Path sourcePath, final Path destinationPath)
+            throws IOException {
+        final List<Path> sourcePaths;
+        try (var stream = Files.walk(sourcePath)) {
+            sourcePaths = stream.collect(Collectors.toList());
+        }
+
+        boolean bSuccess = true;
+        for (final var path : sourcePaths) {
+            final var targetPath = destinationPath.resolve(
+                    sourcePath.relativize(path).toString());
+            if (Files.isDirectory(path)) {
+                Files.createDirectories(targetPath);
+            } else if (!syncFile(path, targetPath)) {
+                bSuccess = false;
+            }
+        }
+
+        if (this.bDelete) {
+            deleteMissing(sourcePath, destinationPath);
+        }
+
+        return bSuccess;
+    }
+
+    /**
+     * Copy one file when it has changed. The modification time of the source is
+     * taken over to the destination so that a later run can detect it as unchanged.
+     *
+     * @param sourcePath      source file path.
+     * @param destinationPath final destination file path.
+     * @return true when file is unchanged or has been copied.
+     * @throws IOException when copy operation has failed.
+     * @since 2.0.0
+     */
+    public boolean syncFile(final Path sourcePath, final Path destinationPath)
+            throws IOException {
+        boolean bSuccess = true;
+
+        if (FileUtils.isUnchanged(sourcePath, destinationPath, this.bChecksum)) {
+            LOGGER.info("Skipping unchanged file {}", destinationPath.toString());
+        } else if (!this.bOverwrite && Files.exists(destinationPath)) {
+            LOGGER.error("Overwrite not enabled for {}", destinationPath.toString());
+            bSuccess = false;
+        } else {
+            LOGGER.info("Copying file from {} to {}",
+                    sourcePath.toString(), destinationPath.toString());
+            FileUtils.copyFile(sourcePath, destinationPath);
+            Files.setLastModifiedTime(destinationPath, Files.getLastModifiedTime(sourcePath));
+        }
+
+        return bSuccess;
+    }
+
+    /**
+     * Deleting files and directories at destination which do not exist in source.
+     *
+     * @param sourcePath      source directory.
+     * @param destinationPath destination directory.
+     * @throws IOException when walking the destination directory has failed.
+     */
+    private void deleteMissing(final Path sourcePath, final Path destinationPath)
+            throws IOException {
+        final List<Path> destinationPaths;
+        // reverse order: content of a directory is deleted before the directory itself
+        try (var stream = Files.walk(destinationPath)) {
+            destinationPaths = stream.sorted(Comparator.reverseOrder())
+                    .collect(Collectors.toList());
+        }
+
+        for (final var path : destinationPaths) {
+            final var originPath = sourcePath.resolve(
+                    destinationPath.relativize(path).toString());
+            if (!Files.exists(originPath)) {
+                LOGGER.info("Deleting {} (missing in source)", path.toString());
+                FileUtils.deletePath(path);
+            }
+        }
+    }
+
+    /**
+     * Create file sync.
+     *
+     * @param bChecksum  when true then comparing checksums instead of modification time.
+     * @param bDelete    when true then delete files at destination missing in source.
+     * @param bOverwrite when true then changed files at destination can be overwritten.
+     * @return instance of {@link FileSync}.
+     * @since 2.0.0
+     */
+    public static FileSync of(final boolean bChecksum, final boolean bDelete,
+                              final boolean bOverwrite) {
+        return new FileSync(bChecksum, bDelete, bOverwrite);
+    }
+}
@@ -38,6 +38,8 @@ import java.nio.file.Paths;
 import java.nio.file.attribute.FileAttribute;
 import java.nio.file.attribute.PosixFilePermission;
 import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Comparator;
 import java.util.Set;
 import java.util.UUID;
@@ -53,6 +55,16 @@ public final class FileUtils {
      */
     private static final Logger LOGGER = LoggerFactory.getLogger(FileUtils.class);
 
+    /**
+     * Algorithm used for file checksums.
+     */
+    private static final String CHECKSUM_ALGORITHM = "SHA-256";
+
+    /**
+     * Size of the buffer used for reading a file for the checksum.
+     */
+    private static final int CHECKSUM_BUFFER_SIZE = 8192;
+
     /**
      * Temporary path where to create files.
      */
@@ -192,4 +204,84 @@ public final class FileUtils {
         }
         return success;
     }
+
+    /**
+     * Calculating SHA-256 checksum of the content of a file (streamed, the file is not
+     * loaded into memory as a whole).
+     *
+     * @param path path and filename of the file.
+     * @return checksum as lowercase hex string.
+     * @throws IOException when reading of the file has failed.
+     * @since 2.0.0
+     */
+    public static String getChecksum(final Path path) throws IOException {
+        final var digest = createMessageDigest();
+        try (var stream = Files.newInputStream(path)) {
+            final var buffer = new byte[CHECKSUM_BUFFER_SIZE];
+            int iRead;
+            while ((iRead = stream.read(buffer)) != -1) {
+                digest.update(buffer, 0, iRead);
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Checking whether destination file is the same as the source file. Both files must
+     * have the same size; then either the last modified time or the checksum of the
+     * content must be equal.
+     *
+     * @param sourcePath      path and filename of source.
+     * @param destinationPath path and filename of destination.
+     * @param bChecksum       when true then comparing checksums instead of modification time.
+     * @return true when destination exists and is unchanged compared to the source.
+     * @throws IOException when reading file attributes or content has failed.
+     * @since 2.0.0
+     */
+    public static boolean isUnchanged(final Path sourcePath, final Path destinationPath,
+                                      final boolean bChecksum) throws IOException {
+        boolean bUnchanged = Files.isRegularFile(destinationPath)
+                && Files.size(sourcePath) == Files.size(destinationPath);
+
+        if (bUnchanged) {
+            if (bChecksum) {
+                bUnchanged = getChecksum(sourcePath).equals(getChecksum(destinationPath));
+            } else {
+                bUnchanged = Files.getLastModifiedTime(sourcePath).toMillis()
+                        == Files.getLastModifiedTime(destinationPath).toMillis();
+            }
+        }
+
+        return bUnchanged;
+    }
+
+    /**
+     * Provide message digest as used for file checksums.
+     *
+     * @return message digest.
+     * @since 2.0.0
+     */
+    public static MessageDigest createMessageDigest() {
+        try {
+            return MessageDigest.getInstance(CHECKSUM_ALGORITHM);
+        } catch (final NoSuchAlgorithmException e) {
+            // SHA-256 is required to be supported by every Java platform.
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Converting bytes into lowercase hex string.
+     *
+     * @param bytes some bytes.
+     * @return hex string.
+     * @since 2.0.0
+     */
+    public static String toHex(final byte[] bytes) {
+        final var builder = new StringBuilder(bytes.length * 2);
+        for (final var value : bytes) {
+            builder.append(String.format("%02x", value));
+        }
+        return builder.toString();
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.tools;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of durations with fixed buckets. Recording is lock-free
+ * (one {@link LongAdder} per bucket) so it can be used on hot paths.
+ *
+ * @author Thomas Lehmann
+ */
+public final class Histogram {
+    /**
+     * Upper bounds of the buckets (milliseconds, inclusive); the last bucket has no bound.
+     */
+    private static final long[] BOUNDS = {
+        10L, 50L, 100L, 500L, 1_000L, 5_000L, 10_000L, 30_000L, 60_000L, 300_000L, 600_000L,
+    };
+
+    /**
+     * Number of durations for each bucket (not cumulative).
+     */
+    private final LongAdder[] buckets;
+
+    /**
+     * Sum of all durations (milliseconds).
+     */
+    private final LongAdder sum;
+
+    /**
+     * Initialize empty histogram.
+     *
+     * @since 2.0.0
+     */
+    public Histogram() {
+        this.buckets = new LongAdder[BOUNDS.length + 1];
+        for (int iBucket = 0; iBucket < this.buckets.length; ++iBucket) {
+            this.buckets[iBucket] = new LongAdder();
+        }
+        this.sum = new LongAdder();
+    }
+
+    /**
+     * Recording a duration.
+     *
+     * @param lMilliseconds duration in milliseconds.
+     * @since 2.0.0
+     */
+    public void record(final long lMilliseconds) {
+        int iBucket = 0;
+        while (iBucket < BOUNDS.length && lMilliseconds > BOUNDS[iBucket]) {
+            ++iBucket;
+        }
+        this.buckets[iBucket].increment();
+        this.sum.add(lMilliseconds);
+    }
+
+    /**
+     * Get upper bounds of the buckets (without the last unbounded bucket).
+     *
+     * @return upper bounds in milliseconds.
+     * @since 2.0.0
+     */
+    public static long[] getBounds() {
+        return BOUNDS.clone();
+    }
+
+    /**
+     * Get cumulative number of durations for each bucket (last one is the total count).
+     *
+     * @return number of durations less or equal to the bound of each bucket.
+     * @since 2.0.0
+     */
+    public long[] getCumulativeCounts() {
+        final var counts = new long[this.buckets.length];
+        long lCount = 0L;
+        for (int iBucket = 0; iBucket < this.buckets.length; ++iBucket) {
+            lCount += this.buckets[iBucket].sum();
+            counts[iBucket] = lCount;
+        }
+        return counts;
+    }
+
+    /**
+     * Get sum of all durations.
+     *
+     * @return sum in milliseconds.
+     * @since 2.0.0
+     */
+    public long getSum() {
+        return this.sum.sum();
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.tools;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Writing basic metrics of the Java virtual machine.
+ *
+ * @author Thomas Lehmann
+ */
+public final class JvmMetrics {
+    /**
+     * Milliseconds per second (durations are written in seconds).
+     */
+    private static final double MILLISECONDS_PER_SECOND = 1000.0;
+
+    /**
+     * Utility class.
+     */
+    private JvmMetrics() {
+        // nothing to do
+    }
+
+    /**
+     * Writing memory, thread, garbage collection and uptime metrics.
+     *
+     * @param writer where to write the metrics to.
+     * @since 2.0.0
+     */
+    public static void write(final MetricsWriter writer) {
+        final var heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        final var nonHeap = ManagementFactory.getMemoryMXBean().getNonHeapMemoryUsage();
+        final var threads = ManagementFactory.getThreadMXBean();
+
+        long lCollections = 0L;
+        long lCollectionTime = 0L;
+        for (final var collector: ManagementFactory.getGarbageCollectorMXBeans()) {
+            lCollections += Math.max(0L, collector.getCollectionCount());
+            lCollectionTime += Math.max(0L, collector.getCollectionTime());
+        }
+
+        writer.gauge("jvm_memory_heap_used_bytes", "Used heap memory.", heap.getUsed())
+            .gauge("jvm_memory_heap_committed_bytes", "Committed heap memory.",
+                heap.getCommitted())
+            .gauge("jvm_memory_heap_max_bytes", "Maximum heap memory.", heap.getMax())
+            .gauge("jvm_memory_nonheap_used_bytes", "Used non-heap memory.", nonHeap.getUsed())
+            .gauge("jvm_threads_live", "Live threads.", threads.getThreadCount())
+            .gauge("jvm_threads_daemon", "Live daemon threads.", threads.getDaemonThreadCount())
+            .counter("jvm_gc_collections_total", "Garbage collections.", lCollections)
+            .gauge("jvm_gc_collection_seconds", "Time spent in garbage collections.",
+                lCollectionTime / MILLISECONDS_PER_SECOND)
+            .gauge("jvm_uptime_seconds", "Uptime of the Java virtual machine.",
+                ManagementFactory.getRuntimeMXBean().getUptime() / MILLISECONDS_PER_SECOND)
+            .gauge("jvm_available_processors", "Available processors.",
+                Runtime.getRuntime().availableProcessors());
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.tools;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.function.Consumer;
+
+/**
+ * Writer forwarding all characters to another writer; additionally each
+ * completed line is passed to a listener (without line separator).
+ *
+ * @author Thomas Lehmann
+ */
+public final class LineWriter extends Writer {
+    /**
+     * Writer receiving all characters.
+     */
+    private final Writer target;
+
+    /**
+     * Called for each completed line.
+     */
+    private final Consumer<String> listener;
+
+    /**
+     * Characters of current line.
+     */
+    private final StringBuilder currentLine;
+
+    /**
+     * Initialize writer.
+     *
+     * @param initTarget   writer receiving all characters.
+     * @param initListener called for each completed line.
+     * @since 2.0.0
+     */
+    public LineWriter(final Writer initTarget, final Consumer<String> initListener) {
+        super();
+        this.target = initTarget;
+        this.listener = initListener;
+        this.currentLine = new StringBuilder();
+    }
+
+    @Override
+    public void write(final char[] buffer, final int iOffset, final int iLength)
+            throws IOException {
+        this.target.write(buffer, iOffset, iLength);
+        synchronized (this.currentLine) {
+            for (int iIndex = iOffset; iIndex < iOffset + iLength; ++iIndex) {
+                if (buffer[iIndex] == '\n') {
+                    completeLine();
+                } else {
+                    this.currentLine.append(buffer[iIndex]);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.target.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this.currentLine) {
+            if (this.currentLine.length() > 0) {
+                completeLine();
+            }
+        }
+        this.target.close();
+    }
+
+    /**
+     * Passing current line to the listener (without carriage return).
+     */
+    private void completeLine() {
+        final int iLength = this.currentLine.length();
+        if (iLength > 0 && this.currentLine.charAt(iLength - 1) == '\r') {
+            this.currentLine.setLength(iLength - 1);
+        }
+        this.listener.accept(this.currentLine.toString());
+        this.currentLine.setLength(0);
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.tools;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of the process (server and runner). Recording is lock-free
+ * ({@link LongAdder} and {@link Histogram}) so it can be done on hot paths;
+ * the values are read when writing them (see {@link MetricsWriter}).
+ *
+ * @author Thomas Lehmann
+ */
+public final class Metrics {
+    /**
+     * Number of documents submitted to the server.
+     */
+    private static final LongAdder JOBS_SUBMITTED = new LongAdder();
+
+    /**
+     * Number of documents rejected by the server (limits reached).
+     */
+    private static final LongAdder JOBS_REJECTED = new LongAdder();
+
+    /**
+     * Number of documents finished by the server.
+     */
+    private static final LongAdder JOBS_FINISHED = new LongAdder();
+
+    /**
+     * Number of documents finished by the server with failure.
+     */
+    private static final LongAdder JOBS_FAILED = new LongAdder();
+
+    /**
+     * Number of processes started (for which the output has been captured).
+     */
+    private static final LongAdder PROCESSES = new LongAdder();
+
+    /**
+     * Number of templates found in the template cache.
+     */
+    private static final LongAdder TEMPLATE_CACHE_HITS = new LongAdder();
+
+    /**
+     * Number of templates compiled because not found in the template cache.
+     */
+    private static final LongAdder TEMPLATE_CACHE_MISSES = new LongAdder();
+
+    /**
+     * Number of threads of all runner pools.
+     */
+    private static final LongAdder RUNNER_THREADS = new LongAdder();
+
+    /**
+     * Number of runnables running in runner pools.
+     */
+    private static final LongAdder RUNNER_BUSY = new LongAdder();
+
+    /**
+     * Number of runnables run by runners.
+     */
+    private static final LongAdder RUNNER_RUNNABLES = new LongAdder();
+
+    /**
+     * Durations of documents.
+     */
+    private static final Histogram DOCUMENT_DURATION = new Histogram();
+
+    /**
+     * Durations of task groups.
+     */
+    private static final Histogram TASK_GROUP_DURATION = new Histogram();
+
+    /**
+     * Durations of tasks by type (class name of task).
+     */
+    private static final Map<String, Histogram> TASK_DURATION = new ConcurrentHashMap<>();
+
+    /**
+     * Utility class.
+     */
+    private Metrics() {
+        // nothing to do
+    }
+
+    /**
+     * Recording a document submitted to the server.
+     *
+     * @param bAccepted false when the document has been rejected (limits reached).
+     * @since 2.0.0
+     */
+    public static void jobSubmitted(final boolean bAccepted) {
+        if (bAccepted) {
+            JOBS_SUBMITTED.increment();
+        } else {
+            JOBS_REJECTED.increment();
+        }
+    }
+
+    /**
+     * Recording a document finished by the server.
+     *
+     * @param bSuccess true when the document has been successful.
+     * @since 2.0.0
+     */
+    public static void jobFinished(final boolean bSuccess) {
+        JOBS_FINISHED.increment();
+        if (!bSuccess) {
+            JOBS_FAILED.increment();
+        }
+    }
+
+    /**
+     * Recording duration of a document.
+     *
+     * @param lStartNanos start time (see {@link System#nanoTime()}).
+     * @since 2.0.0
+     */
+    public static void documentFinished(final long lStartNanos) {
+        DOCUMENT_DURATION.record(getMilliseconds(lStartNanos));
+    }
+
+    /**
+     * Recording duration of a task group.
+     *
+     * @param lStartNanos start time (see {@link System#nanoTime()}).
+     * @since 2.0.0
+     */
+    public static void taskGroupFinished(final long lStartNanos) {
+        TASK_GROUP_DURATION.record(getMilliseconds(lStartNanos));
+    }
+
+    /**
+     * Recording duration of a task.
+     *
+     * @param strType     type of the task.
+     * @param lStartNanos start time (see {@link System#nanoTime()}).
+     * @since 2.0.0
+     */
+    public static void taskFinished(final String strType, final long lStartNanos) {
+        TASK_DURATION.computeIfAbsent(strType, strKey -> new Histogram())
+                .record(getMilliseconds(lStartNanos));
+    }
+
+    /**
+     * Recording a started process.
+     *
+     * @since 2.0.0
+     */
+    public static void processStarted() {
+        PROCESSES.increment();
+    }
+
+    /**
+     * Recording a lookup in the template cache.
+     *
+     * @param bHit true when the template has been found.
+     * @since 2.0.0
+     */
+    public static void templateCacheLookup(final boolean bHit) {
+        if (bHit) {
+            TEMPLATE_CACHE_HITS.increment();
+        } else {
+            TEMPLATE_CACHE_MISSES.increment();
+        }
+    }
+
+    /**
+     * Recording creation (positive) or release (negative) of runner threads.
+     *
+     * @param iThreads number of threads.
+     * @since 2.0.0
+     */
+    public static void runnerThreads(final int iThreads) {
+        RUNNER_THREADS.add(iThreads);
+    }
+
+    /**
+     * Wrapping a runnable to record when it runs in a runner pool.
+     *
+     * @param runnable the runnable to wrap.
+     * @return wrapped runnable.
+     * @since 2.0.0
+     */
+    public static Runnable measured(final Runnable runnable) {
+        return () -> {
+            RUNNER_RUNNABLES.increment();
+            RUNNER_BUSY.increment();
+            try {
+                runnable.run();
+            } finally {
+                RUNNER_BUSY.decrement();
+            }
+        };
+    }
+
+    /**
+     * Writing all metrics.
+     *
+     * @param writer where to write the metrics to.
+     * @since 2.0.0
+     */
+    public static void write(final MetricsWriter writer) {
+        final long lHits = TEMPLATE_CACHE_HITS.sum();
+        final long lLookups = lHits + TEMPLATE_CACHE_MISSES.sum();
+        final long lThreads = RUNNER_THREADS.sum();
+
+        writer.counter("hyperion_jobs_submitted_total",
+                "Documents accepted by the server.", JOBS_SUBMITTED.sum())
+            .counter("hyperion_jobs_rejected_total",
+                "Documents rejected by the server (limits reached).", JOBS_REJECTED.sum())
+            .counter("hyperion_jobs_finished_total",
+                "Documents finished by the server.", JOBS_FINISHED.sum())
+            .counter("hyperion_jobs_failed_total",
+                "Documents finished by the server with failure.", JOBS_FAILED.sum())
+            .histogram("hyperion_document_duration_seconds",
+                "Duration of documents.", null, Map.of("", DOCUMENT_DURATION))
+            .histogram("hyperion_taskgroup_duration_seconds",
+                "Duration of task groups.", null, Map.of("", TASK_GROUP_DURATION))
+            .histogram("hyperion_task_duration_seconds",
+                "Duration of tasks by type.", "type", new TreeMap<>(TASK_DURATION))
+            .counter("hyperion_processes_started_total",
+                "Processes started by tasks.", PROCESSES.sum())
+            .counter("hyperion_template_cache_hits_total",
+                "Templates found in the template cache.", lHits)
+            .counter("hyperion_template_cache_misses_total",
+                "Templates compiled.", lLookups - lHits)
+            .gauge("hyperion_template_cache_hit_ratio",
+                "Ratio of templates found in the template cache.",
+                lLookups == 0 ? 0.0 : (double) lHits / lLookups)
+            .gauge("hyperion_runner_threads",
+                "Threads of all runner pools.", lThreads)
+            .gauge("hyperion_runner_threads_busy",
+                "Threads of runner pools running a task.", RUNNER_BUSY.sum())
+            .gauge("hyperion_runner_utilization",
+                "Ratio of busy threads of runner pools.",
+                lThreads <= 0 ? 0.0 : (double) RUNNER_BUSY.sum() / lThreads)
+            .counter("hyperion_runner_runnables_total",
+                "Runnables run by runner pools.", RUNNER_RUNNABLES.sum());
+    }
+
+    /**
+     * Get milliseconds since start time.
+     *
+     * @param lStartNanos start time (see {@link System#nanoTime()}).
+     * @return elapsed milliseconds.
+     */
+    private static long getMilliseconds(final long lStartNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lStartNanos);
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.tools;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Writing metrics in the Prometheus text exposition format (version 0.0.4).
+ *
+ * @author Thomas Lehmann
+ */
+public final class MetricsWriter {
+    /**
+     * Content type of the text exposition format.
+     */
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    /**
+     * Milliseconds per second (durations are written in seconds).
+     */
+    private static final double MILLISECONDS_PER_SECOND = 1000.0;
+
+    /**
+     * Written text.
+     */
+    private final StringBuilder text;
+
+    /**
+     * Initialize empty text.
+     *
+     * @since 2.0.0
+     */
+    public MetricsWriter() {
+        this.text = new StringBuilder();
+    }
+
+    /**
+     * Writing a counter (value which only increases).
+     *
+     * @param strName name of the metric.
+     * @param strHelp description of the metric.
+     * @param lValue  current value.
+     * @return this writer.
+     * @since 2.0.0
+     */
+    public MetricsWriter counter(final String strName, final String strHelp, final long lValue) {
+        header(strName, strHelp, "counter");
+        this.text.append(strName).append(' ').append(lValue).append('\n');
+        return this;
+    }
+
+    /**
+     * Writing a gauge (value which can increase and decrease).
+     *
+     * @param strName name of the metric.
+     * @param strHelp description of the metric.
+     * @param dValue  current value.
+     * @return this writer.
+     * @since 2.0.0
+     */
+    public MetricsWriter gauge(final String strName, final String strHelp, final double dValue) {
+        header(strName, strHelp, "gauge");
+        this.text.append(strName).append(' ').append(format(dValue)).append('\n');
+        return this;
+    }
+
+    /**
+     * Writing histograms of durations (in seconds) with one label.
+     *
+     * @param strName    name of the metric.
+     * @param strHelp    description of the metric.
+     * @param strLabel   name of the label (null when there is no label).
+     * @param histograms histograms by label value (one entry with any key when there is no label).
+     * @return this writer.
+     * @since 2.0.0
+     */
+    public MetricsWriter histogram(final String strName, final String strHelp,
+                                   final String strLabel,
+                                   final Map<String, Histogram> histograms) {
+        header(strName, strHelp, "histogram");
+        final var bounds = Histogram.getBounds();
+        histograms.forEach((strValue, histogram) -> {
+            final var strLabels = strLabel == null
+                    ? "" : strLabel + "=\"" + escape(strValue) + "\",";
+            final var counts = histogram.getCumulativeCounts();
+            for (int iBucket = 0; iBucket < counts.length; ++iBucket) {
+                final var strBound = iBucket < bounds.length
+                        ? format(bounds[iBucket] / MILLISECONDS_PER_SECOND) : "+Inf";
+                this.text.append(strName).append("_bucket{").append(strLabels)
+                        .append("le=\"").append(strBound).append("\"} ")
+                        .append(counts[iBucket]).append('\n');
+            }
+            final var strSuffix = strLabel == null
+                    ? " " : "{" + strLabels.substring(0, strLabels.length() - 1) + "} ";
+            this.text.append(strName).append("_sum").append(strSuffix)
+                    .append(format(histogram.getSum() / MILLISECONDS_PER_SECOND)).append('\n');
+            this.text.append(strName).append("_count").append(strSuffix)
+                    .append(counts[counts.length - 1]).append('\n');
+        });
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return this.text.toString();
+    }
+
+    /**
+     * Writing help and type of a metric.
+     *
+     * @param strName name of the metric.
+     * @param strHelp description of the metric.
+     * @param strType type of the metric.
+     */
+    private void header(final String strName, final String strHelp, final String strType) {
+        this.text.append("# HELP ").append(strName).append(' ').append(strHelp).append('\n');
+        this.text.append("# TYPE ").append(strName).append(' ').append(strType).append('\n');
+    }
+
+    /**
+     * Formatting a value without exponent and without needless decimals.
+     *
+     * @param dValue the value.
+     * @return formatted value.
+     */
+    private static String format(final double dValue) {
+        final String strValue;
+        if (dValue == Math.rint(dValue) && !Double.isInfinite(dValue)) {
+            strValue = String.valueOf((long) dValue);
+        } else {
+            strValue = String.format(Locale.ROOT, "%.6f", dValue)
+                    .replaceAll("0+$", "");
+        }
+        return strValue;
+    }
+
+    /**
+     * Escaping a label value.
+     *
+     * @param strValue label value.
+     * @return escaped label value.
+     */
+    private static String escape(final String strValue) {
+        return strValue.replace("\\", "\\\\").replace("\"", "\\\"")
+                .replace("\n", "\\n");
+    }
+}
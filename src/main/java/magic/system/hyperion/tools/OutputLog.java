@@ -0,0 +1,282 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.tools;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Logging the output lines of processes without blocking the capture threads on
+ * the appenders: the lines are queued (bounded) and one writer thread logs them
+ * in batches (one log event for many lines) prefixed with the title of the task.
+ * When the queue is full the capture thread either waits (default) or the line
+ * is dropped and counted. In quiet mode no line is logged at all (the output is
+ * still captured by the tasks).
+ *
+ * @author Thomas Lehmann
+ * @since 2.0.0
+ */
+public final class OutputLog {
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutputLog.class);
+
+    /**
+     * Default number of lines waiting to be logged.
+     */
+    private static final int DEFAULT_CAPACITY = 10_000;
+
+    /**
+     * Maximum number of lines logged as one event.
+     */
+    private static final int MAX_BATCH = 256;
+
+    /**
+     * Maximum time waiting for queued lines being logged (milliseconds).
+     */
+    private static final long FLUSH_TIMEOUT = 5_000L;
+
+    /**
+     * Log for the output of all tasks.
+     */
+    private static final OutputLog SHARED = new OutputLog(DEFAULT_CAPACITY, LOGGER::info);
+
+    /**
+     * Lines waiting to be logged.
+     */
+    private final BlockingQueue<String> queue;
+
+    /**
+     * Logging one batch of lines (joined by newline).
+     */
+    private final Consumer<String> sink;
+
+    /**
+     * Guarding the counters and the start of the writer thread.
+     */
+    private final Object monitor;
+
+    /**
+     * Number of lines queued.
+     */
+    private long lQueued;
+
+    /**
+     * Number of lines logged.
+     */
+    private long lLogged;
+
+    /**
+     * Number of lines dropped since the last batch.
+     */
+    private long lDropped;
+
+    /**
+     * Thread logging the queued lines (started with the first line).
+     */
+    private Thread writer;
+
+    /**
+     * When true then no line is logged.
+     */
+    private volatile boolean bQuiet;
+
+    /**
+     * When true then lines are dropped when the queue is full (otherwise waiting).
+     */
+    private volatile boolean bDrop;
+
+    /**
+     * Initialize output log.
+     *
+     * @param iCapacity number of lines waiting to be logged.
+     * @param initSink  logging one batch of lines.
+     */
+    OutputLog(final int iCapacity, final Consumer<String> initSink) {
+        this.queue = new ArrayBlockingQueue<>(iCapacity);
+        this.sink = initSink;
+        this.monitor = new Object();
+    }
+
+    /**
+     * Provide log for the output of all tasks.
+     *
+     * @return output log.
+     */
+    public static OutputLog shared() {
+        return SHARED;
+    }
+
+    /**
+     * Changing quiet mode.
+     *
+     * @param bInitQuiet when true then no line is logged.
+     */
+    public void setQuiet(final boolean bInitQuiet) {
+        this.bQuiet = bInitQuiet;
+    }
+
+    /**
+     * Changing what happens when the queue is full.
+     *
+     * @param bInitDrop when true then lines are dropped (otherwise waiting).
+     */
+    public void setDrop(final boolean bInitDrop) {
+        this.bDrop = bInitDrop;
+    }
+
+    /**
+     * Provide listener logging the lines of one task.
+     *
+     * @param strPrefix prefix for each line (usually the title of the task).
+     * @return listener ({@link ProcessTools#IGNORE} in quiet mode).
+     */
+    public Consumer<String> lines(final String strPrefix) {
+        final var strLinePrefix = strPrefix.isEmpty() ? "" : "[" + strPrefix + "] ";
+        return this.bQuiet ? ProcessTools.IGNORE : strLine -> log(strLinePrefix + strLine);
+    }
+
+    /**
+     * Queue one line for being logged.
+     *
+     * @param strLine the line.
+     */
+    public void log(final String strLine) {
+        if (!this.bQuiet) {
+            startWriter();
+            final boolean bQueued = this.bDrop ? this.queue.offer(strLine) : put(strLine);
+            synchronized (this.monitor) {
+                if (bQueued) {
+                    ++this.lQueued;
+                } else {
+                    ++this.lDropped;
+                }
+            }
+        }
+    }
+
+    /**
+     * Waiting until all lines queued so far have been logged (at most some seconds).
+     */
+    public void flush() {
+        final long lEnd = System.currentTimeMillis() + FLUSH_TIMEOUT;
+        synchronized (this.monitor) {
+            final long lTarget = this.lQueued;
+            long lRemaining = FLUSH_TIMEOUT;
+            while (this.lLogged < lTarget && lRemaining > 0) {
+                try {
+                    this.monitor.wait(lRemaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    lRemaining = 0;
+                }
+                lRemaining = Math.min(lRemaining, lEnd - System.currentTimeMillis());
+            }
+        }
+    }
+
+    /**
+     * Waiting until the line has been queued.
+     *
+     * @param strLine the line.
+     * @return true when queued (false when interrupted).
+     */
+    private boolean put(final String strLine) {
+        boolean bQueued = true;
+        try {
+            this.queue.put(strLine);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            bQueued = false;
+        }
+        return bQueued;
+    }
+
+    /**
+     * Starting the writer thread (once).
+     */
+    private void startWriter() {
+        synchronized (this.monitor) {
+            if (this.writer == null) {
+                this.writer = new Thread(this::write, "output-log");
+                this.writer.setDaemon(true);
+                this.writer.start();
+            }
+        }
+    }
+
+    /**
+     * Logging the queued lines in batches (running until the end of the application).
+     */
+    private void write() {
+        final List<String> batch = new ArrayList<>(MAX_BATCH);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                final var strLine = this.queue.poll(1, TimeUnit.SECONDS);
+                if (strLine != null) {
+                    batch.add(strLine);
+                    this.queue.drainTo(batch, MAX_BATCH - 1);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writeBatch(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Logging one batch of lines.
+     *
+     * @param batch the lines.
+     */
+    private void writeBatch(final List<String> batch) {
+        final long lDroppedLines;
+        synchronized (this.monitor) {
+            lDroppedLines = this.lDropped;
+            this.lDropped = 0;
+        }
+
+        if (lDroppedLines > 0) {
+            batch.add("(" + lDroppedLines + " lines of output dropped)");
+        }
+
+        if (!batch.isEmpty()) {
+            this.sink.accept(String.join(System.lineSeparator(), batch));
+        }
+
+        synchronized (this.monitor) {
+            this.lLogged += batch.size() - (lDroppedLines > 0 ? 1 : 0);
+            this.monitor.notifyAll();
+        }
+    }
+}
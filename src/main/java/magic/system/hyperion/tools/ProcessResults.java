@@ -23,8 +23,8 @@
  */
 package magic.system.hyperion.tools;
 
-import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Keeper for process resultsd.
@@ -34,14 +34,14 @@ import java.util.List;
 public final class ProcessResults {
 
     /**
-     * Line written to stdout by the process.
+     * Output written to stdout by the process.
      */
-    private final List<String> stdout;
+    private final CapturedOutput stdout;
 
     /**
-     * Line written to stderr by the process.
+     * Output written to stderr by the process.
      */
-    private final List<String> stderr;
+    private final CapturedOutput stderr;
 
     /**
      * Exit code of the process.
@@ -56,7 +56,7 @@ public final class ProcessResults {
      * @param iInitExitCode - exit code of process.
      * @since 1.0.0
      */
-    private ProcessResults(final List<String> initStdout, final List<String> initStderr,
+    private ProcessResults(final CapturedOutput initStdout, final CapturedOutput initStderr,
                            final int iInitExitCode) {
         this.stdout = initStdout;
         this.stderr = initStderr;
@@ -64,23 +64,43 @@ public final class ProcessResults {
     }
 
     /**
-     * Readonly access to list of lines written to stdout.
+     * Readonly access to list of lines written to stdout (within the capture limits).
      *
      * @return list of lines written to stdout.
      * @since 1.0.0
      */
     public List<String> getStdout() {
-        return Collections.unmodifiableList(this.stdout);
+        return this.stdout.getLines();
     }
 
     /**
-     * Readonly access to list of lines written to stderr.
+     * Readonly access to list of lines written to stderr (within the capture limits).
      *
      * @return list of lines written to stderr.
      * @since 1.0.0
      */
     public List<String> getStderr() {
-        return Collections.unmodifiableList(this.stderr);
+        return this.stderr.getLines();
+    }
+
+    /**
+     * Output written to stdout by the process.
+     *
+     * @return captured output.
+     * @since 2.0.0
+     */
+    public CapturedOutput getStdoutCapture() {
+        return this.stdout;
+    }
+
+    /**
+     * Output written to stderr by the process.
+     *
+     * @return captured output.
+     * @since 2.0.0
+     */
+    public CapturedOutput getStderrCapture() {
+        return this.stderr;
     }
 
     /**
@@ -93,6 +113,26 @@ public final class ProcessResults {
         return this.iExitCode;
     }
 
+    /**
+     * Number of bytes written to stdout by the process.
+     *
+     * @return number of bytes.
+     * @since 2.0.0
+     */
+    public long getStdoutBytes() {
+        return this.stdout.getBytes();
+    }
+
+    /**
+     * Number of bytes written to stderr by the process.
+     *
+     * @return number of bytes.
+     * @since 2.0.0
+     */
+    public long getStderrBytes() {
+        return this.stderr.getBytes();
+    }
+
     /**
      * Providing process results of last executed process given by parameter.
      *
@@ -101,9 +141,8 @@ public final class ProcessResults {
      * @throws InterruptedException when the process gets interrupted.
      */
     public static ProcessResults of(final Process process) throws InterruptedException {
-        final var result = ProcessTools.captureOutput(process, true);
-        process.waitFor();
-        return new ProcessResults(result.getFirst(), result.getSecond(), process.exitValue());
+        return of(process, CaptureLimits.UNLIMITED, true,
+                ProcessTools.IGNORE, ProcessTools.IGNORE);
     }
 
     /**
@@ -116,7 +155,66 @@ public final class ProcessResults {
      */
     public static ProcessResults of(final Process process, final boolean bLogging)
             throws InterruptedException {
-        final var result = ProcessTools.captureOutput(process, bLogging);
+        return of(process, CaptureLimits.UNLIMITED, bLogging,
+                ProcessTools.IGNORE, ProcessTools.IGNORE);
+    }
+
+    /**
+     * Providing process results of last executed process given by parameter
+     * (logging lines of both streams and passing them to listeners while running).
+     *
+     * @param process        - last executed process.
+     * @param stdoutListener - called for each line of stdout (must not block).
+     * @param stderrListener - called for each line of stderr (must not block).
+     * @return lines written to stdout and stderr and the process exit code.
+     * @throws InterruptedException when the process gets interrupted.
+     * @since 2.0.0
+     */
+    public static ProcessResults of(final Process process,
+                                    final Consumer<String> stdoutListener,
+                                    final Consumer<String> stderrListener)
+            throws InterruptedException {
+        return of(process, CaptureLimits.UNLIMITED, true, stdoutListener, stderrListener);
+    }
+
+    /**
+     * Providing process results of last executed process given by parameter
+     * keeping the lines within given limits and passing them to listeners while
+     * running; the lines are not logged (the caller decides, see {@link OutputLog}).
+     *
+     * @param process        - last executed process.
+     * @param limits         - limits for keeping lines.
+     * @param stdoutListener - called for each line of stdout (must not block).
+     * @param stderrListener - called for each line of stderr (must not block).
+     * @return lines written to stdout and stderr and the process exit code.
+     * @throws InterruptedException when the process gets interrupted.
+     * @since 2.0.0
+     */
+    public static ProcessResults of(final Process process, final CaptureLimits limits,
+                                    final Consumer<String> stdoutListener,
+                                    final Consumer<String> stderrListener)
+            throws InterruptedException {
+        return of(process, limits, false, stdoutListener, stderrListener);
+    }
+
+    /**
+     * Capturing the output of the process and waiting for its end.
+     *
+     * @param process        - last executed process.
+     * @param limits         - limits for keeping lines.
+     * @param bLogging       - when true then logging lines of both streams (otherwise not).
+     * @param stdoutListener - called for each line of stdout (must not block).
+     * @param stderrListener - called for each line of stderr (must not block).
+     * @return lines written to stdout and stderr and the process exit code.
+     * @throws InterruptedException when the process gets interrupted.
+     */
+    private static ProcessResults of(final Process process, final CaptureLimits limits,
+                                     final boolean bLogging,
+                                     final Consumer<String> stdoutListener,
+                                     final Consumer<String> stderrListener)
+            throws InterruptedException {
+        final var result = ProcessTools.capture(process.getInputStream(),
+                process.getErrorStream(), limits, bLogging, stdoutListener, stderrListener);
         process.waitFor();
         return new ProcessResults(result.getFirst(), result.getSecond(), process.exitValue());
     }
@@ -27,14 +27,11 @@ import magic.system.hyperion.generics.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.nio.charset.Charset;
-import java.util.Collections;
 import java.util.List;
-import java.util.Vector;
+import java.util.function.Consumer;
 
 /**
  * Process tools.
@@ -42,11 +39,24 @@ import java.util.Vector;
  * @author Thomas Lehmann
  */
 public final class ProcessTools {
+    /**
+     * Listener ignoring the lines; when no listener and no logging is required the
+     * lines are not decoded while capturing.
+     *
+     * @since 2.0.0
+     */
+    public static final Consumer<String> IGNORE = strLine -> { };
+
     /**
      * Logger for this class.
      */
     private static final Logger LOGGER = LoggerFactory.getLogger(ProcessTools.class);
 
+    /**
+     * Size of the buffer for reading the output of a process.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
     /**
      * Provide stdout and stderr lines of the process and logging those outputs too.
      *
@@ -57,13 +67,70 @@ public final class ProcessTools {
      */
     public static Pair<List<String>, List<String>> captureOutput(final Process process,
                                                                  final boolean bLogging) {
-        final List<String> stdout = new Vector<>();
-        final List<String> stderr = new Vector<>();
+        return captureOutput(process, bLogging, IGNORE, IGNORE);
+    }
+
+    /**
+     * Provide stdout and stderr lines of the process and logging those outputs too;
+     * each line is also passed to a listener while the process is running.
+     *
+     * @param process        the process to capture the output from.
+     * @param bLogging       when true then logging lines of both streams.
+     * @param stdoutListener called for each line of stdout (must not block).
+     * @param stderrListener called for each line of stderr (must not block).
+     * @return lines of stdout and stderr.
+     * @since 2.0.0
+     */
+    public static Pair<List<String>, List<String>> captureOutput(
+            final Process process, final boolean bLogging,
+            final Consumer<String> stdoutListener, final Consumer<String> stderrListener) {
+        return captureOutput(process.getInputStream(), process.getErrorStream(),
+                bLogging, stdoutListener, stderrListener);
+    }
+
+    /**
+     * Provide stdout and stderr lines of a process from given streams (see
+     * {@link #captureOutput(Process, boolean, Consumer, Consumer)}).
+     *
+     * @param stdoutStream   stdout of the process.
+     * @param stderrStream   stderr of the process.
+     * @param bLogging       when true then logging lines of both streams.
+     * @param stdoutListener called for each line of stdout (must not block).
+     * @param stderrListener called for each line of stderr (must not block).
+     * @return lines of stdout and stderr.
+     */
+    static Pair<List<String>, List<String>> captureOutput(
+            final InputStream stdoutStream, final InputStream stderrStream,
+            final boolean bLogging,
+            final Consumer<String> stdoutListener, final Consumer<String> stderrListener) {
+        final var output = capture(stdoutStream, stderrStream, CaptureLimits.UNLIMITED,
+                bLogging, stdoutListener, stderrListener);
+        return Pair.of(output.getFirst().getLines(), output.getSecond().getLines());
+    }
 
-        final var stdoutCaptureThread
-                = createCaptureThread(process.getInputStream(), stdout, bLogging);
-        final var stderrCaptureThread
-                = createCaptureThread(process.getErrorStream(), stderr, bLogging);
+    /**
+     * Capturing stdout and stderr of a process from given streams within given limits.
+     *
+     * @param stdoutStream   stdout of the process.
+     * @param stderrStream   stderr of the process.
+     * @param limits         limits for keeping lines.
+     * @param bLogging       when true then logging lines of both streams.
+     * @param stdoutListener called for each line of stdout (must not block).
+     * @param stderrListener called for each line of stderr (must not block).
+     * @return captured stdout and stderr.
+     */
+    static Pair<CapturedOutput, CapturedOutput> capture(
+            final InputStream stdoutStream, final InputStream stderrStream,
+            final CaptureLimits limits, final boolean bLogging,
+            final Consumer<String> stdoutListener, final Consumer<String> stderrListener) {
+        Metrics.processStarted();
+        final var stdout = new CapturedOutput(limits, Charset.defaultCharset(),
+                createLineListener(stdoutListener, bLogging));
+        final var stderr = new CapturedOutput(limits, Charset.defaultCharset(),
+                createLineListener(stderrListener, bLogging));
+
+        final var stdoutCaptureThread = createCaptureThread(stdoutStream, stdout);
+        final var stderrCaptureThread = createCaptureThread(stderrStream, stderr);
 
         stdoutCaptureThread.start();
         stderrCaptureThread.start();
@@ -74,37 +141,69 @@ public final class ProcessTools {
             stderrCaptureThread.join();
         } catch (InterruptedException e) {
             LOGGER.error(e.getMessage(), e);
+            // keeping the interrupt for the caller
+            Thread.currentThread().interrupt();
+        }
+
+        if (bLogging) {
+            OutputLog.shared().flush();
         }
+        return Pair.of(stdout, stderr);
+    }
 
-        return Pair.of(Collections.unmodifiableList(stdout), Collections.unmodifiableList(stderr));
+    /**
+     * Killing a process and all its descendants (like processes started by a shell script).
+     *
+     * @param process the process to kill.
+     * @since 2.0.0
+     */
+    public static void destroyTree(final Process process) {
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        process.destroyForcibly();
+    }
+
+    /**
+     * Listener for the decoded lines of a stream.
+     *
+     * @param listener called for each captured line.
+     * @param bLogging when true then logging the lines of the stream (see {@link OutputLog}).
+     * @return listener or null when the lines have not to be decoded while capturing.
+     */
+    private static Consumer<String> createLineListener(final Consumer<String> listener,
+                                                       final boolean bLogging) {
+        final var log = bLogging ? OutputLog.shared().lines("") : IGNORE;
+        Consumer<String> lineListener = null;
+        if (log != IGNORE) {
+            lineListener = listener == IGNORE ? log : listener.andThen(log);
+        } else if (listener != IGNORE) {
+            lineListener = listener;
+        }
+        return lineListener;
     }
 
     /**
      * The capture thread implementation capturing either stdout or stderr depending on the
-     * the passes stream.
+     * the passes stream; the bytes are read as they are (decoded when required only).
      *
-     * @param stream        either {@link Process#getInputStream()} or
-     *                      {@link Process#getErrorStream()}.
-     * @param capturedLines container to add captured lines.
-     * @param bLogging      when true then logging the lines of the stream.
+     * @param stream either {@link Process#getInputStream()} or
+     *               {@link Process#getErrorStream()}.
+     * @param output where to capture the output.
      * @return Thread to be started.
      */
     private static Thread createCaptureThread(final InputStream stream,
-                                              final List<String> capturedLines,
-                                              final boolean bLogging) {
+                                              final CapturedOutput output) {
         return new Thread(() -> {
-            try (var reader = new BufferedReader(
-                    new InputStreamReader(stream, Charset.defaultCharset()))) {
-
-                String strLine;
-                while ((strLine = reader.readLine()) != null) {
-                    capturedLines.add(strLine);
-                    if (bLogging) {
-                        LOGGER.info(strLine);
-                    }
+            try (stream) {
+                final var buffer = new byte[BUFFER_SIZE];
+                int iLength = stream.read(buffer);
+                while (iLength >= 0) {
+                    output.write(buffer, iLength);
+                    iLength = stream.read(buffer);
                 }
             } catch (IOException e) {
                 LOGGER.error(e.getMessage(), e);
+            } finally {
+                output.finish();
             }
         });
     }
@@ -57,6 +57,12 @@ public final class Runner {
      */
     private int iTimeout;
 
+    /**
+     * Maximum number of runnables running at same time in parallel mode
+     * (0: all runnables at same time).
+     */
+    private int iMaxParallel;
+
     /**
      * Initialize runner with a list of runnables.
      *
@@ -66,6 +72,7 @@ public final class Runner {
         this.runnables = initRunnables;
         this.bIsParallel = false;
         this.iTimeout = DEFAULT_TIMEOUT;
+        this.iMaxParallel = 0;
     }
 
     /**
@@ -88,6 +95,16 @@ public final class Runner {
         this.iTimeout = iInitTimeout;
     }
 
+    /**
+     * Change maximum number of runnables running at same time in parallel mode.
+     *
+     * @param iInitMaxParallel new maximum (0: all runnables at same time).
+     * @since 2.0.0
+     */
+    public void setMaxParallel(final int iInitMaxParallel) {
+        this.iMaxParallel = iInitMaxParallel;
+    }
+
     /**
      * Running all runnables.
      *
@@ -122,12 +139,18 @@ public final class Runner {
         final var executor = Executors.newFixedThreadPool(1);
 
         try {
-            final List<Runnable> wrappedRunnable = List.of(() -> runnables.forEach(Runnable::run));
+            Metrics.runnerThreads(1);
+            final List<Runnable> wrappedRunnable = List.of(() -> runnables.stream()
+                    .map(Metrics::measured).forEach(Runnable::run));
             wrappedRunnable.forEach(executor::submit);
             executor.shutdown();
             executor.awaitTermination(this.iTimeout, TimeUnit.MILLISECONDS);
         } catch (final InterruptedException | RejectedExecutionException e) {
+            // interrupting running runnables too (like when a document run is cancelled)
+            executor.shutdownNow();
             throw new HyperionException(e.getMessage());
+        } finally {
+            Metrics.runnerThreads(-1);
         }
     }
 
@@ -137,14 +160,21 @@ public final class Runner {
      * @throws HyperionException when thread execution has failed.
      */
     private void runInParallel() throws HyperionException {
-        final var executor = Executors.newFixedThreadPool(this.runnables.size());
+        final int iThreads = this.iMaxParallel > 0
+                ? Math.min(this.iMaxParallel, this.runnables.size()) : this.runnables.size();
+        final var executor = Executors.newFixedThreadPool(iThreads);
 
         try {
-            this.runnables.forEach(executor::submit);
+            Metrics.runnerThreads(iThreads);
+            this.runnables.stream().map(Metrics::measured).forEach(executor::submit);
             executor.shutdown();
             executor.awaitTermination(this.iTimeout, TimeUnit.MILLISECONDS);
         } catch (final InterruptedException | RejectedExecutionException e) {
+            // interrupting running runnables too (like when a document run is cancelled)
+            executor.shutdownNow();
             throw new HyperionException(e.getMessage());
+        } finally {
+            Metrics.runnerThreads(-iThreads);
         }
     }
 }
@@ -0,0 +1,216 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.tools;
+
+import com.mitchellbosecke.pebble.cache.PebbleCache;
+import com.mitchellbosecke.pebble.template.PebbleTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Cache for compiled templates counting hits and misses (see {@link Metrics}).
+ * The key is the template text itself (held by the caller anyway); a lookup
+ * of a cached template does not lock. The cache is bounded by the total length
+ * of the cached templates (least recently used templates are removed first
+ * when adding a template exceeds the limit); templates longer than a given limit
+ * are compiled each time and never cached.
+ *
+ * @author Thomas Lehmann
+ */
+final class TemplateCache implements PebbleCache<Object, PebbleTemplate> {
+    /**
+     * Compiled templates by template text.
+     */
+    private final Map<Object, CachedTemplate> templates;
+
+    /**
+     * Maximum total length of all cached templates (in characters).
+     */
+    private final long lMaxTotalLength;
+
+    /**
+     * Maximum length of a single template to be cached (in characters).
+     */
+    private final int iMaxTemplateLength;
+
+    /**
+     * Current total length of all cached templates (in characters).
+     */
+    private final AtomicLong totalLength;
+
+    /**
+     * Initialize empty cache.
+     *
+     * @param lInitMaxTotalLength maximum total length of all cached templates.
+     * @param iInitMaxTemplateLength maximum length of a single cached template.
+     */
+    TemplateCache(final long lInitMaxTotalLength, final int iInitMaxTemplateLength) {
+        this.templates = new ConcurrentHashMap<>();
+        this.lMaxTotalLength = lInitMaxTotalLength;
+        this.iMaxTemplateLength = iInitMaxTemplateLength;
+        this.totalLength = new AtomicLong();
+    }
+
+    @Override
+    public PebbleTemplate computeIfAbsent(
+            final Object key,
+            final Function<? super Object, ? extends PebbleTemplate> mappingFunction) {
+        var cached = this.templates.get(key);
+        Metrics.templateCacheLookup(cached != null);
+
+        if (cached == null) {
+            // compiled outside of the map: compiling might need other templates
+            final var template = mappingFunction.apply(key);
+            final int iLength = String.valueOf(key).length();
+            cached = new CachedTemplate(template, iLength);
+            if (iLength <= this.iMaxTemplateLength) {
+                cached = add(key, cached);
+            }
+        } else {
+            cached.touch();
+        }
+
+        return cached.template;
+    }
+
+    @Override
+    public void invalidateAll() {
+        synchronized (this.totalLength) {
+            for (final var key : this.templates.keySet()) {
+                remove(key, this.templates.get(key));
+            }
+        }
+    }
+
+    /**
+     * Get number of cached templates.
+     *
+     * @return number of cached templates.
+     */
+    int getSize() {
+        return this.templates.size();
+    }
+
+    /**
+     * Get current total length of all cached templates.
+     *
+     * @return total length in characters.
+     */
+    long getTotalLength() {
+        return this.totalLength.get();
+    }
+
+    /**
+     * Adding compiled template (when not added by another thread meanwhile)
+     * and removing least recently used templates when exceeding the limit.
+     *
+     * @param key    the template text.
+     * @param cached the compiled template.
+     * @return the cached template.
+     */
+    private CachedTemplate add(final Object key, final CachedTemplate cached) {
+        final var previous = this.templates.putIfAbsent(key, cached);
+        CachedTemplate result = cached;
+        if (previous == null) {
+            if (this.totalLength.addAndGet(cached.iLength) > this.lMaxTotalLength) {
+                evict();
+            }
+        } else {
+            result = previous;
+        }
+        return result;
+    }
+
+    /**
+     * Removing least recently used templates until the total length
+     * is within the limit (one thread at a time).
+     */
+    private void evict() {
+        synchronized (this.totalLength) {
+            final var entries = new ArrayList<>(this.templates.entrySet());
+            entries.sort(Comparator.comparingLong(entry -> entry.getValue().lLastUsed));
+            final var iterator = entries.iterator();
+            while (this.totalLength.get() > this.lMaxTotalLength && iterator.hasNext()) {
+                final var entry = iterator.next();
+                remove(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Removing a cached template (when still cached) adjusting the total length.
+     *
+     * @param key    the template text.
+     * @param cached the compiled template.
+     */
+    private void remove(final Object key, final CachedTemplate cached) {
+        if (cached != null && this.templates.remove(key, cached)) {
+            this.totalLength.addAndGet(-cached.iLength);
+        }
+    }
+
+    /**
+     * Compiled template with the length of its text and its last use.
+     */
+    private static final class CachedTemplate {
+        /**
+         * Compiled template.
+         */
+        private final PebbleTemplate template;
+
+        /**
+         * Length of the template text (in characters).
+         */
+        private final int iLength;
+
+        /**
+         * Time of last use (nanoseconds, for eviction order only).
+         */
+        private volatile long lLastUsed;
+
+        /**
+         * Initialize cached template.
+         *
+         * @param initTemplate compiled template.
+         * @param iInitLength length of the template text.
+         */
+        CachedTemplate(final PebbleTemplate initTemplate, final int iInitLength) {
+            this.template = initTemplate;
+            this.iLength = iInitLength;
+            this.lLastUsed = System.nanoTime();
+        }
+
+        /**
+         * Marking the template as used now.
+         */
+        void touch() {
+            this.lLastUsed = System.nanoTime();
+        }
+    }
+}
@@ -30,6 +30,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.StringWriter;
+import java.io.Writer;
 import java.util.Map;
 
 /**
@@ -45,6 +46,26 @@ public class TemplateEngine {
     private static final Logger LOGGER = LoggerFactory.getLogger(
             TemplateEngine.class);
 
+    /**
+     * Maximum total length of all cached templates (in characters).
+     */
+    private static final long TEMPLATE_CACHE_MAX_TOTAL_LENGTH = 4L * 1024 * 1024;
+
+    /**
+     * Templates longer than this (in characters) are not cached.
+     */
+    private static final int TEMPLATE_CACHE_MAX_TEMPLATE_LENGTH = 64 * 1024;
+
+    /**
+     * Concrete template engine (thread safe, shared to reuse compiled templates).
+     * By default it does render from file but string is wanted here.
+     */
+    private static final PebbleEngine ENGINE = new PebbleEngine.Builder()
+            .loader(new StringLoader())
+            .templateCache(new TemplateCache(
+                    TEMPLATE_CACHE_MAX_TOTAL_LENGTH, TEMPLATE_CACHE_MAX_TEMPLATE_LENGTH))
+            .build();
+
     /**
      * Concrete template engine.
      */
@@ -55,8 +76,7 @@ public class TemplateEngine {
      * @since 1.0.0
      */
     public TemplateEngine() {
-        // By default it does render from file but string is wanted here:
-        this.engine = new PebbleEngine.Builder().loader(new StringLoader()).build();
+        this.engine = ENGINE;
     }
 
     /**
@@ -68,10 +88,10 @@ public class TemplateEngine {
      * @since 1.0.0
      */
     public String render(final String strTemplate, final Map<String, Object> context) {
-        final var compiledTemplated = engine.getTemplate(strTemplate);
         final var writer = new StringWriter();
         var result = strTemplate;
-        try {
+        try (var span = TraceRecorder.current().span("template", "render")) {
+            final var compiledTemplated = engine.getTemplate(strTemplate);
             compiledTemplated.evaluate(writer, context);
             result = writer.toString();
         } catch (IOException e) {
@@ -79,4 +99,19 @@ public class TemplateEngine {
         }
         return result;
     }
+
+    /**
+     * Rendering template with given data directly into given writer
+     * (no intermediate string for the rendered text).
+     *
+     * @param strTemplate concrete template code.
+     * @param context variables.
+     * @param writer where to write the rendered text to.
+     * @throws IOException when writing has failed.
+     * @since 2.0.0
+     */
+    public void render(final String strTemplate, final Map<String, Object> context,
+                       final Writer writer) throws IOException {
+        this.engine.getTemplate(strTemplate).evaluate(writer, context);
+    }
 }
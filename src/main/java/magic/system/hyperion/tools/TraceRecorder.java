@@ -0,0 +1,247 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.tools;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recording spans of a document run (matrix items, task groups, tasks,
+ * template rendering, ...) as timeline in Chrome Trace Event format
+ * (to be loaded into chrome://tracing or https://ui.perfetto.dev).
+ * Finished spans are added to a lock-free queue and converted to JSON at the end.
+ * <pre>
+ *  {@code
+ *  final var trace = TraceRecorder.create();
+ *  try (var span = trace.span("task", "hello")) {
+ *      // spans opened with TraceRecorder.current() in this thread are recorded too
+ *  }
+ *  trace.write(path);
+ *  }
+ * </pre>
+ *
+ * @author Thomas Lehmann
+ */
+public final class TraceRecorder {
+    /**
+     * Recorder ignoring all spans.
+     */
+    private static final TraceRecorder DISABLED = new TraceRecorder(false);
+
+    /**
+     * Recorder of the span currently open in a thread.
+     */
+    private static final ThreadLocal<TraceRecorder> CURRENT
+            = ThreadLocal.withInitial(() -> DISABLED);
+
+    /**
+     * Process id used for all events (there is one process only).
+     */
+    private static final int PID = 1;
+
+    /**
+     * Field for name of an event.
+     */
+    private static final String NAME = "name";
+
+    /**
+     * Field for phase (type) of an event.
+     */
+    private static final String PHASE = "ph";
+
+    /**
+     * Field for process id of an event.
+     */
+    private static final String PROCESS_ID = "pid";
+
+    /**
+     * Field for thread id of an event.
+     */
+    private static final String THREAD_ID = "tid";
+
+    /**
+     * When false then spans are not recorded.
+     */
+    private final boolean bEnabled;
+
+    /**
+     * Time ({@link System#nanoTime()}) when recording has started.
+     */
+    private final long lStartNanos;
+
+    /**
+     * Finished spans.
+     */
+    private final Queue<TraceSpan> spans;
+
+    /**
+     * Initialize recorder.
+     *
+     * @param bInitEnabled when false then spans are not recorded.
+     */
+    private TraceRecorder(final boolean bInitEnabled) {
+        this.bEnabled = bInitEnabled;
+        this.lStartNanos = System.nanoTime();
+        this.spans = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Create recorder (the recording starts now).
+     *
+     * @return new recorder.
+     * @since 2.0.0
+     */
+    public static TraceRecorder create() {
+        return new TraceRecorder(true);
+    }
+
+    /**
+     * Provide recorder ignoring all spans.
+     *
+     * @return disabled recorder.
+     * @since 2.0.0
+     */
+    public static TraceRecorder disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Provide recorder of the span currently open in this thread.
+     *
+     * @return recorder (disabled when no span is open).
+     * @since 2.0.0
+     */
+    public static TraceRecorder current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Get whether spans are recorded.
+     *
+     * @return true when spans are recorded.
+     * @since 2.0.0
+     */
+    public boolean isEnabled() {
+        return this.bEnabled;
+    }
+
+    /**
+     * Open a span in the current thread; it ends when it is closed. Until then
+     * this recorder is the current one of the thread (see {@link #current()}).
+     *
+     * @param strCategory category of the span (like "task").
+     * @param strName     name of the span.
+     * @return span to close (in the same thread).
+     * @since 2.0.0
+     */
+    public TraceSpan span(final String strCategory, final String strName) {
+        TraceSpan span = TraceSpan.NONE;
+        if (this.bEnabled) {
+            span = new TraceSpan(this, CURRENT.get(), strCategory, strName);
+            CURRENT.set(this);
+        }
+        return span;
+    }
+
+    /**
+     * Recording a closed span.
+     *
+     * @param span     the closed span.
+     * @param previous the recorder current when the span has been opened.
+     */
+    void finish(final TraceSpan span, final TraceRecorder previous) {
+        this.spans.add(span);
+        CURRENT.set(previous);
+    }
+
+    /**
+     * Provide all closed spans as JSON in Chrome Trace Event format.
+     *
+     * @return JSON object with field "traceEvents".
+     * @since 2.0.0
+     */
+    public String toJson() {
+        final var mapper = YamlTools.getJsonMapper();
+        final var root = mapper.createObjectNode();
+        final var events = root.putArray("traceEvents");
+        final List<TraceSpan> finishedSpans = new ArrayList<>(this.spans);
+        finishedSpans.sort(Comparator.comparingLong(TraceSpan::getStartNanos));
+
+        final Map<Long, String> threads = new TreeMap<>();
+        finishedSpans.forEach(span -> threads.put(span.getThreadId(), span.getThreadName()));
+        threads.forEach((lThreadId, strThreadName) -> {
+            final var event = events.addObject();
+            event.put(NAME, "thread_name");
+            event.put(PHASE, "M");
+            event.put(PROCESS_ID, PID);
+            event.put(THREAD_ID, lThreadId);
+            event.putObject("args").put(NAME, strThreadName);
+        });
+
+        finishedSpans.forEach(span -> {
+            final var event = events.addObject();
+            event.put(NAME, span.getName());
+            event.put("cat", span.getCategory());
+            event.put(PHASE, "X");
+            event.put("ts", toMicros(span.getStartNanos()));
+            event.put("dur", TimeUnit.NANOSECONDS.toMicros(
+                    span.getEndNanos() - span.getStartNanos()));
+            event.put(PROCESS_ID, PID);
+            event.put(THREAD_ID, span.getThreadId());
+        });
+        root.put("displayTimeUnit", "ms");
+        return root.toString();
+    }
+
+    /**
+     * Writing all closed spans as JSON in Chrome Trace Event format.
+     *
+     * @param path path and filename of the trace.
+     * @throws IOException when writing the file has failed.
+     * @since 2.0.0
+     */
+    public void write(final Path path) throws IOException {
+        Files.writeString(path, toJson(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Convert a time ({@link System#nanoTime()}) into microseconds since start of recording.
+     *
+     * @param lNanos time in nanoseconds.
+     * @return microseconds since start of recording.
+     */
+    private long toMicros(final long lNanos) {
+        return TimeUnit.NANOSECONDS.toMicros(lNanos - this.lStartNanos);
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.tools;
+
+/**
+ * A span of a {@link TraceRecorder} (opened and closed in the same thread).
+ *
+ * @author Thomas Lehmann
+ */
+public final class TraceSpan implements AutoCloseable {
+    /**
+     * Span which is not recorded.
+     */
+    static final TraceSpan NONE = new TraceSpan(null, null, "", "");
+
+    /**
+     * The recorder of the span (null when not recorded).
+     */
+    private final TraceRecorder recorder;
+
+    /**
+     * The recorder current when the span has been opened.
+     */
+    private final TraceRecorder previous;
+
+    /**
+     * Category of the span.
+     */
+    private final String strCategory;
+
+    /**
+     * Name of the span.
+     */
+    private final String strName;
+
+    /**
+     * Id of the thread which has opened the span.
+     */
+    private final long lThreadId;
+
+    /**
+     * Name of the thread which has opened the span.
+     */
+    private final String strThreadName;
+
+    /**
+     * Time ({@link System#nanoTime()}) when the span has been opened.
+     */
+    private final long lStartNanos;
+
+    /**
+     * Time ({@link System#nanoTime()}) when the span has been closed.
+     */
+    private long lEndNanos;
+
+    /**
+     * Open span in the current thread.
+     *
+     * @param initRecorder the recorder of the span (null when not recorded).
+     * @param initPrevious the recorder current when the span has been opened.
+     * @param strInitCategory category of the span.
+     * @param strInitName name of the span.
+     */
+    TraceSpan(final TraceRecorder initRecorder, final TraceRecorder initPrevious,
+              final String strInitCategory, final String strInitName) {
+        this.recorder = initRecorder;
+        this.previous = initPrevious;
+        this.strCategory = strInitCategory;
+        this.strName = strInitName;
+        final var thread = Thread.currentThread();
+        this.lThreadId = thread.getId();
+        this.strThreadName = thread.getName();
+        this.lStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Closing the span (recording it).
+     */
+    @Override
+    public void close() {
+        if (this.recorder != null) {
+            this.lEndNanos = System.nanoTime();
+            this.recorder.finish(this, this.previous);
+        }
+    }
+
+    /**
+     * Get category of the span.
+     *
+     * @return category.
+     */
+    String getCategory() {
+        return this.strCategory;
+    }
+
+    /**
+     * Get name of the span.
+     *
+     * @return name.
+     */
+    String getName() {
+        return this.strName;
+    }
+
+    /**
+     * Get id of the thread which has opened the span.
+     *
+     * @return thread id.
+     */
+    long getThreadId() {
+        return this.lThreadId;
+    }
+
+    /**
+     * Get name of the thread which has opened the span.
+     *
+     * @return thread name.
+     */
+    String getThreadName() {
+        return this.strThreadName;
+    }
+
+    /**
+     * Get time when the span has been opened.
+     *
+     * @return time ({@link System#nanoTime()}).
+     */
+    long getStartNanos() {
+        return this.lStartNanos;
+    }
+
+    /**
+     * Get time when the span has been closed.
+     *
+     * @return time ({@link System#nanoTime()}).
+     */
+    long getEndNanos() {
+        return this.lEndNanos;
+    }
+}
@@ -25,17 +25,35 @@ package magic.system.hyperion.tools;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
+import static com.fasterxml.jackson.module.kotlin.ExtensionsKt.jacksonObjectMapper;
+
 /**
- * YAML tools.
+ * YAML (and JSON) tools. Creating an object mapper is expensive; therefore
+ * the mapper and reader are created once and shared (both are thread-safe
+ * as long as the configuration is not changed).
  *
  * @author Thomas Lehmann
  */
 public final class YamlTools {
+    /**
+     * Shared reader for YAML trees.
+     */
+    private static final ObjectReader YAML_READER
+            = new ObjectMapper(new YAMLFactory()).reader();
+
+    /**
+     * Shared mapper for JSON (with conversions like for ZonedDateTime).
+     */
+    private static final ObjectMapper JSON_MAPPER
+            = jacksonObjectMapper().findAndRegisterModules();
+
     /**
      * Instantiation not allowed.
      */
@@ -52,8 +70,9 @@ public final class YamlTools {
      * @since 2.0.0
      */
     public static JsonNode readYamlTree(final Path path) throws IOException {
-        final var mapper = new ObjectMapper(new YAMLFactory());
-        return mapper.readTree(path.toUri().toURL());
+        try (var stream = Files.newInputStream(path)) {
+            return YAML_READER.readTree(stream);
+        }
     }
 
     /**
@@ -65,7 +84,16 @@ public final class YamlTools {
      * @since 2.0.0
      */
     public static JsonNode readYamlTree(final byte[] content) throws IOException {
-        final var mapper = new ObjectMapper(new YAMLFactory());
-        return mapper.readTree(content);
+        return YAML_READER.readTree(content);
+    }
+
+    /**
+     * Provide shared JSON mapper (do not change its configuration).
+     *
+     * @return JSON mapper.
+     * @since 2.0.0
+     */
+    public static ObjectMapper getJsonMapper() {
+        return JSON_MAPPER;
     }
 }
@@ -0,0 +1,75 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.components;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing of class {@link Cancellation}.
+ *
+ * @author Thomas Lehmann
+ */
+@DisplayName("Testing class Cancellation")
+class CancellationTest {
+    /**
+     * Testing that registered actions are run once on cancellation.
+     */
+    @Test
+    public void testCancel() {
+        final var cancellation = new Cancellation();
+        final var counter = new AtomicInteger();
+        final var removed = new AtomicInteger();
+
+        cancellation.onCancel(counter::incrementAndGet);
+        final var remove = cancellation.onCancel(removed::incrementAndGet);
+        remove.run();
+        assertFalse(cancellation.isCancelled());
+
+        cancellation.cancel();
+        cancellation.cancel();
+        assertTrue(cancellation.isCancelled());
+        assertEquals(1, counter.get());
+        assertEquals(0, removed.get());
+    }
+
+    /**
+     * Testing that an action registered after cancellation is run immediately.
+     */
+    @Test
+    public void testCancelledAlready() {
+        final var cancellation = new Cancellation();
+        final var counter = new AtomicInteger();
+
+        cancellation.cancel();
+        cancellation.onCancel(counter::incrementAndGet).run();
+        assertEquals(1, counter.get());
+    }
+}
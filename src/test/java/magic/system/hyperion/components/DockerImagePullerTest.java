@@ -0,0 +1,122 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.components;
+
+import magic.system.hyperion.components.tasks.DockerContainerTask;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing class {@link DockerImagePuller}.
+ *
+ * @author Thomas Lehmann
+ */
+@DisplayName("Testing DockerImagePuller")
+@SuppressWarnings("checkstyle:multiplestringliterals")
+public class DockerImagePullerTest {
+    /**
+     * Testing collecting of images (matrix, templating, tags and duplicates).
+     */
+    @Test
+    public void testCollectImages() {
+        final var document = new Document();
+        final var matrixParameters1 = new MatrixParameters("first");
+        matrixParameters1.setParameters(Map.of("version", "10"));
+        document.add(matrixParameters1);
+        final var matrixParameters2 = new MatrixParameters("second");
+        matrixParameters2.setParameters(Map.of("version", "11"));
+        document.add(matrixParameters2);
+
+        final var taskGroup = new TaskGroup("test", false);
+        taskGroup.add(createTask("debian", "{{ matrix.version }}", null));
+        taskGroup.add(createTask("debian", "latest", null));
+        taskGroup.add(createTask("debian", "latest", null));
+        taskGroup.add(createTask("centos", "latest", "special"));
+        // known when running the task only
+        taskGroup.add(createTask("{{ with.value }}", "latest", null));
+        taskGroup.add(createTask("alpine", "{{ variables.default.value }}", null));
+        document.add(taskGroup);
+
+        assertEquals(Set.of("centos:latest", "debian:10", "debian:11", "debian:latest"),
+                DockerImagePuller.collectImages(document, List.of()));
+        assertEquals(Set.of("centos:latest"),
+                DockerImagePuller.collectImages(document, List.of("special")));
+    }
+
+    /**
+     * Testing that an image being present is not pulled.
+     */
+    @Test
+    public void testImagePresent() {
+        final List<List<String>> commands = new ArrayList<>();
+        assertFalse(DockerImagePuller.pullImage("debian:latest", arguments -> {
+            commands.add(arguments);
+            return 0;
+        }));
+        assertEquals(List.of(List.of("image", "inspect", "debian:latest")), commands);
+    }
+
+    /**
+     * Testing that a missing image is pulled.
+     */
+    @Test
+    public void testImageMissing() {
+        final List<List<String>> commands = new ArrayList<>();
+        assertTrue(DockerImagePuller.pullImage("debian:latest", arguments -> {
+            commands.add(arguments);
+            return arguments.get(0).equals("image") ? 1 : 0;
+        }));
+        assertEquals(List.of(List.of("image", "inspect", "debian:latest"),
+                List.of("pull", "-q", "debian:latest")), commands);
+    }
+
+    /**
+     * Create Docker container task.
+     *
+     * @param strImageName    name of image.
+     * @param strImageVersion version of image.
+     * @param strTag          tag of task or null.
+     * @return task.
+     */
+    private static DockerContainerTask createTask(final String strImageName,
+                                                  final String strImageVersion,
+                                                  final String strTag) {
+        final var task = new DockerContainerTask("test", "echo hello");
+        task.setImageName(strImageName);
+        task.setImageVersion(strImageVersion);
+        if (strTag != null) {
+            task.addTag(strTag);
+        }
+        return task;
+    }
+}
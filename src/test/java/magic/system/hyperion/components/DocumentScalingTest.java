@@ -0,0 +1,201 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.components;
+
+import magic.system.hyperion.reader.DocumentReader;
+import magic.system.hyperion.tools.DocumentGenerator;
+import magic.system.hyperion.tools.ResourceUsage;
+import magic.system.hyperion.tools.TimeTools;
+import magic.system.hyperion.tools.YamlTools;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Scaling tests for reading and running generated documents of growing size
+ * recording wall time, peak heap and peak threads. Not part of the normal
+ * build; run with: mvn test -Dtest=DocumentScalingTest -Dgroups=scaling -Dtest.excluded.groups=
+ * (results in target/scaling-result.json).
+ */
+@Tag("scaling")
+@DisplayName("Scaling of Document")
+@SuppressWarnings("checkstyle:multiplestringliterals")
+public class DocumentScalingTest {
+    /**
+     * Logger of this class.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(DocumentScalingTest.class);
+
+    /**
+     * Number of parameters of each matrix run.
+     */
+    private static final int MATRIX_PARAMETERS = 100;
+
+    /**
+     * Timeout of a task group in minutes.
+     */
+    private static final int TIMEOUT_MINUTES = 10;
+
+    /**
+     * Recorded results.
+     */
+    private static final List<Map<String, Object>> RESULTS
+            = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * Testing reading of documents of growing size.
+     *
+     * @param iTaskGroups number of task groups.
+     * @param iTasks      number of tasks per task group.
+     * @param iWithValues number of "with" values per task.
+     * @param iModelSize  size of the model in bytes.
+     * @param iMatrixRuns number of matrix runs (with {@link #MATRIX_PARAMETERS} parameters each).
+     * @throws Exception when measuring has failed.
+     */
+    @ParameterizedTest(name = "#{index} - groups={0}, tasks={1}, with={2}, model={3}, matrix={4}")
+    @CsvSource({
+            "10, 10, 0, 0, 0",
+            "100, 10, 0, 0, 0",
+            "1000, 10, 0, 0, 0",
+            "1, 1, 1000, 0, 0",
+            "1, 1, 10000, 0, 0",
+            "1, 1, 100000, 0, 0",
+            "1, 1, 0, 100000, 0",
+            "1, 1, 0, 1000000, 0",
+            "1, 1, 0, 10000000, 0",
+            "1, 1, 0, 0, 10",
+            "1, 1, 0, 0, 1000",
+    })
+    @SuppressWarnings("checkstyle:parameternumber")
+    public void testRead(final int iTaskGroups, final int iTasks, final int iWithValues,
+                         final int iModelSize, final int iMatrixRuns) throws Exception {
+        final var content = DocumentGenerator.of()
+                .setTaskGroups(iTaskGroups).setTasks(iTasks).setWithValues(iWithValues)
+                .setModelSize(iModelSize).setMatrix(iMatrixRuns, MATRIX_PARAMETERS)
+                .setKinds(DocumentGenerator.Kind.values())
+                .generate().getBytes(StandardCharsets.UTF_8);
+
+        final var measured = ResourceUsage.measure(() -> new DocumentReader().read(content));
+        assertNotNull(measured.getKey());
+        assertEquals(iTaskGroups, measured.getKey().getListOfTaskGroups().size());
+        record("read", Map.of("taskGroups", iTaskGroups, "tasks", iTasks,
+                "withValues", iWithValues, "modelSize", iModelSize,
+                "matrixRuns", iMatrixRuns, "documentSize", content.length),
+                measured.getValue());
+    }
+
+    /**
+     * Testing running of documents of growing size.
+     *
+     * @param iTaskGroups number of task groups.
+     * @param iTasks      number of tasks per task group.
+     * @param iWithValues number of "with" values per task.
+     * @param bParallel   when true then the tasks of a group run in parallel.
+     * @param strKinds    kinds of tasks separated by blank.
+     * @param path        temporary path for the write-file tasks.
+     * @throws Exception when measuring has failed.
+     */
+    @ParameterizedTest(name = "#{index} - groups={0}, tasks={1}, with={2}, parallel={3}, kinds={4}")
+    @CsvSource({
+            "1, 10, 0, false, SHELL WRITE_FILE",
+            "10, 10, 0, false, SHELL WRITE_FILE",
+            "100, 10, 0, false, SHELL WRITE_FILE",
+            "10, 10, 0, true, SHELL WRITE_FILE",
+            "100, 10, 0, true, SHELL WRITE_FILE",
+            "1, 1, 100, true, SHELL",
+            "1, 1, 1000, true, SHELL",
+            "1, 1, 1000, true, WRITE_FILE",
+            "1, 4, 0, true, GROOVY JSHELL",
+    })
+    @EnabledOnOs({OS.LINUX, OS.MAC})
+    @SuppressWarnings("checkstyle:parameternumber")
+    public void testRun(final int iTaskGroups, final int iTasks, final int iWithValues,
+                        final boolean bParallel, final String strKinds,
+                        @TempDir final Path path) throws Exception {
+        final var kinds = Arrays.stream(strKinds.split(" "))
+                .map(DocumentGenerator.Kind::valueOf).toArray(DocumentGenerator.Kind[]::new);
+        final var document = new DocumentReader().read(DocumentGenerator.of()
+                .setTaskGroups(iTaskGroups).setTasks(iTasks).setWithValues(iWithValues)
+                .setParallel(bParallel).setKinds(kinds).setPath(path)
+                .generate().getBytes(StandardCharsets.UTF_8));
+
+        final var measured = ResourceUsage.measure(() -> document.run(DocumentParameters.of(
+                List.of(), TimeTools.minutesAsMilliseconds(TIMEOUT_MINUTES))));
+        assertTrue(measured.getKey().isSuccess());
+        record("run", Map.of("taskGroups", iTaskGroups, "tasks", iTasks,
+                "withValues", iWithValues, "parallel", bParallel, "kinds", strKinds,
+                "executions", measured.getKey().getTasks().size()),
+                measured.getValue());
+    }
+
+    /**
+     * Writing all recorded results.
+     *
+     * @throws Exception when writing has failed.
+     */
+    @AfterAll
+    public static void writeResults() throws Exception {
+        YamlTools.getJsonMapper().writerWithDefaultPrettyPrinter()
+                .writeValue(Path.of("target", "scaling-result.json").toFile(), RESULTS);
+    }
+
+    /**
+     * Recording one result.
+     *
+     * @param strOperation measured operation.
+     * @param parameters   parameters of the generated document.
+     * @param usage        measured resource usage.
+     */
+    private static void record(final String strOperation, final Map<String, Object> parameters,
+                               final ResourceUsage usage) {
+        LOGGER.info("{} {}: {}", strOperation, parameters, usage);
+        final var result = new LinkedHashMap<String, Object>();
+        result.put("operation", strOperation);
+        result.put("parameters", parameters);
+        result.put("wallMillis", usage.getWallMillis());
+        result.put("peakHeapBytes", usage.getPeakHeapBytes());
+        result.put("peakThreads", usage.getPeakThreads());
+        RESULTS.add(result);
+    }
+}
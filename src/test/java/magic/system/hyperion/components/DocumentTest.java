@@ -25,15 +25,25 @@ package magic.system.hyperion.components;
 
 import magic.system.hyperion.data.StringValue;
 import magic.system.hyperion.generics.Pair;
+import magic.system.hyperion.reader.DocumentReader;
+import magic.system.hyperion.tools.TimeTools;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Testing class {@link Document}.
@@ -43,6 +53,68 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 @DisplayName("Testing Document")
 @SuppressWarnings("checkstyle:multiplestringliterals")
 public class DocumentTest {
+    /**
+     * Document with a matrix, a task with "with" values and a failing task.
+     */
+    private static final String DOCUMENT = "matrix:\n"
+            + "  - title: first\n"
+            + "    parameters: {}\n"
+            + "  - title: second\n"
+            + "    parameters: {}\n"
+            + "taskgroups:\n"
+            + "  - title: test\n"
+            + "    tasks:\n"
+            + "      - type: shell\n"
+            + "        title: hello\n"
+            + "        code: echo '{{ with.value }}'\n"
+            + "        with:\n"
+            + "          - a\n"
+            + "          - b\n"
+            + "      - type: shell\n"
+            + "        title: failing\n"
+            + "        code: echo 'oops' >&2; exit 3\n";
+
+    /**
+     * Expected exit code of failing task.
+     */
+    private static final int EXIT_CODE = 3;
+
+    /**
+     * Testing details of the task executions provided by the document result.
+     */
+    @Test
+    @EnabledOnOs({OS.LINUX, OS.MAC})
+    public void testTaskDetails() {
+        final var document = new DocumentReader().read(
+                DOCUMENT.getBytes(StandardCharsets.UTF_8));
+        final var result = document.run(
+                DocumentParameters.of(List.of(), TimeTools.minutesAsMilliseconds(1)));
+        assertFalse(result.isSuccess());
+
+        // two matrix items with three task executions each
+        final var tasks = result.getTasks();
+        assertEquals(List.of("first", "first", "first", "second", "second", "second"),
+                tasks.stream().map(TaskDetails::getMatrix).collect(Collectors.toList()));
+        assertEquals(List.of(0, 1, -1, 0, 1, -1),
+                tasks.stream().map(TaskDetails::getWithIndex).collect(Collectors.toList()));
+
+        final var hello = tasks.get(0);
+        assertEquals("test", hello.getTaskGroup());
+        assertEquals("hello", hello.getTask());
+        assertTrue(hello.isSuccess());
+        assertEquals(0, hello.getProcess().getExitCode());
+        assertEquals("a\n".length(), hello.getProcess().getStdoutBytes());
+        assertFalse(hello.getStarted().isAfter(hello.getFinished()));
+        assertFalse(hello.getStarted().isBefore(result.getStarted()));
+
+        final var failing = tasks.get(2);
+        assertFalse(failing.isSuccess());
+        assertEquals(EXIT_CODE, failing.getProcess().getExitCode());
+        assertEquals(0, failing.getProcess().getStdoutBytes());
+        assertEquals("oops\n".length(), failing.getProcess().getStderrBytes());
+        assertTrue(failing.getQueueWaitMicros() >= 0);
+    }
+
     /**
      * Testing {@link Document#hashCode()}.
      *
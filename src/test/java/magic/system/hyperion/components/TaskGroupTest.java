@@ -38,6 +38,8 @@ import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Testing class {@link TaskGroup}.
@@ -79,6 +81,26 @@ public class TaskGroupTest {
         assertEquals("Gandalf", taskGroup.getVariables().get("name1").getValue());
     }
 
+    /**
+     * Testing that a copy of a task group does not share tasks and variables.
+     */
+    @Test
+    public void testCopy() {
+        final var parameters = TaskGroupParameters.of(
+                DocumentParameters.of(List.of(), TimeTools.minutesAsMilliseconds(1)),
+                Model.of(), Map.of());
+
+        final var taskGroup = createTestTaskGroup(false);
+        final var copiedTaskGroup = taskGroup.copy();
+        assertEquals(taskGroup, copiedTaskGroup);
+        assertNotSame(taskGroup.getListOfTasks().get(0), copiedTaskGroup.getListOfTasks().get(0));
+
+        copiedTaskGroup.run(parameters);
+        assertTrue(taskGroup.getVariables().isEmpty());
+        assertEquals("Gandalf", copiedTaskGroup.getVariables().get("name1").getValue());
+        assertEquals("Frodo", copiedTaskGroup.getVariables().get("name2").getValue());
+    }
+
     /**
      * Testing the hasCode of two task groups to be equal (or not to be equal).
      *
@@ -0,0 +1,93 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.components;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing of class {@link TaskSummaryPrinter}.
+ *
+ * @author Thomas Lehmann
+ */
+@DisplayName("Testing class TaskSummaryPrinter")
+class TaskSummaryPrinterTest {
+    /**
+     * Title of task group.
+     */
+    private static final String GROUP = "group";
+
+    /**
+     * Printed lines before the tasks (headline and table header).
+     */
+    private static final int HEADER_LINES = 2;
+
+    /**
+     * Testing that the slowest tasks are printed first (limited).
+     */
+    @Test
+    public void testPrint() {
+        final var now = ZonedDateTime.now(ZoneOffset.UTC);
+        final var tasks = IntStream.rangeClosed(0, TaskSummaryPrinter.MAX_TASKS)
+                .mapToObj(iTask -> TaskDetails.of(null, GROUP, "task", iTask,
+                        now, now.plusSeconds(iTask), 0, true, null))
+                .collect(Collectors.toList());
+        tasks.set(0, TaskDetails.of("matrix", GROUP, "process", -1, now, now, 0, false,
+                ProcessDetails.of(1, 2, 0, 0)));
+
+        final List<String> lines = new ArrayList<>();
+        new TaskSummaryPrinter(tasks).print(lines::add);
+
+        // headline, table header, tasks and a line for the remaining task
+        assertEquals(HEADER_LINES + TaskSummaryPrinter.MAX_TASKS + 1, lines.size());
+        assertTrue(lines.get(HEADER_LINES).endsWith(
+                "group / task #" + TaskSummaryPrinter.MAX_TASKS));
+        assertTrue(lines.get(lines.size() - 1).endsWith("1 more"));
+
+        final List<String> processLines = new ArrayList<>();
+        new TaskSummaryPrinter(List.of(tasks.get(0))).print(processLines::add);
+        assertTrue(processLines.get(HEADER_LINES).endsWith("[matrix] group / process"));
+        assertTrue(processLines.get(HEADER_LINES).contains(" 2 "));
+    }
+
+    /**
+     * Testing that nothing is printed without tasks.
+     */
+    @Test
+    public void testPrintNothing() {
+        final List<String> lines = new ArrayList<>();
+        new TaskSummaryPrinter(List.of()).print(lines::add);
+        assertTrue(lines.isEmpty());
+    }
+}
@@ -80,6 +80,45 @@ public class VariableTest {
         assertEquals("Gandalf\nFrodo", variable.getValue());
     }
 
+    /**
+     * Testing changed regex to be used (compiled regex is not outdated).
+     */
+    @Test
+    public void testChangedRegex() {
+        final var variable = new Variable("test", "[A-Z]+", 0, false);
+        assertTrue(variable.setValue("Gandalf"));
+        assertEquals("G", variable.getValue());
+
+        variable.setRegex("[a-z]+");
+        assertTrue(variable.setValue("Gandalf"));
+        assertEquals("andalf", variable.getValue());
+    }
+
+    /**
+     * Testing extraction of the value from lines passed one by one.
+     */
+    @Test
+    public void testExtraction() {
+        final var variable = new Variable("test", "value=(\\d+)", 1, true);
+        final var extraction = variable.startExtraction();
+        extraction.accept("value=1");
+        extraction.accept("no value");
+        extraction.accept("value=2");
+        assertEquals("", variable.getValue());
+        assertTrue(extraction.finish());
+        assertEquals("1\n2", variable.getValue());
+
+        assertFalse(variable.startExtraction().finish());
+        assertEquals("1\n2", variable.getValue());
+
+        variable.setLineByLine(false);
+        final var totalExtraction = variable.startExtraction();
+        totalExtraction.accept("no value");
+        totalExtraction.accept("value=3 value=4");
+        assertTrue(totalExtraction.finish());
+        assertEquals("3", variable.getValue());
+    }
+
     /**
      * Testing of {@link Variable#hashCode()}.
      *
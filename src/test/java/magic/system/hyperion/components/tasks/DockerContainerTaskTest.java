@@ -83,7 +83,35 @@ public class DockerContainerTaskTest {
     public void testCopy() {
         final var task = new DockerContainerTask("test", "echo \"hello world!\"");
         task.setImageName("debian");
+        task.setReuse(true);
         assertEquals(task, task.copy());
+        assertTrue(((DockerContainerTask) task.copy()).isReuse());
+    }
+
+    /**
+     * Testing to run scripts in one shared container (reuse mode).
+     */
+    @Test
+    public void testReuse() {
+        assumeTrue(Capabilities.hasDocker());
+
+        final var task = new DockerContainerTask("test", "echo \"hello world!\"; hostname");
+        task.setImageName("debian");
+        task.setReuse(true);
+
+        try (var pool = new DockerContainerPool()) {
+            final var parameters = TaskParameters.of(Model.of(), Map.of(), Map.of(), null, pool);
+            final var firstResult = task.run(parameters);
+            assertTrue(firstResult.isSuccess());
+            final var strFirstOutput = firstResult.getVariable().getValue();
+
+            final var secondResult = task.copy().run(parameters);
+            assertTrue(secondResult.isSuccess());
+
+            // same container (same hostname) for both runs
+            assertTrue(strFirstOutput.startsWith("hello world!"));
+            assertEquals(strFirstOutput, secondResult.getVariable().getValue());
+        }
     }
 
     /**
@@ -32,6 +32,7 @@ import java.io.File;
 import java.net.URISyntaxException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -90,7 +91,14 @@ public class DockerImageTaskTest {
                 + "COPY target/test-classes/scripts/say-hello-world.sh .\n"
                 + "RUN chmod +x /say-hello-world.sh";
         final var dockerImageTask = new DockerImageTask("test", strCode);
+        assertFalse(dockerImageTask.isSkipUnchanged());
+        assertFalse(dockerImageTask.isMinimalContext());
+        dockerImageTask.setSkipUnchanged(true);
+        dockerImageTask.setMinimalContext(true);
 
-        assertEquals(dockerImageTask, dockerImageTask.copy());
+        final var copiedTask = (DockerImageTask) dockerImageTask.copy();
+        assertEquals(dockerImageTask, copiedTask);
+        assertTrue(copiedTask.isSkipUnchanged());
+        assertTrue(copiedTask.isMinimalContext());
     }
 }
@@ -25,6 +25,7 @@ package magic.system.hyperion.components.tasks;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -38,6 +39,7 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -124,6 +126,84 @@ public class FileCopyTaskTest extends TaskBaseTest {
         assertTrue(result.isSuccess());
     }
 
+    /**
+     * Testing sync mode for a single file: an unchanged file is not copied again.
+     *
+     * @param path                temporary directory for the destination.
+     * @throws IOException        when reading or writing files has failed.
+     * @throws URISyntaxException when the base path cannot be resolved.
+     */
+    @Test
+    public void testSyncFile(@TempDir final Path path) throws IOException, URISyntaxException {
+        final URL baseUrl = FileCopyTaskTest.class.getResource("/");
+        final var strBaseUrl = new File(baseUrl.toURI()).getAbsolutePath();
+
+        final var task = createTask(
+                strBaseUrl + TEST_FILE, path.resolve("test.txt").toString(),
+                false, false, false);
+        task.setSync(true);
+
+        var result = task.run(TaskTestsTools.getDefaultTaskParameters());
+        assertTrue(result.isSuccess());
+
+        final var destinationPath = Paths.get(task.getDestinationPath());
+        assertEquals(Files.getLastModifiedTime(Paths.get(task.getSourcePath())).toMillis(),
+                Files.getLastModifiedTime(destinationPath).toMillis());
+
+        // unchanged: no overwrite required since nothing is copied
+        result = task.run(TaskTestsTools.getDefaultTaskParameters());
+        assertTrue(result.isSuccess());
+
+        // changed: overwrite is required
+        Files.writeString(destinationPath, "changed");
+        result = task.run(TaskTestsTools.getDefaultTaskParameters());
+        assertFalse(result.isSuccess());
+
+        task.setOverwrite(true);
+        result = task.run(TaskTestsTools.getDefaultTaskParameters());
+        assertTrue(result.isSuccess());
+        assertEquals(Files.readString(Paths.get(task.getSourcePath())),
+                Files.readString(destinationPath));
+    }
+
+    /**
+     * Testing sync mode for a directory with deletion of files missing in source.
+     *
+     * @param basePath    temporary directory for source and destination.
+     * @throws IOException when reading or writing files has failed.
+     */
+    @Test
+    public void testSyncDirectory(@TempDir final Path basePath) throws IOException {
+        final var sourcePath = basePath.resolve("source");
+        final var destinationPath = basePath.resolve("destination");
+
+        Files.createDirectories(sourcePath.resolve("sub"));
+        Files.writeString(sourcePath.resolve("a.txt"), "a");
+        Files.writeString(sourcePath.resolve("sub").resolve("b.txt"), "b");
+
+        final var task = createTask(sourcePath.toString(), destinationPath.toString(),
+                false, true, true);
+        task.setSync(true);
+        task.setSyncChecksum(true);
+        task.setSyncDelete(true);
+
+        assertTrue(task.run(TaskTestsTools.getDefaultTaskParameters()).isSuccess());
+        assertEquals("a", Files.readString(destinationPath.resolve("a.txt")));
+        assertEquals("b", Files.readString(destinationPath.resolve("sub").resolve("b.txt")));
+
+        // same content (checksum) but different modification time: nothing to copy
+        Files.setLastModifiedTime(destinationPath.resolve("a.txt"), FileTime.fromMillis(0));
+        Files.writeString(destinationPath.resolve("obsolete.txt"), "obsolete");
+        Files.delete(sourcePath.resolve("sub").resolve("b.txt"));
+
+        LOGGER.info("Running sync of {} again", sourcePath);
+        assertTrue(task.run(TaskTestsTools.getDefaultTaskParameters()).isSuccess());
+        assertEquals(0, Files.getLastModifiedTime(destinationPath.resolve("a.txt")).toMillis());
+        assertFalse(Files.exists(destinationPath.resolve("obsolete.txt")));
+        assertFalse(Files.exists(destinationPath.resolve("sub").resolve("b.txt")));
+        assertTrue(Files.exists(destinationPath.resolve("sub")));
+    }
+
     /**
      * Providing test data.
      *
@@ -25,6 +25,10 @@ package magic.system.hyperion.components.tasks;
 
 import magic.system.hyperion.tools.TemplateEngine;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -34,7 +38,10 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermissions;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -47,7 +54,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  * @author Thomas Lehmann
  */
 @DisplayName("Testing of class WriteFileTask")
-@SuppressWarnings("checkstyle:multiplestringliterals")
+@SuppressWarnings({"checkstyle:multiplestringliterals", "checkstyle:classfanoutcomplexity"})
 public class WriteFileTaskTest extends TaskBaseTest {
     /**
      * Testing file copy operation.
@@ -81,6 +88,64 @@ public class WriteFileTaskTest extends TaskBaseTest {
         }
     }
 
+    /**
+     * Testing that an existing file with same content is not touched
+     * and that no temporary files are left.
+     *
+     * @throws IOException        when reading or writing file has failed.
+     * @throws URISyntaxException when resolving the resource path has failed.
+     */
+    @Test
+    public void testUnchangedContent() throws IOException, URISyntaxException {
+        final URL baseUrl = WriteFileTask.class.getResource("/");
+        final var path = Paths.get(new File(baseUrl.toURI()).getAbsolutePath(), "tasks");
+        final var filePath = path.resolve("unchanged.txt");
+        final var task = createTask("hello world!", filePath.toString(), true, false);
+
+        assertTrue(task.run(TaskTestsTools.getSimpleTaskParameters()).isSuccess());
+        final var lastModified = FileTime.fromMillis(1_000_000_000_000L);
+        Files.setLastModifiedTime(filePath, lastModified);
+
+        // same content: file is not written again
+        assertTrue(task.run(TaskTestsTools.getSimpleTaskParameters()).isSuccess());
+        assertEquals(lastModified, Files.getLastModifiedTime(filePath));
+
+        // changed content: file is replaced
+        task.setContent("hello world again!");
+        assertTrue(task.run(TaskTestsTools.getSimpleTaskParameters()).isSuccess());
+        assertEquals("hello world again!", Files.readString(filePath));
+
+        try (var stream = Files.list(path)) {
+            assertEquals(1, stream.count());
+        }
+    }
+
+    /**
+     * Testing that a new file gets the default permissions and an
+     * overwritten file keeps its permissions.
+     *
+     * @param path temporary directory.
+     * @throws IOException when reading or writing file has failed.
+     */
+    @Test
+    @EnabledOnOs({OS.LINUX, OS.MAC})
+    public void testPermissions(@TempDir final Path path) throws IOException {
+        final var filePath = path.resolve("script.sh");
+        final var task = createTask("echo hello", filePath.toString(), true, false);
+
+        assertTrue(task.run(TaskTestsTools.getSimpleTaskParameters()).isSuccess());
+        final var defaultPermissions = Files.getPosixFilePermissions(
+                Files.createFile(path.resolve("default.txt")));
+        assertEquals(defaultPermissions, Files.getPosixFilePermissions(filePath));
+
+        final var executable = PosixFilePermissions.fromString("rwxr-x---");
+        Files.setPosixFilePermissions(filePath, executable);
+        task.setContent("echo hello again");
+        assertTrue(task.run(TaskTestsTools.getSimpleTaskParameters()).isSuccess());
+        assertEquals("echo hello again", Files.readString(filePath));
+        assertEquals(executable, Files.getPosixFilePermissions(filePath));
+    }
+
     /**
      * Providing test data.
      *
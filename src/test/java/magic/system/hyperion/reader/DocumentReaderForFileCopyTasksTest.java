@@ -45,6 +45,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  * @author Thomas Lehmann
  */
 @DisplayName("Testing of FileCopyTaskReader class")
+@SuppressWarnings("checkstyle:multiplestringliterals")
 public class DocumentReaderForFileCopyTasksTest extends DocumentReaderBaseTest {
     /**
      * Number of test tasks.
@@ -75,4 +76,30 @@ public class DocumentReaderForFileCopyTasksTest extends DocumentReaderBaseTest {
                 .filter(line -> line.contains("Copying file from")).collect(Collectors.toList());
         assertEquals(NUMBER_OF_TASKS, lines.size());
     }
+
+    /**
+     * Testing copy file task in sync mode.
+     *
+     * @throws URISyntaxException when url for document is wrong.
+     */
+    @Test
+    public void testFileCopyTaskWithSync() throws URISyntaxException, IOException {
+        final var testPath = new File(getClass().getResource("/").toURI()).getAbsolutePath();
+        final var path = Paths.get(getClass().getResource(
+                "/documents/document-with-sync-copy-file-tasks.yml").toURI());
+
+        final var strContent = Files.readString(path).replace("PATH", testPath);
+        final var reader = new DocumentReader();
+        final var document = reader.read(strContent.getBytes(StandardCharsets.UTF_8));
+        assertNotNull(document, "Document shouldn't be null");
+
+        MessagesCollector.clear();
+        final var result = document.run(getDefaultDocumentParameters());
+        assertTrue(result.isSuccess());
+
+        assertEquals(1, MessagesCollector.getMessages().stream()
+                .filter(line -> line.contains("Copying file from")).count());
+        assertEquals(1, MessagesCollector.getMessages().stream()
+                .filter(line -> line.contains("Skipping unchanged file")).count());
+    }
 }
@@ -90,6 +90,8 @@ public class DocumentReaderNegativeTest {
                 Arguments.of("/documents/invalid/unknown-field-docker-container-task.yml"),
                 Arguments.of("/documents/invalid/unknown-field-matrix.yml"),
                 Arguments.of("/documents/invalid/unknown-field-variable.yml"),
+                Arguments.of("/documents/invalid/unknown-field-capture.yml"),
+                Arguments.of("/documents/invalid/capture-for-groovy-task.yml"),
                 Arguments.of("/documents/invalid/unknown-field-taskgroup.yml"),
                 Arguments.of("/documents/invalid/missing-field-type.yml"),
                 Arguments.of("/documents/invalid/missing-field-variable.yml"),
@@ -24,9 +24,11 @@
 package magic.system.hyperion.reader;
 
 import magic.system.hyperion.components.DocumentParameters;
+import magic.system.hyperion.components.tasks.AbstractShellTask;
 import magic.system.hyperion.generics.ListCollector;
 import magic.system.hyperion.interfaces.IVariable;
 import magic.system.hyperion.tools.Capabilities;
+import magic.system.hyperion.tools.CaptureLimits;
 import magic.system.hyperion.tools.MessagesCollector;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.MethodOrderer;
@@ -129,6 +131,35 @@ public class DocumentReaderTest {
         assertTrue(MessagesCollector.getMessages().contains("set variable test2=this is a demo"));
     }
 
+    /**
+     * Testing a document with capture limits for a shell task.
+     *
+     * @throws URISyntaxException when loading of the document has failed.
+     */
+    @Test
+    @EnabledOnOs({OS.LINUX, OS.MAC})
+    public void testCapture() throws URISyntaxException {
+        final var path = Paths.get(getClass().getResource(
+                "/documents/document-with-capture.yml").toURI());
+        final var reader = new DocumentReader();
+        final var document = reader.read(path);
+        assertNotNull(document, "Document shouldn't be null");
+        final var tasks = document.getListOfTaskGroups().get(0).getListOfTasks();
+        assertEquals(CaptureLimits.of(2, 3, true).toString(),
+                ((AbstractShellTask) tasks.get(0)).getCapture().toString());
+        assertEquals(CaptureLimits.of(1000, 1000, false).toString(),
+                ((AbstractShellTask) tasks.get(1)).getCapture().toString());
+
+        MessagesCollector.clear();
+        document.run(getDefaultDocumentParameters());
+        final var messages = MessagesCollector.getMessages();
+        assertTrue(messages.stream().anyMatch(message -> message.startsWith(
+                "Task 'output with limits' has written 10 lines to stdout (5 not kept, 0 bytes")));
+        // the value of the variable is extracted from all lines
+        assertTrue(messages.stream().anyMatch(message -> message.startsWith(
+                "set variable default=line 1") && message.contains("line 5")));
+    }
+
     /**
      * Intention to test reading of the model.
      *
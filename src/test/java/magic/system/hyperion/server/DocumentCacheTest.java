@@ -0,0 +1,119 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.server;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Testing of class {@link DocumentCache}.
+ *
+ * @author Thomas Lehmann
+ */
+@DisplayName("Testing class DocumentCache")
+class DocumentCacheTest {
+    /**
+     * Test document with Groovy tasks.
+     */
+    private static final String DOCUMENT_WITH_GROOVY = "/documents/document-with-groovy.yml";
+
+    /**
+     * Testing that same content is read once and each call provides its own copy.
+     *
+     * @throws IOException        when reading YAML has failed.
+     * @throws URISyntaxException when file has not been found.
+     */
+    @Test
+    public void testGet() throws IOException, URISyntaxException {
+        final var content = readResource(DOCUMENT_WITH_GROOVY);
+        final var cache = new DocumentCache(2);
+
+        final var documentA = cache.get(content);
+        final var documentB = cache.get(content);
+        assertNotNull(documentA);
+        assertEquals(documentA, documentB);
+        assertNotSame(documentA, documentB);
+        assertNotSame(documentA.getListOfTaskGroups().get(0),
+                documentB.getListOfTaskGroups().get(0));
+
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getSize());
+    }
+
+    /**
+     * Testing that least recently used document is removed when capacity is exceeded.
+     *
+     * @throws IOException        when reading YAML has failed.
+     * @throws URISyntaxException when file has not been found.
+     */
+    @Test
+    public void testEviction() throws IOException, URISyntaxException {
+        final var contentA = readResource(DOCUMENT_WITH_GROOVY);
+        final var contentB = readResource("/documents/document-with-matrix.yml");
+        final var cache = new DocumentCache(1);
+
+        assertNotNull(cache.get(contentA));
+        assertNotNull(cache.get(contentB));
+        assertEquals(2, cache.getMisses());
+
+        // document A has been removed from cache
+        assertNotNull(cache.get(contentA));
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.getSize());
+    }
+
+    /**
+     * Testing that invalid documents are not cached.
+     */
+    @Test
+    public void testInvalidDocument() {
+        final var cache = new DocumentCache(1);
+        assertNull(cache.get("--> invalid-document-content <--".getBytes()));
+        assertEquals(0, cache.getSize());
+        assertEquals(1, cache.getMisses());
+    }
+
+    /**
+     * Reading test resource.
+     *
+     * @param strName name of the resource.
+     * @return content of the resource.
+     * @throws IOException        when reading has failed.
+     * @throws URISyntaxException when resource has not been found.
+     */
+    private byte[] readResource(final String strName) throws IOException, URISyntaxException {
+        return Files.readAllBytes(Paths.get(getClass().getResource(strName).toURI()));
+    }
+}
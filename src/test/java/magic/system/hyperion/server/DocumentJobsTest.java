@@ -0,0 +1,179 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.server;
+
+import magic.system.hyperion.components.DocumentResult;
+import magic.system.hyperion.tools.TimeTools;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing of class {@link DocumentJobs}.
+ *
+ * @author Thomas Lehmann
+ */
+@DisplayName("Testing class DocumentJobs")
+@SuppressWarnings("checkstyle:multiplestringliterals")
+class DocumentJobsTest {
+    /**
+     * Maximum wait: 5 seconds.
+     */
+    private static final long TIMEOUT = 5000;
+
+    /**
+     * Time to sleep in the wait loop.
+     */
+    private static final long WAIT = TIMEOUT / 100;
+
+    /**
+     * Testing limits for running and pending jobs.
+     *
+     * @throws InterruptedException when waiting has been interrupted.
+     */
+    @Test
+    public void testLimits() throws InterruptedException {
+        final var jobs = new DocumentJobs(1, 1);
+        final var latch = new CountDownLatch(1);
+        final var counter = new AtomicInteger();
+        final Runnable job = () -> {
+            try {
+                latch.await(TIMEOUT, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            counter.incrementAndGet();
+        };
+
+        try {
+            assertTrue(jobs.submit("first", job));
+            assertTrue(TimeTools.wait(() -> jobs.isRunning("first"), TIMEOUT, WAIT));
+
+            assertTrue(jobs.submit("second", job));
+            assertEquals(1, jobs.getPosition("second"));
+            assertEquals(0, jobs.getPosition("first"));
+            assertFalse(jobs.isRunning("second"));
+
+            // queue is full
+            assertFalse(jobs.submit("third", job));
+            assertEquals(0, jobs.getPosition("third"));
+            assertTrue(jobs.getRetryAfterSeconds() >= 1);
+
+            latch.countDown();
+            assertTrue(TimeTools.wait(() -> counter.get() == 2, TIMEOUT, WAIT));
+            assertTrue(TimeTools.wait(() -> jobs.getRunning() == 0, TIMEOUT, WAIT));
+            assertEquals(0, jobs.getQueued());
+        } finally {
+            jobs.shutdown();
+        }
+    }
+
+    /**
+     * Testing completion of jobs.
+     *
+     * @throws InterruptedException when waiting has been interrupted.
+     * @throws ExecutionException   when the completion has failed.
+     */
+    @Test
+    public void testCompletion() throws InterruptedException, ExecutionException {
+        final var jobs = new DocumentJobs(1, 1);
+        final var latch = new CountDownLatch(1);
+        final var result = DocumentResult.of();
+
+        try {
+            assertTrue(jobs.submit("first", () -> {
+                try {
+                    latch.await(TIMEOUT, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                jobs.complete("first", result);
+            }));
+            final var completion = jobs.getCompletion("first");
+            assertTrue(TimeTools.wait(() -> completion.getStarted().isDone(), TIMEOUT, WAIT));
+            assertFalse(completion.getFinished().isDone());
+
+            latch.countDown();
+            assertSame(result, completion.getFinished().get());
+            assertNull(jobs.getCompletion("first"));
+            assertNull(jobs.getCompletion("unknown"));
+        } finally {
+            jobs.shutdown();
+        }
+    }
+
+    /**
+     * Testing cancellation of running and pending jobs.
+     *
+     * @throws InterruptedException when wait for condition has been interrupted
+     */
+    @Test
+    public void testCancel() throws InterruptedException {
+        final var jobs = new DocumentJobs(1, 1);
+        final var interrupted = new AtomicInteger();
+        final var cancelled = new AtomicInteger();
+
+        try {
+            assertTrue(jobs.submit("first", () -> {
+                try {
+                    Thread.sleep(TIMEOUT);
+                } catch (InterruptedException e) {
+                    interrupted.incrementAndGet();
+                }
+            }));
+            assertTrue(TimeTools.wait(() -> jobs.isRunning("first"), TIMEOUT, WAIT));
+            assertTrue(jobs.submit("second", () -> {
+                if (jobs.getCancellation("second").isCancelled()) {
+                    cancelled.incrementAndGet();
+                }
+            }));
+
+            // pending job is removed from queue and run at once (seeing the cancellation)
+            assertTrue(jobs.cancel("second"));
+            assertEquals(1, cancelled.get());
+            assertEquals(0, jobs.getQueued());
+
+            // running job is interrupted
+            assertTrue(jobs.cancel("first"));
+            assertTrue(TimeTools.wait(() -> interrupted.get() == 1, TIMEOUT, WAIT));
+            assertTrue(TimeTools.wait(() -> jobs.getRunning() == 0, TIMEOUT, WAIT));
+
+            assertFalse(jobs.cancel("first"));
+            assertFalse(jobs.cancel("unknown"));
+            assertFalse(jobs.getCancellation("first").isCancelled());
+        } finally {
+            jobs.shutdown();
+        }
+    }
+}
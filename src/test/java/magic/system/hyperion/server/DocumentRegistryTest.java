@@ -0,0 +1,139 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.server;
+
+import magic.system.hyperion.exceptions.HyperionException;
+import magic.system.hyperion.tools.FileUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing of class {@link DocumentRegistry}.
+ *
+ * @author Thomas Lehmann
+ */
+@DisplayName("Testing class DocumentRegistry")
+@SuppressWarnings("checkstyle:multiplestringliterals")
+class DocumentRegistryTest {
+    /**
+     * Testing registering of documents with versions.
+     *
+     * @throws IOException        when reading YAML has failed.
+     * @throws URISyntaxException when file has not been found.
+     * @throws HyperionException  when registering has failed.
+     */
+    @Test
+    public void testRegister() throws IOException, URISyntaxException, HyperionException {
+        final var registry = new DocumentRegistry();
+        final var registered = registry.register("test", readResource(
+                "/documents/document-for-registry.yml"));
+        assertEquals("test", registered.getName());
+        assertEquals(1, registered.getVersion());
+        assertNotSame(registered.getDocument(), registered.getDocument());
+        assertEquals(registered.getDocument(), registered.getDocument());
+
+        // same content: same version
+        assertEquals(1, registry.register("test", readResource(
+                "/documents/document-for-registry.yml")).getVersion());
+
+        // other content: next version
+        final var changed = registry.register("test", readResource(
+                "/documents/document-with-groovy.yml"));
+        assertEquals(2, changed.getVersion());
+        assertNotEquals(registered.getHash(), changed.getHash());
+        assertEquals(changed.getHash(), registry.get("test").getHash());
+
+        assertTrue(registry.unregister("test"));
+        assertFalse(registry.unregister("test"));
+        assertNull(registry.get("test"));
+    }
+
+    /**
+     * Testing invalid name and invalid document.
+     */
+    @Test
+    public void testRegisterInvalid() {
+        final var registry = new DocumentRegistry();
+        assertThrows(HyperionException.class, () -> registry.register(
+                "../test", readResource("/documents/document-for-registry.yml")));
+        assertThrows(HyperionException.class, () -> registry.register(
+                "test", "--> invalid-document-content <--".getBytes()));
+        assertNull(registry.get("test"));
+    }
+
+    /**
+     * Testing persisting registered documents and loading them again.
+     *
+     * @throws IOException        when reading YAML has failed.
+     * @throws URISyntaxException when file has not been found.
+     * @throws HyperionException  when registering has failed.
+     */
+    @Test
+    public void testPersistence() throws IOException, URISyntaxException, HyperionException {
+        final var path = Files.createTempDirectory("registry");
+        try {
+            final var registry = new DocumentRegistry();
+            registry.setPath(path);
+            final var registered = registry.register("test", readResource(
+                    "/documents/document-for-registry.yml"));
+            assertTrue(Files.exists(path.resolve("test.yml")));
+
+            final var reloadedRegistry = new DocumentRegistry();
+            reloadedRegistry.setPath(path);
+            assertNotNull(reloadedRegistry.get("test"));
+            assertEquals(registered.getHash(), reloadedRegistry.get("test").getHash());
+
+            assertTrue(reloadedRegistry.unregister("test"));
+            assertFalse(Files.exists(path.resolve("test.yml")));
+        } finally {
+            FileUtils.removeDirectoryRecursive(path);
+        }
+    }
+
+    /**
+     * Reading test resource.
+     *
+     * @param strName name of the resource.
+     * @return content of the resource.
+     * @throws IOException        when reading has failed.
+     * @throws URISyntaxException when resource has not been found.
+     */
+    private byte[] readResource(final String strName) throws IOException, URISyntaxException {
+        return Files.readAllBytes(Paths.get(getClass().getResource(strName).toURI()));
+    }
+}
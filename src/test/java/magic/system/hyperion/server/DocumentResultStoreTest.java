@@ -0,0 +1,173 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.server;
+
+import magic.system.hyperion.components.DocumentResult;
+import magic.system.hyperion.components.ProcessDetails;
+import magic.system.hyperion.components.TaskDetails;
+import magic.system.hyperion.tools.TimeTools;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing of class {@link DocumentResultStore}.
+ *
+ * @author Thomas Lehmann
+ */
+@DisplayName("Testing class DocumentResultStore")
+@SuppressWarnings("checkstyle:multiplestringliterals")
+class DocumentResultStoreTest {
+    /**
+     * Time to live long enough for not expiring while testing (1 minute).
+     */
+    private static final long LONG_TTL = 60_000L;
+
+    /**
+     * Time to live for testing expiry (200 milliseconds).
+     */
+    private static final long SHORT_TTL = 200L;
+
+    /**
+     * Maximum wait (5 seconds).
+     */
+    private static final long TIMEOUT = 5000L;
+
+    /**
+     * Time to sleep in the wait loop.
+     */
+    private static final long WAIT = 50L;
+
+    /**
+     * Testing that a result is removed when read.
+     */
+    @Test
+    public void testRemoveAfterRead() {
+        try (var store = new DocumentResultStore(2, LONG_TTL, false)) {
+            store.put("a", DocumentResult.of());
+            assertEquals(1, store.getSize());
+            assertNotNull(store.get("a"));
+            assertNull(store.get("a"));
+            assertEquals(0, store.getSize());
+        }
+    }
+
+    /**
+     * Testing that the temporary files with the output of the processes
+     * are deleted when the result is removed.
+     *
+     * @throws IOException when creating the temporary file has failed.
+     */
+    @Test
+    public void testSpillFilesDeletedOnRemoval() throws IOException {
+        final var spillPath = Files.createTempFile("hyperion-output-", ".log");
+        final var timestamp = ZonedDateTime.now(ZoneOffset.UTC);
+        final var result = DocumentResult.of(true, timestamp, timestamp, List.of(
+                TaskDetails.of("", "test", "shell", -1, timestamp, timestamp, 0L, true,
+                        ProcessDetails.of(0L, 0, 1L, 0L, List.of(spillPath.toString()))),
+                TaskDetails.of("", "test", "groovy", -1, timestamp, timestamp, 0L, true,
+                        null)));
+
+        try (var store = new DocumentResultStore(2, LONG_TTL, false)) {
+            store.put("a", result);
+            assertNotNull(store.peek("a"));
+            assertTrue(Files.exists(spillPath));
+            assertNotNull(store.get("a"));
+            assertFalse(Files.exists(spillPath));
+        } finally {
+            Files.deleteIfExists(spillPath);
+        }
+    }
+
+    /**
+     * Testing that a result is not removed when peeked.
+     */
+    @Test
+    public void testPeek() {
+        try (var store = new DocumentResultStore(2, LONG_TTL, false)) {
+            store.put("a", DocumentResult.of());
+            assertNotNull(store.peek("a"));
+            assertEquals(1, store.getSize());
+            assertNotNull(store.get("a"));
+            assertNull(store.peek("a"));
+        }
+    }
+
+    /**
+     * Testing that a result is kept when read.
+     */
+    @Test
+    public void testKeepAfterRead() {
+        try (var store = new DocumentResultStore(2, LONG_TTL, true)) {
+            store.put("a", DocumentResult.of());
+            assertNotNull(store.get("a"));
+            assertNotNull(store.get("a"));
+            assertEquals(1, store.getSize());
+        }
+    }
+
+    /**
+     * Testing that oldest results are removed when maximum number of entries is exceeded.
+     */
+    @Test
+    public void testMaxEntries() {
+        try (var store = new DocumentResultStore(2, LONG_TTL, true)) {
+            store.put("a", DocumentResult.of());
+            store.put("b", DocumentResult.of());
+            store.put("c", DocumentResult.of());
+
+            assertEquals(2, store.getSize());
+            assertEquals(1, store.getEvicted());
+            assertNull(store.get("a"));
+            assertNotNull(store.get("b"));
+            assertNotNull(store.get("c"));
+        }
+    }
+
+    /**
+     * Testing that expired results are removed in background.
+     *
+     * @throws InterruptedException when waiting has been interrupted.
+     */
+    @Test
+    public void testExpiry() throws InterruptedException {
+        try (var store = new DocumentResultStore(2, SHORT_TTL, true)) {
+            store.put("a", DocumentResult.of());
+            assertTrue(TimeTools.wait(() -> store.getSize() == 0, TIMEOUT, WAIT));
+            assertEquals(1, store.getExpired());
+            assertNull(store.get("a"));
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.server;
+
+import magic.system.hyperion.components.DocumentResult;
+import magic.system.hyperion.exceptions.HyperionException;
+import magic.system.hyperion.tools.FileUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing of class {@link DocumentService}.
+ *
+ * @author Thomas Lehmann
+ */
+@DisplayName("Testing class DocumentService")
+@SuppressWarnings("checkstyle:multiplestringliterals")
+class DocumentServiceTest {
+    /**
+     * Time to live long enough for not expiring while testing (1 minute).
+     */
+    private static final long LONG_TTL = 60_000L;
+
+    /**
+     * Timeout for task groups of recorded jobs.
+     */
+    private static final int TIMEOUT = 1000;
+
+    /**
+     * Maximum number of stored results.
+     */
+    private static final int MAX_RESULTS = 10;
+
+    /**
+     * Testing that replacing the journal closes the previous one (writing its
+     * pending records) and that the interrupted flag is kept in the journal.
+     *
+     * @throws IOException       when creating temporary directory has failed.
+     * @throws HyperionException when opening the journal has failed.
+     */
+    @Test
+    public void testReplaceJournal() throws IOException, HyperionException {
+        final var path = Files.createTempDirectory("journal");
+        try {
+            final var file = path.resolve("jobs.journal");
+            try (var journal = JobJournal.open(file)) {
+                journal.submitted("a", List.of(), TIMEOUT, null);
+                journal.started("a");
+            }
+
+            final var service = new DocumentService(1, 1, MAX_RESULTS, LONG_TTL);
+            service.setJournal(file, false);
+            // the interrupted result has been recorded by the first journal
+            service.setJournal(file, false);
+            final var result = service.getResults().peek("a");
+            assertNotNull(result);
+            assertTrue(result.isInterrupted());
+
+            service.setJournal(path.resolve("other.journal"), false);
+            try (var journal = JobJournal.open(file)) {
+                final var entries = journal.getEntries();
+                assertEquals(1, entries.size());
+                assertEquals(JobState.FINISHED, entries.get(0).getState());
+                assertTrue(entries.get(0).getResult().isInterrupted());
+            }
+        } finally {
+            FileUtils.removeDirectoryRecursive(path);
+        }
+    }
+
+    /**
+     * Testing that a failed result is stored and waiting clients are notified
+     * when running the document throws an exception.
+     *
+     * @throws Exception when waiting for the result has failed.
+     */
+    @Test
+    public void testRunThrowingException() throws Exception {
+        final var service = new DocumentService(1, 1, MAX_RESULTS, LONG_TTL);
+        final var strId = service.submit(() -> {
+            throw new IllegalStateException("test");
+        }, List.of(), TIMEOUT, false);
+        assertNotNull(strId);
+
+        final var completion = service.getCompletion(strId);
+        if (completion != null) {
+            assertFalse(completion.getFinished().get(TIMEOUT, TimeUnit.MILLISECONDS).isSuccess());
+        }
+        final var result = service.getResults().peek(strId);
+        assertNotNull(result);
+        assertFalse(result.isSuccess());
+        assertNull(service.getCompletion(strId));
+    }
+
+    /**
+     * Testing that finished jobs are restored and interrupted jobs get a failed result.
+     *
+     * @throws IOException       when creating temporary directory has failed.
+     * @throws HyperionException when opening the journal has failed.
+     */
+    @Test
+    public void testRecovery() throws IOException, HyperionException {
+        final var path = Files.createTempDirectory("journal");
+        try {
+            final var file = path.resolve("jobs.journal");
+            final var now = ZonedDateTime.now(ZoneOffset.UTC);
+            try (var journal = JobJournal.open(file)) {
+                journal.submitted("a", List.of(), TIMEOUT, "document a");
+                journal.started("a");
+                journal.finished("a", DocumentResult.of(true, now, now));
+                journal.submitted("b", List.of(), TIMEOUT, "document b");
+                journal.started("b");
+                // cannot be requeued without content (run of a registered document)
+                journal.submitted("c", List.of(), TIMEOUT, null);
+            }
+
+            final var service = new DocumentService(1, 1, MAX_RESULTS, LONG_TTL);
+            service.setJournal(file, false);
+            final var results = service.getResults();
+            assertEquals(List.of("a", "b", "c").size(), results.getSize());
+
+            final var finishedResult = results.get("a");
+            assertTrue(finishedResult.isSuccess());
+            assertFalse(finishedResult.isInterrupted());
+            final var interruptedResult = results.get("b");
+            assertNotNull(interruptedResult);
+            assertFalse(interruptedResult.isSuccess());
+            assertTrue(interruptedResult.isInterrupted());
+            final var notRequeuedResult = results.get("c");
+            assertNotNull(notRequeuedResult);
+            assertFalse(notRequeuedResult.isSuccess());
+            assertTrue(notRequeuedResult.isInterrupted());
+            assertEquals(0, results.getSize());
+        } finally {
+            FileUtils.removeDirectoryRecursive(path);
+        }
+    }
+}
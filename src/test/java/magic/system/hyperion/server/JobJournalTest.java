@@ -0,0 +1,245 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.server;
+
+import magic.system.hyperion.components.DocumentResult;
+import magic.system.hyperion.components.ProcessDetails;
+import magic.system.hyperion.components.TaskDetails;
+import magic.system.hyperion.exceptions.HyperionException;
+import magic.system.hyperion.tools.FileUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneOffset;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing of class {@link JobJournal}.
+ *
+ * @author Thomas Lehmann
+ */
+@DisplayName("Testing class JobJournal")
+@SuppressWarnings("checkstyle:multiplestringliterals")
+class JobJournalTest {
+    /**
+     * Timeout for task groups of recorded jobs.
+     */
+    private static final int TIMEOUT = 1000;
+
+    /**
+     * Number of jobs for testing compaction.
+     */
+    private static final int JOBS = 600;
+
+    /**
+     * Number of records for each job when testing compaction.
+     */
+    private static final int RECORDS_PER_JOB = 3;
+
+    /**
+     * Number of jobs remaining after recovery.
+     */
+    private static final int RECOVERED_JOBS = 3;
+
+    /**
+     * Maximum time for closing the journal (seconds).
+     */
+    private static final int CLOSE_TIMEOUT = 10;
+
+    /**
+     * Testing that the state of jobs is recovered when opening the journal again.
+     *
+     * @throws IOException       when creating temporary directory has failed.
+     * @throws HyperionException when opening the journal has failed.
+     */
+    @Test
+    public void testRecovery() throws IOException, HyperionException {
+        final var path = Files.createTempDirectory("journal");
+        try {
+            final var file = path.resolve("jobs.journal");
+            final var now = ZonedDateTime.now(ZoneOffset.UTC);
+            try (var journal = JobJournal.open(file)) {
+                journal.submitted("a", List.of("x"), TIMEOUT, "document a");
+                journal.started("a");
+                journal.finished("a", DocumentResult.of(true, now, now, List.of(
+                        TaskDetails.of(null, "group", "task", -1, now, now, 1, true,
+                                ProcessDetails.of(2, 0, RECOVERED_JOBS, 0)))));
+                journal.submitted("b", List.of(), TIMEOUT, "document b");
+                journal.started("b");
+                journal.submitted("c", List.of(), TIMEOUT, null);
+                journal.submitted("d", List.of(), TIMEOUT, "document d");
+                journal.removed("d");
+            }
+
+            try (var journal = JobJournal.open(file)) {
+                final var entries = journal.getEntries();
+                assertEquals(RECOVERED_JOBS, entries.size());
+
+                assertEquals("a", entries.get(0).getId());
+                assertEquals(List.of("x"), entries.get(0).getTags());
+                assertEquals(TIMEOUT, entries.get(0).getTimeout());
+                assertEquals(JobState.FINISHED, entries.get(0).getState());
+                assertTrue(entries.get(0).getResult().isSuccess());
+                assertEquals(RECOVERED_JOBS, entries.get(0).getResult().getTasks().get(0)
+                        .getProcess().getStdoutBytes());
+                assertNull(entries.get(0).getContent());
+
+                assertEquals("b", entries.get(1).getId());
+                assertEquals(JobState.RUNNING, entries.get(1).getState());
+                assertEquals("document b", entries.get(1).getContent());
+
+                assertEquals("c", entries.get(2).getId());
+                assertEquals(JobState.QUEUED, entries.get(2).getState());
+                assertNull(entries.get(2).getContent());
+            }
+        } finally {
+            FileUtils.removeDirectoryRecursive(path);
+        }
+    }
+
+    /**
+     * Testing that an incomplete last record (killed server) is ignored.
+     *
+     * @throws IOException       when creating temporary directory has failed.
+     * @throws HyperionException when opening the journal has failed.
+     */
+    @Test
+    public void testIncompleteRecord() throws IOException, HyperionException {
+        final var path = Files.createTempDirectory("journal");
+        try {
+            final var file = path.resolve("jobs.journal");
+            try (var journal = JobJournal.open(file)) {
+                journal.submitted("a", List.of(), TIMEOUT, "document a");
+            }
+            Files.writeString(file, "{\"event\":\"started\",\"id\"",
+                    StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+            try (var journal = JobJournal.open(file)) {
+                assertEquals(1, journal.getEntries().size());
+                assertEquals(JobState.QUEUED, journal.getEntries().get(0).getState());
+            }
+        } finally {
+            FileUtils.removeDirectoryRecursive(path);
+        }
+    }
+
+    /**
+     * Testing that the journal is compacted when it contains much more records than jobs.
+     *
+     * @throws IOException       when creating temporary directory has failed.
+     * @throws HyperionException when opening the journal has failed.
+     */
+    @Test
+    public void testCompaction() throws IOException, HyperionException {
+        final var path = Files.createTempDirectory("journal");
+        try {
+            final var file = path.resolve("jobs.journal");
+            final var result = DocumentResult.of();
+            try (var journal = JobJournal.open(file)) {
+                for (int iJob = 0; iJob < JOBS; ++iJob) {
+                    final var strId = String.valueOf(iJob);
+                    journal.submitted(strId, List.of(), TIMEOUT, "document");
+                    journal.finished(strId, result);
+                    journal.removed(strId);
+                }
+                journal.submitted("last", List.of(), TIMEOUT, "document");
+            }
+
+            assertTrue(Files.readAllLines(file).size() < RECORDS_PER_JOB * JOBS);
+            try (var journal = JobJournal.open(file)) {
+                assertEquals(1, journal.getEntries().size());
+                assertEquals("last", journal.getEntries().get(0).getId());
+            }
+        } finally {
+            FileUtils.removeDirectoryRecursive(path);
+        }
+    }
+
+    /**
+     * Testing that closing the journal does not hang when a compaction removes
+     * the pending records (including the marker waking up the writer).
+     *
+     * @throws IOException          when creating temporary directory has failed.
+     * @throws HyperionException    when opening the journal has failed.
+     * @throws InterruptedException when waiting for the compactions has been interrupted.
+     */
+    @Test
+    public void testCompactionWhileClosing()
+            throws IOException, HyperionException, InterruptedException {
+        final var path = Files.createTempDirectory("journal");
+        try {
+            final var file = path.resolve("jobs.journal");
+            final var journal = JobJournal.open(file);
+            journal.submitted("last", List.of(), TIMEOUT, "document");
+
+            final var compacting = new AtomicBoolean(true);
+            final var compactor = new Thread(() -> {
+                while (compacting.get()) {
+                    compactQuietly(journal);
+                }
+            });
+            compactor.start();
+            try {
+                assertTimeoutPreemptively(Duration.ofSeconds(CLOSE_TIMEOUT), journal::close);
+            } finally {
+                compacting.set(false);
+                compactor.join();
+                // closing the file a compaction might have opened again
+                journal.close();
+            }
+
+            try (var reopened = JobJournal.open(file)) {
+                assertEquals("last", reopened.getEntries().get(0).getId());
+            }
+        } finally {
+            FileUtils.removeDirectoryRecursive(path);
+        }
+    }
+
+    /**
+     * Compacting the journal.
+     *
+     * @param journal the journal.
+     */
+    private static void compactQuietly(final JobJournal journal) {
+        try {
+            journal.compact();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.server;
+
+import kong.unirest.HttpResponse;
+import kong.unirest.Unirest;
+import kong.unirest.UnirestException;
+import kong.unirest.UnirestInstance;
+import magic.system.hyperion.tools.DocumentGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Load driver for the server (serve mode): starting the server at a random port
+ * submitting documents concurrently (each client submits one document after the
+ * other polling its status until finished) through a pooled HTTP client.
+ * Runs fully offline (the default document runs the shell command "true").
+ *
+ * <pre>
+ * final var report = LoadDriver.of().setClients(8).setDocuments(1000).run();
+ * </pre>
+ */
+public final class LoadDriver {
+    /**
+     * Name of the submit endpoint in the report.
+     */
+    public static final String SUBMIT = "submit";
+
+    /**
+     * Name of the status endpoint in the report.
+     */
+    public static final String STATUS = "status";
+
+    /**
+     * Logger of this class.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoadDriver.class);
+
+    /**
+     * Default number of documents and default poll interval in milliseconds.
+     */
+    private static final int DEFAULT_COUNT = 10;
+
+    /**
+     * Maximum time for the whole load run.
+     */
+    private static final long MAX_HOURS = 1;
+
+    /**
+     * Number of concurrent clients.
+     */
+    private int iClients;
+
+    /**
+     * Number of documents to submit (in total).
+     */
+    private int iDocuments;
+
+    /**
+     * Time between two status polls of a document.
+     */
+    private long lPollMillis;
+
+    /**
+     * Document to submit.
+     */
+    private String strDocument;
+
+    /**
+     * Initializing driver with defaults.
+     */
+    private LoadDriver() {
+        this.iClients = 2;
+        this.iDocuments = DEFAULT_COUNT;
+        this.lPollMillis = DEFAULT_COUNT;
+        this.strDocument = DocumentGenerator.of().generate();
+    }
+
+    /**
+     * Create driver with defaults.
+     *
+     * @return new driver.
+     */
+    public static LoadDriver of() {
+        return new LoadDriver();
+    }
+
+    /**
+     * Change number of concurrent clients.
+     *
+     * @param iValue number of clients.
+     * @return driver itself.
+     */
+    public LoadDriver setClients(final int iValue) {
+        this.iClients = iValue;
+        return this;
+    }
+
+    /**
+     * Change number of documents to submit.
+     *
+     * @param iValue number of documents (in total).
+     * @return driver itself.
+     */
+    public LoadDriver setDocuments(final int iValue) {
+        this.iDocuments = iValue;
+        return this;
+    }
+
+    /**
+     * Change time between two status polls.
+     *
+     * @param lValue time in milliseconds.
+     * @return driver itself.
+     */
+    public LoadDriver setPollMillis(final long lValue) {
+        this.lPollMillis = lValue;
+        return this;
+    }
+
+    /**
+     * Change document to submit.
+     *
+     * @param strValue document (YAML).
+     * @return driver itself.
+     */
+    public LoadDriver setDocument(final String strValue) {
+        this.strDocument = strValue;
+        return this;
+    }
+
+    /**
+     * Starting server, running the load and stopping the server.
+     *
+     * @return measurements.
+     * @throws InterruptedException when waiting for the clients has been interrupted.
+     */
+    public LoadReport run() throws InterruptedException {
+        final var server = new Server();
+        server.start(0);
+
+        final var client = Unirest.spawnInstance();
+        client.config().concurrency(this.iClients, this.iClients);
+
+        final var strUrl = "http://localhost:" + server.getPort() + "/documents";
+        final var report = new LoadReport();
+        final var submitted = new AtomicInteger();
+        final var executor = Executors.newFixedThreadPool(this.iClients);
+        try {
+            report.started();
+            for (int iClient = 0; iClient < this.iClients; ++iClient) {
+                executor.execute(() -> {
+                    while (submitted.getAndIncrement() < this.iDocuments
+                            && !Thread.currentThread().isInterrupted()) {
+                        runDocument(client, strUrl, report);
+                    }
+                });
+            }
+            executor.shutdown();
+            if (!executor.awaitTermination(MAX_HOURS, TimeUnit.HOURS)) {
+                LOGGER.warn("Load run has not finished in time");
+            }
+            report.finished();
+        } finally {
+            executor.shutdownNow();
+            client.close();
+            server.stop();
+        }
+
+        LOGGER.info("Load run with {} clients:\n{}", this.iClients, report);
+        return report;
+    }
+
+    /**
+     * Submitting one document and polling its status until it has finished.
+     *
+     * @param client pooled HTTP client.
+     * @param strUrl URL of the documents endpoint.
+     * @param report where to record the measurements.
+     */
+    private void runDocument(final UnirestInstance client, final String strUrl,
+                             final LoadReport report) {
+        try {
+            var submit = request(report, SUBMIT,
+                    () -> client.post(strUrl).body(this.strDocument).asString());
+            while (submit != null && submit.getStatus()
+                    == HttpStatus.SERVICE_UNAVAILABLE.getStatus()) {
+                report.submissionRejected();
+                Thread.sleep(this.lPollMillis);
+                submit = request(report, SUBMIT,
+                        () -> client.post(strUrl).body(this.strDocument).asString());
+            }
+            if (submit == null || !submit.isSuccess()) {
+                return;
+            }
+
+            final var strStatusUrl = strUrl + '/' + submit.getBody();
+            var status = request(report, STATUS, () -> client.get(strStatusUrl).asString());
+            while (status != null && status.getStatus() == HttpStatus.ACCEPTED.getStatus()) {
+                Thread.sleep(this.lPollMillis);
+                status = request(report, STATUS, () -> client.get(strStatusUrl).asString());
+            }
+            if (status != null && status.getStatus() == HttpStatus.OK.getStatus()) {
+                report.documentFinished();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Sending one request measuring its latency.
+     *
+     * @param report      where to record the measurement.
+     * @param strEndpoint name of the endpoint.
+     * @param request     sending the request.
+     * @return response or null when the request has failed.
+     */
+    private static HttpResponse<String> request(final LoadReport report,
+                                                final String strEndpoint,
+                                                final Supplier<HttpResponse<String>> request) {
+        final long lStart = System.nanoTime();
+        HttpResponse<String> response = null;
+        try {
+            response = request.get();
+            final int iStatus = response.getStatus();
+            final boolean bSuccess = response.isSuccess()
+                    || iStatus == HttpStatus.SERVICE_UNAVAILABLE.getStatus();
+            report.record(strEndpoint, System.nanoTime() - lStart, bSuccess);
+            if (!bSuccess) {
+                LOGGER.warn("Unexpected status {} of {} request", iStatus, strEndpoint);
+            }
+        } catch (UnirestException e) {
+            report.record(strEndpoint, System.nanoTime() - lStart, false);
+            LOGGER.warn(e.getMessage());
+        }
+        return response;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.server;
+
+import magic.system.hyperion.tools.YamlTools;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing class {@link LoadDriver} and running the load test. The load test is
+ * not part of the normal build; run with (defaults: 8 clients, 1000 documents):
+ * mvn test -Dtest=LoadDriverTest -Dgroups=load -Dtest.excluded.groups= -Dload.clients=8
+ * -Dload.documents=1000 (results in target/load-result.json).
+ */
+@DisplayName("Testing LoadDriver")
+@EnabledOnOs({OS.LINUX, OS.MAC})
+public class LoadDriverTest {
+    /**
+     * Number of documents for the small load.
+     */
+    private static final int DOCUMENTS = 6;
+
+    /**
+     * Percentile of the median.
+     */
+    private static final int MEDIAN = 50;
+
+    /**
+     * Highest reported percentile.
+     */
+    private static final int MAX_PERCENTILE = 99;
+
+    /**
+     * Default number of clients of the load test.
+     */
+    private static final int LOAD_CLIENTS = 8;
+
+    /**
+     * Default number of documents of the load test.
+     */
+    private static final int LOAD_DOCUMENTS = 1000;
+
+    /**
+     * Testing a small load to be measured completely.
+     *
+     * @throws InterruptedException when waiting for the clients has been interrupted.
+     */
+    @Test
+    public void testSmallLoad() throws InterruptedException {
+        final var report = LoadDriver.of().setClients(2).setDocuments(DOCUMENTS).run();
+
+        assertEquals(DOCUMENTS, report.getDocuments());
+        assertEquals(DOCUMENTS + report.getRejected(), report.getRequests(LoadDriver.SUBMIT));
+        assertEquals(0, report.getErrors(LoadDriver.SUBMIT));
+        assertEquals(0, report.getErrors(LoadDriver.STATUS));
+        assertTrue(report.getRequests(LoadDriver.STATUS) >= DOCUMENTS);
+        assertTrue(report.getThroughput() > 0.0);
+        assertTrue(report.getPercentileMicros(LoadDriver.STATUS, MEDIAN)
+                <= report.getPercentileMicros(LoadDriver.STATUS, MAX_PERCENTILE));
+        assertTrue(report.toString().contains("throughput="));
+    }
+
+    /**
+     * Running the load test (configured by system properties).
+     *
+     * @throws InterruptedException when waiting for the clients has been interrupted.
+     * @throws IOException          when writing the results has failed.
+     */
+    @Test
+    @Tag("load")
+    public void testLoad() throws InterruptedException, IOException {
+        final var report = LoadDriver.of()
+                .setClients(Integer.getInteger("load.clients", LOAD_CLIENTS))
+                .setDocuments(Integer.getInteger("load.documents", LOAD_DOCUMENTS))
+                .run();
+
+        YamlTools.getJsonMapper().writerWithDefaultPrettyPrinter()
+                .writeValue(Path.of("target", "load-result.json").toFile(), report.toMap());
+        assertTrue(report.getDocuments() > 0);
+    }
+}
@@ -0,0 +1,318 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.server;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measurements of a load run against the server: request latencies and errors
+ * per endpoint, finished documents and growth of heap and threads.
+ */
+public final class LoadReport {
+    /**
+     * Bytes of one megabyte.
+     */
+    private static final long MEGABYTE = 1024L * 1024L;
+
+    /**
+     * Percent of all.
+     */
+    private static final double HUNDRED_PERCENT = 100.0;
+
+    /**
+     * Reported percentiles.
+     */
+    private static final int[] PERCENTILES = {50, 95, 99};
+
+    /**
+     * Latencies in nanoseconds by endpoint.
+     */
+    private final Map<String, List<Long>> latencies
+            = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    /**
+     * Failed requests by endpoint (connection error or unexpected status).
+     */
+    private final Map<String, AtomicInteger> errors
+            = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    /**
+     * Number of documents that have finished successfully.
+     */
+    private final AtomicInteger documents = new AtomicInteger();
+
+    /**
+     * Number of submissions rejected because of a full queue (retried).
+     */
+    private final AtomicInteger rejected = new AtomicInteger();
+
+    /**
+     * Start of the load run (nanoseconds).
+     */
+    private long lStartNanos;
+
+    /**
+     * End of the load run (nanoseconds).
+     */
+    private long lFinishNanos;
+
+    /**
+     * Used heap at the start in bytes (after GC).
+     */
+    private long lHeapBefore;
+
+    /**
+     * Used heap at the end in bytes (after GC).
+     */
+    private long lHeapAfter;
+
+    /**
+     * Live threads at the start.
+     */
+    private int iThreadsBefore;
+
+    /**
+     * Live threads at the end.
+     */
+    private int iThreadsAfter;
+
+    /**
+     * Peak of live threads during the load run.
+     */
+    private int iPeakThreads;
+
+    /**
+     * Marking start of the load run.
+     */
+    void started() {
+        final var threads = ManagementFactory.getThreadMXBean();
+        this.lHeapBefore = usedHeap();
+        this.iThreadsBefore = threads.getThreadCount();
+        threads.resetPeakThreadCount();
+        this.lStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Marking end of the load run.
+     */
+    void finished() {
+        this.lFinishNanos = System.nanoTime();
+        final var threads = ManagementFactory.getThreadMXBean();
+        this.iPeakThreads = threads.getPeakThreadCount();
+        this.iThreadsAfter = threads.getThreadCount();
+        this.lHeapAfter = usedHeap();
+    }
+
+    /**
+     * Recording one request.
+     *
+     * @param strEndpoint name of the endpoint.
+     * @param lNanos      latency in nanoseconds.
+     * @param bSuccess    false when the request has failed.
+     */
+    void record(final String strEndpoint, final long lNanos, final boolean bSuccess) {
+        this.latencies.computeIfAbsent(strEndpoint,
+                strKey -> Collections.synchronizedList(new ArrayList<>())).add(lNanos);
+        final var counter = this.errors.computeIfAbsent(strEndpoint,
+                strKey -> new AtomicInteger());
+        if (!bSuccess) {
+            counter.incrementAndGet();
+        }
+    }
+
+    /**
+     * Recording a document that has finished successfully.
+     */
+    void documentFinished() {
+        this.documents.incrementAndGet();
+    }
+
+    /**
+     * Recording a rejected submission.
+     */
+    void submissionRejected() {
+        this.rejected.incrementAndGet();
+    }
+
+    /**
+     * Provide number of documents that have finished successfully.
+     *
+     * @return number of documents.
+     */
+    public int getDocuments() {
+        return this.documents.get();
+    }
+
+    /**
+     * Provide number of rejected submissions (queue has been full).
+     *
+     * @return number of rejected submissions.
+     */
+    public int getRejected() {
+        return this.rejected.get();
+    }
+
+    /**
+     * Provide documents per second.
+     *
+     * @return throughput.
+     */
+    public double getThroughput() {
+        final long lNanos = Math.max(1, this.lFinishNanos - this.lStartNanos);
+        return this.documents.get() * (double) TimeUnit.SECONDS.toNanos(1) / lNanos;
+    }
+
+    /**
+     * Provide number of requests of an endpoint.
+     *
+     * @param strEndpoint name of the endpoint.
+     * @return number of requests.
+     */
+    public int getRequests(final String strEndpoint) {
+        return this.latencies.getOrDefault(strEndpoint, List.of()).size();
+    }
+
+    /**
+     * Provide number of failed requests of an endpoint.
+     *
+     * @param strEndpoint name of the endpoint.
+     * @return number of failed requests.
+     */
+    public int getErrors(final String strEndpoint) {
+        return this.errors.getOrDefault(strEndpoint, new AtomicInteger()).get();
+    }
+
+    /**
+     * Provide latency percentile of an endpoint.
+     *
+     * @param strEndpoint name of the endpoint.
+     * @param iPercentile percentile (1..100).
+     * @return latency in microseconds (0 when there are no requests).
+     */
+    public long getPercentileMicros(final String strEndpoint, final int iPercentile) {
+        final List<Long> sorted;
+        synchronized (this.latencies) {
+            sorted = new ArrayList<>(this.latencies.getOrDefault(strEndpoint, List.of()));
+        }
+        long lMicros = 0;
+        if (!sorted.isEmpty()) {
+            Collections.sort(sorted);
+            final int iIndex = (int) Math.ceil(iPercentile / HUNDRED_PERCENT * sorted.size()) - 1;
+            lMicros = TimeUnit.NANOSECONDS.toMicros(sorted.get(Math.max(0, iIndex)));
+        }
+        return lMicros;
+    }
+
+    /**
+     * Provide growth of used heap (after GC) during the load run.
+     *
+     * @return growth in bytes (can be negative).
+     */
+    public long getHeapGrowthBytes() {
+        return this.lHeapAfter - this.lHeapBefore;
+    }
+
+    /**
+     * Provide growth of live threads during the load run.
+     *
+     * @return growth of threads (can be negative).
+     */
+    public int getThreadGrowth() {
+        return this.iThreadsAfter - this.iThreadsBefore;
+    }
+
+    /**
+     * Provide peak of live threads during the load run.
+     *
+     * @return peak of threads.
+     */
+    public int getPeakThreads() {
+        return this.iPeakThreads;
+    }
+
+    /**
+     * Provide measurements as map (for writing JSON).
+     *
+     * @return measurements.
+     */
+    public Map<String, Object> toMap() {
+        final var endpoints = new LinkedHashMap<String, Object>();
+        for (final var strEndpoint: List.copyOf(this.latencies.keySet())) {
+            final var endpoint = new LinkedHashMap<String, Object>();
+            endpoint.put("requests", getRequests(strEndpoint));
+            endpoint.put("errors", getErrors(strEndpoint));
+            for (final int iPercentile: PERCENTILES) {
+                endpoint.put("p" + iPercentile + "Micros",
+                        getPercentileMicros(strEndpoint, iPercentile));
+            }
+            endpoints.put(strEndpoint, endpoint);
+        }
+
+        final var report = new LinkedHashMap<String, Object>();
+        report.put("documents", getDocuments());
+        report.put("rejected", getRejected());
+        report.put("throughput", getThroughput());
+        report.put("endpoints", endpoints);
+        report.put("heapGrowthBytes", getHeapGrowthBytes());
+        report.put("threadGrowth", getThreadGrowth());
+        report.put("peakThreads", getPeakThreads());
+        return report;
+    }
+
+    @Override
+    public String toString() {
+        final var report = new StringBuilder(String.format(
+                "documents=%d, rejected=%d, throughput=%.1f/s, heap growth=%dMB, "
+                        + "thread growth=%d, peak threads=%d%n",
+                getDocuments(), getRejected(), getThroughput(),
+                getHeapGrowthBytes() / MEGABYTE, getThreadGrowth(), getPeakThreads()));
+        for (final var strEndpoint: List.copyOf(this.latencies.keySet())) {
+            final int iRequests = getRequests(strEndpoint);
+            report.append(String.format("%-8s requests=%d, errors=%.2f%%, p50=%dus, p95=%dus, "
+                            + "p99=%dus%n", strEndpoint, iRequests,
+                    getErrors(strEndpoint) * HUNDRED_PERCENT / Math.max(1, iRequests),
+                    getPercentileMicros(strEndpoint, PERCENTILES[0]),
+                    getPercentileMicros(strEndpoint, PERCENTILES[1]),
+                    getPercentileMicros(strEndpoint, PERCENTILES[2])));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Used heap after GC.
+     *
+     * @return used heap in bytes.
+     */
+    private static long usedHeap() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
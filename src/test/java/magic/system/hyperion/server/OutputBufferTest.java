@@ -0,0 +1,120 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.server;
+
+import magic.system.hyperion.components.OutputLine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing of class {@link OutputBuffer}.
+ *
+ * @author Thomas Lehmann
+ */
+@DisplayName("Testing class OutputBuffer")
+class OutputBufferTest {
+    /**
+     * Capacity of tested buffers.
+     */
+    private static final int CAPACITY = 3;
+
+    /**
+     * Number of lines added to the tested buffers (more than capacity).
+     */
+    private static final int LINES = 5;
+
+    /**
+     * Testing reading lines by offset.
+     */
+    @Test
+    public void testRead() {
+        final var buffer = new OutputBuffer(CAPACITY);
+        buffer.output(createLine(0));
+        buffer.output(createLine(1));
+
+        assertEquals(0L, buffer.getFirstOffset());
+        assertEquals(2L, buffer.getNextOffset());
+        assertEquals(2, buffer.read(0L, CAPACITY).size());
+        assertEquals("line 1", buffer.read(1L, CAPACITY).get(0).getLine());
+        assertEquals(1, buffer.read(0L, 1).size());
+        assertTrue(buffer.read(2L, CAPACITY).isEmpty());
+    }
+
+    /**
+     * Testing that the oldest lines are overwritten when the buffer is full.
+     */
+    @Test
+    public void testOverwrite() {
+        final var buffer = new OutputBuffer(CAPACITY);
+        for (int iLine = 0; iLine < LINES; ++iLine) {
+            buffer.output(createLine(iLine));
+        }
+
+        assertEquals(LINES - CAPACITY, buffer.getFirstOffset());
+        assertEquals(LINES, buffer.getNextOffset());
+
+        // reading overwritten lines starts at the oldest line still available
+        final var lines = buffer.read(0L, LINES);
+        assertEquals(CAPACITY, lines.size());
+        assertEquals("line 2", lines.get(0).getLine());
+        assertEquals("line 4", lines.get(2).getLine());
+    }
+
+    /**
+     * Testing that listeners are signaled for each line and when closing.
+     */
+    @Test
+    public void testListener() {
+        final var buffer = new OutputBuffer(CAPACITY);
+        final var signals = new AtomicInteger();
+        final Runnable listener = signals::incrementAndGet;
+
+        buffer.addListener(listener);
+        buffer.output(createLine(0));
+        assertFalse(buffer.isClosed());
+        buffer.close();
+        assertTrue(buffer.isClosed());
+        assertEquals(2, signals.get());
+
+        buffer.removeListener(listener);
+        buffer.output(createLine(1));
+        assertEquals(2, signals.get());
+    }
+
+    /**
+     * Create output line.
+     *
+     * @param iLine number of the line.
+     * @return output line.
+     */
+    private static OutputLine createLine(final int iLine) {
+        return OutputLine.of("group", "task", -1, false, "line " + iLine);
+    }
+}
@@ -25,6 +25,7 @@ package magic.system.hyperion.server.controller;
 
 import kong.unirest.Unirest;
 import magic.system.hyperion.components.DocumentResult;
+import magic.system.hyperion.server.HttpStatus;
 import magic.system.hyperion.server.Server;
 import magic.system.hyperion.tools.MessagesCollector;
 import magic.system.hyperion.tools.TimeTools;
@@ -65,6 +66,54 @@ class DocumentsControllerTest {
      */
     private static final long WAIT = TIMEOUT / 10;
 
+    /**
+     * Maximum wait for queued documents: 15 seconds.
+     */
+    private static final long QUEUE_TIMEOUT = 15000;
+
+    /**
+     * Seconds to wait for a document in long-poll requests.
+     */
+    private static final int LONG_POLL_WAIT = 30;
+
+    /**
+     * Media type required for Server-Sent Events.
+     */
+    private static final String EVENT_STREAM = "text/event-stream";
+
+    /**
+     * Document sleeping 2 seconds.
+     */
+    private static final String SLOW_DOCUMENT = "taskgroups:\n"
+            + "  - title: test\n"
+            + "    tasks:\n"
+            + "      - type: groovy\n"
+            + "        code: sleep(2000); println 'slow document done!'\n";
+
+    /**
+     * Document running a shell script for 30 seconds.
+     */
+    private static final String HANGING_DOCUMENT = "taskgroups:\n"
+            + "  - title: test\n"
+            + "    tasks:\n"
+            + "      - type: shell\n"
+            + "        code: sleep 30\n"
+            + "      - type: shell\n"
+            + "        code: echo 'not reached'\n";
+
+    /**
+     * Document running a shell task twice (with values).
+     */
+    private static final String TRACED_DOCUMENT = "taskgroups:\n"
+            + "  - title: traced group\n"
+            + "    tasks:\n"
+            + "      - type: shell\n"
+            + "        title: traced task\n"
+            + "        code: echo '{{ with.value }}'\n"
+            + "        with:\n"
+            + "          - a\n"
+            + "          - b\n";
+
     /**
      * REST Service.
      */
@@ -220,4 +269,210 @@ class DocumentsControllerTest {
         // for the reading of the document no time is measured.
         assertEquals(result.getFinished(), result.getStarted());
     }
+
+    /**
+     * Testing that documents are queued and rejected when the queue is full.
+     *
+     * @throws InterruptedException when wait for condition has been interrupted
+     */
+    @Test
+    public void testQueueLimit() throws InterruptedException {
+        final var strDocument = SLOW_DOCUMENT;
+        final var strUrl = "http://localhost:" + this.server.getPort() + "/documents";
+
+        MessagesCollector.clear();
+        DocumentsController.setJobLimits(1, 1);
+        try {
+            final var first = Unirest.post(strUrl).body(strDocument).asString();
+            final var second = Unirest.post(strUrl).body(strDocument).asString();
+            final var third = Unirest.post(strUrl).body(strDocument).asString();
+
+            assertTrue(first.isSuccess());
+            assertTrue(second.isSuccess());
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE.getStatus(), third.getStatus());
+            assertTrue(Integer.parseInt(third.getHeaders().getFirst("Retry-After")) >= 1);
+
+            final var statusResponse = Unirest.get(strUrl + "/" + second.getBody()).asString();
+            assertEquals(HttpStatus.ACCEPTED.getStatus(), statusResponse.getStatus());
+            assertTrue(statusResponse.getBody().contains("\"position\":1"));
+
+            assertTrue(TimeTools.wait(() -> Unirest.get(strUrl + "/" + second.getBody())
+                    .asString().getStatus() == HttpStatus.OK.getStatus(), QUEUE_TIMEOUT, WAIT));
+        } finally {
+            DocumentsController.setJobLimits(DocumentsController.DEFAULT_MAX_RUNNING,
+                    DocumentsController.DEFAULT_MAX_QUEUED);
+        }
+    }
+
+    /**
+     * Testing waiting for a document result with a long-poll request.
+     *
+     * @throws IOException        when reading YAML has failed.
+     * @throws URISyntaxException when file  has not been found.
+     */
+    @Test
+    public void testLongPoll() throws IOException, URISyntaxException {
+        final var path = Paths.get(getClass().getResource(
+                "/documents/document-with-groovy.yml").toURI());
+        final var strUrl = "http://localhost:" + this.server.getPort() + "/documents";
+
+        final var response = Unirest.post(strUrl).body(Files.readString(path)).asString();
+        assertTrue(response.isSuccess());
+
+        // no polling loop: the response is sent when the document has finished
+        final var statusResponse = Unirest.get(strUrl + "/" + response.getBody())
+                .queryString("wait", LONG_POLL_WAIT).asString();
+        assertEquals(HttpStatus.OK.getStatus(), statusResponse.getStatus());
+
+        final var mapper = jacksonObjectMapper().findAndRegisterModules();
+        final var result = mapper.readValue(statusResponse.getBody(), DocumentResult.class);
+        assertTrue(result.isSuccess());
+
+        // result has been read
+        assertEquals(HttpStatus.NOT_FOUND.getStatus(), Unirest.get(
+                strUrl + "/" + response.getBody()).queryString("wait", LONG_POLL_WAIT)
+                .asString().getStatus());
+    }
+
+    /**
+     * Testing that a long-poll request ends when the wait time is over.
+     *
+     * @throws InterruptedException when wait for condition has been interrupted
+     */
+    @Test
+    public void testLongPollTimeout() throws InterruptedException {
+        final var strUrl = "http://localhost:" + this.server.getPort() + "/documents";
+
+        final var response = Unirest.post(strUrl).body(SLOW_DOCUMENT).asString();
+        assertTrue(response.isSuccess());
+
+        final var statusResponse = Unirest.get(strUrl + "/" + response.getBody())
+                .queryString("wait", 1).asString();
+        assertEquals(HttpStatus.ACCEPTED.getStatus(), statusResponse.getStatus());
+
+        assertTrue(TimeTools.wait(() -> Unirest.get(strUrl + "/" + response.getBody())
+                .asString().getStatus() == HttpStatus.OK.getStatus(), QUEUE_TIMEOUT, WAIT));
+    }
+
+    /**
+     * Testing Server-Sent Events for a document run.
+     */
+    @Test
+    public void testEvents() {
+        final var strUrl = "http://localhost:" + this.server.getPort() + "/documents";
+
+        final var response = Unirest.post(strUrl).body(SLOW_DOCUMENT).asString();
+        assertTrue(response.isSuccess());
+
+        // the stream is closed by the server when the document has finished
+        final var events = Unirest.get(strUrl + "/" + response.getBody() + "/events")
+                .header("Accept", EVENT_STREAM).asString().getBody();
+        assertTrue(events.contains("event: running"));
+        assertTrue(events.contains("event: finished"));
+        assertTrue(events.indexOf("event: running") < events.indexOf("event: finished"));
+        assertTrue(events.contains("\"success\":true"));
+
+        // sending the result does not remove it
+        assertEquals(HttpStatus.OK.getStatus(),
+                Unirest.get(strUrl + "/" + response.getBody()).asString().getStatus());
+
+        // result has been read
+        assertTrue(Unirest.get(strUrl + "/" + response.getBody() + "/events")
+                .header("Accept", EVENT_STREAM).asString().getBody().contains("event: not-found"));
+    }
+
+    /**
+     * Testing streaming of output lines for a document run.
+     */
+    @Test
+    public void testOutput() {
+        final var strUrl = "http://localhost:" + this.server.getPort() + "/documents";
+
+        final var response = Unirest.post(strUrl).body(SLOW_DOCUMENT).asString();
+        assertTrue(response.isSuccess());
+
+        // the stream is closed by the server when the document has finished
+        final var strOutputUrl = strUrl + "/" + response.getBody() + "/output";
+        final var output = Unirest.get(strOutputUrl)
+                .header("Accept", EVENT_STREAM).asString().getBody();
+        assertTrue(output.contains("event: line"));
+        assertTrue(output.contains("id: 0"));
+        assertTrue(output.contains("\"taskGroup\":\"test\""));
+        assertTrue(output.contains("\"stream\":\"stdout\""));
+        assertTrue(output.contains("slow document done!"));
+        assertTrue(output.indexOf("event: line") < output.indexOf("event: end"));
+
+        // resuming after the last line
+        final var resumed = Unirest.get(strOutputUrl).header("Accept", EVENT_STREAM)
+                .header("Last-Event-ID", "0").asString().getBody();
+        assertFalse(resumed.contains("event: line"));
+        assertTrue(resumed.contains("event: end"));
+
+        // output is removed together with the result
+        assertEquals(HttpStatus.OK.getStatus(), Unirest.get(strUrl + "/" + response.getBody())
+                .asString().getStatus());
+        assertTrue(Unirest.get(strOutputUrl).header("Accept", EVENT_STREAM)
+                .asString().getBody().contains("event: not-found"));
+    }
+
+    /**
+     * Testing cancellation of a running document (process is killed).
+     *
+     * @throws InterruptedException when wait for condition has been interrupted
+     */
+    @Test
+    public void testCancel() throws InterruptedException {
+        final var strUrl = "http://localhost:" + this.server.getPort() + "/documents";
+
+        final var response = Unirest.post(strUrl).body(HANGING_DOCUMENT).asString();
+        assertTrue(response.isSuccess());
+        final var strDocumentUrl = strUrl + "/" + response.getBody();
+        assertTrue(TimeTools.wait(() -> Unirest.get(strDocumentUrl).asString().getBody()
+                .contains("running"), TIMEOUT, WAIT));
+
+        final long lStarted = System.currentTimeMillis();
+        assertEquals(HttpStatus.ACCEPTED.getStatus(),
+                Unirest.delete(strDocumentUrl).asString().getStatus());
+
+        final var result = Unirest.get(strDocumentUrl + "?wait=" + LONG_POLL_WAIT)
+                .asString().getBody();
+        assertTrue(result.contains("\"success\":false"));
+        assertTrue(result.contains("\"cancelled\":true"));
+        // the sleeping process has been killed
+        assertTrue(System.currentTimeMillis() - lStarted < TIMEOUT);
+
+        assertEquals(HttpStatus.NOT_FOUND.getStatus(),
+                Unirest.delete(strDocumentUrl).asString().getStatus());
+    }
+
+    /**
+     * Testing the timeline of a document run (Chrome trace).
+     */
+    @Test
+    public void testTrace() {
+        final var strUrl = "http://localhost:" + this.server.getPort() + "/documents";
+
+        final var response = Unirest.post(strUrl + "?trace=true")
+                .body(TRACED_DOCUMENT).asString();
+        assertTrue(response.isSuccess());
+        final var strDocumentUrl = strUrl + "/" + response.getBody();
+        assertTrue(Unirest.get(strDocumentUrl + "?wait=" + LONG_POLL_WAIT)
+                .asString().getBody().contains("\"success\":true"));
+
+        final var trace = Unirest.get(strDocumentUrl + "/trace").asString();
+        assertEquals(HttpStatus.OK.getStatus(), trace.getStatus());
+        assertTrue(trace.getBody().startsWith("{\"traceEvents\":["));
+        assertTrue(trace.getBody().contains("\"name\":\"traced group\""));
+        assertTrue(trace.getBody().contains("\"name\":\"traced task #1\""));
+        assertTrue(trace.getBody().contains("\"name\":\"spawn\""));
+        assertTrue(trace.getBody().contains("\"name\":\"render\""));
+        assertTrue(trace.getBody().contains("\"name\":\"thread_name\""));
+
+        // not traced
+        final var untraced = Unirest.post(strUrl).body(TRACED_DOCUMENT).asString();
+        assertTrue(Unirest.get(strUrl + "/" + untraced.getBody() + "?wait=" + LONG_POLL_WAIT)
+                .asString().isSuccess());
+        assertEquals(HttpStatus.NOT_FOUND.getStatus(),
+                Unirest.get(strUrl + "/" + untraced.getBody() + "/trace").asString().getStatus());
+    }
 }
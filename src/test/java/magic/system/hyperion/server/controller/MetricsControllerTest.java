@@ -0,0 +1,107 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.server.controller;
+
+import kong.unirest.Unirest;
+import magic.system.hyperion.server.HttpStatus;
+import magic.system.hyperion.server.Server;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing of class {@link MetricsController}.
+ *
+ * @author Thomas Lehmann
+ */
+@DisplayName("Testing class MetricsController")
+@SuppressWarnings("checkstyle:multiplestringliterals")
+class MetricsControllerTest {
+    /**
+     * Document with one shell task.
+     */
+    private static final String SHELL_DOCUMENT = "taskgroups:\n"
+            + "  - title: test\n"
+            + "    tasks:\n"
+            + "      - type: shell\n"
+            + "        code: echo 'hello metrics!'\n";
+
+    /**
+     * REST Service.
+     */
+    private Server server;
+
+    /**
+     * Creating and starting REST service at random port.
+     */
+    @BeforeEach
+    public void setUp() {
+        this.server = new Server();
+        this.server.start(0);
+    }
+
+    /**
+     * Stopping REST service.
+     */
+    @AfterEach
+    public void tearDown() {
+        this.server.stop();
+        this.server = null;
+    }
+
+    /**
+     * Testing metrics after running a document.
+     */
+    @Test
+    public void testMetrics() {
+        final var strUrl = "http://localhost:" + this.server.getPort();
+
+        final var response = Unirest.post(strUrl + "/documents").body(SHELL_DOCUMENT).asString();
+        assertTrue(response.isSuccess());
+        // waiting for the document (result is read)
+        assertTrue(Unirest.get(strUrl + "/documents/" + response.getBody() + "?wait=30")
+                .asString().getBody().contains("\"success\":true"));
+
+        final var metrics = Unirest.get(strUrl + "/metrics").asString();
+        assertEquals(HttpStatus.OK.getStatus(), metrics.getStatus());
+        assertTrue(metrics.getHeaders().getFirst("Content-Type").startsWith("text/plain"));
+
+        final var strText = metrics.getBody();
+        assertTrue(strText.contains("# TYPE hyperion_jobs_submitted_total counter"));
+        assertTrue(strText.contains("hyperion_jobs_running 0"));
+        assertTrue(strText.contains("hyperion_document_duration_seconds_count"));
+        assertTrue(strText.contains(
+                "hyperion_task_duration_seconds_count{type=\"UnixShellTask\"}"));
+        assertTrue(strText.contains("hyperion_processes_started_total"));
+        assertTrue(strText.contains("hyperion_template_cache_hit_ratio"));
+        assertTrue(strText.contains("hyperion_runner_utilization"));
+        assertTrue(strText.contains("jvm_memory_heap_used_bytes"));
+        assertTrue(strText.contains("# TYPE jvm_threads_live gauge"));
+        assertTrue(strText.matches("(?s).*\nhyperion_jobs_submitted_total [1-9].*"));
+    }
+}
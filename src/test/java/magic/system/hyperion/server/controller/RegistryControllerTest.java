@@ -0,0 +1,136 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.server.controller;
+
+import kong.unirest.Unirest;
+import magic.system.hyperion.server.HttpStatus;
+import magic.system.hyperion.server.Server;
+import magic.system.hyperion.tools.MessagesCollector;
+import magic.system.hyperion.tools.TimeTools;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing of class {@link RegistryController}.
+ *
+ * @author Thomas Lehmann
+ */
+@DisplayName("Testing class RegistryController")
+@SuppressWarnings("checkstyle:multiplestringliterals")
+class RegistryControllerTest {
+    /**
+     * Maximum wait for request: 5 seconds.
+     */
+    private static final long TIMEOUT = 5000;
+
+    /**
+     * Time to sleep in the wait loop.
+     */
+    private static final long WAIT = TIMEOUT / 10;
+
+    /**
+     * REST Service.
+     */
+    private Server server;
+
+    /**
+     * Creating and starting REST service at random port.
+     */
+    @BeforeEach
+    public void setUp() {
+        this.server = new Server();
+        this.server.start(0);
+    }
+
+    /**
+     * Stopping REST service.
+     */
+    @AfterEach
+    public void tearDown() {
+        this.server.stop();
+        this.server = null;
+    }
+
+    /**
+     * Testing registering a document and running it with and without model override.
+     *
+     * @throws IOException          when reading YAML has failed.
+     * @throws URISyntaxException   when file  has not been found.
+     * @throws InterruptedException when wait for condition has been interrupted
+     */
+    @Test
+    public void testRegisterAndRun() throws IOException, URISyntaxException,
+            InterruptedException {
+        final var path = Paths.get(getClass().getResource(
+                "/documents/document-for-registry.yml").toURI());
+        final var strUrl = "http://localhost:" + this.server.getPort() + "/registry/greeting";
+
+        final var response = Unirest.put(strUrl).body(Files.readString(path)).asString();
+        assertTrue(response.isSuccess());
+        assertTrue(Unirest.get(strUrl).asString().getBody().contains("\"version\":1"));
+
+        MessagesCollector.clear();
+        final var runResponse = Unirest.post(strUrl + "/run").asString();
+        assertTrue(runResponse.isSuccess());
+        assertFalse(runResponse.getBody().isEmpty());
+        assertTrue(TimeTools.wait(() -> MessagesCollector.hasMessages(
+                List.of("hello from registry!", "Document request succeeded!")), TIMEOUT, WAIT));
+
+        MessagesCollector.clear();
+        final var overrideResponse = Unirest.post(strUrl + "/run")
+                .body("model:\n  greeting: goodbye\n").asString();
+        assertTrue(overrideResponse.isSuccess());
+        assertTrue(TimeTools.wait(() -> MessagesCollector.hasMessages(
+                List.of("goodbye from registry!", "Document request succeeded!")),
+                TIMEOUT, WAIT));
+
+        assertTrue(Unirest.delete(strUrl).asString().isSuccess());
+    }
+
+    /**
+     * Testing invalid requests.
+     */
+    @Test
+    public void testInvalidRequests() {
+        final var strUrl = "http://localhost:" + this.server.getPort() + "/registry/";
+        assertEquals(HttpStatus.NOT_FOUND.getStatus(),
+                Unirest.get(strUrl + "unknown").asString().getStatus());
+        assertEquals(HttpStatus.NOT_FOUND.getStatus(),
+                Unirest.post(strUrl + "unknown/run").asString().getStatus());
+        assertEquals(HttpStatus.BAD_REQUEST.getStatus(), Unirest.put(strUrl + "invalid")
+                .body("--> invalid-document-content <--").asString().getStatus());
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.tools;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing class {@link CapabilitiesCache}.
+ *
+ * @author Thomas Lehmann
+ */
+@DisplayName("Testing CapabilitiesCache class")
+public class CapabilitiesCacheTest {
+    /**
+     * Time to live for tests (one minute).
+     */
+    private static final long TIME_TO_LIVE = 60_000L;
+
+    /**
+     * Version of the fake Docker in the persisted file.
+     */
+    private static final String FAKE_VERSION = "99.0.0";
+
+    /**
+     * Disable persistence and forget probed tools.
+     */
+    @AfterEach
+    public void cleanUp() {
+        CapabilitiesCache.setPersistence(null, 0);
+        CapabilitiesCache.clear();
+    }
+
+    /**
+     * Testing that persisted tools are used when not expired.
+     *
+     * @throws IOException when creating or reading the file has failed.
+     */
+    @Test
+    public void testPersisted() throws IOException {
+        final var path = createFile(System.currentTimeMillis());
+        try {
+            CapabilitiesCache.setPersistence(path, TIME_TO_LIVE);
+            assertTrue(Capabilities.hasDocker());
+            assertEquals(FAKE_VERSION + ", build test", Capabilities.getDockerVersion());
+            assertFalse(Capabilities.hasPowershell());
+            assertEquals("", Capabilities.getPowershellVersion());
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * Testing that expired persisted tools are probed and persisted again.
+     *
+     * @throws IOException when creating or reading the file has failed.
+     */
+    @Test
+    public void testExpired() throws IOException {
+        final var path = createFile(System.currentTimeMillis() - 2 * TIME_TO_LIVE);
+        try {
+            CapabilitiesCache.setPersistence(path, TIME_TO_LIVE);
+            final boolean bHasDocker = Capabilities.hasDocker();
+            assertFalse(Files.readString(path).contains(FAKE_VERSION));
+
+            // using persisted file (written by probing above)
+            CapabilitiesCache.clear();
+            assertEquals(bHasDocker, Capabilities.hasDocker());
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * Testing that an interrupted probing is neither cached nor persisted.
+     *
+     * @throws IOException when creating or reading the file has failed.
+     */
+    @Test
+    public void testInterrupted() throws IOException {
+        final var path = Files.createTempDirectory("capabilities-test");
+        final var file = path.resolve("capabilities.properties");
+        try {
+            CapabilitiesCache.setPersistence(file, TIME_TO_LIVE);
+            Thread.currentThread().interrupt();
+            assertFalse(Capabilities.hasDocker());
+            assertFalse(Capabilities.hasPython());
+            assertTrue(Thread.interrupted());
+            assertFalse(Files.exists(file));
+
+            // probed again (not using the interrupted probing)
+            assertEquals(Capabilities.hasPython(), !Capabilities.getPythonVersion().isEmpty());
+            assertTrue(Files.exists(file));
+        } finally {
+            FileUtils.removeDirectoryRecursive(path);
+        }
+    }
+
+    /**
+     * Create persisted file with fake Docker.
+     *
+     * @param lTimestamp timestamp when the tools have been probed.
+     * @return path of file.
+     * @throws IOException when creating the file has failed.
+     */
+    private static Path createFile(final long lTimestamp) throws IOException {
+        final var path = Files.createTempFile("capabilities", ".properties");
+        Files.writeString(path, "timestamp=" + lTimestamp
+                + "\ndocker=Docker version " + FAKE_VERSION + ", build test\n");
+        return path;
+    }
+}
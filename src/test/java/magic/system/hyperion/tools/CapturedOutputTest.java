@@ -0,0 +1,204 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.tools;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing of class {@link CapturedOutput}.
+ *
+ * @author Thomas Lehmann
+ */
+@DisplayName("Testing class CapturedOutput")
+@SuppressWarnings({"checkstyle:multiplestringliterals", "checkstyle:magicnumber"})
+class CapturedOutputTest {
+    /**
+     * Testing that lines are split across writes and carriage returns are removed.
+     */
+    @Test
+    public void testLines() {
+        final List<String> lines = new ArrayList<>();
+        final var output = new CapturedOutput(
+                CaptureLimits.UNLIMITED, StandardCharsets.UTF_8, lines::add);
+        write(output, "first\r\nsec");
+        write(output, "ond\n");
+        assertEquals(List.of("first", "second"), lines);
+        write(output, "last");
+        output.finish();
+
+        assertEquals(List.of("first", "second", "last"), lines);
+        assertEquals(List.of("first", "second", "last"), output.getLines());
+        assertEquals(3, output.getLineCount());
+        assertEquals(0, output.getDroppedLines());
+        assertEquals(18, output.getBytes());
+        assertFalse(output.getSpillFile().isPresent());
+    }
+
+    /**
+     * Testing that a lone carriage return ends a line (progress output) and that
+     * "\r\n" split across writes ends one line only.
+     */
+    @Test
+    public void testCarriageReturn() {
+        final List<String> lines = new ArrayList<>();
+        final var output = new CapturedOutput(
+                CaptureLimits.UNLIMITED, StandardCharsets.UTF_8, lines::add);
+        write(output, " 10%\r 50%\r100%\r");
+        write(output, "\ndone\r\n\r\n");
+        output.finish();
+
+        assertEquals(List.of(" 10%", " 50%", "100%", "done", ""), lines);
+        assertEquals(5, output.getLineCount());
+    }
+
+    /**
+     * Testing that bytes exceeding the maximum line length are dropped.
+     */
+    @Test
+    public void testMaxLineLength() {
+        final List<String> lines = new ArrayList<>();
+        final var output = new CapturedOutput(
+                CaptureLimits.UNLIMITED, StandardCharsets.UTF_8, lines::add, 4);
+        write(output, "abc");
+        write(output, "defgh\nij\n");
+        write(output, "klmnop");
+        output.finish();
+
+        assertEquals(List.of("abcd", "ij", "klmn"), lines);
+        assertEquals(6, output.getDroppedBytes());
+        assertEquals(18, output.getBytes());
+    }
+
+    /**
+     * Testing that only first and last lines are kept while the listener
+     * gets all lines.
+     */
+    @Test
+    public void testHeadAndTail() {
+        final List<String> lines = new ArrayList<>();
+        final var output = new CapturedOutput(
+                CaptureLimits.of(2, 3, false), StandardCharsets.UTF_8, lines::add);
+        write(output, createLines(10));
+        output.finish();
+
+        assertEquals(10, lines.size());
+        assertEquals(List.of("line 1", "line 2", "line 8", "line 9", "line 10"),
+                output.getLines());
+        assertEquals(10, output.getLineCount());
+        assertEquals(5, output.getDroppedLines());
+    }
+
+    /**
+     * Testing that without tail the lines after the head are dropped.
+     */
+    @Test
+    public void testHeadOnly() {
+        final var output = new CapturedOutput(
+                CaptureLimits.of(2, 0, false), StandardCharsets.UTF_8, null);
+        write(output, createLines(10));
+        output.finish();
+
+        assertEquals(List.of("line 1", "line 2"), output.getLines());
+        assertEquals(8, output.getDroppedLines());
+    }
+
+    /**
+     * Testing that the complete output is written to the temporary file.
+     *
+     * @throws IOException when reading the temporary file has failed.
+     */
+    @Test
+    public void testSpill() throws IOException {
+        final var output = new CapturedOutput(
+                CaptureLimits.of(1, 1, true), StandardCharsets.UTF_8, null);
+        final var strText = createLines(10);
+        write(output, strText);
+        output.finish();
+
+        assertEquals(List.of("line 1", "line 10"), output.getLines());
+        final var spillFile = output.getSpillFile().orElseThrow();
+        try {
+            assertEquals(strText, Files.readString(spillFile));
+            try (var lines = output.lines()) {
+                assertEquals(10, lines.count());
+            }
+        } finally {
+            FileUtils.deletePath(spillFile);
+        }
+    }
+
+    /**
+     * Testing capture of the output of two streams.
+     */
+    @Test
+    public void testCaptureOfStreams() {
+        final List<String> lines = new ArrayList<>();
+        final var captured = ProcessTools.capture(
+                new ByteArrayInputStream(createLines(100).getBytes(StandardCharsets.UTF_8)),
+                new ByteArrayInputStream("error\n".getBytes(StandardCharsets.UTF_8)),
+                CaptureLimits.of(5, 5, false), false, lines::add, ProcessTools.IGNORE);
+
+        assertEquals(100, lines.size());
+        assertEquals(10, captured.getFirst().getLines().size());
+        assertEquals(90, captured.getFirst().getDroppedLines());
+        assertEquals(List.of("error"), captured.getSecond().getLines());
+        assertTrue(captured.getFirst().getBytes() > captured.getSecond().getBytes());
+    }
+
+    /**
+     * Passing text to the captured output.
+     *
+     * @param output  the captured output.
+     * @param strText the text to write.
+     */
+    private static void write(final CapturedOutput output, final String strText) {
+        final var bytes = strText.getBytes(StandardCharsets.UTF_8);
+        output.write(bytes, bytes.length);
+    }
+
+    /**
+     * Create text with numbered lines.
+     *
+     * @param iCount number of lines.
+     * @return text.
+     */
+    private static String createLines(final int iCount) {
+        return IntStream.rangeClosed(1, iCount).mapToObj(iLine -> "line " + iLine + "\n")
+                .collect(Collectors.joining());
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.tools;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing class {@link DockerBuildContext}.
+ *
+ * @author Thomas Lehmann
+ */
+@DisplayName("Testing DockerBuildContext class")
+@SuppressWarnings("checkstyle:multiplestringliterals")
+public class DockerBuildContextTest {
+    /**
+     * Dockerfile used for tests.
+     */
+    private static final String DOCKERFILE = "FROM debian:latest\n"
+            + "COPY scripts/hello.sh /\n"
+            + "COPY --chown=1000 [\"docs/*.md\", \"/docs/\"]\n"
+            + "COPY --from=build /app /app\n"
+            + "ADD https://example.com/file.txt /\n";
+
+    /**
+     * Folder with context for the tests.
+     */
+    private Path contextPath;
+
+    /**
+     * Create context folder with a few files.
+     *
+     * @throws IOException when creating files has failed.
+     */
+    @BeforeEach
+    public void setup() throws IOException {
+        this.contextPath = Files.createTempDirectory("docker-build-context-test");
+        Files.createDirectories(this.contextPath.resolve("scripts"));
+        Files.createDirectories(this.contextPath.resolve("docs"));
+        Files.createDirectories(this.contextPath.resolve("build/classes"));
+        Files.writeString(this.contextPath.resolve("scripts/hello.sh"), "echo hello");
+        Files.writeString(this.contextPath.resolve("scripts/other.sh"), "echo other");
+        Files.writeString(this.contextPath.resolve("docs/readme.md"), "readme");
+        Files.writeString(this.contextPath.resolve("docs/notes.txt"), "notes");
+        Files.writeString(this.contextPath.resolve("build/classes/a.class"), "a");
+        Files.writeString(this.contextPath.resolve("build/keep.txt"), "keep");
+        Files.writeString(this.contextPath.resolve("hyperion-docker-image-task-1"), "FROM x");
+        Files.writeString(this.contextPath.resolve(".dockerignore"),
+                "# comment\nbuild\n!build/keep.txt\n");
+    }
+
+    /**
+     * Remove context folder.
+     */
+    @AfterEach
+    public void cleanUp() {
+        assertTrue(FileUtils.removeDirectoryRecursive(this.contextPath));
+    }
+
+    /**
+     * Testing files of context filtered by .dockerignore.
+     *
+     * @throws IOException when reading files has failed.
+     */
+    @Test
+    public void testGetFiles() throws IOException {
+        final var context = DockerBuildContext.of(this.contextPath);
+        assertEquals(List.of(".dockerignore", "build/keep.txt", "docs/notes.txt",
+                "docs/readme.md", "scripts/hello.sh", "scripts/other.sh"),
+                context.getFiles("hyperion-docker-image-task-"));
+    }
+
+    /**
+     * Testing files referenced by COPY and ADD instructions.
+     *
+     * @throws IOException when reading files has failed.
+     */
+    @Test
+    public void testGetReferencedFiles() throws IOException {
+        final var context = DockerBuildContext.of(this.contextPath);
+        assertEquals(List.of("docs/readme.md", "scripts/hello.sh"),
+                context.getReferencedFiles(DOCKERFILE, "hyperion-docker-image-task-"));
+        assertEquals(context.getFiles("hyperion-docker-image-task-"),
+                context.getReferencedFiles("FROM debian\nCOPY . /app",
+                        "hyperion-docker-image-task-"));
+    }
+
+    /**
+     * Testing files referenced by COPY and ADD instructions continued on next lines.
+     *
+     * @throws IOException when reading files has failed.
+     */
+    @Test
+    public void testGetReferencedFilesOfContinuedInstruction() throws IOException {
+        final var context = DockerBuildContext.of(this.contextPath);
+        final var strDockerfile = "FROM debian:latest\n"
+                + "COPY \\\n"
+                + "    scripts/hello.sh \\\n"
+                + "    # comment inside of the instruction\n"
+                + "    scripts/other.sh \\\n"
+                + "    /scripts/\n"
+                + "ADD docs/readme.md \\\n"
+                + "    /docs/\n"
+                + "RUN ls\n";
+        assertEquals(List.of("docs/readme.md", "scripts/hello.sh", "scripts/other.sh"),
+                context.getReferencedFiles(strDockerfile, "hyperion-docker-image-task-"));
+    }
+
+    /**
+     * Testing fingerprint (changing when Dockerfile or a file changes).
+     *
+     * @throws IOException when reading files has failed.
+     */
+    @Test
+    public void testFingerprint() throws IOException {
+        final var context = DockerBuildContext.of(this.contextPath);
+        final var files = context.getReferencedFiles(DOCKERFILE, "hyperion-docker-image-task-");
+        final var strFingerprint = context.getFingerprint(DOCKERFILE, files);
+
+        assertEquals(strFingerprint, context.getFingerprint(DOCKERFILE, files));
+        assertNotEquals(strFingerprint, context.getFingerprint(DOCKERFILE + "RUN ls", files));
+
+        // not referenced file does not change the fingerprint
+        Files.writeString(this.contextPath.resolve("scripts/other.sh"), "echo changed");
+        assertEquals(strFingerprint, context.getFingerprint(DOCKERFILE, files));
+
+        Files.writeString(this.contextPath.resolve("scripts/hello.sh"), "echo changed");
+        assertNotEquals(strFingerprint, context.getFingerprint(DOCKERFILE, files));
+    }
+
+    /**
+     * Testing creation of minimal context.
+     *
+     * @throws IOException when copying files has failed.
+     */
+    @Test
+    public void testCreateContext() throws IOException {
+        final var context = DockerBuildContext.of(this.contextPath);
+        final var files = context.getReferencedFiles(DOCKERFILE, "hyperion-docker-image-task-");
+        final var createdPath = context.createContext(DOCKERFILE, files);
+
+        try {
+            assertEquals(DOCKERFILE, Files.readString(
+                    createdPath.resolve(DockerBuildContext.DOCKERFILE)));
+            assertEquals(files, DockerBuildContext.of(createdPath).getReferencedFiles(
+                    DOCKERFILE, "hyperion-docker-image-task-"));
+        } finally {
+            assertTrue(FileUtils.removeDirectoryRecursive(createdPath));
+        }
+    }
+}
@@ -0,0 +1,379 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.tools;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Generating documents (YAML) of configurable size for scaling tests
+ * using cheap tasks only (no Docker, no network).
+ *
+ * <pre>
+ * final var strDocument = DocumentGenerator.of()
+ *     .setTaskGroups(1000).setWithValues(10).setModelSize(1024 * 1024).generate();
+ * </pre>
+ */
+@SuppressWarnings("checkstyle:multiplestringliterals")
+public final class DocumentGenerator {
+    /**
+     * Size of one model entry (the model size is reached by adding those).
+     */
+    private static final int MODEL_ENTRY_SIZE = 1024;
+
+    /**
+     * Indentation of a task field.
+     */
+    private static final String TASK_FIELD = "        ";
+
+    /**
+     * Kinds of generated tasks (cheap ones only).
+     */
+    public enum Kind {
+        /**
+         * JShell task printing a line.
+         */
+        JSHELL,
+        /**
+         * Groovy task printing a line.
+         */
+        GROOVY,
+        /**
+         * Write-file task writing a small file.
+         */
+        WRITE_FILE,
+        /**
+         * Shell task running "true".
+         */
+        SHELL
+    }
+
+    /**
+     * Number of task groups.
+     */
+    private int iTaskGroups;
+
+    /**
+     * Number of tasks per task group.
+     */
+    private int iTasks;
+
+    /**
+     * Number of "with" values per task (0 for none).
+     */
+    private int iWithValues;
+
+    /**
+     * Approximate size of the model in bytes (0 for no model).
+     */
+    private int iModelSize;
+
+    /**
+     * Nesting depth of the model.
+     */
+    private int iModelDepth;
+
+    /**
+     * Number of matrix runs (0 for no matrix).
+     */
+    private int iMatrixRuns;
+
+    /**
+     * Number of parameters per matrix run.
+     */
+    private int iMatrixParameters;
+
+    /**
+     * When true then the task groups run their tasks in parallel.
+     */
+    private boolean bParallel;
+
+    /**
+     * Kinds of tasks used in round robin.
+     */
+    private List<Kind> kinds;
+
+    /**
+     * Path where the write-file tasks write to.
+     */
+    private Path path;
+
+    /**
+     * Initializing generator with one task group, one shell task and nothing else.
+     */
+    private DocumentGenerator() {
+        this.iTaskGroups = 1;
+        this.iTasks = 1;
+        this.iWithValues = 0;
+        this.iModelSize = 0;
+        this.iModelDepth = 1;
+        this.iMatrixRuns = 0;
+        this.iMatrixParameters = 1;
+        this.bParallel = false;
+        this.kinds = List.of(Kind.SHELL);
+        this.path = Path.of(System.getProperty("java.io.tmpdir"));
+    }
+
+    /**
+     * Create generator with defaults.
+     *
+     * @return new generator.
+     */
+    public static DocumentGenerator of() {
+        return new DocumentGenerator();
+    }
+
+    /**
+     * Change number of task groups.
+     *
+     * @param iValue number of task groups.
+     * @return generator itself.
+     */
+    public DocumentGenerator setTaskGroups(final int iValue) {
+        this.iTaskGroups = iValue;
+        return this;
+    }
+
+    /**
+     * Change number of tasks per task group.
+     *
+     * @param iValue number of tasks.
+     * @return generator itself.
+     */
+    public DocumentGenerator setTasks(final int iValue) {
+        this.iTasks = iValue;
+        return this;
+    }
+
+    /**
+     * Change number of "with" values per task.
+     *
+     * @param iValue number of "with" values (0 for none).
+     * @return generator itself.
+     */
+    public DocumentGenerator setWithValues(final int iValue) {
+        this.iWithValues = iValue;
+        return this;
+    }
+
+    /**
+     * Change approximate size of the model.
+     *
+     * @param iValue size in bytes (0 for no model).
+     * @return generator itself.
+     */
+    public DocumentGenerator setModelSize(final int iValue) {
+        this.iModelSize = iValue;
+        return this;
+    }
+
+    /**
+     * Change nesting depth of the model (the entries are in the innermost map).
+     *
+     * @param iValue depth (at least 1).
+     * @return generator itself.
+     */
+    public DocumentGenerator setModelDepth(final int iValue) {
+        this.iModelDepth = Math.max(1, iValue);
+        return this;
+    }
+
+    /**
+     * Change matrix.
+     *
+     * @param iRuns       number of matrix runs (0 for no matrix).
+     * @param iParameters number of parameters per matrix run.
+     * @return generator itself.
+     */
+    public DocumentGenerator setMatrix(final int iRuns, final int iParameters) {
+        this.iMatrixRuns = iRuns;
+        this.iMatrixParameters = iParameters;
+        return this;
+    }
+
+    /**
+     * Change whether the tasks of a task group run in parallel.
+     *
+     * @param bValue when true then in parallel.
+     * @return generator itself.
+     */
+    public DocumentGenerator setParallel(final boolean bValue) {
+        this.bParallel = bValue;
+        return this;
+    }
+
+    /**
+     * Change kinds of tasks (used in round robin).
+     *
+     * @param initKinds kinds of tasks.
+     * @return generator itself.
+     */
+    public DocumentGenerator setKinds(final Kind... initKinds) {
+        this.kinds = List.of(initKinds);
+        return this;
+    }
+
+    /**
+     * Change path where write-file tasks write to.
+     *
+     * @param initPath existing directory.
+     * @return generator itself.
+     */
+    public DocumentGenerator setPath(final Path initPath) {
+        this.path = initPath;
+        return this;
+    }
+
+    /**
+     * Generating the document.
+     *
+     * @return document (YAML).
+     */
+    public String generate() {
+        final var document = new StringBuilder(this.iModelSize + MODEL_ENTRY_SIZE).append("---\n");
+        appendModel(document);
+        appendMatrix(document);
+        document.append("taskgroups:\n");
+        for (int iTaskGroup = 0; iTaskGroup < this.iTaskGroups; ++iTaskGroup) {
+            document.append("  - title: group ").append(iTaskGroup).append('\n')
+                    .append("    parallel: ").append(this.bParallel).append('\n')
+                    .append("    tasks:\n");
+            for (int iTask = 0; iTask < this.iTasks; ++iTask) {
+                appendTask(document, iTaskGroup, iTask);
+            }
+        }
+        return document.toString();
+    }
+
+    /**
+     * Generating the document and writing it to a file.
+     *
+     * @param file path and name of the file.
+     * @return given path.
+     * @throws IOException when writing has failed.
+     */
+    public Path write(final Path file) throws IOException {
+        return Files.write(file, generate().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Appending model with the path for write-file tasks and entries
+     * up to the wanted size.
+     *
+     * @param document document to append to.
+     */
+    private void appendModel(final StringBuilder document) {
+        document.append("model:\n  path: \"").append(this.path.toString().replace('\\', '/'))
+                .append("\"\n");
+        if (this.iModelSize <= 0) {
+            return;
+        }
+
+        final var indent = new StringBuilder("  ");
+        for (int iLevel = 1; iLevel < this.iModelDepth; ++iLevel) {
+            document.append(indent).append("level").append(iLevel).append(":\n");
+            indent.append("  ");
+        }
+        document.append(indent).append("entries:\n");
+
+        final var strValue = "x".repeat(MODEL_ENTRY_SIZE);
+        for (int iSize = 0; iSize < this.iModelSize; iSize += MODEL_ENTRY_SIZE) {
+            document.append(indent).append("  - ").append(strValue).append('\n');
+        }
+    }
+
+    /**
+     * Appending matrix.
+     *
+     * @param document document to append to.
+     */
+    private void appendMatrix(final StringBuilder document) {
+        if (this.iMatrixRuns <= 0) {
+            return;
+        }
+
+        document.append("matrix:\n");
+        for (int iRun = 0; iRun < this.iMatrixRuns; ++iRun) {
+            document.append("  - title: run ").append(iRun).append('\n')
+                    .append("    parameters:\n");
+            for (int iParameter = 0; iParameter < this.iMatrixParameters; ++iParameter) {
+                document.append("      p").append(iParameter).append(": value ")
+                        .append(iRun).append('-').append(iParameter).append('\n');
+            }
+        }
+    }
+
+    /**
+     * Appending one task.
+     *
+     * @param document   document to append to.
+     * @param iTaskGroup index of task group.
+     * @param iTask      index of task.
+     */
+    private void appendTask(final StringBuilder document, final int iTaskGroup,
+                            final int iTask) {
+        final var kind = this.kinds.get((iTaskGroup * this.iTasks + iTask) % this.kinds.size());
+        final var strName = "task " + iTaskGroup + '-' + iTask;
+        final var strText = this.iWithValues > 0 ? "{{ with.value }}" : strName;
+
+        document.append("      - type: ");
+        switch (kind) {
+            case JSHELL: {
+                document.append("jshell\n").append(TASK_FIELD)
+                        .append("code: System.out.println(\"").append(strText).append("\");\n");
+                break;
+            }
+            case GROOVY: {
+                document.append("groovy\n").append(TASK_FIELD)
+                        .append("code: println '").append(strText).append("'\n");
+                break;
+            }
+            case WRITE_FILE: {
+                final var strSuffix = this.iWithValues > 0 ? "-{{ with.index }}" : "";
+                document.append("write-file\n")
+                        .append(TASK_FIELD).append("content: \"").append(strText).append("\"\n")
+                        .append(TASK_FIELD)
+                        .append("destination: \"{{ model.attributes.path.value }}/")
+                        .append(strName.replace(' ', '-')).append(strSuffix).append(".txt\"\n")
+                        .append(TASK_FIELD).append("overwrite: true\n");
+                break;
+            }
+            default: {
+                document.append("shell\n").append(TASK_FIELD).append("code: \"true\"\n");
+                break;
+            }
+        }
+
+        document.append(TASK_FIELD).append("title: ").append(strName).append('\n');
+        if (this.iWithValues > 0) {
+            document.append(TASK_FIELD).append("with:\n");
+            for (int iValue = 0; iValue < this.iWithValues; ++iValue) {
+                document.append(TASK_FIELD).append("  - value ").append(iValue).append('\n');
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.tools;
+
+import magic.system.hyperion.components.Document;
+import magic.system.hyperion.components.DocumentParameters;
+import magic.system.hyperion.reader.DocumentReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing class {@link DocumentGenerator}.
+ */
+@DisplayName("Testing DocumentGenerator")
+public class DocumentGeneratorTest {
+    /**
+     * Number of task groups.
+     */
+    private static final int TASK_GROUPS = 3;
+
+    /**
+     * Number of "with" values.
+     */
+    private static final int WITH_VALUES = 5;
+
+    /**
+     * Size of the model.
+     */
+    private static final int MODEL_SIZE = 10_000;
+
+    /**
+     * Testing generated document to be valid with all its parts.
+     */
+    @Test
+    public void testGenerate() {
+        final var strDocument = DocumentGenerator.of()
+                .setTaskGroups(TASK_GROUPS).setTasks(DocumentGenerator.Kind.values().length)
+                .setKinds(DocumentGenerator.Kind.values()).setWithValues(WITH_VALUES)
+                .setModelSize(MODEL_SIZE).setModelDepth(TASK_GROUPS)
+                .setMatrix(2, TASK_GROUPS).generate();
+        assertTrue(strDocument.length() > MODEL_SIZE);
+
+        final var document = readDocument(strDocument);
+        assertEquals(TASK_GROUPS, document.getListOfTaskGroups().size());
+        assertEquals(2, document.getMatrix().size());
+        assertEquals(DocumentGenerator.Kind.values().length,
+                document.getListOfTaskGroups().get(0).getListOfTasks().size());
+    }
+
+    /**
+     * Testing generated document to run successfully writing the files.
+     *
+     * @param path temporary path for the write-file tasks.
+     * @throws Exception when writing of the document has failed.
+     */
+    @Test
+    @EnabledOnOs({OS.LINUX, OS.MAC})
+    public void testRun(@TempDir final Path path) throws Exception {
+        final var file = DocumentGenerator.of().setTasks(2).setWithValues(2)
+                .setKinds(DocumentGenerator.Kind.SHELL, DocumentGenerator.Kind.WRITE_FILE)
+                .setPath(path).write(path.resolve("document.yml"));
+
+        final var document = readDocument(Files.readString(file));
+        assertTrue(document.run(DocumentParameters.of(
+                List.of(), TimeTools.minutesAsMilliseconds(1))).isSuccess());
+        assertEquals("value 1", Files.readString(path.resolve("task-0-1-1.txt")));
+    }
+
+    /**
+     * Reading document expecting it to be valid.
+     *
+     * @param strDocument document (YAML).
+     * @return document.
+     */
+    private static Document readDocument(final String strDocument) {
+        final var document = new DocumentReader().read(
+                strDocument.getBytes(StandardCharsets.UTF_8));
+        assertNotNull(document);
+        return document;
+    }
+}
@@ -32,6 +32,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -55,6 +56,18 @@ public class FactoryTest {
         assertTrue(task instanceof GroovyTask);
     }
 
+    /**
+     * Testing that each call provides a new instance (creators are cached, not the instances).
+     */
+    @Test
+    public void testNewInstances() {
+        final var factory = new Factory<>(ITaskCreator.class);
+        final var task1 = factory.create(TaskType.GROOVY.getTypeName());
+        final var task2 = new Factory<>(ITaskCreator.class).create(TaskType.GROOVY.getTypeName());
+        assertNotNull(task1);
+        assertNotSame(task1, task2);
+    }
+
     /**
      * Testing default factory mechanism when everything should be fine.
      */
@@ -0,0 +1,67 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.tools;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Testing of class {@link Histogram}.
+ *
+ * @author Thomas Lehmann
+ */
+@DisplayName("Testing class Histogram")
+class HistogramTest {
+    /**
+     * Duration of the first bucket (milliseconds).
+     */
+    private static final long FAST = 5L;
+
+    /**
+     * Duration exceeding all bounds (milliseconds).
+     */
+    private static final long SLOW = 3_600_000L;
+
+    /**
+     * Testing cumulative counts and sum.
+     */
+    @Test
+    public void testRecord() {
+        final var histogram = new Histogram();
+        final var bounds = Histogram.getBounds();
+        histogram.record(FAST);
+        histogram.record(bounds[0]);
+        histogram.record(bounds[1]);
+        histogram.record(SLOW);
+
+        final var counts = histogram.getCumulativeCounts();
+        assertEquals(bounds.length + 1, counts.length);
+        assertEquals(2L, counts[0]);
+        assertEquals(counts[1], counts[bounds.length - 1]);
+        assertEquals(counts[1] + 1, counts[bounds.length]);
+        assertEquals(FAST + bounds[0] + bounds[1] + SLOW, histogram.getSum());
+    }
+}
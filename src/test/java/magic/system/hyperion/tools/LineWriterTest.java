@@ -0,0 +1,65 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.tools;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Testing of class {@link LineWriter}.
+ *
+ * @author Thomas Lehmann
+ */
+@DisplayName("Testing class LineWriter")
+@SuppressWarnings("checkstyle:multiplestringliterals")
+class LineWriterTest {
+    /**
+     * Testing that completed lines are passed to the listener
+     * and all characters are forwarded.
+     *
+     * @throws IOException when writing has failed.
+     */
+    @Test
+    public void testLines() throws IOException {
+        final var target = new StringWriter();
+        final List<String> lines = new ArrayList<>();
+
+        try (var writer = new LineWriter(target, lines::add)) {
+            writer.write("first\r\nsec");
+            writer.write("ond\n");
+            assertEquals(List.of("first", "second"), lines);
+            writer.write("last");
+        }
+
+        assertEquals(List.of("first", "second", "last"), lines);
+        assertEquals("first\r\nsecond\nlast", target.toString());
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.tools;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing of class {@link MetricsWriter}.
+ *
+ * @author Thomas Lehmann
+ */
+@DisplayName("Testing class MetricsWriter")
+class MetricsWriterTest {
+    /**
+     * Test duration (milliseconds).
+     */
+    private static final long DURATION = 1500L;
+
+    /**
+     * Test ratio.
+     */
+    private static final double RATIO = 0.25;
+
+    /**
+     * Testing counters and gauges.
+     */
+    @Test
+    public void testCounterAndGauge() {
+        final var writer = new MetricsWriter()
+                .counter("test_total", "Test counter.", 2L)
+                .gauge("test_ratio", "Test gauge.", RATIO);
+
+        assertEquals("# HELP test_total Test counter.\n"
+                + "# TYPE test_total counter\n"
+                + "test_total 2\n"
+                + "# HELP test_ratio Test gauge.\n"
+                + "# TYPE test_ratio gauge\n"
+                + "test_ratio 0.25\n", writer.toString());
+    }
+
+    /**
+     * Testing histogram with label.
+     */
+    @Test
+    public void testHistogram() {
+        final var histogram = new Histogram();
+        histogram.record(DURATION);
+
+        final var strText = new MetricsWriter().histogram("test_seconds", "Test histogram.",
+                "type", Map.of("Some\"Task", histogram)).toString();
+
+        assertTrue(strText.contains("# TYPE test_seconds histogram\n"));
+        assertTrue(strText.contains("test_seconds_bucket{type=\"Some\\\"Task\",le=\"1\"} 0\n"));
+        assertTrue(strText.contains("test_seconds_bucket{type=\"Some\\\"Task\",le=\"5\"} 1\n"));
+        assertTrue(strText.contains("test_seconds_bucket{type=\"Some\\\"Task\",le=\"+Inf\"} 1\n"));
+        assertTrue(strText.contains("test_seconds_sum{type=\"Some\\\"Task\"} 1.5\n"));
+        assertTrue(strText.contains("test_seconds_count{type=\"Some\\\"Task\"} 1\n"));
+    }
+}
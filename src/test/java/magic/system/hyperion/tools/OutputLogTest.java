@@ -0,0 +1,136 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.tools;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing of class {@link OutputLog}.
+ *
+ * @author Thomas Lehmann
+ */
+@DisplayName("Testing class OutputLog")
+@SuppressWarnings({"checkstyle:multiplestringliterals", "checkstyle:magicnumber"})
+class OutputLogTest {
+    /**
+     * Testing that all lines are logged with prefix and in order (in batches).
+     */
+    @Test
+    public void testLines() {
+        final List<String> batches = Collections.synchronizedList(new ArrayList<>());
+        final var log = new OutputLog(100, batches::add);
+        final var lines = log.lines("task");
+        for (int iLine = 1; iLine <= 1000; ++iLine) {
+            lines.accept("line " + iLine);
+        }
+        log.flush();
+
+        final var logged = splitBatches(batches);
+        assertEquals(1000, logged.size());
+        assertEquals("[task] line 1", logged.get(0));
+        assertEquals("[task] line 1000", logged.get(999));
+    }
+
+    /**
+     * Testing that in quiet mode no line is logged.
+     */
+    @Test
+    public void testQuiet() {
+        final List<String> batches = Collections.synchronizedList(new ArrayList<>());
+        final var log = new OutputLog(100, batches::add);
+        log.setQuiet(true);
+        assertSame(ProcessTools.IGNORE, log.lines("task"));
+        log.log("line");
+        log.flush();
+        assertTrue(batches.isEmpty());
+    }
+
+    /**
+     * Testing that lines are dropped (and counted) when the queue is full.
+     *
+     * @throws InterruptedException when waiting has been interrupted.
+     */
+    @Test
+    public void testDrop() throws InterruptedException {
+        final List<String> batches = Collections.synchronizedList(new ArrayList<>());
+        final var entered = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var log = new OutputLog(1, strBatch -> {
+            entered.countDown();
+            awaitQuietly(release);
+            batches.add(strBatch);
+        });
+        log.setDrop(true);
+
+        log.log("first");
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        // the writer is busy: one line is queued, the next one dropped
+        log.log("second");
+        log.log("third");
+        release.countDown();
+        log.flush();
+
+        assertEquals(List.of("first", "second", "(1 lines of output dropped)"),
+                splitBatches(batches));
+    }
+
+    /**
+     * Split logged batches into lines.
+     *
+     * @param batches logged batches.
+     * @return logged lines.
+     */
+    private static List<String> splitBatches(final List<String> batches) {
+        synchronized (batches) {
+            return batches.stream().flatMap(strBatch -> Arrays.stream(
+                    strBatch.split(System.lineSeparator()))).collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Waiting for the latch (ignoring an interruption).
+     *
+     * @param latch the latch.
+     */
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
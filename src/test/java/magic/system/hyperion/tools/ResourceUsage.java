@@ -0,0 +1,136 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.tools;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wall time, peak heap and peak number of threads of running some code
+ * (used by scaling tests).
+ */
+public final class ResourceUsage {
+    /**
+     * Bytes of one megabyte.
+     */
+    private static final long MEGABYTE = 1024L * 1024L;
+
+    /**
+     * Wall time in milliseconds.
+     */
+    private final long lWallMillis;
+
+    /**
+     * Peak of used heap in bytes (sum of the peaks of all heap pools).
+     */
+    private final long lPeakHeapBytes;
+
+    /**
+     * Peak number of live threads.
+     */
+    private final int iPeakThreads;
+
+    /**
+     * Initialize usage.
+     *
+     * @param lInitWallMillis    wall time in milliseconds.
+     * @param lInitPeakHeapBytes peak of used heap in bytes.
+     * @param iInitPeakThreads   peak number of live threads.
+     */
+    private ResourceUsage(final long lInitWallMillis, final long lInitPeakHeapBytes,
+                          final int iInitPeakThreads) {
+        this.lWallMillis = lInitWallMillis;
+        this.lPeakHeapBytes = lInitPeakHeapBytes;
+        this.iPeakThreads = iInitPeakThreads;
+    }
+
+    /**
+     * Running given code measuring the resource usage.
+     *
+     * @param code code to run.
+     * @param <T>  type of result of the code.
+     * @return result of the code and the resource usage.
+     * @throws Exception when the code has failed.
+     */
+    public static <T> Map.Entry<T, ResourceUsage> measure(final Callable<T> code)
+            throws Exception {
+        final var threads = ManagementFactory.getThreadMXBean();
+        final var heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP).toArray(MemoryPoolMXBean[]::new);
+
+        System.gc();
+        for (final var pool: heapPools) {
+            pool.resetPeakUsage();
+        }
+        threads.resetPeakThreadCount();
+
+        final long lStart = System.nanoTime();
+        final var result = code.call();
+        final long lWallMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lStart);
+
+        long lPeakHeapBytes = 0;
+        for (final var pool: heapPools) {
+            lPeakHeapBytes += pool.getPeakUsage().getUsed();
+        }
+        return Map.entry(result, new ResourceUsage(
+                lWallMillis, lPeakHeapBytes, threads.getPeakThreadCount()));
+    }
+
+    /**
+     * Provide wall time.
+     *
+     * @return wall time in milliseconds.
+     */
+    public long getWallMillis() {
+        return this.lWallMillis;
+    }
+
+    /**
+     * Provide peak of used heap.
+     *
+     * @return peak of used heap in bytes.
+     */
+    public long getPeakHeapBytes() {
+        return this.lPeakHeapBytes;
+    }
+
+    /**
+     * Provide peak number of threads.
+     *
+     * @return peak number of live threads.
+     */
+    public int getPeakThreads() {
+        return this.iPeakThreads;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("wall=%dms, peak heap=%dMB, peak threads=%d",
+                this.lWallMillis, this.lPeakHeapBytes / MEGABYTE, this.iPeakThreads);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.tools;
+
+import com.mitchellbosecke.pebble.PebbleEngine;
+import com.mitchellbosecke.pebble.loader.StringLoader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Testing class {@link TemplateCache}.
+ *
+ * @author Thomas Lehmann
+ */
+@DisplayName("Testing TemplateCache class")
+@TestMethodOrder(value = MethodOrderer.Random.class)
+@SuppressWarnings("checkstyle:magicnumber")
+public class TemplateCacheTest {
+    /**
+     * Test template (length 10).
+     */
+    private static final String TEMPLATE_A = "{{ a }}...";
+
+    /**
+     * Test template (length 10).
+     */
+    private static final String TEMPLATE_B = "{{ b }}...";
+
+    /**
+     * Test template (length 10).
+     */
+    private static final String TEMPLATE_C = "{{ c }}...";
+
+    /**
+     * Create engine using given cache.
+     *
+     * @param cache the template cache.
+     * @return template engine.
+     */
+    private static PebbleEngine createEngine(final TemplateCache cache) {
+        return new PebbleEngine.Builder()
+                .loader(new StringLoader())
+                .templateCache(cache)
+                .build();
+    }
+
+    /**
+     * Testing that a compiled template is reused.
+     */
+    @Test
+    public void testReuse() {
+        final var cache = new TemplateCache(100, 100);
+        final var engine = createEngine(cache);
+
+        final var template = engine.getTemplate(TEMPLATE_A);
+        assertSame(template, engine.getTemplate(TEMPLATE_A));
+        assertEquals(1, cache.getSize());
+        assertEquals(TEMPLATE_A.length(), cache.getTotalLength());
+    }
+
+    /**
+     * Testing that the least recently used templates are removed
+     * when the total length is exceeded.
+     */
+    @Test
+    public void testEviction() {
+        final var cache = new TemplateCache(20, 100);
+        final var engine = createEngine(cache);
+
+        final var templateA = engine.getTemplate(TEMPLATE_A);
+        final var templateB = engine.getTemplate(TEMPLATE_B);
+        // using A again makes B the least recently used one
+        assertSame(templateA, engine.getTemplate(TEMPLATE_A));
+        engine.getTemplate(TEMPLATE_C);
+
+        assertEquals(2, cache.getSize());
+        assertEquals(20, cache.getTotalLength());
+        assertSame(templateA, engine.getTemplate(TEMPLATE_A));
+        assertNotSame(templateB, engine.getTemplate(TEMPLATE_B));
+    }
+
+    /**
+     * Testing that templates above the length limit are not cached.
+     */
+    @Test
+    public void testTooLong() {
+        final var cache = new TemplateCache(100, 5);
+        final var engine = createEngine(cache);
+
+        final var template = engine.getTemplate(TEMPLATE_A);
+        assertNotSame(template, engine.getTemplate(TEMPLATE_A));
+        assertEquals(0, cache.getSize());
+        assertEquals(0, cache.getTotalLength());
+    }
+
+    /**
+     * Testing invalidation of all templates.
+     */
+    @Test
+    public void testInvalidateAll() {
+        final var cache = new TemplateCache(100, 100);
+        final var engine = createEngine(cache);
+
+        engine.getTemplate(TEMPLATE_A);
+        engine.getTemplate(TEMPLATE_B);
+        cache.invalidateAll();
+        assertEquals(0, cache.getSize());
+        assertEquals(0, cache.getTotalLength());
+    }
+}
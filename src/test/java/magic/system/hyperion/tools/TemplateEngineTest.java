@@ -28,6 +28,8 @@ import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.List;
 import java.util.Map;
 
@@ -90,4 +92,17 @@ public class TemplateEngineTest {
                 Map.of(TEXT_KEY, HELLO_WORLD)));
         assertEquals(HELLO_WORLD, result);
     }
+
+    /**
+     * Testing rendering into a writer.
+     *
+     * @throws IOException when rendering has failed.
+     */
+    @Test
+    public void testRenderToWriter() throws IOException {
+        final var engine = new TemplateEngine();
+        final var writer = new StringWriter();
+        engine.render("{{ text }}!", Map.of(TEXT_KEY, HELLO_WORLD), writer);
+        assertEquals(HELLO_WORLD + "!", writer.toString());
+    }
 }
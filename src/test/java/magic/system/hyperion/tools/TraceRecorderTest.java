@@ -0,0 +1,112 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Thomas Lehmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package magic.system.hyperion.tools;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing of class {@link TraceRecorder}.
+ *
+ * @author Thomas Lehmann
+ */
+@DisplayName("Testing class TraceRecorder")
+@SuppressWarnings("checkstyle:multiplestringliterals")
+class TraceRecorderTest {
+    /**
+     * Testing nested spans of two threads.
+     *
+     * @throws IOException          when parsing the JSON has failed.
+     * @throws InterruptedException when waiting for the thread has been interrupted.
+     */
+    @Test
+    public void testSpans() throws IOException, InterruptedException {
+        final var trace = TraceRecorder.create();
+        assertTrue(trace.isEnabled());
+        final var thread = new Thread(() -> {
+            try (var other = trace.span("task", "other")) {
+                assertSame(trace, TraceRecorder.current());
+            }
+        });
+
+        try (var outer = trace.span("group", "outer")) {
+            assertSame(trace, TraceRecorder.current());
+            try (var inner = TraceRecorder.current().span("task", "inner")) {
+                thread.start();
+                thread.join();
+            }
+        }
+        assertSame(TraceRecorder.disabled(), TraceRecorder.current());
+
+        final var root = YamlTools.getJsonMapper().readTree(trace.toJson());
+        final List<JsonNode> spans = new ArrayList<>();
+        final List<JsonNode> threads = new ArrayList<>();
+        root.get("traceEvents").forEach(event -> {
+            if ("X".equals(event.get("ph").asText())) {
+                spans.add(event);
+            } else {
+                threads.add(event);
+            }
+        });
+
+        assertEquals(2, threads.size());
+        assertEquals(List.of("outer", "inner", "other"),
+                List.of(spans.get(0).get("name").asText(), spans.get(1).get("name").asText(),
+                        spans.get(2).get("name").asText()));
+        // inner span is inside outer span and in the same thread
+        final var outer = spans.get(0);
+        final var inner = spans.get(1);
+        assertEquals(outer.get("tid").asLong(), inner.get("tid").asLong());
+        assertTrue(outer.get("ts").asLong() <= inner.get("ts").asLong());
+        assertTrue(inner.get("ts").asLong() + inner.get("dur").asLong()
+                <= outer.get("ts").asLong() + outer.get("dur").asLong());
+        assertFalse(outer.get("tid").asLong() == spans.get(2).get("tid").asLong());
+    }
+
+    /**
+     * Testing that a disabled recorder does not record.
+     *
+     * @throws IOException when parsing the JSON has failed.
+     */
+    @Test
+    public void testDisabled() throws IOException {
+        final var trace = TraceRecorder.disabled();
+        assertFalse(trace.isEnabled());
+        try (var span = trace.span("group", "ignored")) {
+            assertSame(trace, TraceRecorder.current());
+        }
+        final var root = YamlTools.getJsonMapper().readTree(trace.toJson());
+        assertEquals(0, root.get("traceEvents").size());
+    }
+}